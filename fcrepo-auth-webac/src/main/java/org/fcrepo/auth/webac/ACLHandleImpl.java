@@ -20,7 +20,7 @@ public class ACLHandleImpl implements ACLHandle {
 
     private final FedoraResource resource;
 
-    private final List<WebACAuthorization> authorizations;
+    private final CompiledAcl acl;
     /**
      * Default constructor.
      *
@@ -28,8 +28,16 @@ public class ACLHandleImpl implements ACLHandle {
      * @param authorizations any authorizations associated with the uri
      */
     public ACLHandleImpl(final FedoraResource resource, final List<WebACAuthorization> authorizations) {
+        this(resource, new CompiledAcl(authorizations));
+    }
+
+    /**
+     * @param resource the requested FedoraResource
+     * @param acl the compiled authorizations associated with the uri
+     */
+    public ACLHandleImpl(final FedoraResource resource, final CompiledAcl acl) {
         this.resource = resource;
-        this.authorizations = authorizations;
+        this.acl = acl;
     }
 
     @Override
@@ -39,6 +47,13 @@ public class ACLHandleImpl implements ACLHandle {
 
     @Override
     public List<WebACAuthorization> getAuthorizations() {
-        return authorizations;
+        return acl.getAuthorizations();
+    }
+
+    /**
+     * @return the compiled authorizations
+     */
+    public CompiledAcl getCompiledAcl() {
+        return acl;
     }
 }
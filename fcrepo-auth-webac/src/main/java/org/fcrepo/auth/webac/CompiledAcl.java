@@ -0,0 +1,166 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.auth.webac;
+
+import static org.fcrepo.auth.webac.URIConstants.FOAF_AGENT_VALUE;
+import static org.fcrepo.auth.webac.URIConstants.WEBAC_AUTHENTICATED_AGENT_VALUE;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.fcrepo.kernel.api.auth.WebACAuthorization;
+
+/**
+ * The authorizations of an ACL compiled for evaluation. The agents, agent classes and agent groups of each
+ * authorization are held as immutable sets, shared between the authorizations naming the same values, and the modes
+ * as a bitset over the modes used in the ACL, so that the roles granted by the ACL are computed without reading its
+ * RDF again.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class CompiledAcl {
+
+    private static final Set<String> AGENT_CLASSES = Set.of(FOAF_AGENT_VALUE, WEBAC_AUTHENTICATED_AGENT_VALUE);
+
+    private static final Predicate<String> isAgentClass = AGENT_CLASSES::contains;
+
+    /**
+     * An authorization with its values compiled
+     */
+    private static class Entry {
+
+        private final WebACAuthorization authorization;
+
+        private final Set<String> agents;
+
+        private final Set<String> agentClasses;
+
+        private final Set<String> agentGroups;
+
+        private final BitSet modes;
+
+        private Entry(final WebACAuthorization authorization, final Set<String> agents,
+                      final Set<String> agentClasses, final Set<String> agentGroups, final BitSet modes) {
+            this.authorization = authorization;
+            this.agents = agents;
+            this.agentClasses = agentClasses;
+            this.agentGroups = agentGroups;
+            this.modes = modes;
+        }
+    }
+
+    private final List<String> modes;
+
+    private final List<Entry> entries;
+
+    private final CompiledAcl inherited;
+
+    /**
+     * @param authorizations the authorizations of the ACL
+     */
+    public CompiledAcl(final List<WebACAuthorization> authorizations) {
+        final Map<String, Integer> modeIndexes = new HashMap<>();
+        final Map<Set<String>, Set<String>> interned = new HashMap<>();
+        final Function<Set<String>, Set<String>> intern = values -> interned.computeIfAbsent(values, v -> v);
+
+        modes = new ArrayList<>();
+        entries = new ArrayList<>();
+        for (final WebACAuthorization authorization : authorizations) {
+            final BitSet granted = new BitSet();
+            for (final URI mode : authorization.getModes()) {
+                granted.set(modeIndexes.computeIfAbsent(mode.toString(), m -> {
+                    modes.add(m);
+                    return modes.size() - 1;
+                }));
+            }
+            entries.add(new Entry(authorization,
+                    intern.apply(filter(authorization.getAgents(), isAgentClass.negate())),
+                    intern.apply(filter(authorization.getAgentClasses(), isAgentClass)),
+                    intern.apply(Set.copyOf(authorization.getAgentGroups())),
+                    granted));
+        }
+        final var inheritedEntries = entries.stream()
+                .filter(entry -> !entry.authorization.getDefaults().isEmpty())
+                .toList();
+        inherited = inheritedEntries.size() == entries.size() ? this : new CompiledAcl(modes, inheritedEntries);
+    }
+
+    private CompiledAcl(final List<String> modes, final List<Entry> entries) {
+        this.modes = modes;
+        this.entries = entries;
+        this.inherited = this;
+    }
+
+    private static Set<String> filter(final Collection<String> values, final Predicate<String> predicate) {
+        return Set.copyOf(values.stream().filter(predicate).toList());
+    }
+
+    /**
+     * @return the authorizations of the ACL
+     */
+    public List<WebACAuthorization> getAuthorizations() {
+        return entries.stream().map(entry -> entry.authorization).toList();
+    }
+
+    /**
+     * @return the authorizations of the ACL which apply to the descendants of its resource, those with acl:default
+     */
+    public CompiledAcl getInherited() {
+        return inherited;
+    }
+
+    /**
+     * @return true if the ACL has no authorizations
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Get the modes granted to each agent by the authorizations passing a filter. The modes of an agent are the
+     * union of the modes of all its authorizations.
+     *
+     * @param authorizationFilter the filter selecting the authorizations which apply
+     * @param groupMembers resolves an acl:agentGroup value to the agents it contains
+     * @return a mapping of each principal to a set of its roles
+     */
+    public Map<String, Collection<String>> getRoles(final Predicate<WebACAuthorization> authorizationFilter,
+                                                    final Function<String, Collection<String>> groupMembers) {
+        final Map<String, BitSet> modesByAgent = new HashMap<>();
+        for (final Entry entry : entries) {
+            if (!authorizationFilter.test(entry.authorization)) {
+                continue;
+            }
+            entry.agents.forEach(agent -> grant(modesByAgent, agent, entry.modes));
+            entry.agentGroups.forEach(group -> groupMembers.apply(group).stream()
+                    .filter(isAgentClass.negate())
+                    .forEach(agent -> grant(modesByAgent, agent, entry.modes)));
+            entry.agentClasses.forEach(agentClass -> grant(modesByAgent, agentClass, entry.modes));
+        }
+
+        final Map<String, Collection<String>> roles = new HashMap<>();
+        modesByAgent.forEach((agent, granted) -> {
+            final Set<String> agentModes = new HashSet<>();
+            granted.stream().forEach(index -> agentModes.add(modes.get(index)));
+            roles.put(agent, agentModes);
+        });
+        return roles;
+    }
+
+    private static void grant(final Map<String, BitSet> modesByAgent, final String agent, final BitSet modes) {
+        modesByAgent.computeIfAbsent(agent, key -> new BitSet()).or(modes);
+    }
+}
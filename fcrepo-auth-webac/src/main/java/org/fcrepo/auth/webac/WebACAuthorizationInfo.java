@@ -0,0 +1,145 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.auth.webac;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+import org.apache.shiro.authz.AuthorizationInfo;
+import org.apache.shiro.authz.Permission;
+
+/**
+ * Authorization info holding the WebAC permissions of a user indexed by resource, so that checking a permission
+ * takes constant time however many resources the request needs to authorize. The modes granted on a resource are
+ * held as a bitset, merged across all the agents the user acts as.
+ *
+ * The info also records which roles, agents and resources it was built for, so that it can be extended with the
+ * permissions of resources added to the request after it was built.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class WebACAuthorizationInfo implements AuthorizationInfo {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Set<String> roles;
+
+    private final List<String> agents;
+
+    // Bit index of each mode granted on any resource
+    private final Map<URI, Integer> modeIndexes = new HashMap<>();
+
+    private final List<URI> modes = new ArrayList<>();
+
+    private final Map<URI, BitSet> modesByResource = new HashMap<>();
+
+    private final Set<URI> resources = new HashSet<>();
+
+    /**
+     * @param roles the roles of the user
+     * @param agents the names of the agents the user acts as, whose modes are granted to the user
+     */
+    public WebACAuthorizationInfo(final Collection<String> roles, final List<String> agents) {
+        this.roles = roles.isEmpty() ? null : Set.copyOf(roles);
+        this.agents = List.copyOf(agents);
+    }
+
+    /**
+     * @param roles the roles of a user
+     * @param agents the names of the agents a user acts as
+     * @return true if the info was built for a user with the same roles and agents
+     */
+    public boolean isFor(final Collection<String> roles, final List<String> agents) {
+        final Set<String> otherRoles = roles.isEmpty() ? null : Set.copyOf(roles);
+        return this.agents.equals(agents) && Objects.equals(this.roles, otherRoles);
+    }
+
+    /**
+     * @param resource a resource
+     * @return true if the permissions of the resource were added
+     */
+    public boolean hasResource(final URI resource) {
+        return resources.contains(resource);
+    }
+
+    /**
+     * Add the permissions the user has on a resource.
+     *
+     * @param resource the resource
+     * @param rolesForResource the modes of each agent on the resource, or null if there are none
+     */
+    public void addResource(final URI resource, final Map<String, Collection<String>> rolesForResource) {
+        resources.add(resource);
+        if (rolesForResource == null) {
+            return;
+        }
+        for (final String agent : agents) {
+            final Collection<String> modesForAgent = rolesForResource.get(agent);
+            if (modesForAgent != null) {
+                modesForAgent.forEach(mode -> addPermission(URI.create(mode), resource));
+            }
+        }
+    }
+
+    /**
+     * @param mode a mode granted to the user
+     * @param resource the resource the mode is granted on
+     */
+    public void addPermission(final URI mode, final URI resource) {
+        final int index = modeIndexes.computeIfAbsent(mode, m -> {
+            modes.add(m);
+            return modes.size() - 1;
+        });
+        modesByResource.computeIfAbsent(resource, r -> new BitSet()).set(index);
+    }
+
+    /**
+     * @param mode a mode
+     * @param resource a resource
+     * @return true if the user is granted the mode on the resource
+     */
+    public boolean isPermitted(final URI mode, final URI resource) {
+        final Integer index = modeIndexes.get(mode);
+        if (index == null) {
+            return false;
+        }
+        final BitSet granted = modesByResource.get(resource);
+        return granted != null && granted.get(index);
+    }
+
+    @Override
+    public Collection<String> getRoles() {
+        return roles;
+    }
+
+    @Override
+    public Collection<String> getStringPermissions() {
+        return null;
+    }
+
+    /**
+     * @return a WebACPermission for each mode granted on each resource, or null if there are none
+     */
+    @Override
+    public Collection<Permission> getObjectPermissions() {
+        if (modesByResource.isEmpty()) {
+            return null;
+        }
+        final Set<Permission> permissions = new HashSet<>();
+        modesByResource.forEach((resource, granted) -> granted.stream()
+                .forEach(index -> permissions.add(new WebACPermission(modes.get(index), resource))));
+        return permissions;
+    }
+}
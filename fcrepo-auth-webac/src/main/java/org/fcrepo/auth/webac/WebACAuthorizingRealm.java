@@ -20,9 +20,9 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 import java.net.URI;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -50,7 +50,7 @@ import org.apache.shiro.authc.AuthenticationException;
 import org.apache.shiro.authc.AuthenticationInfo;
 import org.apache.shiro.authc.AuthenticationToken;
 import org.apache.shiro.authz.AuthorizationInfo;
-import org.apache.shiro.authz.SimpleAuthorizationInfo;
+import org.apache.shiro.authz.Permission;
 import org.apache.shiro.realm.AuthorizingRealm;
 import org.apache.shiro.subject.PrincipalCollection;
 import org.slf4j.Logger;
@@ -61,6 +61,9 @@ import org.springframework.beans.factory.annotation.Qualifier;
  * locates the ACL for the currently requested resource and parses the ACL RDF into a set of {@link WebACPermission}
  * instances.
  *
+ * The permissions are held in a {@link WebACAuthorizationInfo} indexed by resource, which is kept for the rest of
+ * the request and extended as the request adds resources to authorize.
+ *
  * @author peichman
  */
 public class WebACAuthorizingRealm extends AuthorizingRealm {
@@ -73,6 +76,8 @@ public class WebACAuthorizingRealm extends AuthorizingRealm {
 
     public static final String URIS_TO_AUTHORIZE = "URIS_TO_AUTHORIZE";
 
+    static final String AUTHORIZATION_INFO = WebACAuthorizationInfo.class.getName();
+
     @Inject
     private FedoraPropsConfig fedoraPropsConfig;
 
@@ -121,10 +126,9 @@ public class WebACAuthorizingRealm extends AuthorizingRealm {
 
     @Override
     protected AuthorizationInfo doGetAuthorizationInfo(final PrincipalCollection principals) {
-        final SimpleAuthorizationInfo authzInfo = new SimpleAuthorizationInfo();
-
         final HttpServletRequest request = currentRequest();
 
+        final List<String> roles = new ArrayList<>();
         boolean isAdmin = false;
 
         final Collection<DelegatedHeaderPrincipal> delegatePrincipals =
@@ -136,39 +140,73 @@ public class WebACAuthorizingRealm extends AuthorizingRealm {
             if (delegatePrincipals.size() > 1) {
                 throw new RepositoryConfigurationException("Too many delegates! " + delegatePrincipals);
             } else if (delegatePrincipals.isEmpty()) {
-                authzInfo.addRole(FEDORA_ADMIN_ROLE);
-                return authzInfo;
+                return new WebACAuthorizationInfo(List.of(FEDORA_ADMIN_ROLE), List.of());
             }
             isAdmin = true;
             // if Admin is delegating, they are a normal user
-            authzInfo.addRole(FEDORA_USER_ROLE);
+            roles.add(FEDORA_USER_ROLE);
         } else if (principals.byType(ContainerRolesPrincipal.class).contains(userPrincipal)) {
-            authzInfo.addRole(FEDORA_USER_ROLE);
+            roles.add(FEDORA_USER_ROLE);
+        }
+
+        final List<String> agents = getAgents(principals, isAdmin, delegatePrincipals);
+
+        // Reuse the info built earlier in the request, the principals of a request do not change
+        final WebACAuthorizationInfo authzInfo;
+        if (request.getAttribute(AUTHORIZATION_INFO) instanceof WebACAuthorizationInfo info
+                && info.isFor(roles, agents)) {
+            authzInfo = info;
+        } else {
+            authzInfo = new WebACAuthorizationInfo(roles, agents);
+            request.setAttribute(AUTHORIZATION_INFO, authzInfo);
         }
 
         // for non-admins, we must check the ACL for the requested resource
         @SuppressWarnings("unchecked")
-        Set<URI> targetURIs = (Set<URI>) request.getAttribute(URIS_TO_AUTHORIZE);
+        final Set<URI> targetURIs = (Set<URI>) request.getAttribute(URIS_TO_AUTHORIZE);
         if (targetURIs == null) {
-            targetURIs = new HashSet<>();
+            return authzInfo;
         }
-        final Map<URI, Map<String, Collection<String>>> rolesForURI = new HashMap<>();
         final String contextPath = request.getContextPath() + request.getServletPath();
         for (final URI uri : targetURIs) {
+            if (authzInfo.hasResource(uri)) {
+                continue;
+            }
+            log.debug("Adding permissions gathered for URI {}", uri);
             if (identifierConverter(request).inInternalDomain(uri.toString())) {
                 final FedoraId id = FedoraId.create(uri.toString());
                 log.debug("Getting roles for id {}", id.getFullId());
-                rolesForURI.put(uri, getRolesForId(id));
+                authzInfo.addResource(uri, getRolesForId(id));
             } else {
                 String path = uri.getPath();
                 if (path.startsWith(contextPath)) {
                     path = path.replaceFirst(contextPath, "");
                 }
                 log.debug("Getting roles for path {}", path);
-                rolesForURI.put(uri, getRolesForPath(path));
+                authzInfo.addResource(uri, getRolesForPath(path));
             }
         }
+        return authzInfo;
+    }
 
+    /**
+     * Checks WebAC permissions against the index of the authorization info, rather than comparing them to each
+     * permission of the user in turn.
+     */
+    @Override
+    protected boolean isPermitted(final Permission permission, final AuthorizationInfo info) {
+        if (permission instanceof WebACPermission webacPermission && info instanceof WebACAuthorizationInfo index) {
+            return index.isPermitted(webacPermission.getMode(), webacPermission.getResource());
+        }
+        return super.isPermitted(permission, info);
+    }
+
+    /**
+     * Get the names of the agents whose permissions the user has.
+     */
+    private List<String> getAgents(final PrincipalCollection principals, final boolean isAdmin,
+                                   final Collection<DelegatedHeaderPrincipal> delegatePrincipals) {
+        final List<String> agents = new ArrayList<>();
         for (final Object o : principals.asList()) {
             log.debug("User has principal with name: {}", ((Principal) o).getName());
         }
@@ -178,12 +216,12 @@ public class WebACAuthorizingRealm extends AuthorizingRealm {
         if (isAdmin && delegatePrincipals.size() == 1) {
             final DelegatedHeaderPrincipal delegatedPrincipal = delegatePrincipals.iterator().next();
             log.debug("Admin user is delegating to {}", delegatedPrincipal);
-            addPermissions(authzInfo, rolesForURI, delegatedPrincipal.getName());
-            addPermissions(authzInfo, rolesForURI, WEBAC_AUTHENTICATED_AGENT_VALUE);
+            agents.add(delegatedPrincipal.getName());
+            agents.add(WEBAC_AUTHENTICATED_AGENT_VALUE);
         } else if (userPrincipal != null) {
             log.debug("Basic user principal username: {}", userPrincipal.getName());
-            addPermissions(authzInfo, rolesForURI, userPrincipal.getName());
-            addPermissions(authzInfo, rolesForURI, WEBAC_AUTHENTICATED_AGENT_VALUE);
+            agents.add(userPrincipal.getName());
+            agents.add(WEBAC_AUTHENTICATED_AGENT_VALUE);
         } else {
             log.debug("No basic user principal found");
         }
@@ -192,14 +230,13 @@ public class WebACAuthorizingRealm extends AuthorizingRealm {
             log.debug("No header principals found!");
         }
         headerPrincipals.forEach((headerPrincipal) -> {
-            addPermissions(authzInfo, rolesForURI, headerPrincipal.getName());
+            agents.add(headerPrincipal.getName());
         });
 
         // Added FOAF_AGENT permissions for both authenticated and unauthenticated users
-        addPermissions(authzInfo, rolesForURI, FOAF_AGENT_VALUE);
-
-        return authzInfo;
+        agents.add(FOAF_AGENT_VALUE);
 
+        return agents;
     }
 
     private Map<String, Collection<String>> getRolesForPath(final String path) {
@@ -223,26 +260,6 @@ public class WebACAuthorizingRealm extends AuthorizingRealm {
         return roles;
     }
 
-    private void addPermissions(final SimpleAuthorizationInfo authzInfo,
-            final Map<URI, Map<String, Collection<String>>> rolesForURI, final String agentName) {
-        if (rolesForURI != null) {
-            for (final URI uri : rolesForURI.keySet()) {
-                log.debug("Adding permissions gathered for URI {}", uri);
-                final Map<String, Collection<String>> roles = rolesForURI.get(uri);
-                if (roles != null) {
-                    final Collection<String> modesForUser = roles.get(agentName);
-                    if (modesForUser != null) {
-                        // add WebACPermission instance for each mode in the Authorization
-                        for (final String mode : modesForUser) {
-                            final WebACPermission perm = new WebACPermission(URI.create(mode), uri);
-                            authzInfo.addObjectPermission(perm);
-                        }
-                    }
-                }
-            }
-        }
-    }
-
     /**
      * This realm is authorization-only.
      */
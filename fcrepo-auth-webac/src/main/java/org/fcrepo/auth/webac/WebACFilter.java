@@ -27,6 +27,7 @@ import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_CONTROL;
 import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_READ;
 import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_WRITE;
 import static org.fcrepo.auth.webac.WebACAuthorizingRealm.URIS_TO_AUTHORIZE;
+import static org.fcrepo.common.metrics.RequestTimings.Phase.WEBAC;
 import static org.fcrepo.http.commons.domain.RDFMediaType.TEXT_PLAIN_WITH_CHARSET;
 import static org.fcrepo.http.commons.session.TransactionConstants.ATOMIC_ID_HEADER;
 import static org.fcrepo.kernel.api.FedoraTypes.FCR_ACL;
@@ -62,6 +63,7 @@ import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.UriBuilder;
 
 import org.apache.jena.riot.RDFDataMgr;
+import org.fcrepo.common.metrics.RequestTimings;
 import org.fcrepo.config.FedoraPropsConfig;
 import org.fcrepo.http.commons.api.rdf.HttpIdentifierConverter;
 import org.fcrepo.http.commons.domain.MultiPrefer;
@@ -363,6 +365,16 @@ public class WebACFilter extends RequestContextFilter {
     }
 
     private boolean isAuthorized(final Subject currentUser, final HttpServletRequest httpRequest) throws IOException {
+        final var started = RequestTimings.enter(WEBAC);
+        try {
+            return checkAuthorized(currentUser, httpRequest);
+        } finally {
+            RequestTimings.exit(WEBAC, started);
+        }
+    }
+
+    private boolean checkAuthorized(final Subject currentUser, final HttpServletRequest httpRequest)
+            throws IOException {
         final String requestURL = httpRequest.getRequestURL().toString();
 
         final var txOrUuid = Pattern.compile(FCR_TX + "(/?|/[0-9a-f\\-]+/?)$");
@@ -8,9 +8,7 @@ package org.fcrepo.auth.webac;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toSet;
 import static java.util.stream.IntStream.range;
-import static java.util.stream.Stream.concat;
 import static java.util.stream.Stream.empty;
 import static java.util.stream.Stream.of;
 import static org.apache.jena.graph.NodeFactory.createURI;
@@ -22,7 +20,6 @@ import static org.fcrepo.auth.webac.URIConstants.WEBAC_ACCESSTO_VALUE;
 import static org.fcrepo.auth.webac.URIConstants.WEBAC_AGENT_CLASS_VALUE;
 import static org.fcrepo.auth.webac.URIConstants.WEBAC_AGENT_GROUP_VALUE;
 import static org.fcrepo.auth.webac.URIConstants.WEBAC_AGENT_VALUE;
-import static org.fcrepo.auth.webac.URIConstants.WEBAC_AUTHENTICATED_AGENT_VALUE;
 import static org.fcrepo.auth.webac.URIConstants.WEBAC_AUTHORIZATION_VALUE;
 import static org.fcrepo.auth.webac.URIConstants.WEBAC_DEFAULT_VALUE;
 import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_VALUE;
@@ -32,16 +29,19 @@ import static org.fcrepo.kernel.api.FedoraTypes.FEDORA_ID_PREFIX;
 import static org.fcrepo.kernel.api.RdfLexicon.RDF_NAMESPACE;
 import static org.slf4j.LoggerFactory.getLogger;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -51,6 +51,7 @@ import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
 
 import org.fcrepo.config.AuthPropsConfig;
+import org.fcrepo.config.FedoraPropsConfig;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.auth.ACLHandle;
 import org.fcrepo.kernel.api.auth.WebACAuthorization;
@@ -71,6 +72,7 @@ import org.springframework.context.annotation.Role;
 import org.springframework.stereotype.Component;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 
 /**
@@ -93,9 +95,36 @@ public class WebACRolesProvider {
     @Inject
     private ResourceFactory resourceFactory;
 
+    @Inject
+    private FedoraPropsConfig fedoraPropsConfig;
+
     @Inject
     private Cache<String, Optional<ACLHandle>> authHandleCache;
 
+    /**
+     * A value read from a resource, with the state token of the resource when it was read
+     */
+    private static class Versioned<T> {
+
+        private final String stateToken;
+
+        private final T value;
+
+        private Versioned(final String stateToken, final T value) {
+            this.stateToken = stateToken;
+            this.value = value;
+        }
+    }
+
+    // Compiled ACLs by the id of the ACL resource, recompiled when the state token of the ACL changes
+    private Cache<String, Versioned<CompiledAcl>> compiledAclCache;
+
+    // Members of agent groups by acl:agentGroup value, read again when the state token of the group changes
+    private Cache<String, Versioned<List<String>>> groupMembersCache;
+
+    // The compiled default ACL, with the path of the file it was read from
+    private volatile Versioned<CompiledAcl> defaultAcl;
+
     /**
      * Retrieve an effective ACL using the cache, but do not negatively-cache empty results.
      *
@@ -135,6 +164,12 @@ public class WebACRolesProvider {
     public void setup() {
         this.userBaseUri = authPropsConfig.getUserAgentBaseUri();
         this.groupBaseUri = authPropsConfig.getGroupAgentBaseUri();
+        this.compiledAclCache = Caffeine.newBuilder()
+                .expireAfterAccess(fedoraPropsConfig.getWebacCacheTimeout(), TimeUnit.MINUTES)
+                .maximumSize(fedoraPropsConfig.getWebacCacheSize()).build();
+        this.groupMembersCache = Caffeine.newBuilder()
+                .expireAfterAccess(fedoraPropsConfig.getWebacCacheTimeout(), TimeUnit.MINUTES)
+                .maximumSize(fedoraPropsConfig.getWebacCacheSize()).build();
     }
 
     /**
@@ -169,9 +204,9 @@ public class WebACRolesProvider {
         // Create a function to check acl:accessTo, scoped to the given resourcePaths
         final Predicate<WebACAuthorization> checkAccessTo = accessTo.apply(resourcePaths);
 
-        final var authorizations = effectiveAcl.map(ACLHandle::getAuthorizations)
-                                               .orElseGet(this::getDefaultAuthorizations);
-        final var effectiveRoles = getEffectiveRoles(authorizations, checkAccessTo, transaction);
+        final var acl = effectiveAcl.map(WebACRolesProvider::getCompiledAcl)
+                                    .orElseGet(this::getDefaultCompiledAcl);
+        final var effectiveRoles = acl.getRoles(checkAccessTo, group -> dereferenceAgentGroup(transaction, group));
 
         LOGGER.debug("Unfiltered ACL: {}", effectiveRoles);
         return effectiveRoles;
@@ -230,17 +265,17 @@ public class WebACRolesProvider {
         final Predicate<WebACAuthorization> checkAccessToClass =
             accessToClass.apply(rdfTypes.stream().map(URI::toString).collect(toList()));
 
-        // Read the effective Acl and return a list of acl:Authorization statements
-        final List<WebACAuthorization> authorizations = effectiveAcl
-                .map(ACLHandle::getAuthorizations)
-                .orElseGet(this::getDefaultAuthorizations);
+        // Read the effective Acl, compiled from its acl:Authorization statements
+        final CompiledAcl acl = effectiveAcl
+                .map(WebACRolesProvider::getCompiledAcl)
+                .orElseGet(this::getDefaultCompiledAcl);
 
         // Filter the acl:Authorization statements so that they correspond only to statements that apply to
         // the target (or acl-bearing ancestor) resource path or rdf:type.
         // Then, assign all acceptable acl:mode values to the relevant acl:agent values: this creates a UNION
         // of acl:modes for each particular acl:agent.
-        final Map<String, Collection<String>> effectiveRoles =
-            getEffectiveRoles(authorizations, checkAccessTo.or(checkAccessToClass), transaction);
+        final Map<String, Collection<String>> effectiveRoles = acl.getRoles(checkAccessTo.or(checkAccessToClass),
+                group -> dereferenceAgentGroup(transaction, group));
 
         LOGGER.debug("Unfiltered ACL: {}", effectiveRoles);
 
@@ -248,40 +283,13 @@ public class WebACRolesProvider {
     }
 
     /**
-     * Get the effective roles for a list of authorizations
-     *
-     * @param authorizations The authorizations to get roles for
-     * @param authorizationFilter The filter to apply on the list of roles
-     * @param transaction the transaction being acted upon
-     * @return a mapping of each principal to a set of its roles
+     * Get the compiled authorizations of an effective ACL.
      */
-    private Map<String, Collection<String>> getEffectiveRoles(final List<WebACAuthorization> authorizations,
-                                                              final Predicate<WebACAuthorization> authorizationFilter,
-                                                              final Transaction transaction) {
-        final Predicate<String> isFoafOrAuthenticated = (agentClass) ->
-            agentClass.equals(FOAF_AGENT_VALUE) || agentClass.equals(WEBAC_AUTHENTICATED_AGENT_VALUE);
-
-        final Map<String, Collection<String>> effectiveRoles = new HashMap<>();
-        authorizations.stream()
-                      .filter(authorizationFilter)
-                      .forEach(auth -> {
-                          final var modes = auth.getModes().stream().map(URI::toString).collect(toSet());
-                          concat(auth.getAgents().stream(),
-                                 dereferenceAgentGroups(transaction, auth.getAgentGroups()).stream())
-                              .filter(Predicate.not(isFoafOrAuthenticated))
-                              .forEach(agent -> {
-                                  effectiveRoles.computeIfAbsent(agent, key -> new HashSet<>())
-                                                .addAll(modes);
-                              });
-                          auth.getAgentClasses()
-                              .stream()
-                              .filter(isFoafOrAuthenticated)
-                              .forEach(agentClass -> {
-                                  effectiveRoles.computeIfAbsent(agentClass, key -> new HashSet<>())
-                                                .addAll(modes);
-                              });
-                      });
-        return effectiveRoles;
+    private static CompiledAcl getCompiledAcl(final ACLHandle handle) {
+        if (handle instanceof ACLHandleImpl impl) {
+            return impl.getCompiledAcl();
+        }
+        return new CompiledAcl(handle.getAuthorizations());
     }
 
     /**
@@ -315,38 +323,41 @@ public class WebACRolesProvider {
         uris.stream().anyMatch(uri -> auth.getAccessToURIs().contains(uri));
 
     /**
-     *  This maps a Collection of acl:agentGroup values to a List of agents.
-     *  Any out-of-domain URIs are silently ignored.
+     *  This maps an acl:agentGroup value to a List of agents.
+     *  Any out-of-domain URIs are silently ignored. The members of in-domain groups are cached until the group
+     *  resource changes.
      */
-    private List<String> dereferenceAgentGroups(final Transaction transaction, final Collection<String> agentGroups) {
-        final List<String> members = agentGroups.stream().flatMap(agentGroup -> {
-            if (agentGroup.startsWith(FEDORA_ID_PREFIX)) {
-                //strip off trailing hash.
-                final int hashIndex = agentGroup.indexOf("#");
-                final String agentGroupNoHash = hashIndex > 0 ?
-                                         agentGroup.substring(0, hashIndex) :
-                                         agentGroup;
-                final String hashedSuffix = hashIndex > 0 ? agentGroup.substring(hashIndex) : null;
-                try {
-                    final FedoraId fedoraId = FedoraId.create(agentGroupNoHash);
-                    final FedoraResource resource = resourceFactory.getResource(transaction, fedoraId);
-                    return getAgentMembers(resource, hashedSuffix);
-                } catch (final PathNotFoundException e) {
-                    throw new PathNotFoundRuntimeException(e.getMessage(), e);
-                }
-            } else if (agentGroup.equals(FOAF_AGENT_VALUE)) {
-                return of(agentGroup);
-            } else {
-                LOGGER.info("Ignoring agentGroup: {}", agentGroup);
-                return empty();
+    private Collection<String> dereferenceAgentGroup(final Transaction transaction, final String agentGroup) {
+        if (agentGroup.startsWith(FEDORA_ID_PREFIX)) {
+            //strip off trailing hash.
+            final int hashIndex = agentGroup.indexOf("#");
+            final String agentGroupNoHash = hashIndex > 0 ?
+                                     agentGroup.substring(0, hashIndex) :
+                                     agentGroup;
+            final String hashedSuffix = hashIndex > 0 ? agentGroup.substring(hashIndex) : null;
+            final FedoraResource resource;
+            try {
+                resource = resourceFactory.getResource(transaction, FedoraId.create(agentGroupNoHash));
+            } catch (final PathNotFoundException e) {
+                throw new PathNotFoundRuntimeException(e.getMessage(), e);
             }
-        }).collect(toList());
-
-        if (LOGGER.isDebugEnabled() && !agentGroups.isEmpty()) {
-            LOGGER.debug("Found {} members in {} agentGroups resources", members.size(), agentGroups.size());
+            final String stateToken = resource.getStateToken();
+            final var cached = groupMembersCache.getIfPresent(agentGroup);
+            if (cached != null && stateToken != null && stateToken.equals(cached.stateToken)) {
+                return cached.value;
+            }
+            final List<String> members = getAgentMembers(resource, hashedSuffix).collect(toList());
+            LOGGER.debug("Found {} members in agentGroup {}", members.size(), agentGroup);
+            if (stateToken != null) {
+                groupMembersCache.put(agentGroup, new Versioned<>(stateToken, members));
+            }
+            return members;
+        } else if (agentGroup.equals(FOAF_AGENT_VALUE)) {
+            return List.of(agentGroup);
+        } else {
+            LOGGER.info("Ignoring agentGroup: {}", agentGroup);
+            return emptyList();
         }
-
-        return members;
     }
 
     /**
@@ -404,12 +415,9 @@ public class WebACRolesProvider {
      * full list is returned.
      *
      * @param aclResource the ACL resource
-     * @param ancestorAcl flag indicating whether or not the ACL resource associated with an ancestor of the target
-     *                    resource
      * @return a list of acl:Authorization objects
      */
-    private List<WebACAuthorization> getAuthorizations(final FedoraResource aclResource,
-                                                       final boolean ancestorAcl) {
+    private List<WebACAuthorization> getAuthorizations(final FedoraResource aclResource) {
 
         final List<WebACAuthorization> authorizations = new ArrayList<>();
 
@@ -447,19 +455,35 @@ public class WebACRolesProvider {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debug("Adding acl:Authorization from {}", aclResource.getId());
             }
-            authMap.values().forEach(aclTriples -> {
-                final WebACAuthorization authorization = createAuthorizationFromMap(aclTriples);
-                //only include authorizations if the acl resource is not an ancestor acl
-                //or the authorization has at least one acl:default
-                if (!ancestorAcl || authorization.getDefaults().size() > 0) {
-                    authorizations.add(authorization);
-                }
-            });
+            authMap.values().forEach(aclTriples -> authorizations.add(createAuthorizationFromMap(aclTriples)));
         }
 
         return authorizations;
     }
 
+    /**
+     * Compile the authorizations of a Fedora ACL resource, reusing the compiled authorizations while the state token
+     * of the ACL is unchanged.
+     *
+     * @param aclResource the ACL resource
+     * @return the compiled authorizations
+     */
+    private CompiledAcl compileAcl(final FedoraResource aclResource) {
+        final String stateToken = aclResource.getStateToken();
+        final String key = aclResource.getId();
+        if (stateToken != null && key != null) {
+            final var cached = compiledAclCache.getIfPresent(key);
+            if (cached != null && stateToken.equals(cached.stateToken)) {
+                return cached.value;
+            }
+        }
+        final var compiled = new CompiledAcl(getAuthorizations(aclResource));
+        if (stateToken != null && key != null) {
+            compiledAclCache.put(key, new Versioned<>(stateToken, compiled));
+        }
+        return compiled;
+    }
+
     private static WebACAuthorization createAuthorizationFromMap(final Map<String, List<String>> data) {
         return new WebACAuthorizationImpl(
                 data.getOrDefault(WEBAC_AGENT_VALUE, emptyList()),
@@ -485,11 +509,12 @@ public class WebACRolesProvider {
         final FedoraResource aclResource = resource.getAcl();
 
         if (aclResource != null) {
-            final List<WebACAuthorization> authorizations =
-                getAuthorizations(aclResource, ancestorAcl);
-            if (authorizations.size() > 0) {
-                return Optional.of(
-                    new ACLHandleImpl(resource, authorizations));
+            //only include authorizations if the acl resource is not an ancestor acl
+            //or the authorization has at least one acl:default
+            final CompiledAcl compiled = ancestorAcl ? compileAcl(aclResource).getInherited() :
+                    compileAcl(aclResource);
+            if (!compiled.isEmpty()) {
+                return Optional.of(new ACLHandleImpl(resource, compiled));
             }
         }
 
@@ -510,6 +535,37 @@ public class WebACRolesProvider {
         }
     }
 
+    /**
+     * Get the compiled default authorizations, compiled again when the path of the root ACL or the file it points to
+     * changes.
+     */
+    private CompiledAcl getDefaultCompiledAcl() {
+        final String stateToken = getRootAclStateToken(authPropsConfig.getRootAuthAclPath());
+        final var cached = defaultAcl;
+        if (cached != null && cached.stateToken.equals(stateToken)) {
+            return cached.value;
+        }
+        final var compiled = new CompiledAcl(getDefaultAuthorizations());
+        defaultAcl = new Versioned<>(stateToken, compiled);
+        return compiled;
+    }
+
+    /**
+     * @param path the path of the root ACL file, or null to use the classpath default
+     * @return the path along with the last modified time and size of the file, if it exists
+     */
+    private static String getRootAclStateToken(final Path path) {
+        if (path == null || !Files.isRegularFile(path)) {
+            return String.valueOf(path);
+        }
+        try {
+            return path + "|" + Files.getLastModifiedTime(path).toMillis() + "|" + Files.size(path);
+        } catch (final IOException e) {
+            LOGGER.debug("Unable to read the attributes of the root ACL {}", path, e);
+            return String.valueOf(path);
+        }
+    }
+
     private List<WebACAuthorization> getDefaultAuthorizations() {
         final List<WebACAuthorization> authorizations = new ArrayList<>();
 
@@ -558,7 +614,7 @@ public class WebACRolesProvider {
      */
     public void setUserBaseUri(final String userBaseUri) {
         this.userBaseUri = userBaseUri;
-        authHandleCache.invalidateAll();
+        invalidateAll();
     }
 
     /**
@@ -566,6 +622,13 @@ public class WebACRolesProvider {
      */
     public void setGroupBaseUri(final String groupBaseUri) {
         this.groupBaseUri = groupBaseUri;
+        invalidateAll();
+    }
+
+    private void invalidateAll() {
         authHandleCache.invalidateAll();
+        compiledAclCache.invalidateAll();
+        groupMembersCache.invalidateAll();
+        defaultAcl = null;
     }
 }
@@ -0,0 +1,87 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.auth.webac;
+
+import static org.fcrepo.auth.webac.URIConstants.FOAF_AGENT_VALUE;
+import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_APPEND;
+import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_CONTROL;
+import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_READ;
+import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_READ_VALUE;
+import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_WRITE;
+import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_WRITE_VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author fcrepo
+ */
+public class WebACAuthorizationInfoTest {
+
+    private static final URI RESOURCE = URI.create("info:fedora/resource");
+
+    private static final URI OTHER_RESOURCE = URI.create("info:fedora/other");
+
+    private static final URI CUSTOM_MODE = URI.create("http://example.org/mode");
+
+    @Test
+    public void testModesMergedAcrossAgents() {
+        final var info = new WebACAuthorizationInfo(List.of("fedoraUser"), List.of("user", FOAF_AGENT_VALUE));
+        final Map<String, Collection<String>> roles = Map.of(
+                "user", Set.of(WEBAC_MODE_READ_VALUE),
+                FOAF_AGENT_VALUE, Set.of(WEBAC_MODE_WRITE_VALUE),
+                "someoneElse", Set.of(WEBAC_MODE_CONTROL.toString()));
+        info.addResource(RESOURCE, roles);
+        info.addResource(OTHER_RESOURCE, null);
+
+        assertTrue(info.hasResource(RESOURCE));
+        assertTrue(info.hasResource(OTHER_RESOURCE));
+        assertTrue(info.isPermitted(WEBAC_MODE_READ, RESOURCE));
+        assertTrue(info.isPermitted(WEBAC_MODE_WRITE, RESOURCE));
+        assertFalse(info.isPermitted(WEBAC_MODE_CONTROL, RESOURCE));
+        assertFalse(info.isPermitted(WEBAC_MODE_APPEND, RESOURCE));
+        assertFalse(info.isPermitted(WEBAC_MODE_READ, OTHER_RESOURCE));
+        assertEquals(Set.of("fedoraUser"), info.getRoles());
+        assertNull(info.getStringPermissions());
+        assertEquals(Set.of(new WebACPermission(WEBAC_MODE_READ, RESOURCE),
+                new WebACPermission(WEBAC_MODE_WRITE, RESOURCE)), info.getObjectPermissions());
+    }
+
+    @Test
+    public void testCustomMode() {
+        final var info = new WebACAuthorizationInfo(List.of(), List.of(FOAF_AGENT_VALUE));
+        info.addPermission(CUSTOM_MODE, RESOURCE);
+        assertTrue(info.isPermitted(CUSTOM_MODE, RESOURCE));
+        assertFalse(info.isPermitted(CUSTOM_MODE, OTHER_RESOURCE));
+        assertFalse(info.isPermitted(WEBAC_MODE_READ, RESOURCE));
+    }
+
+    @Test
+    public void testEmpty() {
+        final var info = new WebACAuthorizationInfo(List.of(), List.of(FOAF_AGENT_VALUE));
+        assertNull(info.getRoles());
+        assertNull(info.getObjectPermissions());
+        assertFalse(info.hasResource(RESOURCE));
+        assertFalse(info.isPermitted(WEBAC_MODE_READ, RESOURCE));
+    }
+
+    @Test
+    public void testIsFor() {
+        final var info = new WebACAuthorizationInfo(List.of("fedoraUser"), List.of("user", FOAF_AGENT_VALUE));
+        assertTrue(info.isFor(List.of("fedoraUser"), List.of("user", FOAF_AGENT_VALUE)));
+        assertFalse(info.isFor(List.of(), List.of("user", FOAF_AGENT_VALUE)));
+        assertFalse(info.isFor(List.of("fedoraUser"), List.of(FOAF_AGENT_VALUE)));
+    }
+}
@@ -24,13 +24,19 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import static java.util.Collections.singletonList;
 
+import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
@@ -46,6 +52,7 @@ import org.apache.jena.rdf.model.Model;
 import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFDataMgr;
 import org.fcrepo.config.AuthPropsConfig;
+import org.fcrepo.config.FedoraPropsConfig;
 import org.fcrepo.kernel.api.RdfStream;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.auth.ACLHandle;
@@ -60,6 +67,7 @@ import org.apache.jena.vocabulary.RDF;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -106,6 +114,11 @@ public class WebACRolesProviderTest {
         setField(roleProvider, "resourceFactory", mockResourceFactory);
         setField(roleProvider, "authPropsConfig", propsConfig);
         setField(roleProvider, "authHandleCache", authHandleCache);
+        final var fedoraPropsConfig = new FedoraPropsConfig();
+        setField(fedoraPropsConfig, "webacCacheSize", 1024L);
+        setField(fedoraPropsConfig, "webacCacheTimeout", 10L);
+        setField(roleProvider, "fedoraPropsConfig", fedoraPropsConfig);
+        roleProvider.setup();
 
         when(mockResource.getDescribedResource()).thenReturn(mockResource);
         when(mockResource.getDescription()).thenReturn(mockResource);
@@ -589,6 +602,28 @@ public class WebACRolesProviderTest {
         assertTrue(roles.get(agent1).contains(WEBAC_MODE_READ_VALUE), "The agent should be able to read");
     }
 
+    @Test
+    public void noAclTestRootAclFileChanged(@TempDir final Path tempDir) throws IOException {
+        when(mockResource.getAcl()).thenReturn(null);
+        when(mockResource.getId()).thenReturn(FEDORA_ID_PREFIX);
+        when(mockResource.getTypes()).thenReturn(
+                singletonList(FEDORA_RESOURCE_URI));
+
+        final var rootAcl = tempDir.resolve("root-authorization.ttl");
+        final var original = Files.readString(Paths.get("./target/test-classes/test-root-authorization.ttl"));
+        Files.writeString(rootAcl, original);
+        propsConfig.setRootAuthAclPath(rootAcl);
+        assertTrue(roleProvider.getRoles(mockResource, mockTransaction).containsKey("testAdminUser"));
+
+        // the file is read again once it changes, without a restart
+        Files.writeString(rootAcl, original.replace("testAdminUser", "otherAdminUser"));
+        Files.setLastModifiedTime(rootAcl, FileTime.fromMillis(Files.getLastModifiedTime(rootAcl).toMillis() + 10000));
+        final Map<String, Collection<String>> roles = roleProvider.getRoles(mockResource, mockTransaction);
+
+        assertEquals(1, roles.size(), "There should be exactly one agent");
+        assertTrue(roles.get("otherAdminUser").contains(WEBAC_MODE_READ_VALUE), "The agent should be able to read");
+    }
+
     /**
      * Test getting the permissions for the transaction provider.
      */
@@ -715,6 +750,70 @@ public class WebACRolesProviderTest {
         assertTrue(roles.get("Bob").contains(WEBAC_MODE_WRITE_VALUE), "The agent should be able to write");
     }
 
+    /**
+     * Test that a compiled ACL is reused until the state of the ACL changes.
+     */
+    @Test
+    public void testCompiledAclReused() {
+        final String agent = "user01";
+        final String accessTo = "/webacl_box1";
+        final String acl = "/acls/01/acl.ttl";
+
+        when(mockResource.getAcl()).thenReturn(mockAclResource);
+        when(mockResource.getId()).thenReturn(addPrefix(accessTo));
+        when(mockResource.getTypes()).thenReturn(singletonList(FEDORA_RESOURCE_URI));
+        when(mockAclResource.isAcl()).thenReturn(true);
+        when(mockAclResource.getId()).thenReturn(addPrefix(accessTo) + "/fcr:acl");
+        when(mockAclResource.getStateToken()).thenReturn("token1");
+        when(mockAclResource.getTriples()).thenAnswer(invocation -> getRdfStreamFromResource(acl, TTL));
+
+        assertEquals(2, roleProvider.getRoles(mockResource, mockTransaction).get(agent).size());
+        authHandleCache.invalidateAll();
+        assertEquals(2, roleProvider.getRoles(mockResource, mockTransaction).get(agent).size());
+        verify(mockAclResource, times(1)).getTriples();
+
+        when(mockAclResource.getStateToken()).thenReturn("token2");
+        authHandleCache.invalidateAll();
+        assertEquals(2, roleProvider.getRoles(mockResource, mockTransaction).get(agent).size());
+        verify(mockAclResource, times(2)).getTriples();
+    }
+
+    /**
+     * Test that the members of an agent group are read again only when the group changes.
+     */
+    @Test
+    public void testAgentGroupMembersCached() throws PathNotFoundException {
+        final var id = FedoraId.create("some-test");
+        final String acl = "/acls/acl-agentgroup-with-hashuri.ttl";
+        final FedoraId groupId = FedoraId.create("agent-group");
+
+        final var mockGroupResource = mock(FedoraResource.class);
+        when(mockGroupResource.getId()).thenReturn(groupId.getFullId());
+        when(mockGroupResource.getStateToken()).thenReturn("token1");
+        when(mockGroupResource.getTriples()).thenAnswer(invocation -> new DefaultRdfStream(
+                NodeFactory.createURI("#list"),
+                Stream.of(
+                    Triple.create(NodeFactory.createURI("#list"), RDF.type.asNode(),
+                            NodeFactory.createURI(VCARD_GROUP_VALUE)),
+                    Triple.create(NodeFactory.createURI("#list"), NodeFactory.createURI(VCARD_MEMBER_VALUE),
+                            NodeFactory.createLiteralString("Bob")))));
+        when(mockResourceFactory.getResource(any(Transaction.class), eq(groupId))).thenReturn(mockGroupResource);
+
+        when(mockResource.getId()).thenReturn(id.getFullId());
+        when(mockResource.getTypes()).thenReturn(singletonList(FEDORA_RESOURCE_URI));
+        when(mockResource.getAcl()).thenReturn(mockAclResource);
+        when(mockAclResource.isAcl()).thenReturn(true);
+        when(mockAclResource.getTriples()).thenAnswer(invocation -> getRdfStreamFromResource(acl, TTL));
+
+        assertEquals(1, roleProvider.getRoles(mockResource, mockTransaction).get("Bob").size());
+        assertEquals(1, roleProvider.getRoles(mockResource, mockTransaction).get("Bob").size());
+        verify(mockGroupResource, times(1)).getTriples();
+
+        when(mockGroupResource.getStateToken()).thenReturn("token2");
+        assertEquals(1, roleProvider.getRoles(mockResource, mockTransaction).get("Bob").size());
+        verify(mockGroupResource, times(2)).getTriples();
+    }
+
     private static RdfStream getRdfStreamFromResource(final String resourcePath, final Lang lang) {
         final Model model = createDefaultModel();
 
@@ -5,19 +5,26 @@
  */
 package org.fcrepo.auth.webac;
 
+import static org.fcrepo.auth.webac.URIConstants.FOAF_AGENT_VALUE;
+import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_CONTROL;
 import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_READ;
 import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_READ_VALUE;
 import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_WRITE;
 import static org.fcrepo.auth.webac.URIConstants.WEBAC_MODE_WRITE_VALUE;
+import static org.fcrepo.auth.webac.WebACAuthorizingRealm.AUTHORIZATION_INFO;
 import static org.fcrepo.auth.webac.WebACAuthorizingRealm.URIS_TO_AUTHORIZE;
 import static org.fcrepo.http.commons.session.TransactionConstants.ATOMIC_ID_HEADER;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.URI;
@@ -139,6 +146,12 @@ public class WebAcAuthorizationRealmTest {
         ThreadContext.bind(securityManager);
         final var subject = new WebSubject.Builder(securityManager, request, response).buildWebSubject();
         ThreadContext.bind(subject);
+        // keep the authorization info the realm stores in the request
+        final Map<String, Object> attributes = new HashMap<>();
+        lenient().doAnswer(invocation -> attributes.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .when(request).setAttribute(eq(AUTHORIZATION_INFO), any());
+        lenient().when(request.getAttribute(AUTHORIZATION_INFO))
+                .thenAnswer(invocation -> attributes.get(AUTHORIZATION_INFO));
     }
 
     @Test
@@ -168,6 +181,26 @@ public class WebAcAuthorizationRealmTest {
                 .anyMatch(p -> p.implies(new WebACPermission(WEBAC_MODE_WRITE, requestUri))));
     }
 
+    @Test
+    public void testIsPermitted() throws PathNotFoundException {
+        doAllStubbings();
+        final Map<String, Collection<String>> roles = new HashMap<>();
+        roles.put("testUser", Set.of(WEBAC_MODE_READ_VALUE));
+        roles.put(FOAF_AGENT_VALUE, Set.of(WEBAC_MODE_WRITE_VALUE));
+        roles.put("otherUser", Set.of(WEBAC_MODE_CONTROL.toString()));
+        when(rolesProvider.getRoles(eq(resource), any(Transaction.class))).thenReturn(roles);
+        assertTrue(webACAuthorizingRealm.isPermitted(principalCollection,
+                new WebACPermission(WEBAC_MODE_READ, requestUri)));
+        assertTrue(webACAuthorizingRealm.isPermitted(principalCollection,
+                new WebACPermission(WEBAC_MODE_WRITE, requestUri)));
+        assertFalse(webACAuthorizingRealm.isPermitted(principalCollection,
+                new WebACPermission(WEBAC_MODE_CONTROL, requestUri)));
+        assertFalse(webACAuthorizingRealm.isPermitted(principalCollection,
+                new WebACPermission(WEBAC_MODE_READ, URI.create("http://localhost:8080/fcrepo/rest/other"))));
+        // the roles of the resource were only gathered once for the request
+        verify(rolesProvider, times(1)).getRoles(eq(resource), any(Transaction.class));
+    }
+
     @Test
     public void testDoGetAuthorizationInfoAdmin() {
         principalCollection = new SimplePrincipalCollection();
@@ -0,0 +1,139 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.fcrepo.config.DatabaseConfig;
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.config.MetricsConfig;
+import org.fcrepo.config.OcflPropsConfig;
+import org.fcrepo.config.SystemInfoConfig;
+import org.fcrepo.kernel.api.models.ResourceFactory;
+import org.fcrepo.kernel.api.observer.EventAccumulator;
+import org.fcrepo.kernel.impl.ContainmentIndexImpl;
+import org.fcrepo.kernel.impl.RepositoryInitializationStatusImpl;
+import org.fcrepo.kernel.impl.services.ReferenceServiceImpl;
+import org.fcrepo.persistence.ocfl.impl.DbFedoraToOcflObjectIndex;
+import org.fcrepo.persistence.ocfl.impl.OcflPersistenceConfig;
+import org.fcrepo.persistence.ocfl.impl.OcflPersistentSessionManager;
+import org.fcrepo.persistence.ocfl.impl.ReindexService;
+import org.fcrepo.persistence.ocfl.impl.VersionTimelineCache;
+import org.fcrepo.search.impl.DbSearchIndexImpl;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+/**
+ * A repository for benchmarks, made of the database indexes and the OCFL persistence of Fedora wired as in the
+ * webapp, over an in-memory H2 database and an ocfl-fs repository in a temporary directory. The collaborators of the
+ * indexes which are not benchmarked, such as the resource factory, are stubs which benchmarks may program.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class BenchmarkRepository implements AutoCloseable {
+
+    private final Path home;
+
+    private final AnnotationConfigApplicationContext context;
+
+    /**
+     * Create a repository with the default configuration
+     */
+    public BenchmarkRepository() {
+        this(Map.of());
+    }
+
+    /**
+     * @param properties configuration properties overriding the defaults, e.g. fcrepo.search.indexed.properties
+     */
+    public BenchmarkRepository(final Map<String, String> properties) {
+        try {
+            this.home = Files.createTempDirectory("fcrepo-benchmark");
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final Map<String, Object> config = new HashMap<>();
+        config.put("fcrepo.home", home.toString());
+        config.put("fcrepo.db.url", "jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        config.putAll(properties);
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", config));
+        context.register(FedoraPropsConfig.class, OcflPropsConfig.class, SystemInfoConfig.class,
+                MetricsConfig.class, DatabaseConfig.class, OcflPersistenceConfig.class);
+
+        context.registerBean("initializationStatus", RepositoryInitializationStatusImpl.class,
+                bd -> bd.getPropertyValues().add("initializationComplete", true));
+        // The stubs are registered as singletons, so that the fields of the stubbed classes are not injected
+        final var beanFactory = context.getBeanFactory();
+        beanFactory.registerSingleton("resourceFactory", stub(ResourceFactory.class));
+        beanFactory.registerSingleton("eventAccumulator", stub(EventAccumulator.class));
+        beanFactory.registerSingleton("reindexService", stub(ReindexService.class));
+
+        // The indexes set up their queries against the schema created by flyway
+        context.registerBean("containmentIndex", ContainmentIndexImpl.class, bd -> bd.setDependsOn("flyway"));
+        context.registerBean("referenceService", ReferenceServiceImpl.class, bd -> bd.setDependsOn("flyway"));
+        context.registerBean("searchIndex", DbSearchIndexImpl.class, bd -> bd.setDependsOn("flyway"));
+        context.registerBean("ocflIndex", DbFedoraToOcflObjectIndex.class, bd -> bd.setDependsOn("flyway"));
+        context.registerBean(VersionTimelineCache.class);
+        context.registerBean(OcflPersistentSessionManager.class);
+        context.refresh();
+    }
+
+    /**
+     * Create a stub which, unlike a mockito mock, does not record the invocations made on it
+     *
+     * @param type the type to stub
+     * @param <T> the type to stub
+     * @return the stub
+     */
+    public static <T> T stub(final Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    /**
+     * @param type the type of the bean
+     * @param <T> the type of the bean
+     * @return the bean of the repository
+     */
+    public <T> T getBean(final Class<T> type) {
+        return context.getBean(type);
+    }
+
+    /**
+     * @param name the name of the bean
+     * @param type the type of the bean
+     * @param <T> the type of the bean
+     * @return the bean of the repository
+     */
+    public <T> T getBean(final String name, final Class<T> type) {
+        return context.getBean(name, type);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+        try (final Stream<Path> paths = Files.walk(home)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
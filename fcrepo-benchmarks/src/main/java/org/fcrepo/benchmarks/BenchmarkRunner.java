@@ -0,0 +1,47 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.openjdk.jmh.Main;
+
+/**
+ * Runs the benchmarks with the JMH command line, writing the results as JSON to jmh-result.json and profiling the
+ * allocations of each benchmark, unless the arguments choose otherwise. For example, to run the containment index
+ * benchmarks with 100k children:
+ *
+ * <pre>
+ * java -jar benchmarks.jar ContainmentIndexBenchmark -p children=100000 -rff containment.json
+ * </pre>
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    /**
+     * @param args the JMH command line arguments
+     * @throws Exception if the benchmarks fail to run
+     */
+    public static void main(final String[] args) throws Exception {
+        final List<String> options = new ArrayList<>(List.of(args));
+        if (!options.contains("-rf")) {
+            options.addAll(List.of("-rf", "json"));
+        }
+        if (!options.contains("-rff")) {
+            options.addAll(List.of("-rff", "jmh-result.json"));
+        }
+        if (!options.contains("-prof")) {
+            options.addAll(List.of("-prof", "gc"));
+        }
+        Main.main(options.toArray(String[]::new));
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.fcrepo.kernel.api.Transaction;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+
+/**
+ * A transaction which is always open and takes no locks, so that the benchmarked components are measured without
+ * the transaction bookkeeping of the kernel.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class BenchmarkTransaction implements Transaction {
+
+    private final String id;
+
+    private boolean shortLived;
+
+    /**
+     * @param shortLived whether the transaction is short-lived, as the transaction of a single request is
+     */
+    public BenchmarkTransaction(final boolean shortLived) {
+        this.id = UUID.randomUUID().toString();
+        this.shortLived = shortLived;
+    }
+
+    @Override
+    public void commit() {
+        // no-op
+    }
+
+    @Override
+    public void commitIfShortLived() {
+        // no-op
+    }
+
+    @Override
+    public boolean isCommitted() {
+        return false;
+    }
+
+    @Override
+    public void rollback() {
+        // no-op
+    }
+
+    @Override
+    public void fail() {
+        // no-op
+    }
+
+    @Override
+    public boolean isRolledBack() {
+        return false;
+    }
+
+    @Override
+    public boolean isOpenLongRunning() {
+        return !shortLived;
+    }
+
+    @Override
+    public boolean isOpen() {
+        return true;
+    }
+
+    @Override
+    public void ensureCommitting() {
+        // no-op
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return false;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isShortLived() {
+        return shortLived;
+    }
+
+    @Override
+    public void setShortLived(final boolean shortLived) {
+        this.shortLived = shortLived;
+    }
+
+    @Override
+    public void expire() {
+        // no-op
+    }
+
+    @Override
+    public boolean hasExpired() {
+        return false;
+    }
+
+    @Override
+    public Instant updateExpiry(final Duration amountToAdd) {
+        return Instant.now().plus(amountToAdd);
+    }
+
+    @Override
+    public Instant getExpires() {
+        return Instant.MAX;
+    }
+
+    @Override
+    public void refresh() {
+        // no-op
+    }
+
+    @Override
+    public void lockResource(final FedoraId resourceId) {
+        // no-op
+    }
+
+    @Override
+    public void lockResourceNonExclusive(final FedoraId resourceId) {
+        // no-op
+    }
+
+    @Override
+    public void lockResourceAndGhostNodes(final FedoraId resourceId) {
+        // no-op
+    }
+
+    @Override
+    public void releaseResourceLocksIfShortLived() {
+        // no-op
+    }
+
+    @Override
+    public void doInTx(final Runnable runnable) {
+        runnable.run();
+    }
+
+    @Override
+    public void setBaseUri(final String baseUri) {
+        // no-op
+    }
+
+    @Override
+    public void setUserAgent(final String userAgent) {
+        // no-op
+    }
+
+    @Override
+    public void suppressEvents() {
+        // no-op
+    }
+}
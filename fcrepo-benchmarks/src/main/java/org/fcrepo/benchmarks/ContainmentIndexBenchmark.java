@@ -0,0 +1,116 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.fcrepo.kernel.api.ContainmentIndex;
+import org.fcrepo.kernel.api.ReadOnlyTransaction;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the containment index: listing the children of a container whole and by page, finding the parent
+ * of a resource, and adding children to a container in a long-running transaction.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContainmentIndexBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "10000"})
+    private int children;
+
+    @Param({"100"})
+    private int childrenPerTx;
+
+    private BenchmarkRepository repository;
+
+    private ContainmentIndex containmentIndex;
+
+    private FedoraId container;
+
+    private List<FedoraId> childIds;
+
+    private String middleChild;
+
+    @Setup
+    public void setup() {
+        repository = new BenchmarkRepository();
+        containmentIndex = repository.getBean("containmentIndex", ContainmentIndex.class);
+
+        final var tx = new BenchmarkTransaction(true);
+        container = FedoraId.create("container");
+        containmentIndex.addContainedBy(tx, FedoraId.getRepositoryRootId(), container);
+        childIds = SyntheticData.children(container, children);
+        childIds.forEach(child -> containmentIndex.addContainedBy(tx, container, child));
+        containmentIndex.commitTransaction(tx);
+
+        middleChild = containmentIndex.getContainsPage(ReadOnlyTransaction.INSTANCE, container, null, children / 2)
+                .get(children / 2 - 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        repository.close();
+    }
+
+    @Benchmark
+    public void listChildren(final Blackhole blackhole) {
+        containmentIndex.getContains(ReadOnlyTransaction.INSTANCE, container).forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public List<String> listFirstPage() {
+        return containmentIndex.getContainsPage(ReadOnlyTransaction.INSTANCE, container, null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public List<String> listMiddlePage() {
+        return containmentIndex.getContainsPage(ReadOnlyTransaction.INSTANCE, container, middleChild, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public String getContainedBy() {
+        final var child = childIds.get(ThreadLocalRandom.current().nextInt(children));
+        return containmentIndex.getContainedBy(ReadOnlyTransaction.INSTANCE, child);
+    }
+
+    @Benchmark
+    public void addChildrenInLongRunningTx() {
+        final var tx = new BenchmarkTransaction(false);
+        final var parent = container.resolve(UUID.randomUUID().toString());
+        containmentIndex.addContainedBy(tx, container, parent);
+        for (int i = 0; i < childrenPerTx; i++) {
+            containmentIndex.addContainedBy(tx, parent, parent.resolve("child" + i));
+        }
+        containmentIndex.commitTransaction(tx);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the creation and derivation of FedoraIds. The ids are created from a pool of paths which is either
+ * smaller than the cache of interned ids, as for the resources of a busy container, or larger than it, as during a
+ * reindex. Run with -prof gc to see the allocation per call.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FedoraIdBenchmark {
+
+    private static final Instant MEMENTO = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Param({"1000", "100000"})
+    private int distinctIds;
+
+    private String[] paths;
+
+    private FedoraId[] ids;
+
+    private int next;
+
+    @Setup
+    public void setup() {
+        paths = new String[distinctIds];
+        ids = new FedoraId[distinctIds];
+        for (int i = 0; i < distinctIds; i++) {
+            paths[i] = "collection/" + (i % 100) + "/object" + i;
+            ids[i] = FedoraId.create(paths[i]);
+        }
+    }
+
+    private int nextIndex() {
+        next = next + 1 == distinctIds ? 0 : next + 1;
+        return next;
+    }
+
+    @Benchmark
+    public FedoraId create() {
+        return FedoraId.create(paths[nextIndex()]);
+    }
+
+    @Benchmark
+    public FedoraId asDescription() {
+        return ids[nextIndex()].asDescription();
+    }
+
+    @Benchmark
+    public FedoraId asMemento() {
+        return ids[nextIndex()].asMemento(MEMENTO);
+    }
+
+    @Benchmark
+    public FedoraId resolve() {
+        return ids[nextIndex()].resolve("child");
+    }
+
+    @Benchmark
+    public String getEncodedFullId() {
+        return FedoraId.create(paths[nextIndex()]).getEncodedFullId();
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import static org.apache.jena.graph.NodeFactory.createURI;
+import static org.fcrepo.kernel.api.RdfLexicon.BASIC_CONTAINER;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.fcrepo.config.ServerManagedPropsMode;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.ResourceHeaders;
+import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+import org.fcrepo.kernel.impl.operations.CreateRdfSourceOperationBuilderImpl;
+import org.fcrepo.persistence.api.PersistentStorageSessionManager;
+import org.fcrepo.persistence.api.exceptions.PersistentStorageException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the OCFL persistence: reading the headers and triples of resources outside of a transaction, and
+ * creating a resource in a transaction of its own, from persisting the operation to committing the OCFL object.
+ * The repository holds more resources than the read-only session caches by default.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OcflSessionBenchmark {
+
+    @Param({"1000"})
+    private int resources;
+
+    @Param({"20"})
+    private int triples;
+
+    private BenchmarkRepository repository;
+
+    private PersistentStorageSessionManager sessionManager;
+
+    private List<FedoraId> resourceIds;
+
+    @Setup
+    public void setup() throws PersistentStorageException {
+        repository = new BenchmarkRepository();
+        sessionManager = repository.getBean(PersistentStorageSessionManager.class);
+        resourceIds = SyntheticData.children(FedoraId.create("ocfl"), resources);
+        for (final var resourceId : resourceIds) {
+            create(resourceId);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        repository.close();
+    }
+
+    private void create(final FedoraId resourceId) throws PersistentStorageException {
+        final var tx = new BenchmarkTransaction(true);
+        final var session = sessionManager.getSession(tx);
+        try {
+            final var operation = new CreateRdfSourceOperationBuilderImpl(tx, resourceId,
+                    BASIC_CONTAINER.getURI(), ServerManagedPropsMode.STRICT)
+                    .parentId(FedoraId.getRepositoryRootId())
+                    .triples(new DefaultRdfStream(createURI(resourceId.getFullId()),
+                            SyntheticData.triples(resourceId, triples).stream()))
+                    .userPrincipal("benchmark")
+                    .build();
+            session.persist(operation);
+            session.prepare();
+            session.commit();
+        } finally {
+            sessionManager.removeSession(tx.getId());
+        }
+    }
+
+    private FedoraId randomResource() {
+        return resourceIds.get(ThreadLocalRandom.current().nextInt(resources));
+    }
+
+    @Benchmark
+    public ResourceHeaders readHeaders() throws PersistentStorageException {
+        return sessionManager.getReadOnlySession().getHeaders(randomResource(), null);
+    }
+
+    @Benchmark
+    public void readTriples(final Blackhole blackhole) throws PersistentStorageException {
+        try (final var stream = sessionManager.getReadOnlySession().getTriples(randomResource(), null)) {
+            stream.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public void createAndCommit() throws PersistentStorageException {
+        create(FedoraId.create("created", UUID.randomUUID().toString()));
+    }
+}
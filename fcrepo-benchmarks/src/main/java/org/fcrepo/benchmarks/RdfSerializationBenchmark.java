@@ -0,0 +1,107 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import static org.apache.jena.graph.NodeFactory.createURI;
+import static org.fcrepo.kernel.api.RdfLexicon.CONTAINS;
+import static org.fcrepo.kernel.api.RdfLexicon.LDP_NAMESPACE;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.UriBuilder;
+
+import org.fcrepo.http.api.services.HttpRdfService;
+import org.fcrepo.http.commons.api.rdf.HttpIdentifierConverter;
+import org.fcrepo.http.commons.responses.RdfStreamStreamingOutput;
+import org.fcrepo.kernel.api.RdfStream;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the serialization of the response of a container with embedded children, with and without the
+ * translation of its internal ids to external URIs which precedes it in a GET.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RdfSerializationBenchmark {
+
+    private static final String BASE_URI = "http://localhost:8080/rest/{path: .*}";
+
+    private static final Map<String, String> NAMESPACES = Map.of("dc", SyntheticData.DC, "ldp", LDP_NAMESPACE);
+
+    @Param({"100", "10000"})
+    private int children;
+
+    @Param({"text/turtle", "application/n-triples", "application/ld+json"})
+    private String format;
+
+    private MediaType mediaType;
+
+    private HttpRdfService httpRdfService;
+
+    private String externalId;
+
+    private Node subject;
+
+    private List<Triple> triples;
+
+    @Setup
+    public void setup() {
+        mediaType = MediaType.valueOf(format);
+        httpRdfService = new HttpRdfService();
+
+        final var container = FedoraId.create("container");
+        subject = createURI(container.getFullId());
+        externalId = new HttpIdentifierConverter(UriBuilder.fromUri(BASE_URI)).toExternalId(container.getFullId());
+        triples = new ArrayList<>();
+        for (final var child : SyntheticData.children(container, children)) {
+            triples.add(Triple.create(subject, CONTAINS.asNode(), createURI(child.getFullId())));
+            triples.addAll(SyntheticData.triples(child, 5));
+        }
+    }
+
+    private RdfStream stream() {
+        return new DefaultRdfStream(subject, triples.stream());
+    }
+
+    @Benchmark
+    public void serialize() {
+        new RdfStreamStreamingOutput(stream(), NAMESPACES, mediaType).write(OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void translateAndSerialize() {
+        final var idTranslator = new HttpIdentifierConverter(UriBuilder.fromUri(BASE_URI));
+        final var external = httpRdfService.bodyToExternalStream(externalId, stream(), idTranslator);
+        new RdfStreamStreamingOutput(external, NAMESPACES, mediaType).write(OutputStream.nullOutputStream());
+    }
+}
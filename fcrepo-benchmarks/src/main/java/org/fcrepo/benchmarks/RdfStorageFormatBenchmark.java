@@ -0,0 +1,100 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import static org.apache.jena.riot.system.StreamRDFWriter.getWriterStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.persistence.ocfl.impl.RdfStorageFormat;
+
+import org.apache.jena.graph.Triple;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.RDFDataMgr;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the serializations RDF sources may be stored in, writing and reading the content of a resource the
+ * way the OCFL persistence does. The size of the stored content is reported as the bytes counter of the write
+ * benchmark.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RdfStorageFormatBenchmark {
+
+    @Param({"NTRIPLES", "THRIFT", "PROTOBUF"})
+    private RdfStorageFormat format;
+
+    @Param({"20", "1000"})
+    private int triples;
+
+    private List<Triple> description;
+
+    private byte[] stored;
+
+    /**
+     * The size of the content written by each operation
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class StoredSize {
+
+        // Set rather than accumulated, so that the counter reports the size of a single description
+        public long bytes;
+    }
+
+    @Setup
+    public void setup() {
+        description = SyntheticData.triples(FedoraId.create("resource"), triples);
+        stored = serialize();
+    }
+
+    private byte[] serialize() {
+        final var os = new ByteArrayOutputStream();
+        final var stream = getWriterStream(os, format.getLang());
+        stream.start();
+        description.forEach(stream::triple);
+        stream.finish();
+        return os.toByteArray();
+    }
+
+    @Benchmark
+    public byte[] write(final StoredSize size) {
+        final var content = serialize();
+        size.bytes = content.length;
+        return content;
+    }
+
+    @Benchmark
+    public Model parse() {
+        final var model = ModelFactory.createDefaultModel();
+        RDFDataMgr.read(model, new ByteArrayInputStream(stored), format.getLang());
+        return model;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import static org.apache.jena.graph.NodeFactory.createURI;
+import static org.fcrepo.benchmarks.SyntheticData.RELATION;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
+import org.fcrepo.kernel.api.services.ReferenceService;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of updating the reference index after an update adding or removing one reference of a large resource,
+ * either from all the triples of the resource, as a replacement of its RDF does without a delta, or from the delta
+ * of the update. Every tenth triple of the resource is a reference.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ReferenceIndexBenchmark {
+
+    @Param({"100000"})
+    private int triples;
+
+    private BenchmarkRepository repository;
+
+    private ReferenceService referenceService;
+
+    private FedoraId resourceId;
+
+    private Node subject;
+
+    private List<Triple> withoutReference;
+
+    private List<Triple> withReference;
+
+    private Triple reference;
+
+    private boolean referenced;
+
+    @Setup
+    public void setup() {
+        repository = new BenchmarkRepository();
+        referenceService = repository.getBean("referenceService", ReferenceService.class);
+
+        resourceId = FedoraId.create("referencing");
+        subject = createURI(resourceId.getFullId());
+        withoutReference = SyntheticData.triples(resourceId, triples);
+        reference = Triple.create(subject, createURI(RELATION), createURI(FedoraId.create("toggled").getFullId()));
+        withReference = new ArrayList<>(withoutReference);
+        withReference.add(reference);
+
+        referenceService.updateReferences(new BenchmarkTransaction(true), resourceId, "benchmark",
+                new DefaultRdfStream(subject, withoutReference.stream()));
+        referenced = false;
+    }
+
+    @TearDown
+    public void tearDown() {
+        repository.close();
+    }
+
+    @Benchmark
+    public void updateFromTriples() {
+        referenced = !referenced;
+        final var updated = referenced ? withReference : withoutReference;
+        referenceService.updateReferences(new BenchmarkTransaction(true), resourceId, "benchmark",
+                new DefaultRdfStream(subject, updated.stream()));
+    }
+
+    @Benchmark
+    public void updateFromDelta() {
+        referenced = !referenced;
+        final var delta = referenced ? new RdfDelta(List.of(reference), List.of())
+                : new RdfDelta(List.of(), List.of(reference));
+        referenceService.updateReferences(new BenchmarkTransaction(true), resourceId, "benchmark", delta);
+    }
+}
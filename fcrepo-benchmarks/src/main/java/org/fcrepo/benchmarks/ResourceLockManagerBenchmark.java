@@ -0,0 +1,94 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.impl.lock.InMemoryResourceLockManager;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of the acquisition and release of the locks of a transaction. Each operation is the lifetime of the
+ * locks of one request: exclusive locks on the resources it changes and non-exclusive locks on their parents, which
+ * are shared by the concurrent requests.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourceLockManagerBenchmark {
+
+    @Param({"1", "10"})
+    private int resourcesPerTx;
+
+    private InMemoryResourceLockManager lockManager;
+
+    private FedoraId parent;
+
+    /**
+     * The resources changed by the requests of one thread
+     */
+    @State(Scope.Thread)
+    public static class ThreadResources {
+
+        private FedoraId[] resources;
+
+        @Setup
+        public void setup(final ResourceLockManagerBenchmark benchmark) {
+            resources = new FedoraId[benchmark.resourcesPerTx];
+            final var threadId = UUID.randomUUID().toString();
+            for (int i = 0; i < resources.length; i++) {
+                resources[i] = benchmark.parent.resolve(threadId + "-" + i);
+            }
+        }
+    }
+
+    @Setup
+    public void setup() {
+        lockManager = new InMemoryResourceLockManager();
+        parent = FedoraId.create("container");
+    }
+
+    private void lockAndRelease(final ThreadResources thread) {
+        final var txId = UUID.randomUUID().toString();
+        lockManager.acquireNonExclusive(txId, parent);
+        for (final var resource : thread.resources) {
+            lockManager.acquireExclusive(txId, resource);
+        }
+        lockManager.releaseAll(txId);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void singleThread(final ThreadResources thread) {
+        lockAndRelease(thread);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void contended(final ThreadResources thread) {
+        lockAndRelease(thread);
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import static org.apache.jena.datatypes.xsd.XSDDatatype.XSDinteger;
+import static org.apache.jena.graph.NodeFactory.createLiteralByValue;
+import static org.apache.jena.graph.NodeFactory.createLiteralString;
+import static org.apache.jena.graph.NodeFactory.createURI;
+import static org.fcrepo.benchmarks.SyntheticData.IDENTIFIER;
+import static org.fcrepo.benchmarks.SyntheticData.SEQUENCE;
+import static org.fcrepo.benchmarks.SyntheticData.TYPE_PREFIX;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.fcrepo.kernel.api.Transaction;
+import org.fcrepo.kernel.api.exception.PathNotFoundException;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.FedoraResource;
+import org.fcrepo.kernel.api.models.ResourceFactory;
+import org.fcrepo.kernel.api.models.ResourceHeaders;
+import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+import org.fcrepo.search.api.Condition;
+import org.fcrepo.search.api.InvalidQueryException;
+import org.fcrepo.search.api.SearchIndex;
+import org.fcrepo.search.api.SearchParameters;
+import org.fcrepo.search.api.SearchResult;
+
+import org.apache.jena.graph.Triple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of search queries on the fixed fields, the rdf types and the indexed properties of a synthetic
+ * repository. Each resource has one of 20 rdf types, a unique identifier and a numeric sequence value. Filling the
+ * index takes a few minutes per million resources, so large repositories such as 10M resources are best measured
+ * with a single fork and iteration, e.g. -p resources=10000000 -f 1 -wi 1 -i 3.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchIndexBenchmark {
+
+    private static final int TYPES = 20;
+
+    private static final List<Condition.Field> FIELDS = List.of(Condition.Field.FEDORA_ID,
+            Condition.Field.CREATED, Condition.Field.MODIFIED, Condition.Field.RDF_TYPE);
+
+    @Param({"10000"})
+    private int resources;
+
+    private BenchmarkRepository repository;
+
+    private SearchIndex searchIndex;
+
+    private FedoraId current;
+
+    @Setup
+    public void setup() throws PathNotFoundException {
+        repository = new BenchmarkRepository(Map.of("fcrepo.search.indexed.properties", IDENTIFIER + "," + SEQUENCE));
+        searchIndex = repository.getBean("searchIndex", SearchIndex.class);
+
+        // The indexed properties are read from the resources
+        final var resource = BenchmarkRepository.stub(FedoraResource.class);
+        when(resource.getTriples()).thenAnswer(invocation -> {
+            final var subject = createURI(current.getFullId());
+            final var fullId = current.getFullId();
+            final int index = Integer.parseInt(fullId.substring(fullId.lastIndexOf("/r") + 2));
+            return new DefaultRdfStream(subject, Stream.of(
+                    Triple.create(subject, createURI(IDENTIFIER), createLiteralString("id:" + index)),
+                    Triple.create(subject, createURI(SEQUENCE), createLiteralByValue(index, XSDinteger))));
+        });
+        final var resourceFactory = repository.getBean(ResourceFactory.class);
+        when(resourceFactory.getResource(any(Transaction.class), any(ResourceHeaders.class)))
+                .thenAnswer(invocation -> {
+                    current = invocation.getArgument(1, ResourceHeaders.class).getId();
+                    return resource;
+                });
+
+        final var tx = new BenchmarkTransaction(true);
+        for (int i = 0; i < resources; i++) {
+            final var id = resourceId(i);
+            searchIndex.addUpdateIndex(tx, SyntheticData.headers(id),
+                    List.of(URI.create(TYPE_PREFIX + (i % TYPES))));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        repository.close();
+    }
+
+    private static FedoraId resourceId(final int index) {
+        return FedoraId.create("resources", "r" + index);
+    }
+
+    private int randomIndex() {
+        return ThreadLocalRandom.current().nextInt(resources);
+    }
+
+    private SearchResult search(final Condition condition, final boolean includeTotal) throws InvalidQueryException {
+        return searchIndex.doSearch(new SearchParameters(FIELDS, List.of(condition), 100, 0,
+                Condition.Field.FEDORA_ID, "asc", includeTotal));
+    }
+
+    @Benchmark
+    public SearchResult byId() throws InvalidQueryException {
+        return search(Condition.fromEnums(Condition.Field.FEDORA_ID, Condition.Operator.EQ,
+                resourceId(randomIndex()).getFullId()), false);
+    }
+
+    @Benchmark
+    public SearchResult byIdPrefix() throws InvalidQueryException {
+        return search(Condition.fromEnums(Condition.Field.FEDORA_ID, Condition.Operator.EQ,
+                resourceId(randomIndex() / 100).getFullId() + "*"), false);
+    }
+
+    @Benchmark
+    public SearchResult byRdfType() throws InvalidQueryException {
+        return search(Condition.fromEnums(Condition.Field.RDF_TYPE, Condition.Operator.EQ,
+                TYPE_PREFIX + randomIndex() % TYPES), false);
+    }
+
+    @Benchmark
+    public SearchResult byRdfTypeWithTotal() throws InvalidQueryException {
+        return search(Condition.fromEnums(Condition.Field.RDF_TYPE, Condition.Operator.EQ,
+                TYPE_PREFIX + randomIndex() % TYPES), true);
+    }
+
+    @Benchmark
+    public SearchResult byPropertyEquality() throws InvalidQueryException {
+        return search(Condition.fromProperty(IDENTIFIER, Condition.Operator.EQ, "id:" + randomIndex()), false);
+    }
+
+    @Benchmark
+    public SearchResult byPropertyPrefix() throws InvalidQueryException {
+        return search(Condition.fromProperty(IDENTIFIER, Condition.Operator.EQ,
+                "id:" + randomIndex() / 100 + "*"), false);
+    }
+
+    @Benchmark
+    public SearchResult byPropertyRange() throws InvalidQueryException {
+        final int from = randomIndex();
+        return searchIndex.doSearch(new SearchParameters(FIELDS, List.of(
+                Condition.fromProperty(SEQUENCE, Condition.Operator.GTE, Integer.toString(from)),
+                Condition.fromProperty(SEQUENCE, Condition.Operator.LT, Integer.toString(from + 100))),
+                100, 0, Condition.Field.FEDORA_ID, "asc", false));
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import static org.apache.jena.datatypes.xsd.XSDDatatype.XSDinteger;
+import static org.apache.jena.graph.NodeFactory.createLiteralByValue;
+import static org.apache.jena.graph.NodeFactory.createLiteralString;
+import static org.apache.jena.graph.NodeFactory.createURI;
+import static org.fcrepo.kernel.api.RdfLexicon.BASIC_CONTAINER;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.persistence.common.ResourceHeadersImpl;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+
+/**
+ * Generates the resources of synthetic repositories. The generated data is deterministic, so that runs of a benchmark
+ * are comparable.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public final class SyntheticData {
+
+    public static final String DC = "http://purl.org/dc/elements/1.1/";
+
+    public static final String TITLE = DC + "title";
+
+    public static final String IDENTIFIER = DC + "identifier";
+
+    public static final String RELATION = DC + "relation";
+
+    public static final String SEQUENCE = "http://example.org/ns#sequence";
+
+    public static final String TYPE_PREFIX = "http://example.org/types#Type";
+
+    private static final Instant CREATED = Instant.parse("2024-01-01T00:00:00Z");
+
+    private SyntheticData() {
+    }
+
+    /**
+     * @param parent the parent of the children
+     * @param count the number of children
+     * @return the ids of the children of the parent
+     */
+    public static List<FedoraId> children(final FedoraId parent, final int count) {
+        final List<FedoraId> children = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            children.add(parent.resolve(String.format("child%08d", i)));
+        }
+        return children;
+    }
+
+    /**
+     * Generate the triples of a resource. Every tenth triple references another resource of the repository, and the
+     * others are titles, identifiers and numeric sequence values.
+     *
+     * @param resourceId the resource
+     * @param count the number of triples
+     * @return the triples of the resource
+     */
+    public static List<Triple> triples(final FedoraId resourceId, final int count) {
+        final Node subject = createURI(resourceId.getFullId());
+        final List<Triple> triples = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            triples.add(triple(subject, i));
+        }
+        return triples;
+    }
+
+    /**
+     * @param subject the subject of the triple
+     * @param index the position of the triple in the resource
+     * @return the triple generated at the position
+     */
+    public static Triple triple(final Node subject, final int index) {
+        return switch (index % 10) {
+            case 0 -> Triple.create(subject, createURI(RELATION),
+                    createURI(FedoraId.create("related", Integer.toString(index)).getFullId()));
+            case 1, 2, 3 -> Triple.create(subject, createURI(SEQUENCE), createLiteralByValue(index, XSDinteger));
+            case 4, 5 -> Triple.create(subject, createURI(IDENTIFIER), createLiteralString("id:" + index));
+            default -> Triple.create(subject, createURI(TITLE), createLiteralString("Title of part " + index));
+        };
+    }
+
+    /**
+     * @param resourceId the resource
+     * @return the headers of a basic container created with the synthetic repository
+     */
+    public static ResourceHeadersImpl headers(final FedoraId resourceId) {
+        final var headers = new ResourceHeadersImpl();
+        headers.setId(resourceId);
+        headers.setParent(FedoraId.getRepositoryRootId());
+        headers.setInteractionModel(BASIC_CONTAINER.getURI());
+        headers.setCreatedDate(CREATED);
+        headers.setCreatedBy("benchmark");
+        headers.setLastModifiedDate(CREATED);
+        headers.setLastModifiedBy("benchmark");
+        headers.setStateToken("state");
+        headers.setContentSize(-1);
+        return headers;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import static org.apache.jena.graph.NodeFactory.createURI;
+import static org.fcrepo.benchmarks.SyntheticData.TITLE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.config.ServerManagedPropsMode;
+import org.fcrepo.kernel.api.Transaction;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+import org.fcrepo.kernel.api.services.ReplacePropertiesService;
+import org.fcrepo.kernel.impl.services.UpdatePropertiesServiceImpl;
+import org.fcrepo.persistence.api.PersistentStorageSession;
+import org.fcrepo.persistence.api.PersistentStorageSessionManager;
+
+import org.apache.jena.graph.Triple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of applying a SPARQL update to the triples of a resource, by resource size. Updates made only of
+ * INSERT DATA and DELETE DATA are applied as a delta to the triples, other updates are executed against a model of
+ * the resource. The replacement of the resource's properties which follows is not included.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdatePropertiesBenchmark {
+
+    @Param({"100", "10000", "100000"})
+    private int triples;
+
+    private UpdatePropertiesServiceImpl updatePropertiesService;
+
+    private Transaction tx;
+
+    private FedoraId resourceId;
+
+    private String insertData;
+
+    private String deleteInsertData;
+
+    private String insertWhere;
+
+    @Setup
+    public void setup() {
+        resourceId = FedoraId.create("patched");
+        final List<Triple> resourceTriples = SyntheticData.triples(resourceId, triples);
+        final var subject = createURI(resourceId.getFullId());
+
+        final var session = BenchmarkRepository.stub(PersistentStorageSession.class);
+        when(session.getTriples(any(FedoraId.class), any()))
+                .thenAnswer(invocation -> new DefaultRdfStream(subject, resourceTriples.stream()));
+        final var sessionManager = BenchmarkRepository.stub(PersistentStorageSessionManager.class);
+        when(sessionManager.getSession(any(Transaction.class))).thenReturn(session);
+
+        final var fedoraPropsConfig = new FedoraPropsConfig();
+        fedoraPropsConfig.setServerManagedPropsMode(ServerManagedPropsMode.STRICT);
+
+        updatePropertiesService = new UpdatePropertiesServiceImpl();
+        setField(updatePropertiesService, "persistentStorageSessionManager", sessionManager);
+        setField(updatePropertiesService, "replacePropertiesService",
+                BenchmarkRepository.stub(ReplacePropertiesService.class));
+        setField(updatePropertiesService, "fedoraPropsConfig", fedoraPropsConfig);
+        tx = new BenchmarkTransaction(true);
+
+        final var s = "<" + resourceId.getFullId() + ">";
+        final var title = "<" + TITLE + ">";
+        insertData = "INSERT DATA { " + s + " " + title + " \"A new title\" . }";
+        deleteInsertData = "DELETE DATA { " + s + " " + title + " \"Title of part 9\" . } ; " + insertData;
+        insertWhere = "INSERT { " + s + " " + title + " \"A new title\" . } WHERE { }";
+    }
+
+    @Benchmark
+    public void insertData() {
+        updatePropertiesService.updateProperties(tx, "benchmark", resourceId, insertData);
+    }
+
+    @Benchmark
+    public void deleteInsertData() {
+        updatePropertiesService.updateProperties(tx, "benchmark", resourceId, deleteInsertData);
+    }
+
+    @Benchmark
+    public void insertWhere() {
+        updatePropertiesService.updateProperties(tx, "benchmark", resourceId, insertWhere);
+    }
+}
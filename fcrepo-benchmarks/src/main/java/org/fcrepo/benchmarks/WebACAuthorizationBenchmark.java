@@ -0,0 +1,100 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import static org.fcrepo.kernel.api.RdfLexicon.WEBAC_NAMESPACE_VALUE;
+
+import java.net.URI;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.fcrepo.auth.webac.WebACAuthorizationInfo;
+import org.fcrepo.auth.webac.WebACPermission;
+
+import org.apache.shiro.authz.Permission;
+import org.apache.shiro.authz.SimpleAuthorizationInfo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks of checking a permission of a user with read and write granted on many resources, against the
+ * permissions indexed by resource and against a flat set of permissions scanned as Shiro does.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebACAuthorizationBenchmark {
+
+    private static final URI READ = URI.create(WEBAC_NAMESPACE_VALUE + "Read");
+
+    private static final URI WRITE = URI.create(WEBAC_NAMESPACE_VALUE + "Write");
+
+    @Param({"10", "1000", "50000"})
+    private int resources;
+
+    private URI[] resourceUris;
+
+    private WebACAuthorizationInfo indexedInfo;
+
+    private SimpleAuthorizationInfo flatInfo;
+
+    @Setup
+    public void setup() {
+        resourceUris = new URI[resources];
+        indexedInfo = new WebACAuthorizationInfo(List.of(), List.of("user"));
+        final Set<Permission> permissions = new HashSet<>();
+        for (int i = 0; i < resources; i++) {
+            resourceUris[i] = URI.create("http://localhost:8080/rest/collection/resource" + i);
+            indexedInfo.addPermission(READ, resourceUris[i]);
+            permissions.add(new WebACPermission(READ, resourceUris[i]));
+            // Write is only granted on every other resource, so that half of the write checks fail
+            if (i % 2 == 0) {
+                indexedInfo.addPermission(WRITE, resourceUris[i]);
+                permissions.add(new WebACPermission(WRITE, resourceUris[i]));
+            }
+        }
+        flatInfo = new SimpleAuthorizationInfo();
+        flatInfo.setObjectPermissions(permissions);
+    }
+
+    private URI randomResource() {
+        return resourceUris[ThreadLocalRandom.current().nextInt(resources)];
+    }
+
+    @Benchmark
+    public boolean indexed() {
+        return indexedInfo.isPermitted(WRITE, randomResource());
+    }
+
+    @Benchmark
+    public boolean flatScan() {
+        final var requested = new WebACPermission(WRITE, randomResource());
+        for (final Permission permission : flatInfo.getObjectPermissions()) {
+            if (permission.implies(requested)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.benchmarks;
+
+import static org.apache.jena.graph.NodeFactory.createLiteralString;
+import static org.apache.jena.graph.NodeFactory.createURI;
+import static org.apache.jena.vocabulary.RDF.type;
+import static org.fcrepo.kernel.api.RdfLexicon.BASIC_CONTAINER;
+import static org.fcrepo.kernel.api.RdfLexicon.WEBAC_NAMESPACE_VALUE;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.fcrepo.auth.webac.WebACRolesProvider;
+import org.fcrepo.config.AuthPropsConfig;
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.kernel.api.Transaction;
+import org.fcrepo.kernel.api.auth.ACLHandle;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.FedoraResource;
+import org.fcrepo.kernel.api.models.ResourceFactory;
+import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Benchmarks of finding the roles of the agents on a resource which inherits the ACL of an ancestor, with the
+ * effective ACL of the resource cached, and found again by walking up to the ancestor.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebACRolesBenchmark {
+
+    @Param({"1", "10"})
+    private int depth;
+
+    @Param({"1", "100"})
+    private int authorizations;
+
+    private WebACRolesProvider rolesProvider;
+
+    private Cache<String, Optional<ACLHandle>> authHandleCache;
+
+    private FedoraResource resource;
+
+    private Transaction tx;
+
+    @Setup
+    public void setup() {
+        authHandleCache = Caffeine.newBuilder().build();
+        final var fedoraPropsConfig = new FedoraPropsConfig();
+        setField(fedoraPropsConfig, "webacCacheSize", 1024L);
+        setField(fedoraPropsConfig, "webacCacheTimeout", 10L);
+        rolesProvider = new WebACRolesProvider();
+        setField(rolesProvider, "resourceFactory", BenchmarkRepository.stub(ResourceFactory.class));
+        setField(rolesProvider, "authPropsConfig", new AuthPropsConfig());
+        setField(rolesProvider, "authHandleCache", authHandleCache);
+        setField(rolesProvider, "fedoraPropsConfig", fedoraPropsConfig);
+        rolesProvider.setup();
+        tx = new BenchmarkTransaction(true);
+
+        var id = FedoraId.create("collection");
+        final var collection = resource(id, null);
+        final var acl = BenchmarkRepository.stub(FedoraResource.class);
+        final var aclId = id.asAcl();
+        final var triples = aclTriples(aclId, id);
+        when(acl.getId()).thenReturn(aclId.getFullId());
+        when(acl.isAcl()).thenReturn(true);
+        when(acl.getStateToken()).thenReturn("state");
+        when(acl.getTriples()).thenAnswer(invocation -> new DefaultRdfStream(createURI(aclId.getFullId()),
+                triples.stream()));
+        when(collection.getAcl()).thenReturn(acl);
+
+        resource = collection;
+        for (int i = 0; i < depth; i++) {
+            id = id.resolve("level" + i);
+            resource = resource(id, resource);
+        }
+    }
+
+    private static FedoraResource resource(final FedoraId id, final FedoraResource container) {
+        final var resource = BenchmarkRepository.stub(FedoraResource.class);
+        when(resource.getId()).thenReturn(id.getFullId());
+        when(resource.getFedoraId()).thenReturn(id);
+        when(resource.getContainer()).thenReturn(container);
+        when(resource.getDescribedResource()).thenReturn(resource);
+        when(resource.getDescription()).thenReturn(resource);
+        when(resource.getOriginalResource()).thenReturn(resource);
+        when(resource.getInteractionModel()).thenReturn(BASIC_CONTAINER.getURI());
+        when(resource.getTypes()).thenAnswer(invocation -> new ArrayList<>());
+        return resource;
+    }
+
+    private List<Triple> aclTriples(final FedoraId aclId, final FedoraId accessTo) {
+        final List<Triple> triples = new ArrayList<>();
+        final Node target = createURI(accessTo.getFullId());
+        for (int i = 0; i < authorizations; i++) {
+            final Node authorization = createURI(aclId.getFullId() + "#auth" + i);
+            triples.add(Triple.create(authorization, type.asNode(),
+                    createURI(WEBAC_NAMESPACE_VALUE + "Authorization")));
+            triples.add(Triple.create(authorization, createURI(WEBAC_NAMESPACE_VALUE + "agent"),
+                    createLiteralString("user" + i)));
+            triples.add(Triple.create(authorization, createURI(WEBAC_NAMESPACE_VALUE + "mode"),
+                    createURI(WEBAC_NAMESPACE_VALUE + (i % 2 == 0 ? "Read" : "Write"))));
+            triples.add(Triple.create(authorization, createURI(WEBAC_NAMESPACE_VALUE + "accessTo"), target));
+            triples.add(Triple.create(authorization, createURI(WEBAC_NAMESPACE_VALUE + "default"), target));
+        }
+        return triples;
+    }
+
+    @Benchmark
+    public Map<String, Collection<String>> cachedAcl() {
+        return rolesProvider.getRoles(resource, tx);
+    }
+
+    @Benchmark
+    public Map<String, Collection<String>> inheritedAcl() {
+        authHandleCache.invalidateAll();
+        return rolesProvider.getRoles(resource, tx);
+    }
+}
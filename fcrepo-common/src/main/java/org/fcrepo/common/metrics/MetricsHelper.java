@@ -7,6 +7,7 @@ package org.fcrepo.common.metrics;
 
 import io.micrometer.core.instrument.Timer;
 import org.fcrepo.common.lang.UncheckedCallable;
+import org.fcrepo.common.metrics.RequestTimings.Phase;
 
 /**
  * Helper for recording metrics
@@ -36,4 +37,38 @@ public final class MetricsHelper {
         }
     }
 
+    /**
+     * Records a timing metric around the code in the closure, and adds its time to a phase of the current request.
+     *
+     * @param phase the phase of the request
+     * @param timer the timer to record to
+     * @param callable the closure to time
+     * @param <T> the return type
+     * @return the result of the closure
+     */
+    public static <T> T time(final Phase phase, final Timer timer, final UncheckedCallable<T> callable) {
+        final var started = RequestTimings.enter(phase);
+        try {
+            return time(timer, callable);
+        } finally {
+            RequestTimings.exit(phase, started);
+        }
+    }
+
+    /**
+     * Records a timing metric around the code in the closure, and adds its time to a phase of the current request.
+     *
+     * @param phase the phase of the request
+     * @param timer the timer to record to
+     * @param runnable the closure to time
+     */
+    public static void record(final Phase phase, final Timer timer, final Runnable runnable) {
+        final var started = RequestTimings.enter(phase);
+        try {
+            timer.record(runnable);
+        } finally {
+            RequestTimings.exit(phase, started);
+        }
+    }
+
 }
@@ -0,0 +1,177 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.common.metrics;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.StringJoiner;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Time spent by the request handled by the current thread in each phase of its processing. Phases overlap: the
+ * time of a phase includes the time of the phases it calls into, so that WebAC, for instance, includes the storage
+ * reads made to resolve the ACLs. Calls made while a phase is already being timed are not counted twice.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public final class RequestTimings {
+
+    /**
+     * The phases the time of a request is broken down into
+     */
+    public enum Phase {
+        WEBAC("webac", "WebAC authorization"),
+        CONTAINMENT("containment", "Containment index"),
+        OCFL_INDEX("ocfl-index", "Fedora to OCFL index"),
+        OCFL("ocfl", "OCFL storage"),
+        SEARCH("search", "Search index"),
+        SERIALIZE("serialize", "Response serialization");
+
+        private final String name;
+
+        private final String description;
+
+        Phase(final String name, final String description) {
+            this.name = name;
+            this.description = description;
+        }
+
+        /**
+         * @return the name of the phase in the Server-Timing header and the metrics
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * @return the description of the phase
+         */
+        public String getDescription() {
+            return description;
+        }
+    }
+
+    private static final String METRIC_NAME = "fcrepo.request.phase";
+
+    private static final Map<Phase, Timer> phaseTimers = new EnumMap<>(Phase.class);
+
+    static {
+        for (final var phase : Phase.values()) {
+            phaseTimers.put(phase, Metrics.timer(METRIC_NAME, "phase", phase.getName()));
+        }
+    }
+
+    private static final ThreadLocal<RequestTimings> current = new ThreadLocal<>();
+
+    private final long[] nanos = new long[Phase.values().length];
+
+    private final int[] counts = new int[Phase.values().length];
+
+    private final int[] depths = new int[Phase.values().length];
+
+    private RequestTimings() {
+    }
+
+    /**
+     * Start timing the request handled by the current thread
+     *
+     * @return the timings of the request
+     */
+    public static RequestTimings begin() {
+        final var timings = new RequestTimings();
+        current.set(timings);
+        return timings;
+    }
+
+    /**
+     * @return the timings of the request handled by the current thread, or null when it is not timed
+     */
+    public static RequestTimings current() {
+        return current.get();
+    }
+
+    /**
+     * Enter a phase of the current request
+     *
+     * @param phase the phase
+     * @return the start of the phase, to be passed to {@link #exit(Phase, long)}
+     */
+    public static long enter(final Phase phase) {
+        final var timings = current.get();
+        if (timings == null) {
+            return 0;
+        }
+        timings.depths[phase.ordinal()]++;
+        return System.nanoTime();
+    }
+
+    /**
+     * Exit a phase of the current request, adding its time when it is not nested in the same phase
+     *
+     * @param phase the phase
+     * @param start the start of the phase, as returned by {@link #enter(Phase)}
+     */
+    public static void exit(final Phase phase, final long start) {
+        final var timings = current.get();
+        if (timings == null || timings.depths[phase.ordinal()] == 0) {
+            return;
+        }
+        if (--timings.depths[phase.ordinal()] == 0) {
+            timings.nanos[phase.ordinal()] += System.nanoTime() - start;
+            timings.counts[phase.ordinal()]++;
+        }
+    }
+
+    /**
+     * @param phase a phase
+     * @return the nanoseconds spent in the phase so far
+     */
+    public long getNanos(final Phase phase) {
+        return nanos[phase.ordinal()];
+    }
+
+    /**
+     * @param phase a phase
+     * @return the number of times the phase was entered so far
+     */
+    public int getCount(final Phase phase) {
+        return counts[phase.ordinal()];
+    }
+
+    /**
+     * @return the phases entered so far as the value of a Server-Timing header, empty if none was entered
+     */
+    public String toServerTiming() {
+        final var value = new StringJoiner(", ");
+        for (final var phase : Phase.values()) {
+            if (counts[phase.ordinal()] > 0) {
+                value.add(String.format(Locale.ROOT, "%s;dur=%.3f;desc=\"%s\"", phase.getName(),
+                        nanos[phase.ordinal()] / 1_000_000.0, phase.getDescription()));
+            }
+        }
+        return value.toString();
+    }
+
+    /**
+     * Stop timing the request, recording the time of each phase it entered in the histogram of the phase
+     */
+    public void end() {
+        if (current.get() == this) {
+            current.remove();
+        }
+        for (final var phase : Phase.values()) {
+            if (counts[phase.ordinal()] > 0) {
+                phaseTimers.get(phase).record(nanos[phase.ordinal()], NANOSECONDS);
+            }
+        }
+    }
+}
@@ -9,6 +9,7 @@ package org.fcrepo.config;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.time.Duration;
+import java.util.List;
 
 import jakarta.annotation.PostConstruct;
 
@@ -137,12 +138,21 @@ public class FedoraPropsConfig extends BasePropsConfig {
     @Value("${fcrepo.cache.db.containment.timeout.minutes:10}")
     private long containmentCacheTimeout;
 
+    @Value("${fcrepo.containment.transaction.batch.size:1000}")
+    private int containmentTransactionBatchSize;
+
     @Value("${fcrepo.cache.types.size.entries:1024}")
     private long userTypesCacheSize;
 
     @Value("${fcrepo.cache.types.timeout.minutes:10}")
     private long userTypesCacheTimeout;
 
+    @Value("${fcrepo.cache.headers.size.bytes:67108864}")
+    private long resourceHeadersCacheSize;
+
+    @Value("${fcrepo.cache.headers.timeout.minutes:10}")
+    private long resourceHeadersCacheTimeout;
+
     @Value("${fcrepo.cache.webac.acl.size.entries:1024}")
     private long webacCacheSize;
 
@@ -161,6 +171,42 @@ public class FedoraPropsConfig extends BasePropsConfig {
     @Value("${" + FCREPO_TRANSACTION_ON_CONFLICT + ":false}")
     private boolean includeTransactionOnConflict;
 
+    @Value("${fcrepo.fixity.audit.enabled:false}")
+    private boolean fixityAuditEnabled;
+
+    @Value("${fcrepo.fixity.audit.threads:1}")
+    private int fixityAuditThreads;
+
+    @Value("${fcrepo.fixity.audit.rate.bytes.per.second:0}")
+    private long fixityAuditBytesPerSecond;
+
+    @Value("${fcrepo.fixity.audit.interval.days:30}")
+    private long fixityAuditIntervalDays;
+
+    @Value("${fcrepo.fixity.audit.delay.minutes:60}")
+    private long fixityAuditDelayMinutes;
+
+    @Value("${fcrepo.cache.representations.enabled:false}")
+    private boolean representationCacheEnabled;
+
+    @Value("${fcrepo.cache.representations.size.bytes:67108864}")
+    private long representationCacheSize;
+
+    @Value("${fcrepo.cache.representations.entry.size.bytes:4194304}")
+    private long representationCacheEntrySize;
+
+    @Value("${fcrepo.cache.representations.timeout.minutes:10}")
+    private long representationCacheTimeout;
+
+    @Value("${fcrepo.stats.reconcile.cron:-}")
+    private String statsReconcileCron;
+
+    @Value("#{'${fcrepo.search.indexed.properties:}'.split(',')}")
+    private List<String> searchIndexedProperties;
+
+    @Value("${fcrepo.search.transaction.batch.size:1000}")
+    private int searchTransactionBatchSize;
+
 
 
     @PostConstruct
@@ -436,6 +482,14 @@ public class FedoraPropsConfig extends BasePropsConfig {
         return containmentCacheTimeout;
     }
 
+    /**
+     * @return The number of containment changes of a long-running transaction which are buffered in memory before
+     *         they are written to the database
+     */
+    public int getContainmentTransactionBatchSize() {
+        return containmentTransactionBatchSize;
+    }
+
     /**
      * @return The number of entries in the user types cache.
      */
@@ -464,6 +518,35 @@ public class FedoraPropsConfig extends BasePropsConfig {
         this.userTypesCacheTimeout = userTypesCacheTimeout;
     }
 
+    /**
+     * @return The estimated number of bytes of resource headers held in the resource headers cache, or 0 if they are
+     *         not cached.
+     */
+    public long getResourceHeadersCacheSize() {
+        return resourceHeadersCacheSize;
+    }
+
+    /**
+     * @param resourceHeadersCacheSize resource headers cache size in bytes
+     */
+    public void setResourceHeadersCacheSize(final long resourceHeadersCacheSize) {
+        this.resourceHeadersCacheSize = resourceHeadersCacheSize;
+    }
+
+    /**
+     * @return The number of minutes before unused headers expire from the resource headers cache.
+     */
+    public long getResourceHeadersCacheTimeout() {
+        return resourceHeadersCacheTimeout;
+    }
+
+    /**
+     * @param resourceHeadersCacheTimeout resource headers cache timeout
+     */
+    public void setResourceHeadersCacheTimeout(final long resourceHeadersCacheTimeout) {
+        this.resourceHeadersCacheTimeout = resourceHeadersCacheTimeout;
+    }
+
     /**
      * @return The number of entries in the WebAC effective ACL cache.
      */
@@ -528,4 +611,156 @@ public class FedoraPropsConfig extends BasePropsConfig {
         this.includeTransactionOnConflict = includeTransactionOnConflict;
     }
 
+    /**
+     * @return true if binaries should be periodically checked for fixity in the background
+     */
+    public boolean isFixityAuditEnabled() {
+        return fixityAuditEnabled;
+    }
+
+    /**
+     * @param fixityAuditEnabled true if binaries should be periodically checked for fixity in the background
+     */
+    public void setFixityAuditEnabled(final boolean fixityAuditEnabled) {
+        this.fixityAuditEnabled = fixityAuditEnabled;
+    }
+
+    /**
+     * @return The number of binaries to check for fixity concurrently
+     */
+    public int getFixityAuditThreads() {
+        return fixityAuditThreads;
+    }
+
+    /**
+     * @param fixityAuditThreads The number of binaries to check for fixity concurrently
+     */
+    public void setFixityAuditThreads(final int fixityAuditThreads) {
+        this.fixityAuditThreads = fixityAuditThreads;
+    }
+
+    /**
+     * @return The maximum number of bytes per second read by fixity audits, 0 for unlimited
+     */
+    public long getFixityAuditBytesPerSecond() {
+        return fixityAuditBytesPerSecond;
+    }
+
+    /**
+     * @param fixityAuditBytesPerSecond The maximum number of bytes per second read by fixity audits
+     */
+    public void setFixityAuditBytesPerSecond(final long fixityAuditBytesPerSecond) {
+        this.fixityAuditBytesPerSecond = fixityAuditBytesPerSecond;
+    }
+
+    /**
+     * @return How long after its last fixity audit a binary is checked again
+     */
+    public Duration getFixityAuditInterval() {
+        return Duration.ofDays(fixityAuditIntervalDays);
+    }
+
+    /**
+     * @param fixityAuditInterval How long after its last fixity audit a binary is checked again
+     */
+    public void setFixityAuditInterval(final Duration fixityAuditInterval) {
+        this.fixityAuditIntervalDays = fixityAuditInterval.toDays();
+    }
+
+    /**
+     * @return The delay between the end of one fixity audit pass over the repository and the start of the next
+     */
+    public Duration getFixityAuditDelay() {
+        return Duration.ofMinutes(fixityAuditDelayMinutes);
+    }
+
+    /**
+     * @return true if serialized RDF representations are cached in memory
+     */
+    public boolean isRepresentationCacheEnabled() {
+        return representationCacheEnabled;
+    }
+
+    /**
+     * @param representationCacheEnabled true if serialized RDF representations are cached in memory
+     */
+    public void setRepresentationCacheEnabled(final boolean representationCacheEnabled) {
+        this.representationCacheEnabled = representationCacheEnabled;
+    }
+
+    /**
+     * @return The total number of bytes of serialized representations held in the representation cache
+     */
+    public long getRepresentationCacheSize() {
+        return representationCacheSize;
+    }
+
+    /**
+     * @param representationCacheSize The total number of bytes held in the representation cache
+     */
+    public void setRepresentationCacheSize(final long representationCacheSize) {
+        this.representationCacheSize = representationCacheSize;
+    }
+
+    /**
+     * @return The size in bytes of the largest representation added to the representation cache
+     */
+    public long getRepresentationCacheEntrySize() {
+        return representationCacheEntrySize;
+    }
+
+    /**
+     * @param representationCacheEntrySize The size in bytes of the largest cached representation
+     */
+    public void setRepresentationCacheEntrySize(final long representationCacheEntrySize) {
+        this.representationCacheEntrySize = representationCacheEntrySize;
+    }
+
+    /**
+     * @return The number of minutes before unused representations expire from the representation cache
+     */
+    public long getRepresentationCacheTimeout() {
+        return representationCacheTimeout;
+    }
+
+    /**
+     * @return The cron expression scheduling the reconciliation of the repository statistics against the search
+     *         index, or "-" if they are not reconciled on a schedule
+     */
+    public String getStatsReconcileCron() {
+        return statsReconcileCron;
+    }
+
+    /**
+     * @return The URIs of the properties whose values are indexed for search
+     */
+    public List<String> getSearchIndexedProperties() {
+        if (searchIndexedProperties == null) {
+            return List.of();
+        }
+        return searchIndexedProperties.stream().map(String::trim).filter(p -> !p.isEmpty()).toList();
+    }
+
+    /**
+     * @param searchIndexedProperties The URIs of the properties whose values are indexed for search
+     */
+    public void setSearchIndexedProperties(final List<String> searchIndexedProperties) {
+        this.searchIndexedProperties = searchIndexedProperties;
+    }
+
+    /**
+     * @return The number of resources changed in a long-running transaction whose search index changes are buffered
+     *         before they are written
+     */
+    public int getSearchTransactionBatchSize() {
+        return searchTransactionBatchSize;
+    }
+
+    /**
+     * @param searchTransactionBatchSize The number of resources whose search index changes are buffered
+     */
+    public void setSearchTransactionBatchSize(final int searchTransactionBatchSize) {
+        this.searchTransactionBatchSize = searchTransactionBatchSize;
+    }
+
 }
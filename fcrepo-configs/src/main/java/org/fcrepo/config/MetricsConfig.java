@@ -38,6 +38,9 @@ import org.springframework.context.annotation.Role;
 public class MetricsConfig extends BasePropsConfig {
     private final boolean metricsEnabled;
 
+    @Value("${fcrepo.metrics.server.timing.enabled:false}")
+    private boolean serverTimingEnabled;
+
     private static final Logger LOGGER = LoggerFactory.getLogger(MetricsConfig.class);
 
     public MetricsConfig(
@@ -94,4 +97,18 @@ public class MetricsConfig extends BasePropsConfig {
     public boolean isMetricsEnabled() {
         return metricsEnabled;
     }
+
+    /**
+     * @return whether responses carry a Server-Timing header breaking down the time spent on the request
+     */
+    public boolean isServerTimingEnabled() {
+        return serverTimingEnabled;
+    }
+
+    /**
+     * @param serverTimingEnabled whether responses carry a Server-Timing header
+     */
+    public void setServerTimingEnabled(final boolean serverTimingEnabled) {
+        this.serverTimingEnabled = serverTimingEnabled;
+    }
 }
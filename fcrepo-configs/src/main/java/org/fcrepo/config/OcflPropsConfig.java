@@ -44,6 +44,8 @@ public class OcflPropsConfig extends BasePropsConfig {
 
     private static final String FCREPO_PERSISTENCE_ALGORITHM = "fcrepo.persistence.defaultDigestAlgorithm";
 
+    private static final String FCREPO_PERSISTENCE_RDF_FORMAT = "fcrepo.persistence.rdfFormat";
+
     @Value("${" + FCREPO_OCFL_STAGING + ":#{fedoraPropsConfig.fedoraData.resolve('" + OCFL_STAGING + "')}}")
     private Path fedoraOcflStaging;
 
@@ -93,6 +95,9 @@ public class OcflPropsConfig extends BasePropsConfig {
     @Value("${fcrepo.resource-header-cache.expire-after-seconds:600}")
     private long resourceHeadersCacheExpireAfterSeconds;
 
+    @Value("${fcrepo.ocfl.read-only-session-cache.max-size:512}")
+    private long readOnlySessionCacheMaxSize;
+
     @Value("${fcrepo.ocfl.reindex.threads:-1}")
     private long reindexThreads;
 
@@ -105,6 +110,15 @@ public class OcflPropsConfig extends BasePropsConfig {
     @Value("${" + FCREPO_PERSISTENCE_ALGORITHM + ":sha512}")
     private String FCREPO_DIGEST_ALGORITHM_VALUE;
 
+    @Value("${" + FCREPO_PERSISTENCE_RDF_FORMAT + ":ntriples}")
+    private String rdfStorageFormat;
+
+    @Value("${fcrepo.persistence.rdfFormat.migrate:false}")
+    private boolean rdfStorageFormatMigrationEnabled;
+
+    @Value("${fcrepo.persistence.rdfFormat.migrate.versioned:false}")
+    private boolean rdfStorageFormatMigrationVersioned;
+
     @Value("${fcrepo.ocfl.s3.db.enabled:true}")
     private boolean ocflS3DbEnabled;
 
@@ -117,6 +131,12 @@ public class OcflPropsConfig extends BasePropsConfig {
     @Value("${fcrepo.cache.db.ocfl.id_map.timeout.minutes:30}")
     private long fedoraToOcflCacheTimeout;
 
+    @Value("${fcrepo.cache.ocfl.versions.size.entries:1024}")
+    private long versionTimelineCacheSize;
+
+    @Value("${fcrepo.cache.ocfl.versions.timeout.minutes:30}")
+    private long versionTimelineCacheTimeout;
+
     @Value("${fcrepo.ocfl.upgrade.enabled:false}")
     private boolean ocflUpgradeOnWrite;
 
@@ -197,6 +217,7 @@ public class OcflPropsConfig extends BasePropsConfig {
         }
         LOGGER.info("Fedora OCFL digest algorithm: {}", FCREPO_DIGEST_ALGORITHM.getAlgorithm());
         LOGGER.info("Fedora OCFL show path: {}", showPath);
+        LOGGER.info("Fedora RDF storage format: {}", rdfStorageFormat);
     }
 
     /**
@@ -390,6 +411,20 @@ public class OcflPropsConfig extends BasePropsConfig {
         this.resourceHeadersCacheExpireAfterSeconds = resourceHeadersCacheExpireAfterSeconds;
     }
 
+    /**
+     * @return maximum number of OCFL object sessions held open by the read-only session
+     */
+    public long getReadOnlySessionCacheMaxSize() {
+        return readOnlySessionCacheMaxSize;
+    }
+
+    /**
+     * @param readOnlySessionCacheMaxSize maximum number of OCFL object sessions held open by the read-only session
+     */
+    public void setReadOnlySessionCacheMaxSize(final long readOnlySessionCacheMaxSize) {
+        this.readOnlySessionCacheMaxSize = readOnlySessionCacheMaxSize;
+    }
+
     /**
      * @param threads
      *   number of threads to use when rebuilding from Fedora OCFL on disk.
@@ -463,6 +498,51 @@ public class OcflPropsConfig extends BasePropsConfig {
         return FCREPO_DIGEST_ALGORITHM;
     }
 
+    /**
+     * @return the name of the serialization used to store the content of RDF sources
+     */
+    public String getRdfStorageFormat() {
+        return rdfStorageFormat;
+    }
+
+    /**
+     * @param rdfStorageFormat the name of the serialization used to store the content of RDF sources
+     */
+    public void setRdfStorageFormat(final String rdfStorageFormat) {
+        this.rdfStorageFormat = rdfStorageFormat;
+    }
+
+    /**
+     * @return true if RDF sources stored in a different format should be converted to the configured format
+     */
+    public boolean isRdfStorageFormatMigrationEnabled() {
+        return rdfStorageFormatMigrationEnabled;
+    }
+
+    /**
+     * @param rdfStorageFormatMigrationEnabled
+     *   true if RDF sources stored in a different format should be converted to the configured format
+     */
+    public void setRdfStorageFormatMigrationEnabled(final boolean rdfStorageFormatMigrationEnabled) {
+        this.rdfStorageFormatMigrationEnabled = rdfStorageFormatMigrationEnabled;
+    }
+
+    /**
+     * @return true if each OCFL object converted to the configured RDF storage format receives a new version, false
+     *   if the conversion is staged in the mutable head and becomes part of the next version of the object
+     */
+    public boolean isRdfStorageFormatMigrationVersioned() {
+        return rdfStorageFormatMigrationVersioned;
+    }
+
+    /**
+     * @param rdfStorageFormatMigrationVersioned
+     *   true if each OCFL object converted to the configured RDF storage format receives a new version
+     */
+    public void setRdfStorageFormatMigrationVersioned(final boolean rdfStorageFormatMigrationVersioned) {
+        this.rdfStorageFormatMigrationVersioned = rdfStorageFormatMigrationVersioned;
+    }
+
     /**
      * @return an optional custom s3 endpoint or null
      */
@@ -508,6 +588,20 @@ public class OcflPropsConfig extends BasePropsConfig {
         return fedoraToOcflCacheTimeout;
     }
 
+    /**
+     * @return Number of OCFL objects to cache the version timelines of.
+     */
+    public long getVersionTimelineCacheSize() {
+        return versionTimelineCacheSize;
+    }
+
+    /**
+     * @return Time to version timeline cache expiration in minutes.
+     */
+    public long getVersionTimelineCacheTimeout() {
+        return versionTimelineCacheTimeout;
+    }
+
     /**
      * @return True to write new versions of OCFL on older objects, false to keep the original version.
      */
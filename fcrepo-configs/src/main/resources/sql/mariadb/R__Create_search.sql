@@ -62,3 +62,50 @@ CREATE INDEX IF NOT EXISTS search_resource_rdf_type_transactions_idx1
 
 CREATE INDEX IF NOT EXISTS search_resource_rdf_type_tx_idx2
     ON search_resource_rdf_type_transactions (transaction_id, rdf_type_uri);
+
+-- resource and byte counts by mime type and rdf type, maintained along with the search index
+CREATE TABLE IF NOT EXISTS search_stats (
+    stat_type varchar(10) NOT NULL,
+    stat_key varchar(255) NOT NULL,
+    slot int NOT NULL,
+    resource_count bigint NOT NULL,
+    byte_count bigint NOT NULL,
+    PRIMARY KEY (stat_type, stat_key, slot)
+);
+
+-- the keys hold mime types, widen the key of tables created before it matched the mime_type column
+ALTER TABLE search_stats MODIFY COLUMN IF EXISTS stat_key varchar(255) NOT NULL;
+
+-- the properties whose values are indexed for search, and the indexed values of each resource
+CREATE TABLE IF NOT EXISTS search_property (
+    id bigint PRIMARY KEY AUTO_INCREMENT,
+    property_uri varchar(228) NOT NULL,
+    UNIQUE KEY property_uri (property_uri)
+);
+
+CREATE TABLE IF NOT EXISTS search_resource_property (
+    resource_id bigint NOT NULL,
+    property_id bigint NOT NULL,
+    property_value varchar(228) NOT NULL,
+    numeric_value double precision DEFAULT NULL,
+    PRIMARY KEY (resource_id, property_id, property_value),
+    FOREIGN KEY (resource_id) REFERENCES simple_search(id) ON DELETE CASCADE,
+    FOREIGN KEY (property_id) REFERENCES search_property(id) ON DELETE CASCADE
+);
+
+CREATE INDEX IF NOT EXISTS search_resource_property_idx1
+    ON search_resource_property (property_id, property_value);
+
+CREATE INDEX IF NOT EXISTS search_resource_property_idx2
+    ON search_resource_property (property_id, numeric_value);
+
+CREATE TABLE IF NOT EXISTS search_resource_property_transactions (
+    fedora_id varchar(503) NOT NULL,
+    property_uri varchar(228) NOT NULL,
+    property_value varchar(228) NOT NULL,
+    numeric_value double precision DEFAULT NULL,
+    transaction_id varchar(37) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS search_resource_property_tx_idx1
+    ON search_resource_property_transactions (transaction_id, fedora_id);
@@ -0,0 +1,12 @@
+-- DDL for setting up the binary digests table in MySQL 8
+-- MySQL 8 will only supports varchar up to 503 characters
+
+-- Holds digests computed for binaries in algorithms other than those stored with the binary, each valid for
+-- the state of the binary it was computed from.
+CREATE TABLE IF NOT EXISTS binary_digests (
+    fedora_id varchar(503) NOT NULL,
+    algorithm varchar(16) NOT NULL,
+    state_token varchar(128) NOT NULL,
+    digest varchar(255) NOT NULL,
+    PRIMARY KEY (fedora_id, algorithm)
+);
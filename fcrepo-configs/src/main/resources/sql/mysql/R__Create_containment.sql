@@ -34,6 +34,14 @@ SET @sqlstmt := IF (@exist > 0, 'SELECT ''INFO: Index already exists.''',
 PREPARE stmt FROM @sqlstmt;
 EXECUTE stmt;
 
+-- Index to read the children of a parent in pages ordered by id
+SET @exist := (SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_name = 'containment' AND index_name = 'containment_idx4' AND table_schema = database());
+SET @sqlstmt := IF (@exist > 0, 'SELECT ''INFO: Index already exists.''',
+    'CREATE INDEX containment_idx4 ON containment (parent, fedora_id)');
+PREPARE stmt FROM @sqlstmt;
+EXECUTE stmt;
+
 
 -- Holds operations to add or delete records from the RESOURCES_TABLE.
 CREATE TABLE IF NOT EXISTS containment_transactions (
@@ -63,6 +71,15 @@ SET @sqlstmt := IF (@exist > 0, 'SELECT ''INFO: Index already exists.''',
 PREPARE stmt FROM @sqlstmt;
 EXECUTE stmt;
 
+-- Create an index to read the children added to a parent in a transaction in pages ordered by id.
+SET @exist := (SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_name = 'containment_transactions' AND index_name = 'containment_transactions_idx4'
+    AND table_schema = database());
+SET @sqlstmt := IF (@exist > 0, 'SELECT ''INFO: Index already exists.''',
+    'CREATE INDEX containment_transactions_idx4 ON containment_transactions (parent, transaction_id, fedora_id)');
+PREPARE stmt FROM @sqlstmt;
+EXECUTE stmt;
+
 -- Create an index to speed finding records related to a transaction.
 SET @exist := (SELECT COUNT(*) FROM information_schema.statistics
     WHERE table_name = 'containment_transactions' AND index_name = 'containment_transactions_idx3'
@@ -0,0 +1,27 @@
+-- DDL for setting up the fixity audit table in MySQL 8
+-- MySQL 8 will only supports varchar up to 503 characters
+
+-- Holds the outcome of the most recent background fixity check of each binary.
+CREATE TABLE IF NOT EXISTS fixity_audit (
+    fedora_id varchar(503) PRIMARY KEY,
+    last_checked datetime NOT NULL,
+    outcome varchar(10) NOT NULL,
+    content_size bigint DEFAULT NULL,
+    details varchar(1024) DEFAULT NULL
+);
+
+-- Create an index to speed searches for binaries which have not been checked recently.
+SET @exist := (SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_name = 'fixity_audit' AND index_name = 'fixity_audit_idx1' AND table_schema = database());
+SET @sqlstmt := IF (@exist > 0, 'SELECT ''INFO: Index already exists.''',
+    'CREATE INDEX fixity_audit_idx1 ON fixity_audit (last_checked)');
+PREPARE stmt FROM @sqlstmt;
+EXECUTE stmt;
+
+-- Create an index to speed searches for binaries which failed their fixity check.
+SET @exist := (SELECT COUNT(*) FROM information_schema.statistics
+    WHERE table_name = 'fixity_audit' AND index_name = 'fixity_audit_idx2' AND table_schema = database());
+SET @sqlstmt := IF (@exist > 0, 'SELECT ''INFO: Index already exists.''',
+    'CREATE INDEX fixity_audit_idx2 ON fixity_audit (outcome, last_checked)');
+PREPARE stmt FROM @sqlstmt;
+EXECUTE stmt;
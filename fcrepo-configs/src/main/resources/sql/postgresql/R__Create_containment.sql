@@ -20,6 +20,10 @@ CREATE INDEX IF NOT EXISTS containment_idx2
 CREATE INDEX IF NOT EXISTS containment_idx3
     ON containment (fedora_id, end_time);
 
+-- Create an index to read the children of a parent in pages ordered by id.
+CREATE INDEX IF NOT EXISTS containment_idx4
+    ON containment (parent, fedora_id);
+
 --- Create an index to speed searches for fedora_id using LIKE if your Locale is not C.
 DO
   $$
@@ -49,6 +53,10 @@ CREATE INDEX IF NOT EXISTS containment_transactions_idx1
 CREATE INDEX IF NOT EXISTS containment_transactions_idx2
     ON containment_transactions (fedora_id, transaction_id, operation);
 
+-- Create an index to read the children added to a parent in a transaction in pages ordered by id.
+CREATE INDEX IF NOT EXISTS containment_transactions_idx4
+    ON containment_transactions (parent, transaction_id, fedora_id);
+
 -- Create an index to speed finding records related to a transaction.
 CREATE INDEX IF NOT EXISTS containment_transactions_idx3
     ON containment_transactions (transaction_id);
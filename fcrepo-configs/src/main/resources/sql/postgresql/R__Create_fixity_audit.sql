@@ -0,0 +1,19 @@
+-- DDL for setting up the fixity audit table in H2, MariaDB 10.5, and PostgreSQL 12.3
+-- MySQL 8 will only supports varchar up to 503 characters
+
+-- Holds the outcome of the most recent background fixity check of each binary.
+CREATE TABLE IF NOT EXISTS fixity_audit (
+    fedora_id varchar(503) NOT NULL PRIMARY KEY,
+    last_checked TIMESTAMP NOT NULL,
+    outcome varchar(10) NOT NULL,
+    content_size bigint DEFAULT NULL,
+    details varchar(1024) DEFAULT NULL
+);
+
+-- Create an index to speed searches for binaries which have not been checked recently.
+CREATE INDEX IF NOT EXISTS fixity_audit_idx1
+    ON fixity_audit (last_checked);
+
+-- Create an index to speed searches for binaries which failed their fixity check.
+CREATE INDEX IF NOT EXISTS fixity_audit_idx2
+    ON fixity_audit (outcome, last_checked);
@@ -0,0 +1,330 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.http.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.fcrepo.http.commons.domain.RDFMediaType.JSON_LD_TYPE;
+import static org.fcrepo.http.commons.domain.RDFMediaType.NTRIPLES_TYPE;
+import static org.fcrepo.http.commons.domain.RDFMediaType.RDF_XML_TYPE;
+import static org.fcrepo.http.commons.domain.RDFMediaType.TURTLE_TYPE;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Queue;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.NotSupportedException;
+import jakarta.ws.rs.core.MediaType;
+
+import org.apache.commons.compress.archivers.ArchiveEntry;
+import org.apache.commons.compress.archivers.ArchiveInputStream;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.archivers.zip.ZipArchiveInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+import org.apache.commons.io.input.CloseShieldInputStream;
+import org.fcrepo.config.DigestAlgorithm;
+
+/**
+ * Reads the entries of an archive submitted for bulk ingest, one at a time and in the order they were written.
+ * Directories become containers and files become binaries. A file named after another entry with a
+ * {@link #METADATA_SUFFIX} and an RDF extension, such as <code>images/1.tif.fcrepo.ttl</code>, holds the RDF
+ * describing that entry. An archive holding a <code>bagit.txt</code> tag file is read as a BagIt bag: only its payload
+ * is ingested, and the digests listed in its payload manifests are checked against the ingested binaries.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+class BulkIngestArchive implements Closeable {
+
+    static final String METADATA_SUFFIX = ".fcrepo";
+
+    static final MediaType ZIP_TYPE = new MediaType("application", "zip");
+
+    static final MediaType TAR_TYPE = new MediaType("application", "x-tar");
+
+    static final MediaType GZIP_TYPE = new MediaType("application", "gzip");
+
+    static final MediaType GTAR_TYPE = new MediaType("application", "x-gtar");
+
+    static final List<MediaType> ARCHIVE_TYPES = List.of(ZIP_TYPE, TAR_TYPE, GZIP_TYPE, GTAR_TYPE);
+
+    /**
+     * Largest RDF description accepted, as descriptions are held in memory until the entry they describe is created
+     */
+    static final int MAX_METADATA_SIZE = 16 * 1024 * 1024;
+
+    private static final Map<String, MediaType> METADATA_TYPES = Map.of(
+            "ttl", TURTLE_TYPE,
+            "nt", NTRIPLES_TYPE,
+            "jsonld", JSON_LD_TYPE,
+            "rdf", RDF_XML_TYPE);
+
+    private static final String BAG_DECLARATION = "bagit.txt";
+
+    private static final String BAG_PAYLOAD = "data/";
+
+    private static final String BAG_MANIFEST_PREFIX = "manifest-";
+
+    /**
+     * The kinds of archive entries
+     */
+    enum Kind {
+        CONTAINER, BINARY, METADATA, MANIFEST
+    }
+
+    /**
+     * An entry of the archive, whose content may be read until the next entry is requested
+     */
+    static class Entry {
+
+        private final Kind kind;
+
+        private final String path;
+
+        private final long size;
+
+        private final MediaType rdfType;
+
+        private final InputStream content;
+
+        Entry(final Kind kind, final String path, final long size, final MediaType rdfType,
+              final InputStream content) {
+            this.kind = kind;
+            this.path = path;
+            this.size = size;
+            this.rdfType = rdfType;
+            this.content = content;
+        }
+
+        /**
+         * @return the kind of entry
+         */
+        Kind getKind() {
+            return kind;
+        }
+
+        /**
+         * @return the path of the resource the entry creates or describes, relative to the ingest target
+         */
+        String getPath() {
+            return path;
+        }
+
+        /**
+         * @return the size of the content, or -1 if the archive does not record it
+         */
+        long getSize() {
+            return size;
+        }
+
+        /**
+         * @return the serialization of a METADATA entry
+         */
+        MediaType getRdfType() {
+            return rdfType;
+        }
+
+        /**
+         * @return the content of the entry, which is not closed by consumers
+         */
+        InputStream getContent() {
+            return content;
+        }
+    }
+
+    private final ArchiveInputStream<?> archive;
+
+    private final Queue<String> directories = new PriorityQueue<>();
+
+    private String bagRoot;
+
+    private boolean payloadRead;
+
+    private BulkIngestArchive(final ArchiveInputStream<?> archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Open an archive for reading.
+     *
+     * @param stream the archive content
+     * @param mediaType the media type of the archive
+     * @return the archive
+     * @throws NotSupportedException if the media type is not a supported archive format
+     */
+    static BulkIngestArchive open(final InputStream stream, final MediaType mediaType) {
+        if (mediaType != null && mediaType.isCompatible(ZIP_TYPE)) {
+            return new BulkIngestArchive(new ZipArchiveInputStream(stream, UTF_8.name()));
+        }
+        if (mediaType != null && mediaType.isCompatible(TAR_TYPE)) {
+            return new BulkIngestArchive(new TarArchiveInputStream(stream, UTF_8.name()));
+        }
+        if (mediaType != null && (mediaType.isCompatible(GZIP_TYPE) || mediaType.isCompatible(GTAR_TYPE))) {
+            try {
+                return new BulkIngestArchive(new TarArchiveInputStream(new GzipCompressorInputStream(stream),
+                        UTF_8.name()));
+            } catch (final IOException e) {
+                throw new BadRequestException("Unable to read compressed archive: " + e.getMessage(), e);
+            }
+        }
+        throw new NotSupportedException("Bulk ingest requires one of the archive types " + ARCHIVE_TYPES);
+    }
+
+    /**
+     * Read the next entry to ingest, skipping entries which do not create or describe resources.
+     *
+     * @return the entry, or null once the archive is exhausted
+     * @throws IOException if the archive cannot be read
+     */
+    Entry next() throws IOException {
+        ArchiveEntry archiveEntry;
+        while ((archiveEntry = archive.getNextEntry()) != null) {
+            if (!archive.canReadEntryData(archiveEntry)) {
+                throw new BadRequestException("Unable to read archive entry " + archiveEntry.getName());
+            }
+            final var name = normalize(archiveEntry.getName());
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (archiveEntry.isDirectory()) {
+                // Containers are created along with their content, so only empty directories need creating once the
+                // layout of the archive is known
+                directories.add(name);
+                continue;
+            }
+            final var entry = toEntry(name, archiveEntry.getSize());
+            if (entry != null) {
+                return entry;
+            }
+        }
+        while (!directories.isEmpty()) {
+            final var path = payloadPath(directories.poll());
+            if (path != null) {
+                return new Entry(Kind.CONTAINER, path, -1, null, null);
+            }
+        }
+        return null;
+    }
+
+    private Entry toEntry(final String name, final long size) {
+        if (name.equals(BAG_DECLARATION) || name.endsWith("/" + BAG_DECLARATION)) {
+            if (payloadRead) {
+                throw new BadRequestException("The " + BAG_DECLARATION + " of a bag must precede its payload");
+            }
+            bagRoot = name.substring(0, name.length() - BAG_DECLARATION.length());
+            return null;
+        }
+        if (bagRoot != null && name.startsWith(bagRoot + BAG_MANIFEST_PREFIX) && name.endsWith(".txt") &&
+                name.indexOf('/', bagRoot.length()) == -1) {
+            return new Entry(Kind.MANIFEST, name.substring(bagRoot.length()), size, null, shield());
+        }
+        final var path = payloadPath(name);
+        if (path == null) {
+            return null;
+        }
+        payloadRead = true;
+
+        final var extension = path.substring(path.lastIndexOf('.') + 1);
+        final var described = path.substring(0, Math.max(path.lastIndexOf('.'), 0));
+        if (METADATA_TYPES.containsKey(extension) && described.endsWith(METADATA_SUFFIX)) {
+            if (size > MAX_METADATA_SIZE) {
+                throw new BadRequestException("RDF description " + name + " is larger than " + MAX_METADATA_SIZE +
+                        " bytes");
+            }
+            return new Entry(Kind.METADATA, described.substring(0, described.length() - METADATA_SUFFIX.length()),
+                    size, METADATA_TYPES.get(extension), shield());
+        }
+        return new Entry(Kind.BINARY, path, size, null, shield());
+    }
+
+    /**
+     * @return the path of an entry relative to the ingest target, or null if the entry is not part of the payload
+     */
+    private String payloadPath(final String name) {
+        if (bagRoot == null) {
+            return name;
+        }
+        final var payloadRoot = bagRoot + BAG_PAYLOAD;
+        if (!name.startsWith(payloadRoot) || name.length() == payloadRoot.length()) {
+            // tag files carry no repository content
+            return null;
+        }
+        return name.substring(payloadRoot.length());
+    }
+
+    private InputStream shield() {
+        return CloseShieldInputStream.wrap(archive);
+    }
+
+    /**
+     * Normalize the name of an archive entry to a relative path without trailing slashes, rejecting names which
+     * would address resources outside of the ingest target.
+     */
+    private static String normalize(final String name) {
+        var path = name.replace('\\', '/');
+        while (path.startsWith("./")) {
+            path = path.substring(2);
+        }
+        path = path.replaceAll("/+$", "");
+        if (path.startsWith("/") || path.equals("..") || path.startsWith("../") || path.contains("/../") ||
+                path.endsWith("/..") || path.contains("//") || path.contains("/./")) {
+            throw new BadRequestException("Invalid archive entry name: " + name);
+        }
+        return path;
+    }
+
+    /**
+     * Read the digests of a BagIt payload manifest.
+     *
+     * @param entry the manifest entry
+     * @return the digests keyed by the path of the binary, relative to the ingest target
+     * @throws IOException if the manifest cannot be read
+     */
+    static Map<String, URI> readManifest(final Entry entry) throws IOException {
+        final var name = entry.getPath();
+        final var algorithm = DigestAlgorithm.fromAlgorithm(
+                name.substring(BAG_MANIFEST_PREFIX.length(), name.length() - ".txt".length()));
+        if (algorithm == DigestAlgorithm.MISSING) {
+            throw new BadRequestException("Unsupported BagIt manifest algorithm in " + name);
+        }
+        final var digests = new HashMap<String, URI>();
+        final var reader = new BufferedReader(new InputStreamReader(entry.getContent(), UTF_8));
+        String line;
+        while ((line = reader.readLine()) != null) {
+            final var parts = line.trim().split("\\s+", 2);
+            if (parts.length != 2) {
+                continue;
+            }
+            final var path = parts[1].replace("%0D", "\r").replace("%0A", "\n").replace("%25", "%");
+            if (path.startsWith(BAG_PAYLOAD)) {
+                digests.put(path.substring(BAG_PAYLOAD.length()),
+                        URI.create(DigestAlgorithm.getScheme(algorithm.getAlgorithm()) + ":" +
+                        parts[0].toLowerCase()));
+            }
+        }
+        return digests;
+    }
+
+    /**
+     * @return whether the archive has been identified as a BagIt bag
+     */
+    boolean isBag() {
+        return bagRoot != null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        archive.close();
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.http.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+import static org.apache.http.HttpStatus.SC_BAD_REQUEST;
+
+import java.net.URI;
+import java.util.Base64;
+import java.util.Map;
+
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.core.UriBuilder;
+
+/**
+ * A page of the children of a container, as requested by an LDP Paging client. Pages are addressed by an opaque
+ * cursor holding the last child of the previous page, so each page can be read from the containment index without
+ * reading the children on earlier pages.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+class ContainerPage {
+
+    /**
+     * Query parameter holding the cursor of the page
+     */
+    static final String PAGE_AFTER_PARAM = "ldp-page-after";
+
+    /**
+     * Query parameter holding the number of children in the page
+     */
+    static final String PAGE_SIZE_PARAM = "ldp-page-size";
+
+    /**
+     * Prefer return parameters with which a client may ask for a paged representation
+     */
+    static final String MAX_MEMBER_COUNT = "max-member-count";
+
+    static final String MAX_TRIPLE_COUNT = "max-triple-count";
+
+    static final int DEFAULT_PAGE_SIZE = 100;
+
+    static final int MAX_PAGE_SIZE = 10000;
+
+    private final String after;
+
+    private final int size;
+
+    ContainerPage(final String after, final int size) {
+        this.after = after;
+        this.size = size;
+    }
+
+    /**
+     * Determine the page requested by a client, if any.
+     *
+     * @param queryParams the request query parameters
+     * @param preferParams the parameters of the Prefer return tag, may be empty
+     * @return the requested page, or null if the client did not ask for paging
+     */
+    static ContainerPage fromRequest(final MultivaluedMap<String, String> queryParams,
+                                     final Map<String, String> preferParams) {
+        final String cursor = queryParams.getFirst(PAGE_AFTER_PARAM);
+        String size = queryParams.getFirst(PAGE_SIZE_PARAM);
+        if (size == null) {
+            size = preferParams.get(MAX_MEMBER_COUNT);
+        }
+        if (size == null) {
+            size = preferParams.get(MAX_TRIPLE_COUNT);
+        }
+        if (cursor == null && size == null) {
+            return null;
+        }
+        return new ContainerPage(cursor == null ? null : decodeCursor(cursor), parseSize(size));
+    }
+
+    /**
+     * @return the id of the last child of the previous page, or null for the first page
+     */
+    String getAfter() {
+        return after;
+    }
+
+    /**
+     * @return the maximum number of children in the page
+     */
+    int getSize() {
+        return size;
+    }
+
+    /**
+     * @return whether this is the first page
+     */
+    boolean isFirst() {
+        return after == null;
+    }
+
+    /**
+     * @param requestUri the uri of the current request
+     * @return the uri of the first page
+     */
+    URI firstPageUri(final URI requestUri) {
+        return UriBuilder.fromUri(requestUri)
+                .replaceQueryParam(PAGE_AFTER_PARAM)
+                .replaceQueryParam(PAGE_SIZE_PARAM, size)
+                .build();
+    }
+
+    /**
+     * @param requestUri the uri of the current request
+     * @param lastChild the id of the last child in this page
+     * @return the uri of the page following this one
+     */
+    URI nextPageUri(final URI requestUri, final String lastChild) {
+        return UriBuilder.fromUri(requestUri)
+                .replaceQueryParam(PAGE_AFTER_PARAM, encodeCursor(lastChild))
+                .replaceQueryParam(PAGE_SIZE_PARAM, size)
+                .build();
+    }
+
+    /**
+     * @return a value identifying this page, to distinguish its etag from those of other pages
+     */
+    String getEtagComponent() {
+        return (after == null ? "" : after) + "|" + size;
+    }
+
+    static String encodeCursor(final String childId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(childId.getBytes(UTF_8));
+    }
+
+    private static String decodeCursor(final String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), UTF_8);
+        } catch (final IllegalArgumentException e) {
+            throw new ClientErrorException("Invalid '" + PAGE_AFTER_PARAM + "' value: " + cursor, SC_BAD_REQUEST, e);
+        }
+    }
+
+    private static int parseSize(final String value) {
+        if (isBlank(value)) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        final int parsed;
+        try {
+            parsed = Integer.parseInt(value.replace("\"", "").trim());
+        } catch (final NumberFormatException e) {
+            throw new ClientErrorException("Invalid page size: " + value, SC_BAD_REQUEST, e);
+        }
+        if (parsed < 1) {
+            throw new ClientErrorException("Invalid page size: " + value, SC_BAD_REQUEST);
+        }
+        return Math.min(parsed, MAX_PAGE_SIZE);
+    }
+}
@@ -28,6 +28,8 @@ import static org.fcrepo.http.commons.session.TransactionConstants.TX_PREFIX;
 import static org.fcrepo.kernel.api.FedoraTypes.FCR_ACL;
 import static org.fcrepo.kernel.api.FedoraTypes.FCR_METADATA;
 import static org.fcrepo.kernel.api.FedoraTypes.FEDORA_ID_PREFIX;
+import static org.fcrepo.kernel.api.RdfLexicon.CONTAINS;
+import static org.fcrepo.kernel.api.RdfLexicon.PAGE;
 import static org.fcrepo.kernel.api.models.ExternalContent.COPY;
 import static org.fcrepo.kernel.api.models.ExternalContent.PROXY;
 import static org.fcrepo.kernel.api.models.ExternalContent.REDIRECT;
@@ -69,6 +71,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -98,6 +101,8 @@ import org.fcrepo.http.commons.domain.PreferTag;
 import org.fcrepo.http.commons.domain.Range;
 import org.fcrepo.http.commons.domain.ldp.LdpPreferTag;
 import org.fcrepo.http.commons.responses.RdfNamespacedStream;
+import org.fcrepo.http.commons.responses.RepresentationCache;
+import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.RdfStream;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.exception.InsufficientStorageException;
@@ -119,6 +124,7 @@ import org.fcrepo.kernel.api.models.TimeMap;
 import org.fcrepo.kernel.api.models.Tombstone;
 import org.fcrepo.kernel.api.models.WebacAcl;
 import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+import org.fcrepo.kernel.api.rdf.LdpTriplePreferences;
 import org.fcrepo.kernel.api.rdf.RdfNamespaceRegistry;
 import org.fcrepo.kernel.api.services.CreateResourceService;
 import org.fcrepo.kernel.api.services.DeleteResourceService;
@@ -137,6 +143,8 @@ import org.apache.jena.graph.Node;
 import org.apache.jena.graph.Triple;
 import org.jvnet.hk2.annotations.Optional;
 import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.ContentDisposition;
 
 /**
@@ -182,6 +190,8 @@ public abstract class ContentExposingResource extends FedoraBaseResource {
 
     private FedoraResource fedoraResource;
     private String cachedRdfEtag;
+    private ContainerPage requestedPage;
+    private boolean pageResolved;
 
     @Inject
     protected ExternalContentHandlerFactory extContentHandlerFactory;
@@ -210,9 +220,16 @@ public abstract class ContentExposingResource extends FedoraBaseResource {
     @Inject
     protected ResourceTripleService resourceTripleService;
 
+    @Autowired
+    @Qualifier("containmentIndex")
+    protected ContainmentIndex containmentIndex;
+
     @Inject
     protected OcflPropsConfig ocflPropsConfig;
 
+    @Inject
+    protected RepresentationCache representationCache;
+
     protected abstract String externalPath();
 
     protected static final Splitter.MapSplitter RFC3230_SPLITTER =
@@ -228,14 +245,35 @@ public abstract class ContentExposingResource extends FedoraBaseResource {
      * @throws IOException in case of error extracting content
      */
     protected Response getContent(final int limit, final FedoraResource resource) throws IOException {
+        final ContainerPage page = getRequestedPage(resource);
+        final RdfStream triples = page == null ? getResourceTriples(limit, resource) : getPageTriples(page, resource);
         final RdfStream rdfStream = httpRdfService.bodyToExternalStream(getUri(resource).toString(),
-                getResourceTriples(limit, resource), identifierConverter());
+                triples, identifierConverter());
         final var outputStream = new RdfNamespacedStream(
                     rdfStream, namespaceRegistry.getNamespaces());
+        if (page == null && isRepresentationCacheable(resource)) {
+            outputStream.setCacheKey(new RepresentationCache.Key(resource.getFedoraId(),
+                    getCachedRdfEtag(transaction(), resource) + "|" + limit + "|" + getUri(resource)));
+        }
         setVaryAndPreferenceAppliedHeaders(servletResponse, prefer, resource);
         return ok(outputStream).build();
     }
 
+    /**
+     * Whether the serialized representation of a resource may be served from, and added to, the representation
+     * cache. Representations are identified by their etag, so only those whose etag changes along with their content
+     * are cached: inbound references and embedded children change with other resources, and time maps have no state
+     * token.
+     *
+     * @param resource the fedora resource
+     * @return true if the representation may be cached
+     */
+    private boolean isRepresentationCacheable(final FedoraResource resource) {
+        return representationCache != null && representationCache.isEnabled() &&
+                transaction().isShortLived() && !(resource instanceof TimeMap) &&
+                !getLdpPreferTag().displayReferences() && !getLdpPreferTag().displayEmbed();
+    }
+
     protected void setVaryAndPreferenceAppliedHeaders(final HttpServletResponse servletResponse,
             final MultiPrefer prefer, final FedoraResource resource) {
         if (prefer != null) {
@@ -317,6 +355,126 @@ public abstract class ContentExposingResource extends FedoraBaseResource {
         return rdfStream;
     }
 
+    /**
+     * This method returns the RDF triples for a single page of a container. The first page holds all triples of the
+     * container other than containment, and each page holds the containment (and embedded resources) of its share of
+     * the children. Only the children in the page are read from the containment index.
+     *
+     * @param page the requested page
+     * @param resource the container
+     * @return {@link RdfStream}
+     */
+    private RdfStream getPageTriples(final ContainerPage page, final FedoraResource resource) {
+        final LdpPreferTag ldpPreferences = getLdpPreferTag();
+        final var fedoraId = resource.getFedoraId();
+
+        // Read one extra child to learn whether there is a following page
+        final var pageChildren = containmentIndex.getContainsPage(transaction(), fedoraId, page.getAfter(),
+                page.getSize() + 1);
+        final boolean hasNext = pageChildren.size() > page.getSize();
+        final var children = hasNext ? pageChildren.subList(0, page.getSize()) : pageChildren;
+        addPageHttpHeaders(page, hasNext ? children.getLast() : null);
+
+        final List<Stream<Triple>> streams = new ArrayList<>();
+        if (page.isFirst()) {
+            streams.add(resourceTripleService.getResourceTriples(
+                    transaction(), resource, new PagePreferences(ldpPreferences), -1));
+        }
+        if (ldpPreferences.displayContainment()) {
+            final Node subject = createURI(fedoraId.isMemento() ? fedoraId.getBaseId() : fedoraId.getFullId());
+            streams.add(children.stream().map(child -> Triple.create(subject, CONTAINS.asNode(), createURI(child))));
+        }
+        if (ldpPreferences.displayEmbed()) {
+            streams.add(children.stream()
+                    .map(child -> {
+                        try {
+                            return getFedoraResource(transaction(), FedoraId.create(child));
+                        } catch (final PathNotFoundException e) {
+                            throw new PathNotFoundRuntimeException(e.getMessage(), e);
+                        }
+                    })
+                    .flatMap(child -> resourceTripleService.getResourceTriples(
+                            transaction(), child, ldpPreferences, page.getSize())));
+        }
+
+        final var rdfStream = new DefaultRdfStream(asNode(resource), streams.stream().reduce(empty(), Stream::concat));
+
+        if (httpTripleUtil != null && page.isFirst() && ldpPreferences.displayServerManaged()) {
+            return httpTripleUtil.addHttpComponentModelsForResourceToStream(rdfStream, resource, uriInfo);
+        }
+        return rdfStream;
+    }
+
+    private void addPageHttpHeaders(final ContainerPage page, final String lastChild) {
+        final URI requestUri = uriInfo.getRequestUri();
+        servletResponse.addHeader(LINK, buildLink(PAGE.getURI(), "type"));
+        servletResponse.addHeader(LINK, buildLink(page.firstPageUri(requestUri), "first"));
+        if (lastChild != null) {
+            servletResponse.addHeader(LINK, buildLink(page.nextPageUri(requestUri, lastChild), "next"));
+        }
+    }
+
+    /**
+     * Get the page of children requested for a container, only RDF representations of containers are paged.
+     *
+     * @param resource the resource being requested
+     * @return the requested page, or null if the full representation should be returned
+     */
+    private ContainerPage getRequestedPage(final FedoraResource resource) {
+        if (!pageResolved) {
+            if (resource instanceof Container && uriInfo != null && uriInfo.getQueryParameters() != null
+                    && !isHtmlRequest()) {
+                final Map<String, String> preferParams = prefer != null && prefer.hasReturn() ?
+                        prefer.getReturn().getParams() : Map.of();
+                requestedPage = ContainerPage.fromRequest(uriInfo.getQueryParameters(), preferParams);
+            }
+            pageResolved = true;
+        }
+        return requestedPage;
+    }
+
+    /**
+     * Preferences for the triples of a paged container other than its children, which are added by the page.
+     */
+    private static class PagePreferences implements LdpTriplePreferences {
+
+        private final LdpTriplePreferences preferences;
+
+        PagePreferences(final LdpTriplePreferences preferences) {
+            this.preferences = preferences;
+        }
+
+        @Override
+        public boolean displayUserRdf() {
+            return preferences.displayUserRdf();
+        }
+
+        @Override
+        public boolean displayMembership() {
+            return preferences.displayMembership();
+        }
+
+        @Override
+        public boolean displayContainment() {
+            return false;
+        }
+
+        @Override
+        public boolean displayReferences() {
+            return preferences.displayReferences();
+        }
+
+        @Override
+        public boolean displayEmbed() {
+            return false;
+        }
+
+        @Override
+        public boolean displayServerManaged() {
+            return preferences.displayServerManaged();
+        }
+    }
+
     private LdpPreferTag getLdpPreferTag() {
         final PreferTag returnPreference;
 
@@ -389,9 +547,19 @@ public abstract class ContentExposingResource extends FedoraBaseResource {
         }
 
     protected URI getUri(final FedoraResource resource) {
+        return getUri(resource.getFedoraId());
+    }
+
+    /**
+     * Get the external URI of an identifier, without loading the resource it identifies.
+     *
+     * @param fedoraId the identifier
+     * @return the external URI
+     */
+    protected URI getUri(final FedoraId fedoraId) {
         try {
             final String uri = identifierConverter()
-                    .toExternalId(resource.getFedoraId().getFullId());
+                    .toExternalId(fedoraId.getFullId());
             return new URI(uri);
         } catch (final URISyntaxException e) {
             throw new BadRequestException(e);
@@ -739,8 +907,14 @@ public abstract class ContentExposingResource extends FedoraBaseResource {
 
     private String getCachedRdfEtag(final Transaction transaction, final FedoraResource resource) {
         if (cachedRdfEtag == null) {
-            cachedRdfEtag = etagService.getRdfResourceEtag(transaction, resource, getLdpPreferTag(),
-                            headers.getAcceptableMediaTypes());
+            final ContainerPage page = getRequestedPage(resource);
+            if (page == null) {
+                cachedRdfEtag = etagService.getRdfResourceEtag(transaction, resource, getLdpPreferTag(),
+                        headers.getAcceptableMediaTypes());
+            } else {
+                cachedRdfEtag = etagService.getRdfResourceEtag(transaction, resource, getLdpPreferTag(),
+                        headers.getAcceptableMediaTypes(), page.getEtagComponent());
+            }
         }
         return cachedRdfEtag;
     }
@@ -964,13 +1138,9 @@ public abstract class ContentExposingResource extends FedoraBaseResource {
      * @return the limit of children to display.
      */
     protected int getChildrenLimit() {
-        final List<String> acceptHeaders = headers.getRequestHeader(ACCEPT);
-        if (acceptHeaders != null && !acceptHeaders.isEmpty()) {
-            final List<String> accept = Arrays.asList(acceptHeaders.getFirst().split(","));
-            if (accept.contains(TEXT_HTML)) {
-                // Magic number '100' is tied to common-metadata.vsl display of ellipses
-                return 100;
-            }
+        if (isHtmlRequest()) {
+            // Magic number '100' is tied to common-metadata.vsl display of ellipses
+            return 100;
         }
 
         final List<String> limits = headers.getRequestHeader("Limit");
@@ -986,6 +1156,15 @@ public abstract class ContentExposingResource extends FedoraBaseResource {
         return -1;
     }
 
+    private boolean isHtmlRequest() {
+        final List<String> acceptHeaders = headers.getRequestHeader(ACCEPT);
+        if (acceptHeaders != null && !acceptHeaders.isEmpty()) {
+            final List<String> accept = Arrays.asList(acceptHeaders.getFirst().split(","));
+            return accept.contains(TEXT_HTML);
+        }
+        return false;
+    }
+
     /**
      * Check if a path has a segment prefixed with fcr: that is not fcr:metadata or fcr:acl
      *
@@ -9,6 +9,7 @@ import static jakarta.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE;
 import static org.apache.http.HttpHeaders.CONTENT_LENGTH;
 import static org.apache.http.HttpHeaders.CONTENT_TYPE;
 import static org.apache.http.HttpStatus.SC_OK;
+import static org.fcrepo.http.api.ContentExposingResource.RFC3230_SPLITTER;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import org.apache.http.Header;
@@ -16,6 +17,7 @@ import org.apache.http.client.methods.HttpHead;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.impl.client.HttpClients;
+import org.fcrepo.config.DigestAlgorithm;
 import org.fcrepo.kernel.api.exception.ExternalContentAccessException;
 import org.fcrepo.kernel.api.exception.ExternalMessageBodyException;
 import jakarta.ws.rs.core.Link;
@@ -28,9 +30,15 @@ import java.net.URI;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Map;
+import java.util.regex.Pattern;
 
 import org.fcrepo.kernel.api.models.ExternalContent;
+import org.fcrepo.kernel.api.utils.ContentDigest;
 import org.slf4j.Logger;
 
 /**
@@ -47,11 +55,16 @@ public class ExternalContentHandler implements ExternalContent {
 
     private final static String HANDLING = "handling";
     private final static String EXT_CONTENT_TYPE = "type";
+    private final static String WANT_DIGEST = "Want-Digest";
+    private final static String DIGEST = "Digest";
+    private final static String WANTED_DIGESTS = "sha-512, sha-256, sha, md5";
+    private final static Pattern HEX_DIGEST = Pattern.compile("[0-9a-fA-F]+");
 
     private final Link link;
     private final String handling;
     private String contentType;
     private Long contentSize;
+    private Collection<URI> remoteDigests = List.of();
 
     /* link header for external content should look like this:
           Link: <http://example.org/some/content>;
@@ -127,6 +140,11 @@ public class ExternalContentHandler implements ExternalContent {
         return PROXY.equals(handling);
     }
 
+    @Override
+    public Collection<URI> getRemoteDigests() {
+        return remoteDigests;
+    }
+
     @Override
     public InputStream fetchExternalContent() {
 
@@ -185,6 +203,7 @@ public class ExternalContentHandler implements ExternalContent {
             try (final CloseableHttpClient httpClient = HttpClients.createDefault()) {
                 final HttpHead httpHead = new HttpHead(uri);
                 httpHead.setHeader("Accept-Encoding", "identity");
+                httpHead.setHeader(WANT_DIGEST, WANTED_DIGESTS);
                 try (final CloseableHttpResponse response = httpClient.execute(httpHead)) {
                     if (response.getStatusLine().getStatusCode() != SC_OK) {
                         throw new ExternalMessageBodyException("Unable to access external binary at URI " + uri
@@ -199,10 +218,40 @@ public class ExternalContentHandler implements ExternalContent {
                     if (sizeHeader != null) {
                         contentSize = Long.parseLong(sizeHeader.getValue());
                     }
+                    final Header digestHeader = response.getFirstHeader(DIGEST);
+                    if (digestHeader != null) {
+                        remoteDigests = parseRemoteDigests(digestHeader.getValue());
+                    }
                 }
             } catch (final IOException e) {
                 throw new ExternalMessageBodyException("Unable to access external binary at URI " + uri, e);
             }
         }
     }
+
+    /**
+     * Parse the RFC-3230 Digest header of the server holding the content. Digests of unsupported algorithms are
+     * ignored, and values may be either hex or base64 encoded.
+     *
+     * @param digest The Digest header value
+     * @return the digests in URN format
+     */
+    private static Collection<URI> parseRemoteDigests(final String digest) {
+        try {
+            return RFC3230_SPLITTER.split(digest).entrySet().stream()
+                    .filter(entry -> DigestAlgorithm.isSupportedAlgorithm(entry.getKey()))
+                    .map(entry -> ContentDigest.asURI(entry.getKey(), toHex(entry.getValue())))
+                    .toList();
+        } catch (final IllegalArgumentException e) {
+            LOGGER.debug("Ignoring invalid Digest header of external content: {}", digest);
+            return List.of();
+        }
+    }
+
+    private static String toHex(final String digestValue) {
+        if (HEX_DIGEST.matcher(digestValue).matches()) {
+            return digestValue;
+        }
+        return HexFormat.of().formatHex(Base64.getDecoder().decode(digestValue));
+    }
 }
@@ -0,0 +1,404 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.http.api;
+
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static jakarta.ws.rs.core.Response.Status.CONFLICT;
+import static jakarta.ws.rs.core.Response.ok;
+import static jakarta.ws.rs.core.Response.status;
+import static org.fcrepo.http.api.ContentExposingResource.hasRestrictedPath;
+import static org.fcrepo.http.commons.domain.RDFMediaType.TEXT_PLAIN_WITH_CHARSET;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URLConnection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.Consumes;
+import jakarta.ws.rs.DELETE;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.HeaderParam;
+import jakarta.ws.rs.POST;
+import jakarta.ws.rs.PUT;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.Response;
+
+import io.micrometer.core.annotation.Timed;
+import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpStatus;
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.fcrepo.http.api.BulkIngestArchive.Entry;
+import org.fcrepo.http.api.services.HttpRdfService;
+import org.fcrepo.kernel.api.Transaction;
+import org.fcrepo.kernel.api.exception.InvalidChecksumException;
+import org.fcrepo.kernel.api.exception.PathNotFoundException;
+import org.fcrepo.kernel.api.exception.PathNotFoundRuntimeException;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.Binary;
+import org.fcrepo.kernel.api.models.Container;
+import org.fcrepo.kernel.api.services.CreateResourceService;
+import org.fcrepo.kernel.api.services.FixityService;
+import org.fcrepo.kernel.api.services.ReplacePropertiesService;
+import org.slf4j.Logger;
+import org.springframework.context.annotation.Scope;
+
+/**
+ * Creates the resources held in a streamed archive beneath a container, within a single transaction. Entries are
+ * created as they are read from the request, see {@link BulkIngestArchive} for the layout of the archive.
+ * <p>
+ * The resources are created in the transaction of the request, which is staged as a long-running transaction when
+ * the request did not open one: their containment and search index changes are buffered and written to the
+ * transaction tables in batches, all index changes are applied with set based statements when it is committed, and
+ * each entry is read within a db transaction of its own, so that the db transactions stay small whatever the size
+ * of the archive. Only new resources may be created, so that permissions granted on the target container govern all
+ * of them.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@Timed
+@Scope("request")
+@Path("/{path: (.+/)?}fcr:ingest")
+public class FedoraBulkIngest extends FedoraBaseResource {
+
+    private static final Logger LOGGER = getLogger(FedoraBulkIngest.class);
+
+    private static final String DEFAULT_BINARY_TYPE = "application/octet-stream";
+
+    @Inject
+    private CreateResourceService createResourceService;
+
+    @Inject
+    private ReplacePropertiesService replacePropertiesService;
+
+    @Inject
+    private FixityService fixityService;
+
+    @Inject
+    private HttpRdfService httpRdfService;
+
+    @PathParam("path")
+    protected String externalPath;
+
+    /**
+     * Default JAX-RS entry point
+     */
+    public FedoraBulkIngest() {
+        super();
+    }
+
+    /**
+     * Create the resources held in an archive beneath the container at the request path.
+     *
+     * @param contentType the media type of the archive
+     * @param requestBodyStream the archive
+     * @return A response listing the number of resources created
+     */
+    @POST
+    @Consumes({"application/zip", "application/x-tar", "application/gzip", "application/x-gtar"})
+    @Produces({APPLICATION_JSON + ";qs=1.0", TEXT_PLAIN_WITH_CHARSET})
+    public Response ingest(@HeaderParam(CONTENT_TYPE) final MediaType contentType,
+                           final InputStream requestBodyStream) {
+        final var transaction = transaction();
+        final var targetId = FedoraId.create(externalPath);
+        LOGGER.info("Bulk ingest of {} archive into {}", contentType, targetId.getFullIdPath());
+
+        // Index changes of a short lived transaction are written directly, one statement per resource, within a
+        // single db transaction. Stage them as those of a long-running transaction instead, committed at the end.
+        final var staged = transaction.isShortLived();
+        if (staged) {
+            transaction.setShortLived(false);
+        }
+        try (final var archive = BulkIngestArchive.open(requestBodyStream, contentType)) {
+            checkTarget(transaction, targetId);
+
+            final var ingest = new Ingest(transaction, targetId);
+            ingest.ingest(archive);
+            if (staged) {
+                transaction.commit();
+            }
+
+            LOGGER.info("Bulk ingest into {} created {} containers and {} binaries", targetId.getFullIdPath(),
+                    ingest.containers, ingest.binaries);
+            final Map<String, Object> entity = new LinkedHashMap<>();
+            entity.put("target", identifierConverter().toExternalId(targetId.getFullId()));
+            entity.put("containers", ingest.containers);
+            entity.put("binaries", ingest.binaries);
+            return ok(entity).build();
+        } catch (final UncheckedIOException e) {
+            abort(transaction, staged);
+            throw new BadRequestException("Unable to read archive: " + e.getCause().getMessage(), e.getCause());
+        } catch (final IOException e) {
+            abort(transaction, staged);
+            throw new BadRequestException("Unable to read archive: " + e.getMessage(), e);
+        } catch (final RuntimeException e) {
+            abort(transaction, staged);
+            throw e;
+        } finally {
+            if (staged) {
+                // the request disposes of its transaction when it ends
+                transaction.setShortLived(true);
+            }
+            transaction.releaseResourceLocksIfShortLived();
+            IOUtils.closeQuietly(requestBodyStream);
+        }
+    }
+
+    /**
+     * Discard the resources ingested so far: those of a staged transaction are rolled back, those of a long-running
+     * transaction of the client must not be committed along with it.
+     */
+    private static void abort(final Transaction transaction, final boolean staged) {
+        if (staged) {
+            transaction.rollback();
+        } else {
+            transaction.fail();
+        }
+    }
+
+    private void checkTarget(final Transaction transaction, final FedoraId targetId) {
+        try {
+            final var target = getFedoraResource(transaction, targetId);
+            if (!(target instanceof Container) || target.isMemento()) {
+                throw new ClientErrorException("Bulk ingest requires a container, " +
+                        targetId.getFullIdPath() + " is not one", CONFLICT);
+            }
+        } catch (final PathNotFoundException e) {
+            throw new PathNotFoundRuntimeException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * The state of a single bulk ingest
+     */
+    private class Ingest {
+
+        private final Transaction transaction;
+
+        private final FedoraId targetId;
+
+        /**
+         * Whether each path created so far is a binary
+         */
+        private final Map<String, Boolean> created = new HashMap<>();
+
+        /**
+         * Descriptions read before the resource they describe was created
+         */
+        private final Map<String, Model> pendingMetadata = new HashMap<>();
+
+        /**
+         * Digests listed by bag manifests which have not been checked yet
+         */
+        private final List<Map.Entry<String, URI>> manifestDigests = new ArrayList<>();
+
+        private final Map<String, List<URI>> providedDigests = new HashMap<>();
+
+        private int containers;
+
+        private int binaries;
+
+        Ingest(final Transaction transaction, final FedoraId targetId) {
+            this.transaction = transaction;
+            this.targetId = targetId;
+        }
+
+        /**
+         * Each entry is created in a db transaction of its own, which is not retried as the entry cannot be read
+         * again.
+         */
+        void ingest(final BulkIngestArchive archive) throws IOException {
+            Entry entry;
+            while ((entry = archive.next()) != null) {
+                final var current = entry;
+                dbTransactionExecutor.doInTx(() -> add(current));
+            }
+            dbTransactionExecutor.doInTx(this::finish);
+        }
+
+        private void add(final Entry entry) {
+            try {
+                switch (entry.getKind()) {
+                    case CONTAINER -> createContainer(entry.getPath());
+                    case BINARY -> createBinary(entry);
+                    case METADATA -> addMetadata(entry);
+                    case MANIFEST -> addManifest(entry);
+                    default -> throw new IllegalStateException("Unknown entry kind " + entry.getKind());
+                }
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void createContainer(final String path) {
+            final var isBinary = created.get(path);
+            if (isBinary != null) {
+                if (isBinary) {
+                    throw conflict("Archive entry " + path + " is both a file and a directory");
+                }
+                return;
+            }
+            final var fedoraId = newResourceId(path);
+            final var metadata = pendingMetadata.remove(path);
+            final var model = metadata == null ? ModelFactory.createDefaultModel() : metadata;
+            createResourceService.perform(transaction, getUserPrincipal(), fedoraId, null, model);
+            created.put(path, false);
+            containers++;
+        }
+
+        void createBinary(final Entry entry) {
+            final var path = entry.getPath();
+            if (created.containsKey(path)) {
+                throw conflict("Archive entry " + path + " occurs more than once");
+            }
+            final var fedoraId = newResourceId(path);
+            final var filename = path.substring(path.lastIndexOf('/') + 1);
+            final var guessedType = URLConnection.guessContentTypeFromName(filename);
+            final var mimeType = guessedType == null ? DEFAULT_BINARY_TYPE : guessedType;
+            // digests from manifests read before the binary are verified as its content is stored
+            final var digests = providedDigests.getOrDefault(path, List.of());
+
+            createResourceService.perform(transaction, getUserPrincipal(), fedoraId, mimeType, filename,
+                    entry.getSize(), null, digests, entry.getContent(), null);
+            created.put(path, true);
+            binaries++;
+
+            final var metadata = pendingMetadata.remove(path);
+            if (metadata != null) {
+                replaceMetadata(fedoraId.asDescription(), metadata);
+            }
+        }
+
+        void addMetadata(final Entry entry) throws IOException {
+            final var path = entry.getPath();
+            final var content = entry.getContent().readNBytes(BulkIngestArchive.MAX_METADATA_SIZE + 1);
+            if (content.length > BulkIngestArchive.MAX_METADATA_SIZE) {
+                throw new BadRequestException("RDF description of " + path + " is larger than " +
+                        BulkIngestArchive.MAX_METADATA_SIZE + " bytes");
+            }
+            final var fedoraId = resourceId(path);
+            final var model = httpRdfService.bodyToInternalModel(fedoraId, new ByteArrayInputStream(content),
+                    entry.getRdfType(), identifierConverter(), false);
+
+            final var isBinary = created.get(path);
+            if (isBinary == null) {
+                if (pendingMetadata.put(path, model) != null) {
+                    throw conflict("Archive holds more than one description of " + path);
+                }
+            } else {
+                replaceMetadata(isBinary ? fedoraId.asDescription() : fedoraId, model);
+            }
+        }
+
+        void addManifest(final Entry entry) throws IOException {
+            BulkIngestArchive.readManifest(entry).forEach((path, digest) -> {
+                if (created.containsKey(path)) {
+                    manifestDigests.add(Map.entry(path, digest));
+                } else {
+                    providedDigests.computeIfAbsent(path, k -> new ArrayList<>()).add(digest);
+                }
+            });
+        }
+
+        void finish() {
+            // descriptions of resources which were not in the archive define containers of their own
+            for (final var path : List.copyOf(pendingMetadata.keySet())) {
+                if (pendingMetadata.containsKey(path)) {
+                    createContainer(path);
+                }
+            }
+            for (final var path : providedDigests.keySet()) {
+                if (!Boolean.TRUE.equals(created.get(path))) {
+                    throw new BadRequestException("Bag manifest lists " + path + " which is not in the payload");
+                }
+            }
+            for (final var manifestDigest : manifestDigests) {
+                verifyDigest(manifestDigest.getKey(), manifestDigest.getValue());
+            }
+        }
+
+        private void verifyDigest(final String path, final URI digest) {
+            try {
+                final var binary = (Binary) getFedoraResource(transaction, resourceId(path));
+                final var algorithm = digest.getSchemeSpecificPart().split(":", 2)[0];
+                final var matched = fixityService.getFixity(binary, Set.of(algorithm)).stream()
+                        .anyMatch(computed -> computed.toString().equalsIgnoreCase(digest.toString()));
+                if (!matched) {
+                    throw new InvalidChecksumException("Content of " + path + " does not match the " + algorithm +
+                            " digest listed in the bag manifest");
+                }
+            } catch (final PathNotFoundException e) {
+                throw new PathNotFoundRuntimeException(e.getMessage(), e);
+            }
+        }
+
+        private void replaceMetadata(final FedoraId fedoraId, final Model model) {
+            replacePropertiesService.perform(transaction, getUserPrincipal(), fedoraId, model);
+        }
+
+        /**
+         * Determine the id for a resource to create, after creating any of its ancestors within the archive which
+         * were not created yet.
+         */
+        private FedoraId newResourceId(final String path) {
+            final var slash = path.lastIndexOf('/');
+            if (slash > 0) {
+                createContainer(path.substring(0, slash));
+            }
+            final var fedoraId = resourceId(path);
+            if (doesResourceExist(transaction, fedoraId, true) || isGhostNode(transaction, fedoraId)) {
+                throw conflict("Resource " + fedoraId.getFullIdPath() + " already exists, bulk ingest only " +
+                        "creates new resources");
+            }
+            return fedoraId;
+        }
+
+        private FedoraId resourceId(final String path) {
+            hasRestrictedPath(path);
+            return targetId.resolve(path);
+        }
+
+        private ClientErrorException conflict(final String message) {
+            return new ClientErrorException(message, CONFLICT);
+        }
+    }
+
+    @GET
+    public Response get() {
+        return methodNotAllowed();
+    }
+
+    @PUT
+    public Response put() {
+        return methodNotAllowed();
+    }
+
+    @DELETE
+    public Response delete() {
+        return methodNotAllowed();
+    }
+
+    private Response methodNotAllowed() {
+        return status(HttpStatus.SC_METHOD_NOT_ALLOWED).build();
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.http.api;
+
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
+import static jakarta.ws.rs.core.Response.ok;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.inject.Inject;
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.DefaultValue;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.QueryParam;
+import jakarta.ws.rs.core.Response;
+
+import io.micrometer.core.annotation.Timed;
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.kernel.api.services.FixityAuditService;
+import org.fcrepo.kernel.api.utils.FixityAuditResult;
+import org.slf4j.Logger;
+import org.springframework.context.annotation.Scope;
+
+/**
+ * Lists the binaries which failed their most recent background fixity check, or which have not been checked
+ * recently.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@Timed
+@Scope("request")
+@Path("/fcr:fixityaudit")
+public class FedoraFixityAudit extends FedoraBaseResource {
+
+    private static final Logger LOGGER = getLogger(FedoraFixityAudit.class);
+
+    private static final String FAILED = "failed";
+
+    private static final String STALE = "stale";
+
+    @Inject
+    private FixityAuditService fixityAuditService;
+
+    @Inject
+    private FedoraPropsConfig fedoraPropsConfig;
+
+    /**
+     * Default JAX-RS entry point
+     */
+    public FedoraFixityAudit() {
+        super();
+    }
+
+    /**
+     * List the outcomes of background fixity checks
+     *
+     * @param status "failed" for binaries whose most recent check did not succeed, or "stale" for binaries which
+     *               have not been checked since the checked_before time
+     * @param checkedBefore ISO-8601 time used with the "stale" status, defaults to the configured audit interval
+     *                      before now
+     * @param maxResults The max number of results to return
+     * @param offset     The zero-based offset of the first result to be returned
+     * @return A response object with the outcomes
+     */
+    @GET
+    @Produces({APPLICATION_JSON + ";qs=1.0"})
+    public Response getAuditResults(@DefaultValue(FAILED) @QueryParam("status") final String status,
+                                    @QueryParam("checked_before") final String checkedBefore,
+                                    @DefaultValue("100") @QueryParam("max_results") final int maxResults,
+                                    @DefaultValue("0") @QueryParam("offset") final int offset) {
+        LOGGER.debug("GET on fixity audit with status: {}", status);
+        if (maxResults < 0 || offset < 0) {
+            throw new BadRequestException("max_results and offset must not be negative");
+        }
+
+        final List<FixityAuditResult> results;
+        if (FAILED.equalsIgnoreCase(status)) {
+            results = fixityAuditService.getFailures(maxResults, offset);
+        } else if (STALE.equalsIgnoreCase(status)) {
+            results = fixityAuditService.getStale(parseCheckedBefore(checkedBefore), maxResults, offset);
+        } else {
+            throw new BadRequestException("The status parameter is invalid: valid values are \"" + FAILED +
+                    "\" and \"" + STALE + "\"");
+        }
+
+        final Map<String, Object> entity = new LinkedHashMap<>();
+        entity.put("max_results", maxResults);
+        entity.put("offset", offset);
+        entity.put("items", results.stream().map(this::toItem).toList());
+        return ok(entity).build();
+    }
+
+    private Instant parseCheckedBefore(final String checkedBefore) {
+        if (checkedBefore == null) {
+            return Instant.now().minus(fedoraPropsConfig.getFixityAuditInterval());
+        }
+        try {
+            return Instant.parse(checkedBefore);
+        } catch (final DateTimeParseException e) {
+            throw new BadRequestException("The checked_before parameter must be an ISO-8601 instant: " +
+                    checkedBefore, e);
+        }
+    }
+
+    private Map<String, Object> toItem(final FixityAuditResult result) {
+        final Map<String, Object> item = new LinkedHashMap<>();
+        item.put("fedora_id", identifierConverter().toExternalId(result.getFedoraId().getFullId()));
+        item.put("outcome", result.getOutcome().name());
+        item.put("last_checked", result.getLastChecked().toString());
+        item.put("content_size", result.getContentSize());
+        item.put("details", result.getDetails());
+        return item;
+    }
+}
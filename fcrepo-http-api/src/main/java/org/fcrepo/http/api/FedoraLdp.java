@@ -852,7 +852,7 @@ public class FedoraLdp extends ContentExposingResource {
 
     private String handleWantDigestHeader(final Binary binary, final String wantDigest)
             throws UnsupportedAlgorithmException {
-        // handle the Want-Digest header with fixity check
+        // handle the Want-Digest header, answered from stored digests where available
         final Collection<String> preferredDigests = parseWantDigestHeader(wantDigest);
         if (preferredDigests.isEmpty()) {
             throw new UnsupportedAlgorithmException(
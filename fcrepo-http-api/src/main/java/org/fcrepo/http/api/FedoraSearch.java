@@ -158,7 +158,7 @@ public class FedoraSearch extends FedoraBaseResource {
     protected static Condition parse(final String expression, final HttpIdentifierConverter converter)
             throws InvalidConditionExpressionException {
         final Condition condition = Condition.fromExpression(expression);
-        if (condition.getField().equals(Condition.Field.FEDORA_ID)) {
+        if (Condition.Field.FEDORA_ID.equals(condition.getField())) {
             //convert the object value to an internal identifier stem where appropriate
             final var object = condition.getObject();
             final var field = condition.getField();
@@ -170,6 +170,10 @@ public class FedoraSearch extends FedoraBaseResource {
             } else if (!object.startsWith(FEDORA_ID_PREFIX) && !object.equals("*")) {
                 return Condition.fromEnums(field, operator, FEDORA_ID_PREFIX + "/" + object);
             }
+        } else if (condition.getProperty() != null && converter.inExternalDomain(condition.getObject())) {
+            // values referring to resources of the repository are indexed by their internal identifiers
+            return Condition.fromProperty(condition.getProperty(), condition.getOperator(),
+                    converter.toInternalId(condition.getObject(), true));
         }
 
         return condition;
@@ -16,6 +16,7 @@ import org.fcrepo.kernel.api.exception.MementoDatetimeFormatException;
 import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
 import org.fcrepo.kernel.api.exception.TombstoneException;
 import org.fcrepo.kernel.api.models.FedoraResource;
+import org.fcrepo.kernel.api.models.TimeMap;
 import org.slf4j.Logger;
 import org.springframework.context.annotation.Scope;
 
@@ -28,22 +29,23 @@ import jakarta.ws.rs.OPTIONS;
 import jakarta.ws.rs.POST;
 import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.QueryParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Context;
 import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.Link.Builder;
 import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriBuilder;
 import jakarta.ws.rs.core.UriInfo;
 import java.io.IOException;
 import java.net.URI;
 import java.time.Instant;
-import java.time.ZoneId;
-import java.util.Arrays;
-import java.util.Comparator;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static jakarta.ws.rs.core.Response.Status.METHOD_NOT_ALLOWED;
 import static jakarta.ws.rs.core.Response.ok;
@@ -76,6 +78,8 @@ public class FedoraVersioning extends ContentExposingResource {
     @VisibleForTesting
     public static final String MEMENTO_DATETIME_HEADER = "Memento-Datetime";
 
+    private static final String MAX_RESULTS_PARAM = "max_results";
+
     @Context protected Request request;
     @Context protected HttpServletResponse servletResponse;
     @Context protected UriInfo uriInfo;
@@ -138,13 +142,16 @@ public class FedoraVersioning extends ContentExposingResource {
                 transaction.commitIfShortLived();
             });
 
-            final var versions = reloadResource().getTimeMap().getChildren().collect(Collectors.toList());
+            final var timeMap = reloadResource().getTimeMap();
+            final var versions = timeMap.listMementoDatetimes();
 
             if (versions.isEmpty()) {
                 throw new RepositoryRuntimeException(String.format("Failed to create a version for %s", externalPath));
             }
 
-            final var memento = versions.get(versions.size() - 1);
+            // Only the newest memento is loaded, rather than every memento in the TimeMap
+            final var memento = resourceFactory.getResource(transaction,
+                    timeMap.getFedoraId().asMemento(versions.getLast()));
 
             return createUpdateResponse(memento, true);
         } catch (final Exception e) {
@@ -159,6 +166,8 @@ public class FedoraVersioning extends ContentExposingResource {
      * Get the list of versions for the object
      *
      * @param acceptValue the rdf media-type
+     * @param fromValue the RFC-1123 datetime of the first memento in a page of the link-format TimeMap, optional
+     * @param maxResultsValue the number of mementos in a page of the link-format TimeMap, optional
      * @return List of versions for the object as RDF
      * @throws IOException in case of error extracting content
      */
@@ -167,7 +176,10 @@ public class FedoraVersioning extends ContentExposingResource {
     @Produces({ TURTLE_WITH_CHARSET + ";qs=1.0", JSON_LD + ";qs=0.8",
         N3_WITH_CHARSET, N3_ALT2_WITH_CHARSET, RDF_XML, NTRIPLES, TEXT_PLAIN_WITH_CHARSET,
         TEXT_HTML_WITH_CHARSET, APPLICATION_LINK_FORMAT })
-    public Response getVersionList(@HeaderParam("Accept") final String acceptValue) throws IOException {
+    public Response getVersionList(@HeaderParam("Accept") final String acceptValue,
+                                   @QueryParam("from") final String fromValue,
+                                   @QueryParam(MAX_RESULTS_PARAM) final String maxResultsValue)
+            throws IOException {
 
         FedoraResource theTimeMap;
         try {
@@ -186,39 +198,87 @@ public class FedoraVersioning extends ContentExposingResource {
             final String extUrl = identifierConverter().toDomain(externalPath());
 
             final URI parentUri = URI.create(extUrl);
-            final Set<Link> versionLinks = new HashSet<>();
-            versionLinks.add(Link.fromUri(parentUri).rel("original").build());
-            versionLinks.add(Link.fromUri(parentUri).rel("timegate").build());
-            // So we don't collect the children twice, store them in an array.
-            final FedoraResource[] children = theTimeMap.getChildren()
-                                                        .filter(FedoraResource::isMemento)
-                                                        .toArray(FedoraResource[]::new);
-
-            Arrays.stream(children).forEach(t -> {
-                final URI childUri = getUri(t);
-                versionLinks.add(Link.fromUri(childUri).rel("memento")
-                                     .param("datetime", MEMENTO_RFC_1123_FORMATTER.format(t.getMementoDatetime()))
-                                     .build());
-            });
-            // Based on the dates of the above mementos, add the range to the below link.
-            final Instant[] mementos = Arrays.stream(children).map(FedoraResource::getMementoDatetime)
-                .sorted(Comparator.naturalOrder())
-                .toArray(Instant[]::new);
-            final Builder linkBuilder =
-                Link.fromUri(parentUri + "/" + FCR_VERSIONS).rel("self").type(APPLICATION_LINK_FORMAT);
-            if (mementos.length >= 2) {
+            final URI timeMapUri = URI.create(parentUri + "/" + FCR_VERSIONS);
+            final var timeMap = (TimeMap) theTimeMap;
+            // Memento URIs are derived from the version datetimes, so the mementos themselves are not loaded
+            final List<Instant> allMementos = timeMap.listMementoDatetimes().stream().distinct().toList();
+            // Long TimeMaps may be paged with the max_results parameter, each page starting at the "from" datetime
+            final int limit = parseMaxResults(maxResultsValue);
+            final int first = firstMementoFrom(allMementos, fromValue);
+            final int last = limit < 0 ? allMementos.size() : (int) Math.min(allMementos.size(), (long) first + limit);
+            final List<Instant> mementos = allMementos.subList(first, last);
+            final Instant nextPage = last < allMementos.size() ? allMementos.get(last) : null;
+
+            final List<Link> fixedLinks = new ArrayList<>();
+            fixedLinks.add(Link.fromUri(parentUri).rel("original").build());
+            fixedLinks.add(Link.fromUri(parentUri).rel("timegate").build());
+            // Based on the dates of the mementos in the page, add the range to the below link.
+            final Builder linkBuilder = Link.fromUri(timeMapUri).rel("self").type(APPLICATION_LINK_FORMAT);
+            if (mementos.size() >= 2) {
                 // There are 2 or more Mementos so make a range.
-                linkBuilder.param("from", MEMENTO_RFC_1123_FORMATTER.format(mementos[0].atZone(ZoneId.of("UTC"))));
-                linkBuilder.param("until",
-                    MEMENTO_RFC_1123_FORMATTER.format(mementos[mementos.length - 1].atZone(ZoneId.of("UTC"))));
+                linkBuilder.param("from", MEMENTO_RFC_1123_FORMATTER.format(mementos.getFirst()));
+                linkBuilder.param("until", MEMENTO_RFC_1123_FORMATTER.format(mementos.getLast()));
+            }
+            fixedLinks.add(linkBuilder.build());
+            if (nextPage != null) {
+                fixedLinks.add(Link.fromUri(UriBuilder.fromUri(timeMapUri)
+                                .queryParam("from", MEMENTO_RFC_1123_FORMATTER.format(nextPage))
+                                .queryParam(MAX_RESULTS_PARAM, limit).build())
+                        .rel("next").type(APPLICATION_LINK_FORMAT).build());
             }
-            versionLinks.add(linkBuilder.build());
-            return ok(new LinkFormatStream(versionLinks.stream())).build();
+
+            final Stream<Link> mementoLinks = mementos.stream().map(datetime ->
+                    Link.fromUri(getUri(timeMap.getFedoraId().asMemento(datetime))).rel("memento")
+                            .param("datetime", MEMENTO_RFC_1123_FORMATTER.format(datetime))
+                            .build());
+            return ok(new LinkFormatStream(Stream.concat(fixedLinks.stream(), mementoLinks))).build();
         } else {
             return getContent(getChildrenLimit(), theTimeMap);
         }
     }
 
+    /**
+     * @param maxResultsValue the number of mementos in a page of the TimeMap, or null for all of them
+     * @return the number of mementos in a page, or -1 for all of them
+     */
+    private static int parseMaxResults(final String maxResultsValue) {
+        if (maxResultsValue == null) {
+            return -1;
+        }
+        try {
+            final int maxResults = Integer.parseInt(maxResultsValue);
+            if (maxResults > 0) {
+                return maxResults;
+            }
+        } catch (final NumberFormatException e) {
+            // reported below
+        }
+        throw new BadRequestException("Invalid " + MAX_RESULTS_PARAM + " parameter, it must be a positive integer: "
+                + maxResultsValue);
+    }
+
+    /**
+     * Find the position of the first memento at or after the requested datetime.
+     *
+     * @param mementos the memento datetimes, in ascending order
+     * @param fromValue the RFC-1123 datetime to start at, or null to start with the first memento
+     * @return the index of the first memento to include
+     */
+    private static int firstMementoFrom(final List<Instant> mementos, final String fromValue) {
+        if (fromValue == null) {
+            return 0;
+        }
+        final Instant from;
+        try {
+            from = Instant.from(MEMENTO_RFC_1123_FORMATTER.parse(fromValue));
+        } catch (final DateTimeParseException e) {
+            throw new MementoDatetimeFormatException("Invalid from parameter, it must be in RFC-1123 format: "
+                    + fromValue, e);
+        }
+        final int index = Collections.binarySearch(mementos, from);
+        return index >= 0 ? index : -(index + 1);
+    }
+
     /**
      * Outputs information about the supported HTTP methods, etc.
      *
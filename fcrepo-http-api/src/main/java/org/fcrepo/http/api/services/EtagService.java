@@ -52,6 +52,24 @@ public class EtagService {
     public String getRdfResourceEtag(final Transaction transaction, final FedoraResource resource,
                                      final LdpTriplePreferences prefers,
                                      final Collection<MediaType> acceptableMediaTypes) {
+        return getRdfResourceEtag(transaction, resource, prefers, acceptableMediaTypes, null);
+    }
+
+    /**
+     * Produces etag for a request for a single page of an RDF resource. Each page of a resource has a distinct etag,
+     * which changes along with the etag of the whole resource.
+     *
+     * @param transaction transaction
+     * @param resource resource
+     * @param prefers LDP preference headers for the request
+     * @param acceptableMediaTypes collection of acceptable media types for the response
+     * @param page value identifying the requested page, or null if the full resource was requested
+     * @return etag for the request
+     */
+    public String getRdfResourceEtag(final Transaction transaction, final FedoraResource resource,
+                                     final LdpTriplePreferences prefers,
+                                     final Collection<MediaType> acceptableMediaTypes,
+                                     final String page) {
         final String stateToken = (resource.getStateToken() != null ? resource.getStateToken() : "");
         // Start etag based on the current state of the fedora resource, using the state token
         final StringBuilder etag = new StringBuilder(stateToken);
@@ -82,6 +100,9 @@ public class EtagService {
         addComponent(etag, prefers.displayUserRdf());
         addComponent(etag, prefers.displayReferences());
         addComponent(etag, prefers.displayServerManaged());
+        if (page != null) {
+            addComponent(etag, page);
+        }
 
         // Compute a digest of all these components to use as the etag
         final String etagMd5 = DigestUtils.md5Hex(etag.toString()).toUpperCase();
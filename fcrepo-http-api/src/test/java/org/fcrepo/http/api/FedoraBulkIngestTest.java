@@ -0,0 +1,306 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.http.api;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.fcrepo.config.ServerManagedPropsMode.STRICT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.ClientErrorException;
+import jakarta.ws.rs.NotSupportedException;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.SecurityContext;
+import jakarta.ws.rs.core.UriBuilder;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.io.IOUtils;
+import org.apache.jena.rdf.model.Model;
+import org.fcrepo.common.db.DbTransactionExecutor;
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.http.api.services.HttpRdfService;
+import org.fcrepo.http.commons.api.rdf.HttpIdentifierConverter;
+import org.fcrepo.kernel.api.Transaction;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.Container;
+import org.fcrepo.kernel.api.models.ResourceFactory;
+import org.fcrepo.kernel.api.models.ResourceHelper;
+import org.fcrepo.kernel.api.services.CreateResourceService;
+import org.fcrepo.kernel.api.services.FixityService;
+import org.fcrepo.kernel.api.services.ReplacePropertiesService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * @author fcrepo
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class FedoraBulkIngestTest {
+
+    private static final String URI_BASE = "http://localhost:8080/rest";
+
+    private static final FedoraId TARGET_ID = FedoraId.create("target");
+
+    private static final String TITLE = "<> <http://purl.org/dc/elements/1.1/title> \"title\" .";
+
+    @Mock
+    private Transaction transaction;
+
+    @Mock
+    private Container target;
+
+    @Mock
+    private ResourceFactory resourceFactory;
+
+    @Mock
+    private ResourceHelper resourceHelper;
+
+    @Mock
+    private CreateResourceService createResourceService;
+
+    @Mock
+    private ReplacePropertiesService replacePropertiesService;
+
+    @Mock
+    private FixityService fixityService;
+
+    @Mock
+    private FedoraPropsConfig fedoraPropsConfig;
+
+    @Mock
+    private SecurityContext securityContext;
+
+    private final Map<FedoraId, String> binaryContent = new HashMap<>();
+
+    private final Map<FedoraId, Collection<URI>> binaryDigests = new HashMap<>();
+
+    private FedoraBulkIngest bulkIngest;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        bulkIngest = new FedoraBulkIngest();
+        final var httpRdfService = new HttpRdfService();
+        setField(httpRdfService, "fedoraPropsConfig", fedoraPropsConfig);
+        when(fedoraPropsConfig.getServerManagedPropsMode()).thenReturn(STRICT);
+
+        setField(bulkIngest, "externalPath", "target");
+        setField(bulkIngest, "transaction", transaction);
+        setField(bulkIngest, "resourceFactory", resourceFactory);
+        setField(bulkIngest, "resourceHelper", resourceHelper);
+        setField(bulkIngest, "createResourceService", createResourceService);
+        setField(bulkIngest, "replacePropertiesService", replacePropertiesService);
+        setField(bulkIngest, "fixityService", fixityService);
+        setField(bulkIngest, "httpRdfService", httpRdfService);
+        setField(bulkIngest, "securityContext", securityContext);
+        setField(bulkIngest, "dbTransactionExecutor", new DbTransactionExecutor());
+        setField(bulkIngest, "identifierConverter",
+                new HttpIdentifierConverter(UriBuilder.fromUri(URI_BASE + "/{path: .*}")));
+
+        when(resourceFactory.getResource(transaction, TARGET_ID)).thenReturn(target);
+        when(transaction.isShortLived()).thenReturn(true);
+
+        doAnswer(invocation -> {
+            binaryContent.put(invocation.getArgument(2),
+                    IOUtils.toString((InputStream) invocation.getArgument(8), UTF_8));
+            binaryDigests.put(invocation.getArgument(2), invocation.getArgument(7));
+            return null;
+        }).when(createResourceService).perform(any(Transaction.class), isNull(), any(FedoraId.class), anyString(),
+                anyString(), anyLong(), isNull(), any(), any(InputStream.class), isNull());
+    }
+
+    @Test
+    public void testIngestZip() throws Exception {
+        final var archive = zip(
+                "a/", null,
+                "a/b.txt", "some text",
+                "a/b.txt.fcrepo.ttl", TITLE,
+                "c.fcrepo.ttl", TITLE,
+                "c/d.bin", "binary",
+                "empty/", null);
+
+        final var response = bulkIngest.ingest(BulkIngestArchive.ZIP_TYPE, archive);
+
+        final var entity = (Map<?, ?>) response.getEntity();
+        assertEquals(URI_BASE + "/target", entity.get("target"));
+        assertEquals(3, entity.get("containers"));
+        assertEquals(2, entity.get("binaries"));
+
+        assertEquals("some text", binaryContent.get(TARGET_ID.resolve("a/b.txt")));
+        assertEquals("binary", binaryContent.get(TARGET_ID.resolve("c/d.bin")));
+        verify(createResourceService).perform(any(Transaction.class), isNull(), eq(TARGET_ID.resolve("a/b.txt")),
+                eq("text/plain"), eq("b.txt"), anyLong(), isNull(), any(), any(InputStream.class), isNull());
+
+        final var models = new ArrayList<Model>();
+        final var containerModel = ArgumentCaptor.forClass(Model.class);
+        verify(createResourceService).perform(eq(transaction), isNull(), eq(TARGET_ID.resolve("a")), isNull(),
+                containerModel.capture());
+        assertTrue(containerModel.getValue().isEmpty());
+        verify(createResourceService).perform(eq(transaction), isNull(), eq(TARGET_ID.resolve("c")), isNull(),
+                containerModel.capture());
+        models.add(containerModel.getValue());
+        verify(createResourceService).perform(eq(transaction), isNull(), eq(TARGET_ID.resolve("empty")), isNull(),
+                any(Model.class));
+
+        final var descriptionModel = ArgumentCaptor.forClass(Model.class);
+        verify(replacePropertiesService).perform(eq(transaction), isNull(),
+                eq(TARGET_ID.resolve("a/b.txt").asDescription()), descriptionModel.capture());
+        models.add(descriptionModel.getValue());
+        models.forEach(model -> assertEquals(1, model.size()));
+
+        // the request's transaction is staged as a long-running one and committed
+        final var inOrder = inOrder(transaction, createResourceService);
+        inOrder.verify(transaction).setShortLived(false);
+        inOrder.verify(createResourceService).perform(any(Transaction.class), isNull(), any(FedoraId.class),
+                isNull(), any(Model.class));
+        inOrder.verify(transaction).commit();
+        inOrder.verify(transaction).setShortLived(true);
+        verify(transaction).releaseResourceLocksIfShortLived();
+    }
+
+    @Test
+    public void testIngestInLongRunningTransaction() throws Exception {
+        when(transaction.isShortLived()).thenReturn(false);
+        final var archive = zip("a/b.txt", "some text");
+
+        bulkIngest.ingest(BulkIngestArchive.ZIP_TYPE, archive);
+
+        assertEquals("some text", binaryContent.get(TARGET_ID.resolve("a/b.txt")));
+        verify(transaction, never()).setShortLived(anyBoolean());
+        verify(transaction, never()).commit();
+    }
+
+    @Test
+    public void testIngestFailureInLongRunningTransaction() throws Exception {
+        when(transaction.isShortLived()).thenReturn(false);
+        final var archive = zip("../escape.txt", "some text");
+
+        assertThrows(BadRequestException.class, () -> bulkIngest.ingest(BulkIngestArchive.ZIP_TYPE, archive));
+        verify(transaction).fail();
+        verify(transaction, never()).rollback();
+    }
+
+    @Test
+    public void testIngestBag() throws Exception {
+        final var archive = tar(
+                "bag/", null,
+                "bag/bagit.txt", "BagIt-Version: 1.0\n",
+                "bag/bag-info.txt", "Source-Organization: test\n",
+                "bag/manifest-md5.txt", "acbd18db4cc2f85cedef654fccc4a4d8  data/x/foo.txt\n",
+                "bag/data/x/foo.txt", "foo");
+
+        final var response = bulkIngest.ingest(BulkIngestArchive.TAR_TYPE, archive);
+
+        final var entity = (Map<?, ?>) response.getEntity();
+        assertEquals(1, entity.get("containers"));
+        assertEquals(1, entity.get("binaries"));
+        final var fooId = TARGET_ID.resolve("x/foo.txt");
+        assertEquals("foo", binaryContent.get(fooId));
+        assertEquals(List.of(URI.create("urn:md5:acbd18db4cc2f85cedef654fccc4a4d8")), binaryDigests.get(fooId));
+        verify(createResourceService, never()).perform(any(Transaction.class), isNull(),
+                eq(TARGET_ID.resolve("bag")), isNull(), any(Model.class));
+    }
+
+    @Test
+    public void testBagPayloadMissing() throws Exception {
+        final var archive = tar(
+                "bagit.txt", "BagIt-Version: 1.0\n",
+                "manifest-md5.txt", "acbd18db4cc2f85cedef654fccc4a4d8  data/foo.txt\n");
+
+        assertThrows(BadRequestException.class, () -> bulkIngest.ingest(BulkIngestArchive.TAR_TYPE, archive));
+        verify(transaction).rollback();
+        verify(transaction, never()).commit();
+    }
+
+    @Test
+    public void testExistingResource() throws Exception {
+        when(resourceHelper.doesResourceExist(transaction, TARGET_ID.resolve("a"), true)).thenReturn(true);
+        final var archive = zip("a/b.txt", "some text");
+
+        final var e = assertThrows(ClientErrorException.class,
+                () -> bulkIngest.ingest(BulkIngestArchive.ZIP_TYPE, archive));
+        assertEquals(409, e.getResponse().getStatus());
+        verify(transaction).rollback();
+        verify(transaction, never()).commit();
+    }
+
+    @Test
+    public void testEntryOutsideTarget() throws Exception {
+        final var archive = zip("../escape.txt", "some text");
+
+        assertThrows(BadRequestException.class, () -> bulkIngest.ingest(BulkIngestArchive.ZIP_TYPE, archive));
+        verify(transaction).rollback();
+    }
+
+    @Test
+    public void testUnsupportedArchiveType() {
+        assertThrows(NotSupportedException.class, () -> bulkIngest.ingest(MediaType.TEXT_PLAIN_TYPE,
+                new ByteArrayInputStream(new byte[0])));
+    }
+
+    private static InputStream zip(final String... entries) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (final var zip = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(entries[i]));
+                if (entries[i + 1] != null) {
+                    zip.write(entries[i + 1].getBytes(UTF_8));
+                }
+                zip.closeEntry();
+            }
+        }
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+
+    private static InputStream tar(final String... entries) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (final var tar = new TarArchiveOutputStream(bytes)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                final var entry = new TarArchiveEntry(entries[i]);
+                final var content = entries[i + 1] == null ? new byte[0] : entries[i + 1].getBytes(UTF_8);
+                entry.setSize(content.length);
+                tar.putArchiveEntry(entry);
+                tar.write(content);
+                tar.closeArchiveEntry();
+            }
+        }
+        return new ByteArrayInputStream(bytes.toByteArray());
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.http.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.BadRequestException;
+import jakarta.ws.rs.core.UriBuilder;
+
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.http.commons.api.rdf.HttpIdentifierConverter;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.services.FixityAuditService;
+import org.fcrepo.kernel.api.utils.FixityAuditResult;
+import org.fcrepo.kernel.api.utils.FixityAuditResult.Outcome;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author fcrepo
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class FedoraFixityAuditTest {
+
+    private static final String URI_BASE = "http://localhost:8080/rest";
+
+    @Mock
+    private FixityAuditService fixityAuditService;
+
+    @Mock
+    private FedoraPropsConfig fedoraPropsConfig;
+
+    private FedoraFixityAudit fixityAudit;
+
+    @BeforeEach
+    public void setUp() {
+        fixityAudit = new FedoraFixityAudit();
+        ReflectionTestUtils.setField(fixityAudit, "fixityAuditService", fixityAuditService);
+        ReflectionTestUtils.setField(fixityAudit, "fedoraPropsConfig", fedoraPropsConfig);
+        ReflectionTestUtils.setField(fixityAudit, "identifierConverter",
+                new HttpIdentifierConverter(UriBuilder.fromUri(URI_BASE + "/{path: .*}")));
+        when(fedoraPropsConfig.getFixityAuditInterval()).thenReturn(Duration.ofDays(30));
+    }
+
+    @Test
+    public void testFailures() {
+        final var checked = Instant.parse("2026-01-01T00:00:00Z");
+        when(fixityAuditService.getFailures(10, 5)).thenReturn(List.of(
+                new FixityAuditResult(FedoraId.create("binary"), Outcome.FAILURE, checked, 12L, "mismatch")));
+
+        final var response = fixityAudit.getAuditResults("failed", null, 10, 5);
+
+        final var entity = (Map<?, ?>) response.getEntity();
+        final var items = (List<?>) entity.get("items");
+        assertEquals(1, items.size());
+        final var item = (Map<?, ?>) items.getFirst();
+        assertEquals(URI_BASE + "/binary", item.get("fedora_id"));
+        assertEquals("FAILURE", item.get("outcome"));
+        assertEquals(checked.toString(), item.get("last_checked"));
+        assertEquals("mismatch", item.get("details"));
+    }
+
+    @Test
+    public void testStale() {
+        final var checkedBefore = "2026-01-01T00:00:00Z";
+        when(fixityAuditService.getStale(any(Instant.class), eq(100), eq(0))).thenReturn(List.of());
+
+        fixityAudit.getAuditResults("stale", checkedBefore, 100, 0);
+
+        verify(fixityAuditService).getStale(Instant.parse(checkedBefore), 100, 0);
+    }
+
+    @Test
+    public void testInvalidParameters() {
+        assertThrows(BadRequestException.class, () -> fixityAudit.getAuditResults("unknown", null, 100, 0));
+        assertThrows(BadRequestException.class, () -> fixityAudit.getAuditResults("stale", "yesterday", 100, 0));
+        assertThrows(BadRequestException.class, () -> fixityAudit.getAuditResults("failed", null, -1, 0));
+    }
+}
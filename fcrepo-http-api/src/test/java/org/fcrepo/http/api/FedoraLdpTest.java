@@ -22,6 +22,7 @@ import org.fcrepo.http.commons.api.rdf.HttpIdentifierConverter;
 import org.fcrepo.http.commons.domain.MultiPrefer;
 import org.fcrepo.http.commons.domain.PreferTag;
 import org.fcrepo.http.commons.responses.RdfNamespacedStream;
+import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.exception.CannotCreateResourceException;
 import org.fcrepo.kernel.api.exception.ExternalMessageBodyException;
@@ -67,6 +68,7 @@ import jakarta.ws.rs.core.EntityTag;
 import jakarta.ws.rs.core.HttpHeaders;
 import jakarta.ws.rs.core.Link;
 import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.Request;
 import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.SecurityContext;
@@ -115,12 +117,14 @@ import static org.fcrepo.kernel.api.FedoraTypes.FCR_METADATA;
 import static org.fcrepo.kernel.api.FedoraTypes.FEDORA_ID_PREFIX;
 import static org.fcrepo.kernel.api.RdfCollectors.toModel;
 import static org.fcrepo.kernel.api.RdfLexicon.BASIC_CONTAINER;
+import static org.fcrepo.kernel.api.RdfLexicon.CONTAINS;
 import static org.fcrepo.kernel.api.RdfLexicon.DIRECT_CONTAINER;
 import static org.fcrepo.kernel.api.RdfLexicon.EXTERNAL_CONTENT;
 import static org.fcrepo.kernel.api.RdfLexicon.FEDORA_NON_RDF_SOURCE_DESCRIPTION_URI;
 import static org.fcrepo.kernel.api.RdfLexicon.INBOUND_REFERENCES;
 import static org.fcrepo.kernel.api.RdfLexicon.INDIRECT_CONTAINER;
 import static org.fcrepo.kernel.api.RdfLexicon.NON_RDF_SOURCE;
+import static org.fcrepo.kernel.api.RdfLexicon.PAGE;
 import static org.fcrepo.kernel.api.RdfLexicon.RDF_SOURCE;
 import static org.fcrepo.kernel.api.RdfLexicon.RESOURCE;
 import static org.fcrepo.kernel.api.RdfLexicon.VERSIONED_RESOURCE;
@@ -133,6 +137,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isNull;
@@ -242,6 +247,9 @@ public class FedoraLdpTest {
     @Mock
     private EtagService etagService;
 
+    @Mock
+    private ContainmentIndex containmentIndex;
+
     @Mock
     private FedoraPropsConfig fedoraPropsConfig;
 
@@ -284,6 +292,7 @@ public class FedoraLdpTest {
         setField(testObj, "updatePropertiesService", updatePropertiesService);
         setField(testObj, "resourceHelper", resourceHelper);
         setField(testObj, "etagService", etagService);
+        setField(testObj, "containmentIndex", containmentIndex);
         setField(testObj, "dbTransactionExecutor", new DbTransactionExecutor());
         setField(testObj, "ocflPropsConfig", ocflPropsConfig);
 
@@ -687,6 +696,82 @@ public class FedoraLdpTest {
         }
     }
 
+    @Test
+    public void testGetContainerPage() throws Exception {
+        final var resource = setResource(Container.class);
+        setField(testObj, "externalPath", path);
+        when(mockRequest.getMethod()).thenReturn("GET");
+        final var queryParams = new MultivaluedHashMap<String, String>();
+        queryParams.putSingle(ContainerPage.PAGE_SIZE_PARAM, "2");
+        final var uriInfo = getUriInfoImpl();
+        when(uriInfo.getQueryParameters()).thenReturn(queryParams);
+        setField(testObj, "uriInfo", uriInfo);
+        final var children = List.of(pathId.resolve("a").getFullId(), pathId.resolve("b").getFullId(),
+                pathId.resolve("c").getFullId());
+        when(containmentIndex.getContainsPage(any(Transaction.class), eq(pathId), isNull(), eq(3)))
+                .thenReturn(children);
+        when(etagService.getRdfResourceEtag(nullable(Transaction.class), any(FedoraResource.class),
+                nullable(LdpTriplePreferences.class), any(), eq("|2"))).thenReturn("pageetag");
+
+        final Response actual = testObj.getResource(null, false);
+        assertEquals(OK.getStatusCode(), actual.getStatus());
+        assertTrue(mockResponse.getHeaders("ETag").contains("W/\"pageetag\""));
+        final var links = mockResponse.getHeaders(LINK);
+        assertTrue(links.contains(buildLink(PAGE.getURI(), "type")), "Should be an LDP Page");
+        assertTrue(links.contains(buildLink("http://localhost/fcrepo?ldp-page-size=2", "first")));
+        assertTrue(links.contains(buildLink("http://localhost/fcrepo?ldp-page-after=" +
+                ContainerPage.encodeCursor(children.get(1)) + "&ldp-page-size=2", "next")));
+
+        try (final RdfNamespacedStream entity = (RdfNamespacedStream) actual.getEntity()) {
+            final Model model = entity.stream.collect(toModel());
+            assertEquals(2, model.listObjectsOfProperty(model.createProperty(CONTAINS.getURI())).toList().size());
+            assertTrue(model.listObjects().mapWith(RDFNode::toString).toList().contains("PROPERTIES"));
+        }
+        // containment is only added for the children in the page
+        verify(resourceTripleService).getResourceTriples(any(Transaction.class), eq(resource),
+                argThat(prefs -> !prefs.displayContainment()), eq(-1));
+    }
+
+    @Test
+    public void testGetContainerLastPage() throws Exception {
+        setResource(Container.class);
+        setField(testObj, "externalPath", path);
+        when(mockRequest.getMethod()).thenReturn("GET");
+        final var after = pathId.resolve("b").getFullId();
+        final var queryParams = new MultivaluedHashMap<String, String>();
+        queryParams.putSingle(ContainerPage.PAGE_AFTER_PARAM, ContainerPage.encodeCursor(after));
+        queryParams.putSingle(ContainerPage.PAGE_SIZE_PARAM, "2");
+        final var uriInfo = getUriInfoImpl();
+        when(uriInfo.getQueryParameters()).thenReturn(queryParams);
+        setField(testObj, "uriInfo", uriInfo);
+        when(containmentIndex.getContainsPage(any(Transaction.class), eq(pathId), eq(after), eq(3)))
+                .thenReturn(List.of(pathId.resolve("c").getFullId()));
+        when(etagService.getRdfResourceEtag(nullable(Transaction.class), any(FedoraResource.class),
+                nullable(LdpTriplePreferences.class), any(), anyString())).thenReturn("pageetag");
+
+        final Response actual = testObj.getResource(null, false);
+        assertEquals(OK.getStatusCode(), actual.getStatus());
+        assertTrue(mockResponse.getHeaders(LINK).stream().noneMatch(l -> l.contains("rel=\"next\"")));
+
+        try (final RdfNamespacedStream entity = (RdfNamespacedStream) actual.getEntity()) {
+            final Model model = entity.stream.collect(toModel());
+            // later pages only hold the containment of their children
+            assertEquals(1, model.size());
+        }
+    }
+
+    @Test
+    public void testGetContainerPageInvalidCursor() {
+        setResource(Container.class);
+        when(mockRequest.getMethod()).thenReturn("GET");
+        final var queryParams = new MultivaluedHashMap<String, String>();
+        queryParams.putSingle(ContainerPage.PAGE_AFTER_PARAM, "not*base64");
+        final var uriInfo = getUriInfoImpl();
+        when(uriInfo.getQueryParameters()).thenReturn(queryParams);
+        setField(testObj, "uriInfo", uriInfo);
+        assertThrows(ClientErrorException.class, () -> testObj.getResource(null, false));
+    }
+
     @Test
     public void testGetWithObject() throws Exception {
         setResource(Container.class);
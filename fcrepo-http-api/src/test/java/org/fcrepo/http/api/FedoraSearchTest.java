@@ -93,6 +93,18 @@ public class FedoraSearchTest {
         }
     }
 
+    @Test
+    public void testPropertyConditionReferringToResource() throws InvalidConditionExpressionException {
+        final var property = "http://purl.org/dc/terms/isPartOf";
+        final var con = FedoraSearch.parse("<" + property + ">=" + uriBase + "/test", converter);
+        assertEquals(property, con.getProperty());
+        assertEquals(EQ, con.getOperator());
+        assertEquals("info:fedora/test", con.getObject());
+
+        final var external = FedoraSearch.parse("<" + property + ">=http://example.org/test", converter);
+        assertEquals("http://example.org/test", external.getObject());
+    }
+
     @Test
     public void testInvalidOperators() {
         final var conditions = new String[]{
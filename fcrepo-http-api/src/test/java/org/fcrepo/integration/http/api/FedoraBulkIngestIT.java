@@ -0,0 +1,94 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.integration.http.api;
+
+import static jakarta.ws.rs.core.Response.Status.CONFLICT;
+import static jakarta.ws.rs.core.Response.Status.NOT_FOUND;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.fcrepo.kernel.api.ContainmentIndex;
+import org.fcrepo.kernel.api.ReadOnlyTransaction;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestExecutionListeners;
+
+/**
+ * @author fcrepo
+ */
+@TestExecutionListeners(
+        listeners = { TestIsolationExecutionListener.class },
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+public class FedoraBulkIngestIT extends AbstractResourceIT {
+
+    private static final ContentType TAR = ContentType.create("application/x-tar");
+
+    @Test
+    public void testIngest() throws IOException {
+        final var id = getRandomUniqueId();
+        createObjectAndClose(id);
+
+        final var post = new HttpPost(serverAddress + id + "/fcr:ingest");
+        post.setEntity(new ByteArrayEntity(tar("a/b.txt", "some text", "c/d.txt", "more text"), TAR));
+        assertEquals(OK.getStatusCode(), getStatus(post));
+
+        assertEquals(OK.getStatusCode(), getStatus(getObjMethod(id + "/a/b.txt")));
+        assertEquals(OK.getStatusCode(), getStatus(getObjMethod(id + "/c/d.txt")));
+        assertTrue(containmentIndex().resourceExists(ReadOnlyTransaction.INSTANCE,
+                FedoraId.create(id + "/c/d.txt"), false));
+    }
+
+    @Test
+    public void testFailedIngestLeavesNoIndexEntries() throws IOException {
+        final var id = getRandomUniqueId();
+        createObjectAndClose(id);
+
+        // the last entry conflicts with the first one, after other resources were created
+        final var post = new HttpPost(serverAddress + id + "/fcr:ingest");
+        post.setEntity(new ByteArrayEntity(tar("a/b.txt", "some text", "c/d.txt", "more text", "a/b.txt/", null),
+                TAR));
+        assertEquals(CONFLICT.getStatusCode(), getStatus(post));
+
+        assertEquals(NOT_FOUND.getStatusCode(), getStatus(getObjMethod(id + "/a")));
+        assertEquals(NOT_FOUND.getStatusCode(), getStatus(getObjMethod(id + "/c/d.txt")));
+        final var containmentIndex = containmentIndex();
+        final var tx = ReadOnlyTransaction.INSTANCE;
+        assertEquals(0, containmentIndex.getContains(tx, FedoraId.create(id)).count());
+        for (final var path : new String[]{"/a", "/a/b.txt", "/c", "/c/d.txt"}) {
+            assertFalse(containmentIndex.resourceExists(tx, FedoraId.create(id + path), true));
+        }
+    }
+
+    private ContainmentIndex containmentIndex() {
+        return getBean("containmentIndex", ContainmentIndex.class);
+    }
+
+    private static byte[] tar(final String... entries) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        try (final var tar = new TarArchiveOutputStream(bytes)) {
+            for (int i = 0; i < entries.length; i += 2) {
+                final var entry = new TarArchiveEntry(entries[i]);
+                final var content = entries[i + 1] == null ? new byte[0] : entries[i + 1].getBytes(UTF_8);
+                entry.setSize(content.length);
+                tar.putArchiveEntry(entry);
+                tar.write(content);
+                tar.closeArchiveEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
@@ -68,6 +68,7 @@ import jakarta.ws.rs.core.UriBuilder;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.net.URLDecoder;
 import java.nio.file.Path;
 import java.time.Duration;
 import java.time.Instant;
@@ -252,6 +253,59 @@ public class FedoraVersioningIT extends AbstractResourceIT {
         verifyTimemapResponse(subjectUri, new String[]{v1, v2, v3}, v1, v3);
     }
 
+    @Test
+    public void getTimeMapInPages() throws Exception {
+        final var v1 = now();
+        createVersionedBinary(id, OCTET_STREAM_TYPE, "v1");
+        TimeUnit.SECONDS.sleep(1);
+
+        final var v2 = now();
+        putVersionedBinary(id, OCTET_STREAM_TYPE, "v2", true);
+        TimeUnit.SECONDS.sleep(1);
+
+        final var v3 = now();
+        putVersionedBinary(id, OCTET_STREAM_TYPE, "v3", true);
+
+        // the first page links to the next one
+        final var firstPage = getTimeMapLinks(subjectUri + "/" + FCR_VERSIONS + "?max_results=2");
+        assertEquals(List.of(v1, v2), getMementoDatetimes(firstPage));
+        final var next = firstPage.stream().filter(link -> "next".equals(link.getRel())).findFirst().orElseThrow();
+        assertEquals("from=" + v3 + "&max_results=2", URLDecoder.decode(next.getUri().getRawQuery(), UTF_8));
+
+        // the last page does not
+        final var lastPage = getTimeMapLinks(next.getUri().toString());
+        assertEquals(List.of(v3), getMementoDatetimes(lastPage));
+        assertTrue(lastPage.stream().noneMatch(link -> "next".equals(link.getRel())));
+
+        // the Limit header does not page the TimeMap
+        final var limited = new HttpGet(subjectUri + "/" + FCR_VERSIONS);
+        limited.setHeader("Limit", "1");
+        assertEquals(List.of(v1, v2, v3), getMementoDatetimes(getTimeMapLinks(limited)));
+
+        final var invalid = new HttpGet(subjectUri + "/" + FCR_VERSIONS + "?max_results=0");
+        invalid.setHeader("Accept", APPLICATION_LINK_FORMAT);
+        assertEquals(BAD_REQUEST.getStatusCode(), getStatus(invalid));
+    }
+
+    private List<Link> getTimeMapLinks(final String timeMapUri) throws IOException {
+        return getTimeMapLinks(new HttpGet(timeMapUri));
+    }
+
+    private List<Link> getTimeMapLinks(final HttpGet httpGet) throws IOException {
+        httpGet.setHeader("Accept", APPLICATION_LINK_FORMAT);
+        try (final CloseableHttpResponse response = execute(httpGet)) {
+            assertEquals(OK.getStatusCode(), getStatus(response));
+            return Arrays.stream(EntityUtils.toString(response.getEntity()).split("," + System.lineSeparator()))
+                    .map(String::trim).filter(link -> !link.isEmpty())
+                    .map(Link::valueOf).toList();
+        }
+    }
+
+    private static List<String> getMementoDatetimes(final List<Link> links) {
+        return links.stream().filter(link -> "memento".equals(link.getRel()))
+                .map(link -> link.getParams().get("datetime")).toList();
+    }
+
     @Test
     public void getTimeMapFromAgWithChildrenWithDifferentVersions() throws Exception {
         final var childId1 = id + "/child1";
@@ -1541,8 +1595,8 @@ public class FedoraVersioningIT extends AbstractResourceIT {
         // The set of mementos might have changed after delete, depending on if it happened the same second as create
         final List<String> mementosAfterDelete = getMementos(id);
         assertTrue(mementosAfterDelete.size() == 1 || mementosAfterDelete.size() == 2);
-        // The last memento should be gone
-        final HttpGet getDeletedMemento = new HttpGet(mementosAfterDelete.getLast());
+        // The last memento should be gone, memento labels sort in datetime order
+        final HttpGet getDeletedMemento = new HttpGet(mementosAfterDelete.stream().sorted().toList().getLast());
         assertEquals(GONE.getStatusCode(), getStatus(getDeletedMemento));
     }
 
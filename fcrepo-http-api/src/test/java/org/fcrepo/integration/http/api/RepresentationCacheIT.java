@@ -0,0 +1,95 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.integration.http.api;
+
+import static jakarta.ws.rs.core.Response.Status.NO_CONTENT;
+import static org.apache.jena.graph.Node.ANY;
+import static org.apache.jena.graph.NodeFactory.createURI;
+import static org.fcrepo.kernel.api.RdfLexicon.EMBED_CONTAINED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.entity.StringEntity;
+import org.apache.jena.graph.Node;
+import org.fcrepo.http.commons.responses.RepresentationCache;
+import org.fcrepo.http.commons.test.util.CloseableDataset;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.context.TestExecutionListeners;
+
+import com.google.common.eventbus.EventBus;
+
+/**
+ * @author fcrepo
+ */
+@TestExecutionListeners(
+        listeners = { TestIsolationExecutionListener.class },
+        mergeMode = TestExecutionListeners.MergeMode.MERGE_WITH_DEFAULTS)
+public class RepresentationCacheIT extends AbstractResourceIT {
+
+    private static final Node DC_TITLE = createURI("http://purl.org/dc/elements/1.1/title");
+
+    private RepresentationCache representationCache;
+
+    @BeforeEach
+    public void enableCache() {
+        representationCache = getBean(RepresentationCache.class);
+        propsConfig.setRepresentationCacheEnabled(true);
+        representationCache.setUp();
+    }
+
+    @AfterEach
+    public void disableCache() {
+        representationCache.tearDown();
+        propsConfig.setRepresentationCacheEnabled(false);
+        representationCache.setUp();
+    }
+
+    @Test
+    public void testEmbeddedChildChangeIsVisibleImmediately() throws IOException {
+        final var parentId = getRandomUniqueId();
+        final var childId = parentId + "/child";
+        createObjectAndClose(parentId);
+        createObjectAndClose(childId);
+        setTitle(childId, "first");
+
+        // the cache is invalidated by events delivered asynchronously: hold them back, as if the parent was
+        // requested right after the change of its child, before its event reached the cache
+        getBean(EventBus.class).unregister(representationCache);
+        try {
+            assertEmbeddedTitle(parentId, childId, "first");
+            setTitle(childId, "second");
+            assertEmbeddedTitle(parentId, childId, "second");
+        } finally {
+            getBean(EventBus.class).register(representationCache);
+        }
+    }
+
+    private void assertEmbeddedTitle(final String parentId, final String childId, final String title)
+            throws IOException {
+        final var get = new HttpGet(serverAddress + parentId);
+        get.addHeader("Prefer", "return=representation; include=\"" + EMBED_CONTAINED.getURI() + "\"");
+        try (final CloseableDataset dataset = getDataset(get)) {
+            final var titles = new ArrayList<String>();
+            dataset.asDatasetGraph().find(ANY, createURI(serverAddress + childId), DC_TITLE, ANY)
+                    .forEachRemaining(quad -> titles.add(quad.getObject().getLiteralLexicalForm()));
+            assertEquals(List.of(title), titles);
+        }
+    }
+
+    private void setTitle(final String id, final String title) throws IOException {
+        final var patch = patchObjMethod(id);
+        patch.addHeader("Content-Type", "application/sparql-update");
+        patch.setEntity(new StringEntity("PREFIX dc: <http://purl.org/dc/elements/1.1/> " +
+                "DELETE WHERE { <> dc:title ?t } ; INSERT DATA { <> dc:title \"" + title + "\" }"));
+        assertEquals(NO_CONTENT.getStatusCode(), getStatus(patch));
+    }
+}
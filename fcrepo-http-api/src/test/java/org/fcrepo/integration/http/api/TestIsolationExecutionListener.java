@@ -9,6 +9,7 @@ import io.ocfl.api.MutableOcflRepository;
 import org.apache.commons.io.FileUtils;
 import org.fcrepo.config.OcflPropsConfig;
 import org.fcrepo.kernel.api.RepositoryInitializationStatus;
+import org.fcrepo.kernel.api.cache.ResourceHeadersCache;
 import org.fcrepo.persistence.ocfl.RepositoryInitializer;
 import org.flywaydb.core.Flyway;
 import org.springframework.test.context.TestContext;
@@ -34,6 +35,7 @@ public class TestIsolationExecutionListener extends BaseTestExecutionListener {
         final var flyway = getBean(testContext, Flyway.class);
         final var initializer = getBean(testContext, RepositoryInitializer.class);
         final var status = getBean(testContext, RepositoryInitializationStatus.class);
+        final var headersCache = getBean(testContext, ResourceHeadersCache.class);
 
         // must wait for the initialization to finish
         int i = 0;
@@ -74,6 +76,9 @@ public class TestIsolationExecutionListener extends BaseTestExecutionListener {
             }
         }
 
+        // the purged resources must not be served from the cache
+        headersCache.invalidateAll();
+
         initializer.initialize();
     }
 }
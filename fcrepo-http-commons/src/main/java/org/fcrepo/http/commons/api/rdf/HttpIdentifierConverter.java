@@ -10,6 +10,7 @@ import static org.fcrepo.kernel.api.FedoraTypes.FEDORA_ID_PREFIX;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import jakarta.ws.rs.core.UriBuilder;
@@ -35,8 +36,31 @@ public class HttpIdentifierConverter {
 
     private final UriTemplate uriTemplate;
 
+    /**
+     * Number of translated internal identifiers remembered by each converter. A converter lives for a single request,
+     * so this bounds the memory held while serializing responses which mention many resources.
+     */
+    static final int EXTERNAL_ID_CACHE_SIZE = 1024;
+
+    /**
+     * The external URI of the repository root, which every external URI without a fragment or characters needing
+     * encoding extends with its path. Null if the template cannot be resolved by concatenation.
+     */
+    private final String externalPrefix;
+
+    private final Map<String, String> externalIds = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, String> eldest) {
+            return size() > EXTERNAL_ID_CACHE_SIZE;
+        }
+    };
+
     private static String trimTrailingSlashes(final String string) {
-        return string.replaceAll("/+$", "");
+        int end = string.length();
+        while (end > 0 && string.charAt(end - 1) == '/') {
+            end--;
+        }
+        return string.substring(0, end);
     }
 
     /**
@@ -46,6 +70,17 @@ public class HttpIdentifierConverter {
     public HttpIdentifierConverter(final UriBuilder uriBuilder) {
         this.uriBuilder = uriBuilder;
         this.uriTemplate = new UriTemplate(uriBuilder.toTemplate());
+        this.externalPrefix = findExternalPrefix();
+    }
+
+    /**
+     * Resolve the template with an empty path, keeping the result only if the template places the path at its end
+     * so that other paths can be appended to it.
+     */
+    private String findExternalPrefix() {
+        final var probe = "a/b:c";
+        final var prefix = buildUri("");
+        return buildUri(probe).equals(prefix + probe) ? prefix : null;
     }
 
     /**
@@ -123,14 +158,56 @@ public class HttpIdentifierConverter {
     public String toExternalId(final String fedoraId) {
         LOGGER.trace("Translating Fedora ID {} to Http URI", fedoraId);
         if (inInternalDomain(fedoraId)) {
-            // If it starts with our prefix, strip the prefix and any leading slashes and use it as the path
+            synchronized (externalIds) {
+                final var cached = externalIds.get(fedoraId);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+            // If it starts with our prefix, strip the prefix and the first slash and use it as the path
             // part of the URI.
-            final String path = fedoraId.substring(FEDORA_ID_PREFIX.length()).replaceFirst("/", "");
-            return buildUri(path);
+            final var path = new StringBuilder(fedoraId).delete(0, FEDORA_ID_PREFIX.length());
+            final int slash = path.indexOf("/");
+            if (slash >= 0) {
+                path.deleteCharAt(slash);
+            }
+            final var externalId = externalPrefix != null && isEncodedPath(path) ?
+                    externalPrefix + path : buildUri(path.toString());
+            synchronized (externalIds) {
+                externalIds.put(fedoraId, externalId);
+            }
+            return externalId;
         }
         throw new IllegalArgumentException("Cannot translate IDs without our prefix");
     }
 
+    /**
+     * Test whether a path holds only characters which may appear unencoded in the path of a URI, so the
+     * UriBuilder would leave it unchanged.
+     *
+     * @param path the path
+     * @return true if the path needs no encoding
+     */
+    private static boolean isEncodedPath(final CharSequence path) {
+        for (int i = 0; i < path.length(); i++) {
+            final char c = path.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') ||
+                    "-._~!$&'()*+,;=:@/".indexOf(c) >= 0) {
+                continue;
+            }
+            if (c == '%' && i + 2 < path.length() && isHex(path.charAt(i + 1)) && isHex(path.charAt(i + 2))) {
+                i += 2;
+                continue;
+            }
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isHex(final char c) {
+        return (c >= '0' && c <= '9') || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+    }
+
     /**
      * Check if the provided internal identifier is in the domain of the repository.
      *
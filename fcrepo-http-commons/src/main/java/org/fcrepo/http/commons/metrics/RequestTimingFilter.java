@@ -0,0 +1,50 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.http.commons.metrics;
+
+import java.io.IOException;
+
+import jakarta.inject.Inject;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+
+import org.fcrepo.common.metrics.RequestTimings;
+import org.fcrepo.config.MetricsConfig;
+
+/**
+ * Times the phases of each request, from its authorization to the serialization of its response, when metrics or
+ * the Server-Timing header are enabled. Mapped before the other filters, so that their phases are included.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class RequestTimingFilter implements Filter {
+
+    @Inject
+    private MetricsConfig metricsConfig;
+
+    @Override
+    public void doFilter(final ServletRequest request, final ServletResponse response, final FilterChain chain)
+            throws IOException, ServletException {
+        if (!metricsConfig.isMetricsEnabled() && !metricsConfig.isServerTimingEnabled()) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        if (metricsConfig.isServerTimingEnabled()) {
+            request.setAttribute(ServerTimingProvider.SERVER_TIMING_ENABLED, Boolean.TRUE);
+        }
+        final var timings = RequestTimings.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            timings.end();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.http.commons.metrics;
+
+import static org.fcrepo.common.metrics.RequestTimings.Phase.SERIALIZE;
+
+import java.io.IOException;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.container.ContainerResponseFilter;
+import jakarta.ws.rs.ext.Provider;
+import jakarta.ws.rs.ext.WriterInterceptor;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.fcrepo.common.metrics.RequestTimings;
+
+/**
+ * Adds the phases timed by the {@link RequestTimingFilter} to the Server-Timing header of the responses it enabled
+ * the header for, and times the serialization of response bodies.
+ *
+ * The header is written before the body, so the serialization of a response is only included in the metrics.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@Provider
+public class ServerTimingProvider implements ContainerResponseFilter, WriterInterceptor {
+
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    /**
+     * Attribute of the requests whose responses carry a Server-Timing header
+     */
+    public static final String SERVER_TIMING_ENABLED = ServerTimingProvider.class.getName() + ".enabled";
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+        final var timings = RequestTimings.current();
+        if (timings == null || requestContext.getProperty(SERVER_TIMING_ENABLED) == null) {
+            return;
+        }
+        final var serverTiming = timings.toServerTiming();
+        if (!serverTiming.isEmpty()) {
+            responseContext.getHeaders().add(SERVER_TIMING, serverTiming);
+        }
+    }
+
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+        final var started = RequestTimings.enter(SERIALIZE);
+        try {
+            context.proceed();
+        } finally {
+            RequestTimings.exit(SERIALIZE, started);
+        }
+    }
+}
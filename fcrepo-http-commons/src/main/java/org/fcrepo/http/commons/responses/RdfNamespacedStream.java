@@ -23,6 +23,8 @@ public class RdfNamespacedStream implements AutoCloseable {
 
     public final Map<String, String> namespaces;
 
+    private RepresentationCache.Key cacheKey;
+
     /**
      * Creates an object to hold an RdfStream and an associated namespace mapping.
      *
@@ -36,6 +38,20 @@ public class RdfNamespacedStream implements AutoCloseable {
         this.namespaces = namespaces;
     }
 
+    /**
+     * @return the key to cache the serialized stream under, or null if it may not be cached
+     */
+    public RepresentationCache.Key getCacheKey() {
+        return cacheKey;
+    }
+
+    /**
+     * @param cacheKey the key to cache the serialized stream under
+     */
+    public void setCacheKey(final RepresentationCache.Key cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+
     @Override
     public void close() {
         stream.close();
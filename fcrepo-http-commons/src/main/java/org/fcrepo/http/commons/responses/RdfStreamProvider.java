@@ -17,6 +17,7 @@ import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN;
 
 import org.slf4j.Logger;
 import org.fcrepo.kernel.api.rdf.RdfNamespaceRegistry;
+import java.io.IOException;
 import java.io.OutputStream;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
@@ -42,6 +43,9 @@ public class RdfStreamProvider implements MessageBodyWriter<RdfNamespacedStream>
     @Inject
     private RdfNamespaceRegistry registry;
 
+    @Inject
+    private RepresentationCache representationCache;
+
     @Override
     public boolean isWriteable(final Class<?> type, final Type genericType,
             final Annotation[] annotations, final MediaType mediaType) {
@@ -74,7 +78,27 @@ public class RdfStreamProvider implements MessageBodyWriter<RdfNamespacedStream>
         final Type genericType, final Annotation[] annotations,
         final MediaType mediaType,
         final MultivaluedMap<String, Object> httpHeaders,
-        final OutputStream entityStream) {
+        final OutputStream entityStream) throws IOException {
+        final var cacheKey = nsStream.getCacheKey();
+        if (cacheKey == null || representationCache == null || !representationCache.isEnabled()) {
+            write(nsStream, mediaType, entityStream);
+            return;
+        }
+        final var key = cacheKey.withMediaType(mediaType);
+        final byte[] cached = representationCache.get(key);
+        if (cached != null) {
+            LOGGER.debug("Writing cached representation {}", key);
+            nsStream.close();
+            entityStream.write(cached);
+            return;
+        }
+        final var capture = representationCache.capture(key, entityStream);
+        write(nsStream, mediaType, capture);
+        capture.commit();
+    }
+
+    private void write(final RdfNamespacedStream nsStream, final MediaType mediaType,
+                       final OutputStream entityStream) {
         LOGGER.debug("Serializing an RdfStream to mimeType: {}", mediaType);
         final var namespaces = registry.getNamespaces();
         nsStream.namespaces.entrySet().stream().filter(entry -> !namespaces.containsValue(entry.getValue()))
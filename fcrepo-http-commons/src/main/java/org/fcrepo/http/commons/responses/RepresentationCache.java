@@ -0,0 +1,291 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.http.commons.responses;
+
+import static org.fcrepo.kernel.api.FedoraTypes.FEDORA_ID_PREFIX;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.ws.rs.core.MediaType;
+
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.observer.Event;
+
+import org.slf4j.Logger;
+import org.springframework.stereotype.Component;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.eventbus.AllowConcurrentEvents;
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * In memory cache of serialized RDF representations, so repeated requests for popular resources are answered
+ * without reading and serializing them again. Representations are identified by the resource, the etag of the
+ * request, which reflects the state of the resource and the preferences of the request, the media type and the
+ * request options changing the content.
+ *
+ * Representations of a resource, and of the containers which may embed it, are dropped when an event is published
+ * for the resource.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@Component
+public class RepresentationCache {
+
+    private static final Logger LOGGER = getLogger(RepresentationCache.class);
+
+    private static final String METRIC_NAME = "fcrepo.cache.representations";
+
+    private static final Counter hitCounter = Metrics.counter(METRIC_NAME, "result", "hit");
+
+    private static final Counter missCounter = Metrics.counter(METRIC_NAME, "result", "miss");
+
+    private static final Counter bytesSavedCounter = Metrics.counter(METRIC_NAME + ".bytes.saved");
+
+    /**
+     * Identifies a representation of a resource
+     */
+    public static class Key {
+
+        private final String baseId;
+
+        private final String variant;
+
+        /**
+         * @param fedoraId the resource
+         * @param variant the values identifying the representation among the others of the resource
+         */
+        public Key(final FedoraId fedoraId, final String variant) {
+            this(fedoraId.getBaseId(), fedoraId.getFullId() + "|" + variant);
+        }
+
+        private Key(final String baseId, final String variant) {
+            this.baseId = baseId;
+            this.variant = variant;
+        }
+
+        /**
+         * @param mediaType the media type the representation is serialized to
+         * @return the key of the representation serialized to the media type
+         */
+        public Key withMediaType(final MediaType mediaType) {
+            return new Key(baseId, variant + "|" + mediaType);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof Key && ((Key) o).variant.equals(variant);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(variant);
+        }
+
+        @Override
+        public String toString() {
+            return variant;
+        }
+    }
+
+    @Inject
+    private FedoraPropsConfig fedoraPropsConfig;
+
+    @Inject
+    private EventBus eventBus;
+
+    // Representations grouped by their resource, so that events drop all representations of a resource at once
+    private Cache<String, Map<Key, byte[]>> cache;
+
+    private boolean enabled;
+
+    private long maxEntrySize;
+
+    // Incremented by every invalidation, so representations written while one happened are not cached
+    private long version;
+
+    @PostConstruct
+    public void setUp() {
+        enabled = fedoraPropsConfig.isRepresentationCacheEnabled();
+        maxEntrySize = Math.min(fedoraPropsConfig.getRepresentationCacheEntrySize(), Integer.MAX_VALUE);
+        cache = CacheBuilder.newBuilder()
+                .maximumWeight(fedoraPropsConfig.getRepresentationCacheSize())
+                .weigher((final String id, final Map<Key, byte[]> variants) -> (int) Math.min(Integer.MAX_VALUE,
+                        variants.values().stream().mapToLong(body -> body.length).sum()))
+                .expireAfterAccess(fedoraPropsConfig.getRepresentationCacheTimeout(), TimeUnit.MINUTES)
+                .build();
+        if (enabled) {
+            eventBus.register(this);
+        }
+    }
+
+    @PreDestroy
+    public void tearDown() {
+        if (enabled) {
+            eventBus.unregister(this);
+        }
+    }
+
+    /**
+     * @return true if representations may be cached
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Get a cached representation.
+     *
+     * @param key the representation
+     * @return the serialized representation, or null if it is not cached
+     */
+    public byte[] get(final Key key) {
+        final var variants = cache.getIfPresent(key.baseId);
+        final var body = variants == null ? null : variants.get(key);
+        if (body == null) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+        bytesSavedCounter.increment(body.length);
+        return body;
+    }
+
+    /**
+     * Wrap the stream a representation is written to, so that the representation is cached once it has been written
+     * completely.
+     *
+     * @param key the representation
+     * @param out the stream the representation is written to
+     * @return the stream to write the representation to
+     */
+    public CapturingOutputStream capture(final Key key, final OutputStream out) {
+        return new CapturingOutputStream(key, out);
+    }
+
+    private void put(final Key key, final byte[] body, final long writeVersion) {
+        // Replace the map of variants rather than changing it, so that the cache weighs it again
+        synchronized (cache) {
+            if (writeVersion != version) {
+                return;
+            }
+            final var existing = cache.getIfPresent(key.baseId);
+            final Map<Key, byte[]> variants = new HashMap<>();
+            if (existing != null) {
+                variants.putAll(existing);
+            }
+            variants.put(key, body);
+            cache.put(key.baseId, Map.copyOf(variants));
+        }
+    }
+
+    /**
+     * Drop the representations of a resource and of the containers which may embed it.
+     *
+     * @param fedoraId the resource
+     */
+    public void invalidate(final FedoraId fedoraId) {
+        var id = fedoraId.getBaseId();
+        synchronized (cache) {
+            version++;
+            while (id.length() > FEDORA_ID_PREFIX.length()) {
+                cache.invalidate(id);
+                id = id.substring(0, Math.max(id.lastIndexOf('/'), FEDORA_ID_PREFIX.length()));
+            }
+            cache.invalidate(id);
+        }
+    }
+
+    /**
+     * Drop the representations affected by a change to the repository.
+     *
+     * @param event the event published for the change
+     */
+    @Subscribe
+    @AllowConcurrentEvents
+    public void onEvent(final Event event) {
+        LOGGER.trace("Dropping cached representations for {}", event.getFedoraId());
+        invalidate(event.getFedoraId());
+    }
+
+    /**
+     * Stream writing a representation through to the response while keeping a copy of it, up to the largest size of
+     * a cached representation.
+     */
+    public class CapturingOutputStream extends OutputStream {
+
+        private final Key key;
+
+        private final OutputStream out;
+
+        private final long writeVersion;
+
+        private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+        private CapturingOutputStream(final Key key, final OutputStream out) {
+            this.key = key;
+            this.out = out;
+            synchronized (cache) {
+                this.writeVersion = version;
+            }
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            out.write(b);
+            if (copy != null) {
+                copy.write(b);
+                checkSize();
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            out.write(b, off, len);
+            if (copy != null) {
+                copy.write(b, off, len);
+                checkSize();
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        private void checkSize() {
+            if (copy.size() > maxEntrySize) {
+                copy = null;
+            }
+        }
+
+        /**
+         * Cache the representation, which must have been written completely.
+         */
+        public void commit() {
+            if (copy != null) {
+                put(key, copy.toByteArray(), writeVersion);
+                copy = null;
+            }
+        }
+    }
+}
@@ -11,6 +11,8 @@ import static org.fcrepo.kernel.api.FedoraTypes.FCR_VERSIONS;
 import static org.fcrepo.kernel.api.FedoraTypes.FEDORA_ID_PREFIX;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -340,6 +342,41 @@ public class HttpIdentifierConverterTest {
         assertEquals(uriBase + testUri, converter.toDomain(testUri));
     }
 
+    @Test
+    public void testToExternalIdMatchesUriBuilder() {
+        final String[] paths = {"", "a", "a/b/c", "a:b@c", "a%20b", "a b", "a%2", "a%zz", "a?b=c", "a[1]", "caf\u00e9",
+            "a#hash", "a/fcr:metadata", "a/fcr:versions/20200101000000", "a//b", "a;b=c,d", "~a-b_c.d"};
+        for (final String path : paths) {
+            final String expected = UriBuilder.fromUri(uriTemplate).resolveTemplateFromEncoded("path", path)
+                    .build().toString();
+            if (path.contains("#")) {
+                assertEquals(uriBase + "/a#hash", converter.toExternalId(FEDORA_ID_PREFIX + "/" + path));
+            } else {
+                assertEquals(expected, converter.toExternalId(FEDORA_ID_PREFIX + "/" + path), path);
+            }
+        }
+    }
+
+    @Test
+    public void testToExternalIdWithoutPathAtEndOfTemplate() {
+        final var queryConverter = new HttpIdentifierConverter(UriBuilder.fromUri(uriBase + "/{path: .*}?x=y"));
+        assertEquals(uriBase + "/a/b?x=y", queryConverter.toExternalId(FEDORA_ID_PREFIX + "/a/b"));
+    }
+
+    @Test
+    public void testToExternalIdCached() {
+        final String id = FEDORA_ID_PREFIX + "/" + getUniqueId();
+        final String first = converter.toExternalId(id);
+        assertEquals(uriBase + id.substring(FEDORA_ID_PREFIX.length()), first);
+        assertSame(first, converter.toExternalId(id));
+        for (int i = 0; i < HttpIdentifierConverter.EXTERNAL_ID_CACHE_SIZE; i++) {
+            converter.toExternalId(FEDORA_ID_PREFIX + "/" + i);
+        }
+        final String evicted = converter.toExternalId(id);
+        assertEquals(first, evicted);
+        assertNotSame(first, evicted);
+    }
+
     /**
      * Utility function to get a UUID.
      * @return a UUID.
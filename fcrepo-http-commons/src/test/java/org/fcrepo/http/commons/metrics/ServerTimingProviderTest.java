@@ -0,0 +1,114 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.http.commons.metrics;
+
+import static org.fcrepo.common.metrics.RequestTimings.Phase.CONTAINMENT;
+import static org.fcrepo.common.metrics.RequestTimings.Phase.OCFL;
+import static org.fcrepo.common.metrics.RequestTimings.Phase.SERIALIZE;
+import static org.fcrepo.http.commons.metrics.ServerTimingProvider.SERVER_TIMING;
+import static org.fcrepo.http.commons.metrics.ServerTimingProvider.SERVER_TIMING_ENABLED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerResponseContext;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+import jakarta.ws.rs.ext.WriterInterceptorContext;
+
+import org.fcrepo.common.metrics.RequestTimings;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * @author fcrepo
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class ServerTimingProviderTest {
+
+    @Mock
+    private ContainerRequestContext requestContext;
+
+    @Mock
+    private ContainerResponseContext responseContext;
+
+    @Mock
+    private WriterInterceptorContext writerContext;
+
+    private final MultivaluedMap<String, Object> headers = new MultivaluedHashMap<>();
+
+    private final ServerTimingProvider provider = new ServerTimingProvider();
+
+    private RequestTimings timings;
+
+    @BeforeEach
+    public void setUp() {
+        when(responseContext.getHeaders()).thenReturn(headers);
+        when(requestContext.getProperty(SERVER_TIMING_ENABLED)).thenReturn(Boolean.TRUE);
+        timings = RequestTimings.begin();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        timings.end();
+    }
+
+    @Test
+    public void testHeaderListsEnteredPhases() {
+        RequestTimings.exit(CONTAINMENT, RequestTimings.enter(CONTAINMENT));
+        provider.filter(requestContext, responseContext);
+
+        final var serverTiming = (String) headers.getFirst(SERVER_TIMING);
+        assertTrue(serverTiming.startsWith("containment;dur="));
+        assertFalse(serverTiming.contains(OCFL.getName()));
+    }
+
+    @Test
+    public void testNestedPhaseCountedOnce() {
+        final var outer = RequestTimings.enter(OCFL);
+        RequestTimings.exit(OCFL, RequestTimings.enter(OCFL));
+        assertEquals(0, timings.getCount(OCFL));
+        RequestTimings.exit(OCFL, outer);
+        assertEquals(1, timings.getCount(OCFL));
+    }
+
+    @Test
+    public void testNoHeaderWhenDisabled() {
+        when(requestContext.getProperty(SERVER_TIMING_ENABLED)).thenReturn(null);
+        RequestTimings.exit(CONTAINMENT, RequestTimings.enter(CONTAINMENT));
+        provider.filter(requestContext, responseContext);
+
+        assertNull(headers.get(SERVER_TIMING));
+    }
+
+    @Test
+    public void testNoHeaderWithoutPhases() {
+        provider.filter(requestContext, responseContext);
+
+        assertNull(headers.get(SERVER_TIMING));
+    }
+
+    @Test
+    public void testSerializationTimed() throws IOException {
+        provider.aroundWriteTo(writerContext);
+
+        verify(writerContext).proceed();
+        assertEquals(1, timings.getCount(SERIALIZE));
+    }
+}
@@ -9,9 +9,11 @@ import static java.util.stream.Stream.of;
 import static org.apache.jena.graph.NodeFactory.createURI;
 import static org.apache.jena.graph.Triple.create;
 import static org.apache.jena.rdf.model.ModelFactory.createDefaultModel;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import java.io.ByteArrayInputStream;
@@ -23,7 +25,9 @@ import java.util.Map;
 import jakarta.ws.rs.WebApplicationException;
 import jakarta.ws.rs.core.MediaType;
 
+import org.fcrepo.config.FedoraPropsConfig;
 import org.fcrepo.kernel.api.RdfStream;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
 import org.fcrepo.kernel.api.rdf.RdfNamespaceRegistry;
 import org.junit.jupiter.api.BeforeAll;
@@ -34,6 +38,8 @@ import org.apache.jena.rdf.model.Model;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.google.common.eventbus.EventBus;
+
 /**
  * <p>RdfStreamProviderTest class.</p>
  *
@@ -96,4 +102,41 @@ public class RdfStreamProviderTest {
         }
     }
 
+    @Test
+    public void testWriteToCached() throws IOException {
+        final var propsConfig = new FedoraPropsConfig();
+        propsConfig.setRepresentationCacheEnabled(true);
+        propsConfig.setRepresentationCacheSize(1024 * 1024);
+        propsConfig.setRepresentationCacheEntrySize(1024 * 1024);
+        setField(propsConfig, "representationCacheTimeout", 10L);
+        final var cache = new RepresentationCache();
+        setField(cache, "fedoraPropsConfig", propsConfig);
+        setField(cache, "eventBus", mock(EventBus.class));
+        cache.setUp();
+        setField(testProvider, "representationCache", cache);
+
+        final Triple t = create(createURI("info:test"), createURI("property:test"), createURI("info:test"));
+        final var key = new RepresentationCache.Key(FedoraId.create("test"), "etag");
+        final var mediaType = MediaType.valueOf("text/turtle");
+
+        final var first = new ByteArrayOutputStream();
+        try (final var nsStream = new RdfNamespacedStream(new DefaultRdfStream(createURI("info:test"), of(t)),
+                new HashMap<>())) {
+            nsStream.setCacheKey(key);
+            testProvider.writeTo(nsStream, RdfNamespacedStream.class, null, null, mediaType, null, first);
+        }
+
+        // The stream of the second request is never read
+        final var second = new ByteArrayOutputStream();
+        try (final var nsStream = new RdfNamespacedStream(new DefaultRdfStream(createURI("info:test"),
+                of(t).peek(triple -> {
+                    throw new IllegalStateException("Should have been served from the cache");
+                })), new HashMap<>())) {
+            nsStream.setCacheKey(key);
+            testProvider.writeTo(nsStream, RdfNamespacedStream.class, null, null, mediaType, null, second);
+        }
+        assertArrayEquals(first.toByteArray(), second.toByteArray());
+        assertTrue(first.size() > 0);
+    }
+
 }
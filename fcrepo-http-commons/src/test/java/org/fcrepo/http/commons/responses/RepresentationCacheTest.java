@@ -0,0 +1,150 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.http.commons.responses;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import jakarta.ws.rs.core.MediaType;
+
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.observer.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+import com.google.common.eventbus.EventBus;
+
+/**
+ * @author fcrepo
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class RepresentationCacheTest {
+
+    private static final MediaType TURTLE = MediaType.valueOf("text/turtle");
+
+    private static final FedoraId PARENT_ID = FedoraId.create("parent");
+
+    private static final FedoraId CHILD_ID = PARENT_ID.resolve("child");
+
+    @Mock
+    private EventBus eventBus;
+
+    @Mock
+    private Event event;
+
+    private FedoraPropsConfig propsConfig;
+
+    private RepresentationCache cache;
+
+    @BeforeEach
+    public void setUp() {
+        propsConfig = new FedoraPropsConfig();
+        propsConfig.setRepresentationCacheEnabled(true);
+        propsConfig.setRepresentationCacheSize(1024);
+        propsConfig.setRepresentationCacheEntrySize(16);
+        setField(propsConfig, "representationCacheTimeout", 10L);
+
+        cache = new RepresentationCache();
+        setField(cache, "fedoraPropsConfig", propsConfig);
+        setField(cache, "eventBus", eventBus);
+        cache.setUp();
+    }
+
+    @Test
+    public void testCacheRepresentation() throws IOException {
+        verify(eventBus).register(cache);
+        final var key = new RepresentationCache.Key(PARENT_ID, "etag").withMediaType(TURTLE);
+        assertNull(cache.get(key));
+
+        final var response = write(key, "content");
+        assertEquals("content", response);
+        assertArrayEquals("content".getBytes(UTF_8), cache.get(key));
+        assertNull(cache.get(new RepresentationCache.Key(PARENT_ID, "etag").withMediaType(
+                MediaType.valueOf("application/ld+json"))));
+        assertNull(cache.get(new RepresentationCache.Key(PARENT_ID, "other").withMediaType(TURTLE)));
+    }
+
+    @Test
+    public void testRepresentationTooLarge() throws IOException {
+        final var key = new RepresentationCache.Key(PARENT_ID, "etag").withMediaType(TURTLE);
+        final var content = "content larger than an entry";
+        assertEquals(content, write(key, content));
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    public void testIncompleteRepresentation() throws IOException {
+        final var key = new RepresentationCache.Key(PARENT_ID, "etag").withMediaType(TURTLE);
+        final var capture = cache.capture(key, new ByteArrayOutputStream());
+        capture.write("partial".getBytes(UTF_8));
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    public void testEventInvalidatesResourceAndAncestors() throws IOException {
+        final var parentKey = new RepresentationCache.Key(PARENT_ID, "etag").withMediaType(TURTLE);
+        final var childKey = new RepresentationCache.Key(CHILD_ID, "etag").withMediaType(TURTLE);
+        final var descriptionKey = new RepresentationCache.Key(CHILD_ID.asDescription(), "etag")
+                .withMediaType(TURTLE);
+        final var otherKey = new RepresentationCache.Key(FedoraId.create("other"), "etag").withMediaType(TURTLE);
+        write(parentKey, "parent");
+        write(childKey, "child");
+        write(descriptionKey, "description");
+        write(otherKey, "other");
+
+        when(event.getFedoraId()).thenReturn(CHILD_ID);
+        cache.onEvent(event);
+
+        assertNull(cache.get(parentKey));
+        assertNull(cache.get(childKey));
+        assertNull(cache.get(descriptionKey));
+        assertArrayEquals("other".getBytes(UTF_8), cache.get(otherKey));
+    }
+
+    @Test
+    public void testInvalidatedWhileWriting() throws IOException {
+        final var key = new RepresentationCache.Key(PARENT_ID, "etag").withMediaType(TURTLE);
+        final var capture = cache.capture(key, new ByteArrayOutputStream());
+        capture.write("stale".getBytes(UTF_8));
+        cache.invalidate(CHILD_ID);
+        capture.commit();
+        assertNull(cache.get(key));
+    }
+
+    @Test
+    public void testDisabled() {
+        propsConfig.setRepresentationCacheEnabled(false);
+        final var disabled = new RepresentationCache();
+        setField(disabled, "fedoraPropsConfig", propsConfig);
+        setField(disabled, "eventBus", eventBus);
+        disabled.setUp();
+        assertFalse(disabled.isEnabled());
+    }
+
+    private String write(final RepresentationCache.Key key, final String content) throws IOException {
+        final var out = new ByteArrayOutputStream();
+        final var capture = cache.capture(key, out);
+        capture.write(content.getBytes(UTF_8));
+        capture.commit();
+        return out.toString(UTF_8);
+    }
+}
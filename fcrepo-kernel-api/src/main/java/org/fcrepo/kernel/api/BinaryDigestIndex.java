@@ -0,0 +1,52 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.api;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.Binary;
+
+/**
+ * An index of the digests computed for binaries on request, so that digests in algorithms other than those stored
+ * with a binary only need to be computed once.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public interface BinaryDigestIndex {
+
+    /**
+     * Get the digests previously computed for the current state of a binary
+     *
+     * @param binary the binary
+     * @return the digests, in URN format
+     */
+    List<URI> getDigests(Binary binary);
+
+    /**
+     * Record digests computed for the current state of a binary, replacing any digests in the same algorithms that
+     * were computed for earlier states.
+     *
+     * @param binary the binary
+     * @param digests the computed digests, in URN format
+     */
+    void addDigests(Binary binary, Collection<URI> digests);
+
+    /**
+     * Remove the digests recorded for a resource and its mementos
+     *
+     * @param fedoraId the ID of the resource
+     */
+    void removeDigests(FedoraId fedoraId);
+
+    /**
+     * Remove all recorded digests. This should only be called when rebuilding the index.
+     */
+    void reset();
+}
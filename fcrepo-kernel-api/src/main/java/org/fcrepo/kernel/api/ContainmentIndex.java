@@ -9,6 +9,7 @@ import org.fcrepo.kernel.api.identifiers.FedoraId;
 import jakarta.annotation.Nonnull;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -29,6 +30,19 @@ public interface ContainmentIndex {
      */
     Stream<String> getContains(Transaction tx, FedoraId fedoraId);
 
+    /**
+     * Return a page of the fedora identifiers contained by the specified fedora resource, ordered by identifier.
+     * Pages are located by seeking past the last identifier of the previous page, so the cost of reading a page does
+     * not depend on how many pages precede it.
+     *
+     * @param tx The transaction, or null if no transaction
+     * @param fedoraId The ID of the containing fedora resource
+     * @param after Only return identifiers that sort after this one, or null to start from the first child
+     * @param limit The maximum number of identifiers to return
+     * @return The contained identifiers in the page
+     */
+    List<String> getContainsPage(Transaction tx, FedoraId fedoraId, String after, int limit);
+
     /**
      * Return a stream of fedora identifiers contained by the specified fedora resource that have deleted
      * relationships.
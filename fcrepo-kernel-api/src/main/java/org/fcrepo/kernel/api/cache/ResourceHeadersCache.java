@@ -0,0 +1,67 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+
+package org.fcrepo.kernel.api.cache;
+
+import java.util.Collection;
+import java.util.function.Function;
+
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.ResourceHeaders;
+
+/**
+ * Cache of the committed headers of resources, including the headers of their mementos. Sessions record the
+ * resources they change, which they then read past the cache, and the cached headers of those resources are
+ * discarded when the session is committed or rolled back.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public interface ResourceHeadersCache {
+
+    /**
+     * Gets the headers of a resource from the cache. If they are not cached, or the resource was changed in the
+     * session, then the loader is called to read them from storage.
+     *
+     * @param resourceId the id of the resource, a memento id for the headers of a memento
+     * @param sessionId the id of the current session
+     * @param headersLoader the loader that is called, if needed, to read the resource's headers
+     * @return the resource's headers
+     */
+    ResourceHeaders getHeaders(final FedoraId resourceId,
+                               final String sessionId,
+                               final Function<FedoraId, ResourceHeaders> headersLoader);
+
+    /**
+     * Records that a resource is changed in a session. The session reads the headers of the resource past the cache
+     * until the session ends.
+     *
+     * @param resourceId the id of the resource
+     * @param sessionId the id of the session changing the resource
+     */
+    void recordChange(final FedoraId resourceId,
+                      final String sessionId);
+
+    /**
+     * Discards the cached headers of the resources changed in a session, once it is committed or rolled back.
+     *
+     * @param sessionId the id of the session
+     */
+    void invalidateSession(final String sessionId);
+
+    /**
+     * Discards the cached headers of resources which were changed in storage outside of a session.
+     *
+     * @param resourceIds the ids of the resources
+     */
+    void invalidate(final Collection<FedoraId> resourceIds);
+
+    /**
+     * Discards the cached headers of all resources, such as when the storage of the repository is replaced.
+     */
+    void invalidateAll();
+
+}
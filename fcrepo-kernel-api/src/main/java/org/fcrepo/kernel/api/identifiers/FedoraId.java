@@ -15,11 +15,9 @@ import static org.fcrepo.kernel.api.services.VersionService.MEMENTO_LABEL_FORMAT
 
 import java.time.Instant;
 import java.time.format.DateTimeParseException;
-import java.util.Arrays;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import org.fcrepo.kernel.api.exception.InvalidMementoPathException;
 import org.fcrepo.kernel.api.exception.InvalidResourceIdentifierException;
@@ -28,6 +26,8 @@ import org.apache.commons.lang3.StringUtils;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.escape.Escaper;
 import com.google.common.net.PercentEscaper;
 
@@ -74,17 +74,18 @@ public class FedoraId {
     /**
      * The Fedora ID without prefix but with extensions. eg /object1/another/fcr:versions/20000101121212
      */
-    private final String fullPath;
+    private String fullPath;
 
     /**
-     * The Fedora ID prefix and extensions URL encoded.
+     * The Fedora ID prefix and extensions URL encoded, computed on first use.
      */
-    private final String encodedFullId;
+    private String encodedFullId;
 
     /**
      * The Full ID of the described resource. For binary -> binary, container -> container, binary description -> binary
+     * Computed on first use.
      */
-    private final String describedId;
+    private String describedId;
 
 
     private String hashUri;
@@ -97,8 +98,31 @@ public class FedoraId {
     private Instant mementoDatetime;
     private String mementoDatetimeStr;
 
-    private final static Set<Pattern> extensions = Set.of(FCR_TOMBSTONE, FCR_METADATA, FCR_ACL, FCR_VERSIONS)
-            .stream().map(Pattern::compile).collect(Collectors.toSet());
+    /**
+     * The extensions which may appear in an ID, each at most once. Their positions in this list are the bits used to
+     * record which of them an ID contains.
+     */
+    private final static List<String> EXTENSIONS = List.of(FCR_TOMBSTONE, FCR_METADATA, FCR_ACL, FCR_VERSIONS);
+
+    private final static int TOMBSTONE_BIT = 1;
+    private final static int METADATA_BIT = 1 << 1;
+    private final static int ACL_BIT = 1 << 2;
+    private final static int VERSIONS_BIT = 1 << 3;
+
+    private final static String EXTENSION_PREFIX = "fcr:";
+
+    /**
+     * Maximum number of IDs retained by the intern cache
+     */
+    private final static int INTERN_CACHE_SIZE = 16384;
+
+    /**
+     * Recently created IDs, keyed by their full ID. IDs are immutable, so the same instance is shared by everything
+     * requesting the same ID, which saves parsing and validating it again.
+     */
+    private final static Cache<String, FedoraId> internCache = CacheBuilder.newBuilder()
+            .maximumSize(INTERN_CACHE_SIZE)
+            .build();
 
     private final static Escaper fedoraIdEscaper = new PercentEscaper("-._~!$'()*,;&=@:+/?#", false);
 
@@ -108,14 +132,11 @@ public class FedoraId {
      * @throws IllegalArgumentException If ID does not start with expected prefix.
      */
     private FedoraId(final String fullId) {
-        this.fullId = ensurePrefix(fullId).replaceAll("/+$", "");
-        // Carry the path of the request for any exceptions.
-        this.fullPath = this.fullId.substring(FEDORA_ID_PREFIX.length());
-        checkForInvalidPath();
-        this.baseId = processIdentifier();
+        this.fullId = stripTrailingSlashes(ensurePrefix(fullId));
+        final int extensions = findExtensions();
+        checkForInvalidPath(extensions);
+        this.baseId = processIdentifier(extensions);
         enforceStorageLayoutNamingConstraints();
-        this.encodedFullId = fedoraIdEscaper.escape(this.fullId);
-        this.describedId = this.fullId.replace("/" + FCR_METADATA, "");
     }
 
     /**
@@ -125,7 +146,13 @@ public class FedoraId {
      */
     @JsonCreator
     public static FedoraId create(final String... additions) {
-        return new FedoraId(idBuilder(additions));
+        final var fullId = stripTrailingSlashes(ensurePrefix(idBuilder(additions)));
+        var fedoraId = internCache.getIfPresent(fullId);
+        if (fedoraId == null) {
+            fedoraId = new FedoraId(fullId);
+            internCache.put(fullId, fedoraId);
+        }
+        return fedoraId;
     }
 
     /**
@@ -133,7 +160,7 @@ public class FedoraId {
      * @return The FedoraId for repository root.
      */
     public static FedoraId getRepositoryRootId() {
-        return new FedoraId(null);
+        return create();
     }
 
     /**
@@ -269,6 +296,9 @@ public class FedoraId {
      * @return the full id path part
      */
     public String getFullIdPath() {
+        if (fullPath == null) {
+            fullPath = fullId.substring(FEDORA_ID_PREFIX.length());
+        }
         return fullPath;
     }
 
@@ -276,6 +306,9 @@ public class FedoraId {
      * @return The encoded full ID.
      */
     public String getEncodedFullId() {
+        if (encodedFullId == null) {
+            encodedFullId = fedoraIdEscaper.escape(fullId);
+        }
         return encodedFullId;
     }
 
@@ -356,6 +389,9 @@ public class FedoraId {
      * @return The ID.
      */
     public String getFullDescribedId() {
+        if (describedId == null) {
+            describedId = fullId.replace("/" + FCR_METADATA, "");
+        }
         return describedId;
     }
 
@@ -459,13 +495,34 @@ public class FedoraId {
      * @return the concatenated string.
      */
     private static String idBuilder(final String... parts) {
-        if (parts != null && parts.length > 0) {
-            return Arrays.stream(parts).filter(Objects::nonNull)
-                    .map(s -> s.startsWith("/") ? s.substring(1) : s)
-                    .map(s -> s.endsWith("/") ? s.substring(0, s.length() - 1 ) : s)
-                    .collect(Collectors.joining("/"));
+        if (parts == null || parts.length == 0) {
+            return "";
+        }
+        if (parts.length == 1) {
+            return parts[0] == null ? "" : trimSlashes(parts[0]);
+        }
+        final var builder = new StringBuilder();
+        boolean first = true;
+        for (final String part : parts) {
+            if (part == null) {
+                continue;
+            }
+            if (!first) {
+                builder.append('/');
+            }
+            builder.append(trimSlashes(part));
+            first = false;
         }
-        return "";
+        return builder.toString();
+    }
+
+    /**
+     * Removes a single leading and a single trailing slash from a part of an ID
+     */
+    private static String trimSlashes(final String part) {
+        final int start = part.startsWith("/") ? 1 : 0;
+        final int end = part.length() > start && part.endsWith("/") ? part.length() - 1 : part.length();
+        return start == 0 && end == part.length() ? part : part.substring(start, end);
     }
 
     /**
@@ -483,7 +540,7 @@ public class FedoraId {
     /**
      * Process the original ID into its parts without using a regular expression.
      */
-    private String processIdentifier() {
+    private String processIdentifier(final int extensions) {
         // Regex pattern which decomposes a http resource uri into components
         // The first group determines if it is an fcr:metadata non-rdf source.
         // The second group determines if the path is for a memento or timemap.
@@ -492,7 +549,8 @@ public class FedoraId {
         // The fifth group allows for any hashed suffixes.
         // ".*?(/" + FCR_METADATA + ")?(/" + FCR_VERSIONS + "(/\\d{14})?)?(/" + FCR_ACL + ")?(\\#\\S+)?$");
         if (this.fullId.contains("//")) {
-            throw new InvalidResourceIdentifierException(String.format("Path contains empty element! %s", fullPath));
+            throw new InvalidResourceIdentifierException(String.format("Path contains empty element! %s",
+                    getFullIdPath()));
         }
         String processID = this.fullId;
         if (processID.equals(FEDORA_ID_PREFIX)) {
@@ -504,20 +562,20 @@ public class FedoraId {
             if (hashSplits.length > 2) {
                 throw new InvalidResourceIdentifierException(String.format(
                         "Path <%s> is invalid. It may not contain more than one #",
-                        fullPath));
+                        getFullIdPath()));
             }
             this.hashUri = hashSplits[1];
             processID = hashSplits[0];
         }
-        if (processID.contains(FCR_TOMBSTONE)) {
+        if ((extensions & TOMBSTONE_BIT) != 0 && processID.contains(FCR_TOMBSTONE)) {
             processID = removePart(processID, FCR_TOMBSTONE);
             this.isTombstone = true;
         }
-        if (processID.contains(FCR_ACL)) {
+        if ((extensions & ACL_BIT) != 0 && processID.contains(FCR_ACL)) {
             processID = removePart(processID, FCR_ACL);
             this.isAcl = true;
         }
-        if (processID.contains(FCR_VERSIONS)) {
+        if ((extensions & VERSIONS_BIT) != 0 && processID.contains(FCR_VERSIONS)) {
             final String[] versionSplits = split(processID, FCR_VERSIONS);
             if (versionSplits.length == 2 && versionSplits[1].isEmpty()) {
                 this.isTimemap = true;
@@ -529,43 +587,41 @@ public class FedoraId {
                     if (checkVersion.length == 2 && checkVersion[1].isEmpty()) {
                         versionSplits[1] = checkVersion[0];
                     } else {
-                        throw new InvalidResourceIdentifierException(String.format("Path is invalid: %s", fullPath));
+                        throw new InvalidResourceIdentifierException(String.format("Path is invalid: %s",
+                                getFullIdPath()));
                     }
                 }
                 final String afterVersion = versionSplits[1];
-                if (afterVersion.matches("/\\d{14}")) {
+                if (isMementoLabel(afterVersion)) {
                     this.isMemento = true;
                     this.mementoDatetimeStr = afterVersion.substring(1);
                     try {
                         this.mementoDatetime = Instant.from(MEMENTO_LABEL_FORMATTER.parse(this.mementoDatetimeStr));
                     } catch (final DateTimeParseException e) {
                         throw new InvalidMementoPathException(String.format("Invalid request for memento at %s",
-                                fullPath));
+                                getFullIdPath()));
                     }
                 } else if (afterVersion.equals("/")) {
                     // Possible trailing slash?
                     this.isTimemap = true;
                 } else {
-                    throw new InvalidMementoPathException(String.format("Invalid request for memento at %s", fullPath));
+                    throw new InvalidMementoPathException(String.format("Invalid request for memento at %s",
+                            getFullIdPath()));
                 }
             }
             processID = versionSplits[0];
         }
-        if (processID.contains(FCR_METADATA)) {
+        if ((extensions & METADATA_BIT) != 0 && processID.contains(FCR_METADATA)) {
             processID = removePart(processID, FCR_METADATA);
             this.isNonRdfSourceDescription = true;
         }
-        if (processID.endsWith("/")) {
-            processID = processID.replaceAll("/+$", "");
-        }
-
-        return processID;
+        return stripTrailingSlashes(processID);
     }
 
     private String removePart(final String original, final String part) {
         final String[] split = split(original, part);
         if (split.length > 2 || (split.length == 2 && !split[1].isEmpty())) {
-            throw new InvalidResourceIdentifierException("Path is invalid:" + fullPath);
+            throw new InvalidResourceIdentifierException("Path is invalid:" + getFullIdPath());
         }
         return split[0];
     }
@@ -574,26 +630,72 @@ public class FedoraId {
         return StringUtils.splitByWholeSeparatorPreserveAllTokens(original, "/" + part);
     }
 
+    /**
+     * Find the extensions contained in the full ID, in a single scan for the "fcr:" prefix they share.
+     *
+     * @return the bits of the extensions which were found
+     * @throws InvalidResourceIdentifierException if an extension occurs more than once, ie.
+     *         info:fedora/object/fcr:acl/fcr:acl
+     */
+    private int findExtensions() {
+        int found = 0;
+        int index = fullId.indexOf(EXTENSION_PREFIX);
+        while (index != -1) {
+            for (int i = 0; i < EXTENSIONS.size(); i++) {
+                if (fullId.startsWith(EXTENSIONS.get(i), index)) {
+                    final int bit = 1 << i;
+                    if ((found & bit) != 0) {
+                        throw new InvalidResourceIdentifierException(String.format("Path is invalid: %s",
+                                getFullIdPath()));
+                    }
+                    found |= bit;
+                }
+            }
+            index = fullId.indexOf(EXTENSION_PREFIX, index + EXTENSION_PREFIX.length());
+        }
+        return found;
+    }
+
     /**
      * Check for obvious path errors.
+     *
+     * @param extensions the bits of the extensions contained in the full ID
      */
-    private void checkForInvalidPath() {
+    private void checkForInvalidPath(final int extensions) {
         // Check for combinations of endpoints not allowed.
+        final boolean aclOrTombstone = (extensions & (ACL_BIT | TOMBSTONE_BIT)) != 0;
         if (
             // ID contains fcr:acl or fcr:tombstone AND fcr:metadata or fcr:versions
-            ((this.fullId.contains(FCR_ACL) || this.fullId.contains(FCR_TOMBSTONE)) &&
-                (this.fullId.contains(FCR_METADATA) || this.fullId.contains(FCR_VERSIONS))) ||
+            (aclOrTombstone && (extensions & (METADATA_BIT | VERSIONS_BIT)) != 0) ||
             // or ID contains fcr:acl AND fcr:tombstone
-            (this.fullId.contains(FCR_TOMBSTONE) && this.fullId.contains(FCR_ACL))
+            (extensions & (ACL_BIT | TOMBSTONE_BIT)) == (ACL_BIT | TOMBSTONE_BIT)
         ) {
-            throw new InvalidResourceIdentifierException(String.format("Path is invalid: %s", fullPath));
+            throw new InvalidResourceIdentifierException(String.format("Path is invalid: %s", getFullIdPath()));
+        }
+    }
+
+    /**
+     * @return whether the string is a slash followed by a 14 digit memento datetime
+     */
+    private static boolean isMementoLabel(final String value) {
+        if (value.length() != 15 || value.charAt(0) != '/') {
+            return false;
         }
-        // Ensure we don't have 2 of any of the extensions, ie. info:fedora/object/fcr:acl/fcr:acl, etc.
-        for (final Pattern extension : extensions) {
-            if (extension.matcher(this.fullId).results().count() > 1) {
-                throw new InvalidResourceIdentifierException(String.format("Path is invalid: %s", fullPath));
+        for (int i = 1; i < value.length(); i++) {
+            final char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
             }
         }
+        return true;
+    }
+
+    private static String stripTrailingSlashes(final String value) {
+        int end = value.length();
+        while (end > 0 && value.charAt(end - 1) == '/') {
+            end--;
+        }
+        return end == value.length() ? value : value.substring(0, end);
     }
 
     /**
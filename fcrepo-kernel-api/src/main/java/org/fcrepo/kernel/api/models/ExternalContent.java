@@ -7,6 +7,8 @@ package org.fcrepo.kernel.api.models;
 
 import java.io.InputStream;
 import java.net.URI;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Interface for the ExternalContent information class.
@@ -71,4 +73,12 @@ public interface ExternalContent {
      * @return InputStream containing the external content
      */
     public InputStream fetchExternalContent();
+
+    /**
+     * Returns the digests of the content reported by the server holding it, if any
+     * @return the digests of the external content in URN format, empty if none were reported
+     */
+    default Collection<URI> getRemoteDigests() {
+        return List.of();
+    }
 }
@@ -6,6 +6,7 @@
 package org.fcrepo.kernel.api.operations;
 
 import org.fcrepo.kernel.api.RdfStream;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 
 /**
  * Operation for interacting with an rdf source
@@ -21,4 +22,11 @@ public interface RdfSourceOperation extends RelaxableResourceOperation {
      */
     RdfStream getTriples();
 
+    /**
+     * Get the triples the operation adds to and removes from the existing triples of the resource
+     *
+     * @return the delta, or null if it is not known
+     */
+    RdfDelta getDelta();
+
 }
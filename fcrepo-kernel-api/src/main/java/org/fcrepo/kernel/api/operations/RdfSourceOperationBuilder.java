@@ -7,6 +7,7 @@ package org.fcrepo.kernel.api.operations;
 
 import org.apache.jena.rdf.model.Model;
 import org.fcrepo.kernel.api.RdfStream;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 
 /**
  * Builder for constructing an RdfSourceOperation
@@ -29,6 +30,14 @@ public interface RdfSourceOperationBuilder extends RelaxableResourceOperationBui
      */
     RdfSourceOperationBuilder triples(RdfStream triples);
 
+    /**
+     * Set the difference between the triples of the operation and the existing triples of the resource
+     *
+     * @param delta the triples added and removed
+     * @return this builder
+     */
+    RdfSourceOperationBuilder delta(RdfDelta delta);
+
     @Override
     RdfSourceOperationBuilder relaxedProperties(Model model);
 }
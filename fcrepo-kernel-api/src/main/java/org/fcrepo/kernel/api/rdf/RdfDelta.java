@@ -0,0 +1,69 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.api.rdf;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.apache.jena.graph.Triple;
+
+/**
+ * The triples added to and removed from the RDF of a resource by an update.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class RdfDelta {
+
+    private final List<Triple> added;
+
+    private final List<Triple> removed;
+
+    /**
+     * @param added the triples which were not in the RDF before the update
+     * @param removed the triples which are no longer in the RDF after the update
+     */
+    public RdfDelta(final Collection<Triple> added, final Collection<Triple> removed) {
+        this.added = List.copyOf(added);
+        this.removed = List.copyOf(removed);
+    }
+
+    /**
+     * @return the triples added by the update
+     */
+    public List<Triple> getAdded() {
+        return added;
+    }
+
+    /**
+     * @return the triples removed by the update
+     */
+    public List<Triple> getRemoved() {
+        return removed;
+    }
+
+    /**
+     * @return true if the update did not change the RDF
+     */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    /**
+     * @param predicate the test to apply
+     * @return true if any added or removed triple matches the test
+     */
+    public boolean anyMatch(final Predicate<Triple> predicate) {
+        return Stream.concat(added.stream(), removed.stream()).anyMatch(predicate);
+    }
+
+    @Override
+    public String toString() {
+        return "RdfDelta{added=" + added.size() + ", removed=" + removed.size() + "}";
+    }
+}
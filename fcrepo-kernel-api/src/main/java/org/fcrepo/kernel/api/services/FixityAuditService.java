@@ -0,0 +1,71 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.api.services;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.Binary;
+import org.fcrepo.kernel.api.utils.FixityAuditResult;
+
+/**
+ * Service which checks the fixity of binaries in the background and records the outcome of the most recent check
+ * of each binary.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public interface FixityAuditService {
+
+    /**
+     * Check the fixity of a binary against its stored digests and size, and record the outcome.
+     *
+     * @param binary the binary to check
+     * @return the recorded outcome
+     */
+    FixityAuditResult audit(Binary binary);
+
+    /**
+     * Get the time of the most recent fixity check of a binary.
+     *
+     * @param fedoraId the id of the binary
+     * @return the time of the check, or null if the binary has not been checked
+     */
+    Instant getLastChecked(FedoraId fedoraId);
+
+    /**
+     * Get the binaries whose most recent fixity check did not succeed, oldest check first.
+     *
+     * @param limit the maximum number of results
+     * @param offset the number of results to skip
+     * @return the outcomes of the checks
+     */
+    List<FixityAuditResult> getFailures(int limit, int offset);
+
+    /**
+     * Get the binaries which have not been checked since the provided time, oldest check first.
+     *
+     * @param checkedBefore the time
+     * @param limit the maximum number of results
+     * @param offset the number of results to skip
+     * @return the outcomes of the checks
+     */
+    List<FixityAuditResult> getStale(Instant checkedBefore, int limit, int offset);
+
+    /**
+     * Remove the outcomes of checks made before the provided time, such as those of binaries which no longer exist.
+     *
+     * @param checkedBefore the time
+     * @return the number of outcomes removed
+     */
+    int removeCheckedBefore(Instant checkedBefore);
+
+    /**
+     * Remove all recorded outcomes.
+     */
+    void reset();
+}
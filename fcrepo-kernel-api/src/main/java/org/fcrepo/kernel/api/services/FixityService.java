@@ -19,7 +19,8 @@ import java.util.Collection;
  */
 public interface FixityService {
   /**
-   * Calculate the requested set of digests for the provided binary
+   * Get the requested set of digests for the provided binary. Digests stored with the binary, or previously
+   * calculated for its current state, are returned without reading the content.
    * @param binary the binary resource to
    * @param algorithms set of digest algorithms to calculate
    * @return list of calculated digests
@@ -9,6 +9,7 @@ import org.fcrepo.kernel.api.RdfStream;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.models.FedoraResource;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 
 /**
  * Service to retrieve references to repository resources.
@@ -44,6 +45,17 @@ public interface ReferenceService {
     void updateReferences(final Transaction tx, final FedoraId resourceId, final String userPrincipal,
                           final RdfStream rdfStream);
 
+    /**
+     * Add the references added by an update of the resource and remove the ones it removed, without reading the
+     * existing references of the resource.
+     * @param tx the transaction
+     * @param resourceId the subject ID of the triples.
+     * @param userPrincipal the user who's action is updating references.
+     * @param delta the triples added to and removed from the resource.
+     */
+    void updateReferences(final Transaction tx, final FedoraId resourceId, final String userPrincipal,
+                          final RdfDelta delta);
+
     /**
      * Commit any pending references.
      * @param tx the transaction.
@@ -5,10 +5,14 @@
  */
 package org.fcrepo.kernel.api.services;
 
+import java.util.Collection;
+
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.exception.MalformedRdfException;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 
 /**
  * @author peichman
@@ -30,4 +34,24 @@ public interface ReplacePropertiesService {
                  String userPrincipal,
                  FedoraId fedoraId,
                  Model inputModel) throws MalformedRdfException;
+
+    /**
+     * Replace the properties of this object with the given triples, which differ from its current properties by
+     * the given delta. Only the indexes affected by the delta are updated.
+     *
+     * The triples are not validated as a whole, so the delta must not change properties which require it, such as
+     * the membership properties of direct and indirect containers or the authorizations of an ACL.
+     *
+     * @param tx the Transaction
+     * @param userPrincipal the user performing the service
+     * @param fedoraId the internal Id of the fedora resource to update, which must not be a binary description
+     * @param triples the properties of the resource after the update
+     * @param delta the triples added and removed by the update
+     * @throws MalformedRdfException if malformed rdf exception occurred
+     */
+    void perform(Transaction tx,
+                 String userPrincipal,
+                 FedoraId fedoraId,
+                 Collection<Triple> triples,
+                 RdfDelta delta) throws MalformedRdfException;
 }
@@ -0,0 +1,92 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.api.utils;
+
+import java.time.Instant;
+
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+
+/**
+ * The outcome of a background fixity check of a binary.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class FixityAuditResult {
+
+    /**
+     * The possible outcomes of a check
+     */
+    public enum Outcome {
+        /** The computed digests and size matched the stored values */
+        SUCCESS,
+        /** A computed digest or the size did not match the stored value */
+        FAILURE,
+        /** The content of the binary could not be read */
+        ERROR
+    }
+
+    private final FedoraId fedoraId;
+
+    private final Outcome outcome;
+
+    private final Instant lastChecked;
+
+    private final Long contentSize;
+
+    private final String details;
+
+    /**
+     * @param fedoraId the id of the binary
+     * @param outcome the outcome of the check
+     * @param lastChecked the time of the check
+     * @param contentSize the number of bytes read, or null if unknown
+     * @param details a description of a failure, or null
+     */
+    public FixityAuditResult(final FedoraId fedoraId, final Outcome outcome, final Instant lastChecked,
+                             final Long contentSize, final String details) {
+        this.fedoraId = fedoraId;
+        this.outcome = outcome;
+        this.lastChecked = lastChecked;
+        this.contentSize = contentSize;
+        this.details = details;
+    }
+
+    /**
+     * @return the id of the binary
+     */
+    public FedoraId getFedoraId() {
+        return fedoraId;
+    }
+
+    /**
+     * @return the outcome of the check
+     */
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    /**
+     * @return the time of the check
+     */
+    public Instant getLastChecked() {
+        return lastChecked;
+    }
+
+    /**
+     * @return the number of bytes read, or null if unknown
+     */
+    public Long getContentSize() {
+        return contentSize;
+    }
+
+    /**
+     * @return a description of a failure, or null
+     */
+    public String getDetails() {
+        return details;
+    }
+}
@@ -14,6 +14,7 @@ import static org.fcrepo.kernel.api.services.VersionService.MEMENTO_LABEL_FORMAT
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -539,6 +540,26 @@ public class FedoraIdTest {
         assertNotEquals(id1, id3);
     }
 
+    @Test
+    public void testCreateReusesInstances() {
+        final var id = FedoraId.create("original/child");
+        assertSame(id, FedoraId.create("original/child"));
+        assertSame(id, FedoraId.create("original", "child"));
+        assertSame(id.asDescription(), FedoraId.create("original/child/" + FCR_METADATA));
+        assertSame(FedoraId.getRepositoryRootId(), FedoraId.getRepositoryRootId());
+    }
+
+    @Test
+    public void testDuplicateExtensions() {
+        assertThrows(InvalidResourceIdentifierException.class, () ->
+                FedoraId.create("original/" + FCR_METADATA + "/" + FCR_METADATA));
+        assertThrows(InvalidResourceIdentifierException.class, () ->
+                FedoraId.create("original/" + FCR_ACL + "/child-" + FCR_ACL));
+        // extensions within a hash uri still count
+        assertThrows(InvalidResourceIdentifierException.class, () ->
+                FedoraId.create("original/" + FCR_TOMBSTONE + "#" + FCR_TOMBSTONE));
+    }
+
     @Test
     public void testFixity() {
         final var mementoId = FedoraId.create("original").asMemento("20200401101900");
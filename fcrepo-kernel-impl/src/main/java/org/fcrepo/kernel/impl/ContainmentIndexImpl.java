@@ -11,6 +11,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -18,6 +19,7 @@ import java.util.NoSuchElementException;
 import java.util.Queue;
 import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
@@ -35,6 +37,7 @@ import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.impl.cache.LastUpdatedCache;
 
 import org.slf4j.Logger;
 import org.springframework.beans.factory.config.BeanDefinition;
@@ -45,6 +48,8 @@ import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -92,15 +97,15 @@ public class ContainmentIndexImpl implements ContainmentIndex {
      */
     private static final String SELECT_CHILDREN = "SELECT " + FEDORA_ID_COLUMN +
             " FROM " + RESOURCES_TABLE + " WHERE " + PARENT_COLUMN + " = :parent AND " + END_TIME_COLUMN + " IS NULL" +
-            " ORDER BY " + FEDORA_ID_COLUMN + " LIMIT :containsLimit OFFSET :offSet";
+            " AND " + FEDORA_ID_COLUMN + " > :after ORDER BY " + FEDORA_ID_COLUMN + " LIMIT :containsLimit";
 
     /*
      * Select children of a memento of a resource.
      */
     private static final String SELECT_CHILDREN_OF_MEMENTO = "SELECT " + FEDORA_ID_COLUMN +
             " FROM " + RESOURCES_TABLE + " WHERE " + PARENT_COLUMN + " = :parent AND " + START_TIME_COLUMN +
-            " <= :asOfTime AND (" + END_TIME_COLUMN + " > :asOfTime OR " + END_TIME_COLUMN + " IS NULL) ORDER BY " +
-            FEDORA_ID_COLUMN + " LIMIT :containsLimit OFFSET :offSet";
+            " <= :asOfTime AND (" + END_TIME_COLUMN + " > :asOfTime OR " + END_TIME_COLUMN + " IS NULL) AND " +
+            FEDORA_ID_COLUMN + " > :after ORDER BY " + FEDORA_ID_COLUMN + " LIMIT :containsLimit";
 
     /*
      * Select children of a parent from resources table and from the transaction table with an 'add' operation,
@@ -108,22 +113,23 @@ public class ContainmentIndexImpl implements ContainmentIndex {
      */
     private static final String SELECT_CHILDREN_IN_TRANSACTION = "SELECT x." + FEDORA_ID_COLUMN + " FROM" +
             " (SELECT " + FEDORA_ID_COLUMN + " FROM " + RESOURCES_TABLE + " WHERE " + PARENT_COLUMN + " = :parent" +
-            " AND " + END_TIME_COLUMN + " IS NULL " +
+            " AND " + END_TIME_COLUMN + " IS NULL AND " + FEDORA_ID_COLUMN + " > :after" +
             " UNION SELECT " + FEDORA_ID_COLUMN + " FROM " + TRANSACTION_OPERATIONS_TABLE +
             " WHERE " + PARENT_COLUMN + " = :parent AND " + TRANSACTION_ID_COLUMN + " = :transactionId" +
-            " AND " + OPERATION_COLUMN + " = 'add') x" +
+            " AND " + OPERATION_COLUMN + " = 'add' AND " + FEDORA_ID_COLUMN + " > :after) x" +
             " WHERE NOT EXISTS " +
             " (SELECT 1 FROM " + TRANSACTION_OPERATIONS_TABLE +
             " WHERE " + PARENT_COLUMN + " = :parent AND " + FEDORA_ID_COLUMN + " = x." + FEDORA_ID_COLUMN +
             " AND " + TRANSACTION_ID_COLUMN + " = :transactionId AND " + OPERATION_COLUMN + " IN ('delete', 'purge'))" +
-            " ORDER BY x." + FEDORA_ID_COLUMN + " LIMIT :containsLimit OFFSET :offSet";
+            " ORDER BY x." + FEDORA_ID_COLUMN + " LIMIT :containsLimit";
 
     /*
      * Select all children of a resource that are marked for deletion.
      */
     private static final String SELECT_DELETED_CHILDREN = "SELECT " + FEDORA_ID_COLUMN +
             " FROM " + RESOURCES_TABLE + " WHERE " + PARENT_COLUMN + " = :parent AND " + END_TIME_COLUMN +
-            " IS NOT NULL ORDER BY " + FEDORA_ID_COLUMN + " LIMIT :containsLimit OFFSET :offSet";
+            " IS NOT NULL AND " + FEDORA_ID_COLUMN + " > :after ORDER BY " + FEDORA_ID_COLUMN +
+            " LIMIT :containsLimit";
 
     /*
      * Select children of a resource plus children 'delete'd in the non-committed transaction, but excluding any
@@ -131,14 +137,15 @@ public class ContainmentIndexImpl implements ContainmentIndex {
      */
     private static final String SELECT_DELETED_CHILDREN_IN_TRANSACTION = "SELECT x." + FEDORA_ID_COLUMN +
             " FROM (SELECT " + FEDORA_ID_COLUMN + " FROM " + RESOURCES_TABLE +
-            " WHERE " + PARENT_COLUMN + " = :parent AND " + END_TIME_COLUMN + " IS NOT NULL UNION" +
+            " WHERE " + PARENT_COLUMN + " = :parent AND " + END_TIME_COLUMN + " IS NOT NULL AND " +
+            FEDORA_ID_COLUMN + " > :after UNION" +
             " SELECT " + FEDORA_ID_COLUMN + " FROM " + TRANSACTION_OPERATIONS_TABLE + " WHERE " +
             PARENT_COLUMN + " = :parent AND " + TRANSACTION_ID_COLUMN + " = :transactionId AND " +
-            OPERATION_COLUMN + " = 'delete') x" +
+            OPERATION_COLUMN + " = 'delete' AND " + FEDORA_ID_COLUMN + " > :after) x" +
             " WHERE NOT EXISTS " +
             "(SELECT 1 FROM " + TRANSACTION_OPERATIONS_TABLE + " WHERE " + PARENT_COLUMN + " = :parent AND " +
             FEDORA_ID_COLUMN + " = x." + FEDORA_ID_COLUMN + " AND " + TRANSACTION_ID_COLUMN + " = :transactionId AND " +
-            OPERATION_COLUMN + " = 'add') ORDER BY x." + FEDORA_ID_COLUMN + " LIMIT :containsLimit OFFSET :offSet";
+            OPERATION_COLUMN + " = 'add') ORDER BY x." + FEDORA_ID_COLUMN + " LIMIT :containsLimit";
 
     /*
      * Upsert a parent child relationship to the transaction operation table.
@@ -495,6 +502,13 @@ public class ContainmentIndexImpl implements ContainmentIndex {
 
     private Cache<String, Boolean> resourceExistsCache;
 
+    private LastUpdatedCache lastUpdatedCache;
+
+    // Containment changes of long-running transactions not yet written to the transaction operation table
+    private final Map<String, ContainmentTransactionBuffer> transactionBuffers = new ConcurrentHashMap<>();
+
+    private int transactionBatchSize;
+
     /**
      * Connect to the database
      */
@@ -510,6 +524,9 @@ public class ContainmentIndexImpl implements ContainmentIndex {
                 .maximumSize(fedoraPropsConfig.getContainmentCacheSize())
                 .expireAfterAccess(fedoraPropsConfig.getContainmentCacheTimeout(), TimeUnit.MINUTES)
                 .build();
+        this.lastUpdatedCache = new LastUpdatedCache(fedoraPropsConfig.getContainmentCacheSize(),
+                fedoraPropsConfig.getContainmentCacheTimeout());
+        this.transactionBatchSize = fedoraPropsConfig.getContainmentTransactionBatchSize();
     }
 
     private NamedParameterJdbcTemplate getNamedParameterJdbcTemplate() {
@@ -520,31 +537,50 @@ public class ContainmentIndexImpl implements ContainmentIndex {
         containsLimit = limit;
     }
 
+    void setTransactionBatchSize(final int batchSize) {
+        transactionBatchSize = batchSize;
+    }
+
     @Override
     public Stream<String> getContains(@Nonnull final Transaction tx, final FedoraId fedoraId) {
+        final MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+        final String query = selectChildrenQuery(tx, fedoraId, parameterSource);
+        return StreamSupport.stream(new ContainmentIterator(query, parameterSource), false);
+    }
+
+    @Override
+    public List<String> getContainsPage(@Nonnull final Transaction tx, final FedoraId fedoraId, final String after,
+                                        final int limit) {
+        final MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+        final String query = selectChildrenQuery(tx, fedoraId, parameterSource);
+        parameterSource.addValue("after", after == null ? "" : after);
+        parameterSource.addValue("containsLimit", limit);
+        return jdbcTemplate.queryForList(query, parameterSource, String.class);
+    }
+
+    /**
+     * Select the query for the children of a resource, adding its parameters other than the page position.
+     */
+    private String selectChildrenQuery(final Transaction tx, final FedoraId fedoraId,
+                                       final MapSqlParameterSource parameterSource) {
         final String resourceId = fedoraId.isMemento() ? fedoraId.getBaseId() : fedoraId.getFullId();
         final Instant asOfTime = fedoraId.isMemento() ? fedoraId.getMementoInstant() : null;
-        final MapSqlParameterSource parameterSource = new MapSqlParameterSource();
         parameterSource.addValue("parent", resourceId);
 
         LOGGER.debug("getContains for {} in transaction {} and instant {}", resourceId, tx, asOfTime);
 
-        final String query;
         if (asOfTime == null) {
             if (tx.isOpenLongRunning()) {
                 // we are in a transaction
+                flushTransactionBuffer(tx.getId());
                 parameterSource.addValue("transactionId", tx.getId());
-                query = SELECT_CHILDREN_IN_TRANSACTION;
-            } else {
-                // not in a transaction
-                query = SELECT_CHILDREN;
+                return SELECT_CHILDREN_IN_TRANSACTION;
             }
-        } else {
-            parameterSource.addValue("asOfTime", formatInstant(asOfTime));
-            query = SELECT_CHILDREN_OF_MEMENTO;
+            // not in a transaction
+            return SELECT_CHILDREN;
         }
-
-        return StreamSupport.stream(new ContainmentIterator(query, parameterSource), false);
+        parameterSource.addValue("asOfTime", formatInstant(asOfTime));
+        return SELECT_CHILDREN_OF_MEMENTO;
     }
 
     @Override
@@ -556,6 +592,7 @@ public class ContainmentIndexImpl implements ContainmentIndex {
         final String query;
         if (tx.isOpenLongRunning()) {
             // we are in a transaction
+            flushTransactionBuffer(tx.getId());
             parameterSource.addValue("transactionId", tx.getId());
             query = SELECT_DELETED_CHILDREN_IN_TRANSACTION;
         } else {
@@ -571,6 +608,14 @@ public class ContainmentIndexImpl implements ContainmentIndex {
         final String resourceID = resource.getFullId();
         final String parentID;
         if (tx.isOpenLongRunning()) {
+            final var change = getBufferedChange(tx, resourceID);
+            if (change != null) {
+                if (!change.getOperation().equals("purge")) {
+                    return change.getOperation().equals("add") ? change.getParent() : null;
+                }
+                // A purge does not hide the parent, which is answered by the transaction operation table
+                flushTransactionBuffer(tx.getId());
+            }
             parentID = jdbcTemplate.queryForList(PARENT_EXISTS_IN_TRANSACTION, Map.of("child", resourceID,
                     "transactionId", tx.getId()), String.class).stream().findFirst().orElse(null);
         } else {
@@ -625,9 +670,16 @@ public class ContainmentIndexImpl implements ContainmentIndex {
                 parameterSource.addValue("parent", parentID);
                 parameterSource.addValue("child", childID);
                 parameterSource.addValue("transactionId", tx.getId());
-                final boolean addedInTxn = !jdbcTemplate.queryForList(IS_CHILD_ADDED_IN_TRANSACTION, parameterSource)
-                        .isEmpty();
+                final var change = getBufferedChange(tx, childID);
+                final boolean addedInTxn;
+                if (change != null) {
+                    addedInTxn = change.getOperation().equals("add") && change.getParent().equals(parentID);
+                } else {
+                    addedInTxn = !jdbcTemplate.queryForList(IS_CHILD_ADDED_IN_TRANSACTION, parameterSource)
+                            .isEmpty();
+                }
                 if (addedInTxn) {
+                    discardBufferedChange(tx, childID);
                     jdbcTemplate.update(UNDO_INSERT_CHILD_IN_TRANSACTION, parameterSource);
                 } else {
                     doUpsert(tx, parentID, childID, null, Instant.now(), "delete");
@@ -648,9 +700,16 @@ public class ContainmentIndexImpl implements ContainmentIndex {
                 final MapSqlParameterSource parameterSource = new MapSqlParameterSource();
                 parameterSource.addValue("child", resourceID);
                 parameterSource.addValue("transactionId", tx.getId());
-                final boolean addedInTxn = !jdbcTemplate.queryForList(IS_CHILD_ADDED_IN_TRANSACTION_NO_PARENT,
-                        parameterSource).isEmpty();
+                final var change = getBufferedChange(tx, resourceID);
+                final boolean addedInTxn;
+                if (change != null) {
+                    addedInTxn = change.getOperation().equals("add");
+                } else {
+                    addedInTxn = !jdbcTemplate.queryForList(IS_CHILD_ADDED_IN_TRANSACTION_NO_PARENT,
+                            parameterSource).isEmpty();
+                }
                 if (addedInTxn) {
+                    discardBufferedChange(tx, resourceID);
                     jdbcTemplate.update(UNDO_INSERT_CHILD_IN_TRANSACTION_NO_PARENT, parameterSource);
                 } else {
                     final String parent = getContainedBy(tx, resource);
@@ -689,13 +748,16 @@ public class ContainmentIndexImpl implements ContainmentIndex {
                     final MapSqlParameterSource parameterSource = new MapSqlParameterSource();
                     parameterSource.addValue("child", resourceID);
                     jdbcTemplate.update(DIRECT_PURGE, parameterSource);
+                    lastUpdatedCache.invalidate(resourceID);
+                    invalidateOnRollback(parent, resourceID);
                 }
             }
         });
     }
 
     /**
-     * Do the Upsert action to the transaction table.
+     * Do the Upsert action to the transaction table. The change is buffered and written in a batch with the other
+     * changes of the transaction, once the buffer is full or the changes are needed by a query.
      * @param tx the transaction
      * @param parentId the containing resource id
      * @param resourceId the contained resource id
@@ -705,18 +767,69 @@ public class ContainmentIndexImpl implements ContainmentIndex {
      */
     private void doUpsert(final Transaction tx, final String parentId, final String resourceId, final Instant startTime,
                           final Instant endTime, final String operation) {
-        final var parameterSource = new MapSqlParameterSource();
-        parameterSource.addValue("child", resourceId);
-        parameterSource.addValue("transactionId", tx.getId());
-        parameterSource.addValue("parent", parentId);
-        if (startTime == null) {
-            parameterSource.addValue("startTime", formatInstant(getCurrentStartTime(resourceId)));
-        } else {
-            parameterSource.addValue("startTime", formatInstant(startTime));
+        final Instant start = startTime == null ? getCurrentStartTime(resourceId) : startTime;
+        final var buffer = transactionBuffers.computeIfAbsent(tx.getId(), id -> new ContainmentTransactionBuffer());
+        final var change = new ContainmentTransactionBuffer.Change(parentId, resourceId, formatInstant(start),
+                formatInstant(endTime), operation);
+        if (buffer.add(change) >= transactionBatchSize) {
+            flushTransactionBuffer(tx.getId());
+        }
+    }
+
+    /**
+     * Write the buffered changes of a long-running transaction to the transaction table with a batch statement.
+     * @param txId the transaction id
+     */
+    private void flushTransactionBuffer(final String txId) {
+        final var buffer = transactionBuffers.get(txId);
+        if (buffer == null) {
+            return;
+        }
+        // Changes are written in the order they were buffered, so that a later flush never precedes an earlier one
+        synchronized (buffer) {
+            final var changes = buffer.drain();
+            if (changes.isEmpty()) {
+                return;
+            }
+            LOGGER.debug("Writing {} containment changes in tx {}", changes.size(), txId);
+            final List<MapSqlParameterSource> upserts = new ArrayList<>(changes.size());
+            for (final var change : changes) {
+                upserts.add(new MapSqlParameterSource()
+                        .addValue("child", change.getChild())
+                        .addValue("transactionId", txId)
+                        .addValue("parent", change.getParent())
+                        .addValue("startTime", change.getStartTime())
+                        .addValue("endTime", change.getEndTime())
+                        .addValue("operation", change.getOperation()));
+            }
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_MAPPING.get(dbPlatform),
+                        upserts.toArray(new MapSqlParameterSource[0]));
+            } catch (final RuntimeException e) {
+                buffer.restore(changes);
+                throw e;
+            }
+            // The changes are only written once the db transaction commits, it may still be rolled back and retried
+            afterDbTransaction(() -> buffer.written(changes), () -> buffer.restore(changes));
+        }
+    }
+
+    /**
+     * Get the buffered change of a resource in a long-running transaction.
+     * @param tx the transaction
+     * @param resourceId the contained resource id
+     * @return the change not yet written to the transaction table, or null if there is none
+     */
+    private ContainmentTransactionBuffer.Change getBufferedChange(final Transaction tx, final String resourceId) {
+        final var buffer = transactionBuffers.get(tx.getId());
+        return buffer == null ? null : buffer.get(resourceId);
+    }
+
+    private void discardBufferedChange(final Transaction tx, final String resourceId) {
+        final var buffer = transactionBuffers.get(tx.getId());
+        if (buffer != null) {
+            buffer.remove(resourceId);
         }
-        parameterSource.addValue("endTime", formatInstant(endTime));
-        parameterSource.addValue("operation", operation);
-        jdbcTemplate.update(UPSERT_MAPPING.get(dbPlatform), parameterSource);
     }
 
     /**
@@ -748,6 +861,45 @@ public class ContainmentIndexImpl implements ContainmentIndex {
         jdbcTemplate.update(query, parameterSource);
         updateParentTimestamp(parentId, startTime, endTime);
         resourceExistsCache.invalidate(resourceId);
+        invalidateOnRollback(parentId, resourceId);
+    }
+
+    /**
+     * Values cached while a direct change is uncommitted are invalid once the db transaction it was made in rolls
+     * back, for instance when a request creating several resources fails midway.
+     *
+     * @param parentId the containing resource id
+     * @param resourceId the contained resource id
+     */
+    private void invalidateOnRollback(final String parentId, final String resourceId) {
+        afterDbTransaction(() -> { }, () -> {
+            getContainedByCache.invalidate(resourceId);
+            resourceExistsCache.invalidate(resourceId);
+            lastUpdatedCache.invalidateAll(List.of(parentId, resourceId));
+        });
+    }
+
+    /**
+     * Run an action once the current db transaction completes, or right away when there is none.
+     *
+     * @param onCommit the action to run if the db transaction commits
+     * @param onRollback the action to run if the db transaction is rolled back
+     */
+    private static void afterDbTransaction(final Runnable onCommit, final Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
     }
 
     private void updateParentTimestamp(final String parentId, final Instant startTime, final Instant endTime) {
@@ -756,6 +908,7 @@ public class ContainmentIndexImpl implements ContainmentIndex {
         parameterSource.addValue("resourceId", parentId);
         parameterSource.addValue("updated", formatInstant(updated));
         jdbcTemplate.update(CONDITIONALLY_UPDATE_LAST_UPDATED, parameterSource);
+        lastUpdatedCache.invalidate(parentId);
     }
 
     @Override
@@ -763,6 +916,9 @@ public class ContainmentIndexImpl implements ContainmentIndex {
         if (!tx.isShortLived()) {
             tx.ensureCommitting();
             try {
+                flushTransactionBuffer(tx.getId());
+                // keep the buffer while the commit may still be rolled back and retried
+                afterDbTransaction(() -> transactionBuffers.remove(tx.getId()), () -> { });
                 final MapSqlParameterSource parameterSource = new MapSqlParameterSource();
                 parameterSource.addValue("transactionId", tx.getId());
                 final List<String> changedParents = jdbcTemplate.queryForList(GET_UPDATED_RESOURCES, parameterSource,
@@ -787,6 +943,8 @@ public class ContainmentIndexImpl implements ContainmentIndex {
                 // Add inserted records to removed records list.
                 removedResources.addAll(addedResources);
                 this.resourceExistsCache.invalidateAll(removedResources);
+                removedResources.addAll(changedParents);
+                this.lastUpdatedCache.invalidateAll(removedResources);
                 LOGGER.debug("Commit of tx {} complete with {} adds, {} deletes and {} purges",
                         tx.getId(), added, deleted, purged);
             } catch (final Exception e) {
@@ -800,6 +958,7 @@ public class ContainmentIndexImpl implements ContainmentIndex {
     @Override
     public void rollbackTransaction(final Transaction tx) {
         if (!tx.isShortLived()) {
+            transactionBuffers.remove(tx.getId());
             final MapSqlParameterSource parameterSource = new MapSqlParameterSource();
             parameterSource.addValue("transactionId", tx.getId());
             jdbcTemplate.update(DELETE_ENTIRE_TRANSACTION, parameterSource);
@@ -808,6 +967,7 @@ public class ContainmentIndexImpl implements ContainmentIndex {
 
     @Override
     public void clearAllTransactions() {
+        transactionBuffers.clear();
         jdbcTemplate.update(TRUNCATE_TABLE + TRANSACTION_OPERATIONS_TABLE, Collections.emptyMap());
     }
 
@@ -822,6 +982,10 @@ public class ContainmentIndexImpl implements ContainmentIndex {
             return true;
         }
         if (tx.isOpenLongRunning()) {
+            final var change = getBufferedChange(tx, resourceId);
+            if (change != null) {
+                return change.getOperation().equals("add");
+            }
             final var queryToUse = includeDeleted ? RESOURCE_OR_TOMBSTONE_EXISTS_IN_TRANSACTION :
                     RESOURCE_EXISTS_IN_TRANSACTION;
             return !jdbcTemplate.queryForList(queryToUse,
@@ -870,7 +1034,9 @@ public class ContainmentIndexImpl implements ContainmentIndex {
         try {
             jdbcTemplate.update(TRUNCATE_TABLE + RESOURCES_TABLE, Collections.emptyMap());
             jdbcTemplate.update(TRUNCATE_TABLE + TRANSACTION_OPERATIONS_TABLE, Collections.emptyMap());
+            transactionBuffers.clear();
             this.getContainedByCache.invalidateAll();
+            this.lastUpdatedCache.invalidateAll();
         } catch (final Exception e) {
             throw new RepositoryRuntimeException("Failed to truncate containment tables", e);
         }
@@ -889,6 +1055,7 @@ public class ContainmentIndexImpl implements ContainmentIndex {
         parameterSource.addValue("resourceId", resourceId + "/%");
         final boolean matchingIds;
         if (tx.isOpenLongRunning()) {
+            flushTransactionBuffer(tx.getId());
             parameterSource.addValue("transactionId", tx.getId());
             matchingIds = !jdbcTemplate.queryForList(SELECT_ID_LIKE_IN_TRANSACTION, parameterSource, String.class)
                 .isEmpty();
@@ -900,17 +1067,20 @@ public class ContainmentIndexImpl implements ContainmentIndex {
 
     @Override
     public Instant containmentLastUpdated(final Transaction tx, final FedoraId fedoraId) {
+        final String resourceId = fedoraId.getFullId();
         final MapSqlParameterSource parameterSource = new MapSqlParameterSource();
-        parameterSource.addValue("resourceId", fedoraId.getFullId());
-        final String queryToUse;
+        parameterSource.addValue("resourceId", resourceId);
         if (tx.isOpenLongRunning()) {
+            flushTransactionBuffer(tx.getId());
             parameterSource.addValue("transactionId", tx.getId());
-            queryToUse = SELECT_LAST_UPDATED_IN_TX;
-        } else {
-            queryToUse = SELECT_LAST_UPDATED;
+            return selectLastUpdated(SELECT_LAST_UPDATED_IN_TX, parameterSource);
         }
+        return lastUpdatedCache.get(resourceId, () -> selectLastUpdated(SELECT_LAST_UPDATED, parameterSource));
+    }
+
+    private Instant selectLastUpdated(final String query, final MapSqlParameterSource parameterSource) {
         try {
-            return fromTimestamp(jdbcTemplate.queryForObject(queryToUse, parameterSource, Timestamp.class));
+            return fromTimestamp(jdbcTemplate.queryForObject(query, parameterSource, Timestamp.class));
         } catch (final EmptyResultDataAccessException e) {
             return null;
         }
@@ -970,7 +1140,7 @@ public class ContainmentIndexImpl implements ContainmentIndex {
      */
     private class ContainmentIterator extends Spliterators.AbstractSpliterator<String> {
         final Queue<String> children = new ConcurrentLinkedQueue<>();
-        int numOffsets = 0;
+        String lastChild = "";
         final String queryToUse;
         final MapSqlParameterSource parameterSource;
 
@@ -986,13 +1156,14 @@ public class ContainmentIndexImpl implements ContainmentIndex {
             try {
                 action.accept(children.remove());
             } catch (final NoSuchElementException e) {
-                parameterSource.addValue("offSet", numOffsets * containsLimit);
-                numOffsets += 1;
-                children.addAll(jdbcTemplate.queryForList(queryToUse, parameterSource, String.class));
-                if (children.size() == 0) {
+                parameterSource.addValue("after", lastChild);
+                final var page = jdbcTemplate.queryForList(queryToUse, parameterSource, String.class);
+                if (page.isEmpty()) {
                     // no more elements.
                     return false;
                 }
+                lastChild = page.getLast();
+                children.addAll(page);
                 action.accept(children.remove());
             }
             return true;
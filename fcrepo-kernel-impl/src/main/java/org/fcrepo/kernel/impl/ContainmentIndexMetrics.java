@@ -9,6 +9,7 @@ package org.fcrepo.kernel.impl;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 import org.fcrepo.common.metrics.MetricsHelper;
+import org.fcrepo.common.metrics.RequestTimings.Phase;
 import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
@@ -19,6 +20,7 @@ import org.springframework.context.annotation.Role;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -37,6 +39,8 @@ public class ContainmentIndexMetrics implements ContainmentIndex {
 
     private static final Timer getContainsTimer = Metrics.timer(METRIC_NAME,
             DB, CONTAINMENT, OPERATION, "getContains");
+    private static final Timer getContainsPageTimer = Metrics.timer(METRIC_NAME,
+            DB, CONTAINMENT, OPERATION, "getContainsPage");
     private static final Timer getContainsDeletedTimer = Metrics.timer(METRIC_NAME,
             DB, CONTAINMENT, OPERATION, "getContainsDeleted");
     private static final Timer getContainsByTimer = Metrics.timer(METRIC_NAME,
@@ -72,49 +76,57 @@ public class ContainmentIndexMetrics implements ContainmentIndex {
 
     @Override
     public Stream<String> getContains(final Transaction tx, final FedoraId fedoraId) {
-        return MetricsHelper.time(getContainsTimer, () -> {
+        return MetricsHelper.time(Phase.CONTAINMENT, getContainsTimer, () -> {
             return containmentIndexImpl.getContains(tx, fedoraId);
         });
     }
 
+    @Override
+    public List<String> getContainsPage(final Transaction tx, final FedoraId fedoraId, final String after,
+                                        final int limit) {
+        return MetricsHelper.time(Phase.CONTAINMENT, getContainsPageTimer, () -> {
+            return containmentIndexImpl.getContainsPage(tx, fedoraId, after, limit);
+        });
+    }
+
     @Override
     public Stream<String> getContainsDeleted(final Transaction tx, final FedoraId fedoraId) {
-        return MetricsHelper.time(getContainsDeletedTimer, () -> {
+        return MetricsHelper.time(Phase.CONTAINMENT, getContainsDeletedTimer, () -> {
             return containmentIndexImpl.getContainsDeleted(tx, fedoraId);
         });
     }
 
     @Override
     public String getContainedBy(final Transaction tx, final FedoraId resource) {
-        return MetricsHelper.time(getContainsByTimer, () -> {
+        return MetricsHelper.time(Phase.CONTAINMENT, getContainsByTimer, () -> {
             return containmentIndexImpl.getContainedBy(tx, resource);
         });
     }
 
     @Override
     public void removeContainedBy(final Transaction tx, final FedoraId parent, final FedoraId child) {
-        removeContainedByTimer.record(() -> {
+        MetricsHelper.record(Phase.CONTAINMENT, removeContainedByTimer, () -> {
             containmentIndexImpl.removeContainedBy(tx, parent, child);
         });
     }
 
     @Override
     public void removeResource(final Transaction tx, final FedoraId resource) {
-        removeResourceTimer.record(() -> {
+        MetricsHelper.record(Phase.CONTAINMENT, removeResourceTimer, () -> {
             containmentIndexImpl.removeResource(tx, resource);
         });
     }
 
     @Override
     public void purgeResource(final Transaction tx, final FedoraId resource) {
-        purgeResourceTimer.record(() -> {
+        MetricsHelper.record(Phase.CONTAINMENT, purgeResourceTimer, () -> {
             containmentIndexImpl.purgeResource(tx, resource);
         });
     }
 
     @Override
     public void addContainedBy(final Transaction tx, final FedoraId parent, final FedoraId child) {
-        addContainedByTimer.record(() -> {
+        MetricsHelper.record(Phase.CONTAINMENT, addContainedByTimer, () -> {
             containmentIndexImpl.addContainedBy(tx, parent, child);
         });
     }
@@ -122,60 +134,61 @@ public class ContainmentIndexMetrics implements ContainmentIndex {
     @Override
     public void addContainedBy(final Transaction tx, final FedoraId parent, final FedoraId child,
                                final Instant startTime, final Instant endTime) {
-        addContainedByTimer.record(() -> containmentIndexImpl.addContainedBy(tx, parent, child, startTime, endTime));
+        MetricsHelper.record(Phase.CONTAINMENT, addContainedByTimer,
+                () -> containmentIndexImpl.addContainedBy(tx, parent, child, startTime, endTime));
     }
 
     @Override
     public void commitTransaction(final Transaction tx) {
-        commitTransactionTimer.record(() -> {
+        MetricsHelper.record(Phase.CONTAINMENT, commitTransactionTimer, () -> {
             containmentIndexImpl.commitTransaction(tx);
         });
     }
 
     @Override
     public void rollbackTransaction(final Transaction tx) {
-        rollbackTransactionTimer.record(() -> {
+        MetricsHelper.record(Phase.CONTAINMENT, rollbackTransactionTimer, () -> {
             containmentIndexImpl.rollbackTransaction(tx);
         });
     }
 
     @Override
     public void clearAllTransactions() {
-        clearAllTransactionsTimer.record(() -> {
+        MetricsHelper.record(Phase.CONTAINMENT, clearAllTransactionsTimer, () -> {
             containmentIndexImpl.clearAllTransactions();
         });
     }
 
     @Override
     public boolean resourceExists(final Transaction tx, final FedoraId fedoraId, final boolean includeDeleted) {
-        return MetricsHelper.time(resourceExistsTimer, () -> {
+        return MetricsHelper.time(Phase.CONTAINMENT, resourceExistsTimer, () -> {
             return containmentIndexImpl.resourceExists(tx, fedoraId, includeDeleted);
         });
     }
 
     @Override
     public FedoraId getContainerIdByPath(final Transaction tx, final FedoraId fedoraId, final boolean checkDeleted) {
-        return MetricsHelper.time(getContainerIdByPathTimer, () -> {
+        return MetricsHelper.time(Phase.CONTAINMENT, getContainerIdByPathTimer, () -> {
             return containmentIndexImpl.getContainerIdByPath(tx, fedoraId, checkDeleted);
         });
     }
 
     @Override
     public void reset() {
-        resetTimer.record(() -> {
+        MetricsHelper.record(Phase.CONTAINMENT, resetTimer, () -> {
             containmentIndexImpl.reset();
         });
     }
 
     @Override
     public boolean hasResourcesStartingWith(final Transaction tx, final FedoraId fedoraId) {
-        return MetricsHelper.time(hasResourcesStartingWithTimer, () ->
+        return MetricsHelper.time(Phase.CONTAINMENT, hasResourcesStartingWithTimer, () ->
                 containmentIndexImpl.hasResourcesStartingWith(tx, fedoraId));
     }
 
     @Override
     public Instant containmentLastUpdated(final Transaction tx, final FedoraId fedoraId) {
-        return MetricsHelper.time(containmentLastUpdateTimer, () ->
+        return MetricsHelper.time(Phase.CONTAINMENT, containmentLastUpdateTimer, () ->
                 containmentIndexImpl.containmentLastUpdated(tx, fedoraId));
     }
 }
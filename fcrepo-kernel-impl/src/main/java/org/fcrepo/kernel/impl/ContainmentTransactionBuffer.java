@@ -0,0 +1,148 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.impl;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The containment changes of a long-running transaction which have not yet been written to the transaction
+ * operation table. Like the table, only the latest operation on each child is kept, so the buffer can answer
+ * whether a child it holds exists in the transaction and which resource contains it.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+class ContainmentTransactionBuffer {
+
+    /**
+     * A change to the containment of a child, as it is written to the transaction operation table
+     */
+    static class Change {
+
+        private final String parent;
+
+        private final String child;
+
+        private final Timestamp startTime;
+
+        private final Timestamp endTime;
+
+        private final String operation;
+
+        /**
+         * @param parent the containing resource id
+         * @param child the contained resource id
+         * @param startTime the start of the relationship
+         * @param endTime the end of the relationship, or null for none
+         * @param operation the operation, "add", "delete" or "purge"
+         */
+        Change(final String parent, final String child, final Timestamp startTime, final Timestamp endTime,
+               final String operation) {
+            this.parent = parent;
+            this.child = child;
+            this.startTime = startTime;
+            this.endTime = endTime;
+            this.operation = operation;
+        }
+
+        String getParent() {
+            return parent;
+        }
+
+        String getChild() {
+            return child;
+        }
+
+        Timestamp getStartTime() {
+            return startTime;
+        }
+
+        Timestamp getEndTime() {
+            return endTime;
+        }
+
+        String getOperation() {
+            return operation;
+        }
+    }
+
+    private final Map<String, Change> changes = new LinkedHashMap<>();
+
+    // Changes written to the transaction operation table by a db transaction which has not completed yet
+    private final Map<String, Change> written = new LinkedHashMap<>();
+
+    /**
+     * Add a change, replacing any earlier change of the child which was not written.
+     *
+     * @param change the change
+     * @return the number of changes to write
+     */
+    synchronized int add(final Change change) {
+        changes.put(change.getChild(), change);
+        return changes.size();
+    }
+
+    /**
+     * @param child the contained resource id
+     * @return the change of the child which was not written, or null if there is none
+     */
+    synchronized Change get(final String child) {
+        return changes.get(child);
+    }
+
+    /**
+     * Discard the change of a child which was not written.
+     *
+     * @param child the contained resource id
+     */
+    synchronized void remove(final String child) {
+        changes.remove(child);
+    }
+
+    /**
+     * Take the changes to write. They are kept until the db transaction writing them completes, and must be passed
+     * to {@link #written(List)} once it commits or to {@link #restore(List)} if it fails.
+     *
+     * @return the changes, in the order their children were first changed
+     */
+    synchronized List<Change> drain() {
+        final var drained = new ArrayList<>(changes.values());
+        written.putAll(changes);
+        changes.clear();
+        return drained;
+    }
+
+    /**
+     * Forget changes whose write was committed.
+     *
+     * @param drained the changes, as returned by {@link #drain()}
+     */
+    synchronized void written(final List<Change> drained) {
+        drained.forEach(change -> written.remove(change.getChild(), change));
+    }
+
+    /**
+     * Put back changes whose write failed or was rolled back, unless their child changed again since.
+     *
+     * @param drained the changes, as returned by {@link #drain()}
+     */
+    synchronized void restore(final List<Change> drained) {
+        final var restored = new LinkedHashMap<String, Change>();
+        for (final var change : drained) {
+            if (written.remove(change.getChild(), change) && !changes.containsKey(change.getChild())) {
+                restored.put(change.getChild(), change);
+            }
+        }
+        // the restored changes were made before the ones buffered since
+        restored.putAll(changes);
+        changes.clear();
+        changes.putAll(restored);
+    }
+}
@@ -18,6 +18,7 @@ import org.fcrepo.common.lang.CheckedRunnable;
 import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.TransactionState;
+import org.fcrepo.kernel.api.cache.ResourceHeadersCache;
 import org.fcrepo.kernel.api.cache.UserTypesCache;
 import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
 import org.fcrepo.kernel.api.exception.TransactionClosedException;
@@ -165,6 +166,10 @@ public class TransactionImpl implements Transaction {
             this.getUserTypesCache().dropSessionCache(id);
         });
 
+        execQuietly("Failed to clear resource headers cache in transaction " + id, () -> {
+            this.getResourceHeadersCache().invalidateSession(id);
+        });
+
         updateState(TransactionState.ROLLEDBACK);
 
         releaseLocks();
@@ -283,6 +288,7 @@ public class TransactionImpl implements Transaction {
     @Override
     public void lockResource(final FedoraId resourceId) {
         getResourceLockManger().acquireExclusive(getId(), resourceId);
+        getResourceHeadersCache().recordChange(resourceId, getId());
     }
 
     @Override
@@ -299,6 +305,7 @@ public class TransactionImpl implements Transaction {
     @Override
     public void lockResourceAndGhostNodes(final FedoraId resourceId) {
         getResourceLockManger().acquireExclusive(getId(), resourceId);
+        getResourceHeadersCache().recordChange(resourceId, getId());
         final var resourceIdStr = resourceId.getResourceId();
         final String estimateParentPath = resourceIdStr.indexOf('/') > -1 ?
                 resourceIdStr.substring(0,resourceIdStr.lastIndexOf('/')) : resourceIdStr;
@@ -344,6 +351,7 @@ public class TransactionImpl implements Transaction {
         this.getPersistentSession().prepare();
         this.getPersistentSession().commit();
         this.getUserTypesCache().mergeSessionCache(id);
+        this.getResourceHeadersCache().invalidateSession(id);
     }
 
     private void doCommitLongRunning() {
@@ -360,6 +368,7 @@ public class TransactionImpl implements Transaction {
             // waiting for the OCFL changes to be committed.
             this.getPersistentSession().commit();
             this.getUserTypesCache().mergeSessionCache(id);
+            this.getResourceHeadersCache().invalidateSession(id);
         });
     }
 
@@ -447,6 +456,10 @@ public class TransactionImpl implements Transaction {
         return this.txManager.getUserTypesCache();
     }
 
+    private ResourceHeadersCache getResourceHeadersCache() {
+        return this.txManager.getResourceHeadersCache();
+    }
+
     @Override
     public String toString() {
         return id;
@@ -10,6 +10,7 @@ import org.fcrepo.config.FedoraPropsConfig;
 import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.TransactionManager;
+import org.fcrepo.kernel.api.cache.ResourceHeadersCache;
 import org.fcrepo.kernel.api.cache.UserTypesCache;
 import org.fcrepo.kernel.api.exception.TransactionClosedException;
 import org.fcrepo.kernel.api.exception.TransactionNotFoundException;
@@ -82,6 +83,9 @@ public class TransactionManagerImpl implements TransactionManager {
     @Inject
     private UserTypesCache userTypesCache;
 
+    @Inject
+    private ResourceHeadersCache resourceHeadersCache;
+
     TransactionManagerImpl() {
         transactions = new ConcurrentHashMap<>();
     }
@@ -228,6 +232,10 @@ public class TransactionManagerImpl implements TransactionManager {
         return userTypesCache;
     }
 
+    protected ResourceHeadersCache getResourceHeadersCache() {
+        return resourceHeadersCache;
+    }
+
     public DbTransactionExecutor getDbTransactionExecutor() {
         return dbTransactionExecutor;
     }
@@ -0,0 +1,119 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.impl.cache;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Cache of the committed "last updated" timestamps an index keeps per resource, such as the last time the
+ * containment or membership of a resource changed. These timestamps are read to produce the etag of every RDF
+ * response, but only change when the index is written to.
+ *
+ * Every invalidation increments a version, and a value read from the index is only kept if no invalidation
+ * happened while it was being read. Invalidations made within a database transaction are repeated once the
+ * transaction completes, so values read before the changes were visible to other connections are discarded.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class LastUpdatedCache {
+
+    private final Cache<String, Optional<Instant>> cache;
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Create a new cache
+     *
+     * @param maximumSize the maximum number of resources to hold timestamps for
+     * @param timeout the number of minutes after which an unused timestamp expires
+     */
+    public LastUpdatedCache(final long maximumSize, final long timeout) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterAccess(timeout, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Get the committed timestamp of a resource, reading it from the index if it is not cached.
+     *
+     * @param resourceId the resource id
+     * @param loader reads the committed timestamp from the index
+     * @return the timestamp, or null if the index has none
+     */
+    public Instant get(final String resourceId, final Supplier<Instant> loader) {
+        final var cached = cache.getIfPresent(resourceId);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        final long loadVersion = version.get();
+        final var loaded = Optional.ofNullable(loader.get());
+        // Values read by a thread in a database transaction may include its own uncommitted changes
+        if (!TransactionSynchronizationManager.isActualTransactionActive() && version.get() == loadVersion) {
+            cache.put(resourceId, loaded);
+            if (version.get() != loadVersion) {
+                // an invalidation raced the put
+                cache.asMap().remove(resourceId, loaded);
+            }
+        }
+        return loaded.orElse(null);
+    }
+
+    /**
+     * Drop the timestamp of a resource whose entries in the index changed.
+     *
+     * @param resourceId the resource id
+     */
+    public void invalidate(final String resourceId) {
+        invalidateAll(List.of(resourceId));
+    }
+
+    /**
+     * Drop the timestamps of resources whose entries in the index changed.
+     *
+     * @param resourceIds the resource ids
+     */
+    public void invalidateAll(final Collection<String> resourceIds) {
+        if (resourceIds.isEmpty()) {
+            return;
+        }
+        doInvalidate(() -> cache.invalidateAll(resourceIds));
+    }
+
+    /**
+     * Drop all timestamps, for changes to the index which cannot be attributed to specific resources.
+     */
+    public void invalidateAll() {
+        doInvalidate(cache::invalidateAll);
+    }
+
+    private void doInvalidate(final Runnable invalidation) {
+        version.incrementAndGet();
+        invalidation.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    version.incrementAndGet();
+                    invalidation.run();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+
+package org.fcrepo.kernel.impl.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.kernel.api.ReadOnlyTransaction;
+import org.fcrepo.kernel.api.cache.ResourceHeadersCache;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.ResourceHeaders;
+
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Default ResourceHeadersCache implementation. Headers are grouped by the base id of their resource, so that the
+ * headers of a resource, its description and its mementos are discarded together, and the cache is bounded by the
+ * estimated memory the headers take.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@Component
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+public class ResourceHeadersCacheImpl implements ResourceHeadersCache {
+
+    private static final String METRIC_NAME = "fcrepo.cache.headers";
+
+    private static final Counter hitCounter = Metrics.counter(METRIC_NAME, "result", "hit");
+
+    private static final Counter missCounter = Metrics.counter(METRIC_NAME, "result", "miss");
+
+    private final boolean enabled;
+
+    private final Cache<String, Map<FedoraId, ResourceHeadersSnapshot>> cache;
+
+    // Base ids of the resources changed in each session
+    private final Map<String, Set<String>> sessionChanges;
+
+    // Incremented by every invalidation, so headers loaded while one happened are not cached
+    private long version;
+
+    public ResourceHeadersCacheImpl(final FedoraPropsConfig config) {
+        this.enabled = config.getResourceHeadersCacheSize() > 0;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(Math.max(config.getResourceHeadersCacheSize(), 0))
+                .weigher((final String id, final Map<FedoraId, ResourceHeadersSnapshot> headers) ->
+                        (int) Math.min(Integer.MAX_VALUE,
+                                headers.values().stream().mapToLong(ResourceHeadersSnapshot::getWeight).sum()))
+                .expireAfterAccess(config.getResourceHeadersCacheTimeout(), TimeUnit.MINUTES)
+                .build();
+        this.sessionChanges = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ResourceHeaders getHeaders(final FedoraId resourceId,
+                                      final String sessionId,
+                                      final Function<FedoraId, ResourceHeaders> headersLoader) {
+        if (!enabled || isChangedInSession(resourceId, sessionId)) {
+            return headersLoader.apply(resourceId);
+        }
+
+        final var group = cache.getIfPresent(resourceId.getBaseId());
+        final var cached = group == null ? null : group.get(resourceId);
+        if (cached != null) {
+            hitCounter.increment();
+            return cached;
+        }
+        missCounter.increment();
+
+        final long loadVersion;
+        synchronized (cache) {
+            loadVersion = version;
+        }
+        final var headers = headersLoader.apply(resourceId);
+        if (headers == null) {
+            return null;
+        }
+        final var snapshot = new ResourceHeadersSnapshot(headers);
+        put(resourceId, snapshot, loadVersion);
+        return snapshot;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void recordChange(final FedoraId resourceId, final String sessionId) {
+        if (enabled && isNotReadOnlySession(sessionId)) {
+            sessionChanges.computeIfAbsent(sessionId, k -> ConcurrentHashMap.newKeySet())
+                    .add(resourceId.getBaseId());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateSession(final String sessionId) {
+        final var changed = sessionChanges.remove(sessionId);
+        if (changed != null) {
+            synchronized (cache) {
+                version++;
+                cache.invalidateAll(changed);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidate(final Collection<FedoraId> resourceIds) {
+        final var baseIds = resourceIds.stream().map(FedoraId::getBaseId).collect(Collectors.toSet());
+        synchronized (cache) {
+            version++;
+            cache.invalidateAll(baseIds);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void invalidateAll() {
+        synchronized (cache) {
+            version++;
+            cache.invalidateAll();
+        }
+    }
+
+    private void put(final FedoraId resourceId, final ResourceHeadersSnapshot snapshot, final long loadVersion) {
+        // Replace the map of headers rather than changing it, so that the cache weighs it again
+        synchronized (cache) {
+            if (loadVersion != version) {
+                return;
+            }
+            final var existing = cache.getIfPresent(resourceId.getBaseId());
+            final Map<FedoraId, ResourceHeadersSnapshot> group = new HashMap<>();
+            if (existing != null) {
+                group.putAll(existing);
+            }
+            group.put(resourceId, snapshot);
+            cache.put(resourceId.getBaseId(), Map.copyOf(group));
+        }
+    }
+
+    private boolean isChangedInSession(final FedoraId resourceId, final String sessionId) {
+        if (!isNotReadOnlySession(sessionId)) {
+            return false;
+        }
+        final var changed = sessionChanges.get(sessionId);
+        return changed != null && changed.contains(resourceId.getBaseId());
+    }
+
+    private boolean isNotReadOnlySession(final String sessionId) {
+        return !ReadOnlyTransaction.READ_ONLY_TX_ID.equals(sessionId);
+    }
+
+}
@@ -0,0 +1,239 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+
+package org.fcrepo.kernel.impl.cache;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.ResourceHeaders;
+
+/**
+ * An immutable copy of the headers of a resource, as they are held in the {@link ResourceHeadersCacheImpl}, with an
+ * estimate of the memory they take.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+class ResourceHeadersSnapshot implements ResourceHeaders {
+
+    // Estimated size of the object, its fields and the instants and ids it references
+    private static final int BASE_WEIGHT = 256;
+
+    private final FedoraId id;
+
+    private final FedoraId parent;
+
+    private final FedoraId archivalGroupId;
+
+    private final String stateToken;
+
+    private final String interactionModel;
+
+    private final String mimeType;
+
+    private final String filename;
+
+    private final long contentSize;
+
+    private final Collection<URI> digests;
+
+    private final String externalUrl;
+
+    private final String externalHandling;
+
+    private final Instant createdDate;
+
+    private final String createdBy;
+
+    private final Instant lastModifiedDate;
+
+    private final String lastModifiedBy;
+
+    private final Instant mementoCreatedDate;
+
+    private final boolean archivalGroup;
+
+    private final boolean objectRoot;
+
+    private final boolean deleted;
+
+    private final String contentPath;
+
+    private final String headersVersion;
+
+    private final String storageRelativePath;
+
+    private final int weight;
+
+    /**
+     * @param headers the headers to copy
+     */
+    ResourceHeadersSnapshot(final ResourceHeaders headers) {
+        this.id = headers.getId();
+        this.parent = headers.getParent();
+        this.archivalGroupId = headers.getArchivalGroupId();
+        this.stateToken = headers.getStateToken();
+        this.interactionModel = headers.getInteractionModel();
+        this.mimeType = headers.getMimeType();
+        this.filename = headers.getFilename();
+        this.contentSize = headers.getContentSize();
+        this.digests = headers.getDigests() == null ? null : List.copyOf(headers.getDigests());
+        this.externalUrl = headers.getExternalUrl();
+        this.externalHandling = headers.getExternalHandling();
+        this.createdDate = headers.getCreatedDate();
+        this.createdBy = headers.getCreatedBy();
+        this.lastModifiedDate = headers.getLastModifiedDate();
+        this.lastModifiedBy = headers.getLastModifiedBy();
+        this.mementoCreatedDate = headers.getMementoCreatedDate();
+        this.archivalGroup = headers.isArchivalGroup();
+        this.objectRoot = headers.isObjectRoot();
+        this.deleted = headers.isDeleted();
+        this.contentPath = headers.getContentPath();
+        this.headersVersion = headers.getHeadersVersion();
+        this.storageRelativePath = headers.getStorageRelativePath();
+
+        long size = BASE_WEIGHT;
+        size += weigh(id) + weigh(parent) + weigh(archivalGroupId);
+        size += weigh(stateToken) + weigh(interactionModel) + weigh(mimeType) + weigh(filename);
+        size += weigh(externalUrl) + weigh(externalHandling) + weigh(createdBy) + weigh(lastModifiedBy);
+        size += weigh(contentPath) + weigh(headersVersion) + weigh(storageRelativePath);
+        if (digests != null) {
+            for (final URI digest : digests) {
+                size += 2L * digest.toString().length();
+            }
+        }
+        this.weight = (int) Math.min(size, Integer.MAX_VALUE);
+    }
+
+    private static long weigh(final String value) {
+        return value == null ? 0 : 2L * value.length();
+    }
+
+    private static long weigh(final FedoraId value) {
+        return value == null ? 0 : 4L * value.getFullId().length();
+    }
+
+    /**
+     * @return the estimated number of bytes the headers take in memory
+     */
+    int getWeight() {
+        return weight;
+    }
+
+    @Override
+    public FedoraId getId() {
+        return id;
+    }
+
+    @Override
+    public FedoraId getParent() {
+        return parent;
+    }
+
+    @Override
+    public FedoraId getArchivalGroupId() {
+        return archivalGroupId;
+    }
+
+    @Override
+    public String getStateToken() {
+        return stateToken;
+    }
+
+    @Override
+    public String getInteractionModel() {
+        return interactionModel;
+    }
+
+    @Override
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    @Override
+    public String getFilename() {
+        return filename;
+    }
+
+    @Override
+    public long getContentSize() {
+        return contentSize;
+    }
+
+    @Override
+    public Collection<URI> getDigests() {
+        return digests;
+    }
+
+    @Override
+    public String getExternalUrl() {
+        return externalUrl;
+    }
+
+    @Override
+    public String getExternalHandling() {
+        return externalHandling;
+    }
+
+    @Override
+    public Instant getCreatedDate() {
+        return createdDate;
+    }
+
+    @Override
+    public String getCreatedBy() {
+        return createdBy;
+    }
+
+    @Override
+    public Instant getLastModifiedDate() {
+        return lastModifiedDate;
+    }
+
+    @Override
+    public String getLastModifiedBy() {
+        return lastModifiedBy;
+    }
+
+    @Override
+    public Instant getMementoCreatedDate() {
+        return mementoCreatedDate;
+    }
+
+    @Override
+    public boolean isArchivalGroup() {
+        return archivalGroup;
+    }
+
+    @Override
+    public boolean isObjectRoot() {
+        return objectRoot;
+    }
+
+    @Override
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    @Override
+    public String getContentPath() {
+        return contentPath;
+    }
+
+    @Override
+    public String getHeadersVersion() {
+        return headersVersion;
+    }
+
+    @Override
+    public String getStorageRelativePath() {
+        return storageRelativePath;
+    }
+}
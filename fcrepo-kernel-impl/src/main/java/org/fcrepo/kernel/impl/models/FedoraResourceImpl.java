@@ -20,7 +20,6 @@ import static java.util.stream.Collectors.toList;
 
 import java.net.URI;
 import java.nio.file.Path;
-import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -174,24 +173,26 @@ public class FedoraResourceImpl implements FedoraResource {
 
     @Override
     public FedoraResource findMementoByDatetime(final Instant mementoDatetime) {
-        FedoraResource match = null;
-        long matchDiff = 0;
-
-        for (final var it = getTimeMap().getChildren().filter(FedoraResource::isMemento).iterator(); it.hasNext();) {
-            final var current = it.next();
-            // Negative if the memento is AFTER the requested datetime
-            // Positive if the memento is BEFORE the requested datetime
-            final var diff = Duration.between(current.getMementoDatetime(), mementoDatetime).toSeconds();
-
-            if (match == null                               // Save the first memento examined
-                    || (matchDiff < 0 && diff >= matchDiff) // Match is AFTER requested && current is closer
-                    || (diff >= 0 && diff <= matchDiff)) {  // Current memento EQUAL/BEFORE request && closer than match
-                match = current;
-                matchDiff = diff;
-            }
+        final var timeMapId = getTimeMap().getFedoraId();
+        final Instant closest;
+        try {
+            // Resolve the datetime against the version timeline, so that only the matching memento is loaded
+            closest = getSession().findClosestVersion(timeMapId.asResourceId(), mementoDatetime);
+        } catch (final PersistentItemNotFoundException e) {
+            throw new ItemNotFoundException("Unable to retrieve versions for " + getId(), e);
+        } catch (final PersistentStorageException e) {
+            throw new RepositoryRuntimeException(e.getMessage(), e);
         }
 
-        return match;
+        if (closest == null) {
+            return null;
+        }
+
+        try {
+            return resourceFactory.getResource(transaction, timeMapId.asMemento(closest));
+        } catch (final PathNotFoundException e) {
+            throw new PathNotFoundRuntimeException(e.getMessage(), e);
+        }
     }
 
     @Override
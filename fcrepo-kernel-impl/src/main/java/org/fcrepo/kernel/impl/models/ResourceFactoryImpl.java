@@ -20,6 +20,7 @@ import jakarta.inject.Inject;
 
 import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.Transaction;
+import org.fcrepo.kernel.api.cache.ResourceHeadersCache;
 import org.fcrepo.kernel.api.cache.UserTypesCache;
 import org.fcrepo.kernel.api.exception.PathNotFoundException;
 import org.fcrepo.kernel.api.exception.PathNotFoundRuntimeException;
@@ -64,6 +65,9 @@ public class ResourceFactoryImpl implements ResourceFactory {
     @Inject
     private UserTypesCache userTypesCache;
 
+    @Inject
+    private ResourceHeadersCache resourceHeadersCache;
+
     @Override
     public FedoraResource getResource(final Transaction transaction, final FedoraId fedoraID)
             throws PathNotFoundException {
@@ -130,7 +134,8 @@ public class ResourceFactoryImpl implements ResourceFactory {
             final var psSession = getSession(transaction);
             final Instant versionDateTime = identifier.isMemento() ? identifier.getMementoInstant() : null;
 
-            final ResourceHeaders headers = psSession.getHeaders(identifier, versionDateTime);
+            final ResourceHeaders headers = resourceHeadersCache.getHeaders(identifier, transaction.getId(),
+                    id -> psSession.getHeaders(id, versionDateTime));
             return instantiateResource(transaction, identifier, headers);
         } catch (final PersistentItemNotFoundException e) {
             throw new PathNotFoundException(e.getMessage(), e);
@@ -5,9 +5,8 @@
  */
 package org.fcrepo.kernel.impl.models;
 
-import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Resource;
-import org.apache.jena.rdf.model.impl.StatementImpl;
 import org.fcrepo.kernel.api.RdfLexicon;
 import org.fcrepo.kernel.api.RdfStream;
 import org.fcrepo.kernel.api.Transaction;
@@ -84,14 +83,14 @@ public class TimeMapImpl extends FedoraResourceImpl implements TimeMap {
 
     @Override
     public RdfStream getTriples() {
-        final var timeMapResource = asResource(this);
-        final var model = ModelFactory.createDefaultModel();
-        model.add(new StatementImpl(timeMapResource, RdfLexicon.MEMENTO_ORIGINAL_RESOURCE,
-                asResource(getOriginalResource())));
-        getChildren().map(this::asResource).forEach(child -> {
-            model.add(new StatementImpl(timeMapResource, RdfLexicon.CONTAINS, child));
-        });
-        return DefaultRdfStream.fromModel(timeMapResource.asNode(), model);
+        final var timeMapNode = asResource(this).asNode();
+        final var original = Triple.create(timeMapNode, RdfLexicon.MEMENTO_ORIGINAL_RESOURCE.asNode(),
+                asResource(getOriginalResource()).asNode());
+        // The memento ids are derived from the version datetimes, so the mementos themselves are not loaded and
+        // the containment triples are only created as the stream is consumed.
+        final var contains = getVersions().stream().distinct().map(version -> Triple.create(timeMapNode,
+                RdfLexicon.CONTAINS.asNode(), asResource(getInstantFedoraId(version)).asNode()));
+        return new DefaultRdfStream(timeMapNode, Stream.concat(Stream.of(original), contains));
     }
 
     @Override
@@ -150,7 +149,11 @@ public class TimeMapImpl extends FedoraResourceImpl implements TimeMap {
     }
 
     private Resource asResource(final FedoraResource fedoraResource) {
-        return org.apache.jena.rdf.model.ResourceFactory.createResource(fedoraResource.getFedoraId().getFullId());
+        return asResource(fedoraResource.getFedoraId());
+    }
+
+    private Resource asResource(final FedoraId fedoraId) {
+        return org.apache.jena.rdf.model.ResourceFactory.createResource(fedoraId.getFullId());
     }
 
     /**
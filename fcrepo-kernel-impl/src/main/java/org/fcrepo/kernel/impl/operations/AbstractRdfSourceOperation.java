@@ -9,6 +9,7 @@ import org.fcrepo.kernel.api.RdfStream;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.operations.RdfSourceOperation;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 
 /**
  * Abstract operation for interacting with an rdf source
@@ -20,6 +21,8 @@ public abstract class AbstractRdfSourceOperation extends AbstractRelaxableResour
 
     protected RdfStream triples;
 
+    protected RdfDelta delta;
+
     protected AbstractRdfSourceOperation(final Transaction transaction, final FedoraId rescId,
                                          final RdfStream triples) {
         super(transaction, rescId);
@@ -30,4 +33,16 @@ public abstract class AbstractRdfSourceOperation extends AbstractRelaxableResour
     public RdfStream getTriples() {
         return triples;
     }
+
+    @Override
+    public RdfDelta getDelta() {
+        return delta;
+    }
+
+    /**
+     * @param delta the triples added and removed by the operation
+     */
+    protected void setDelta(final RdfDelta delta) {
+        this.delta = delta;
+    }
 }
@@ -13,6 +13,7 @@ import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.operations.RdfSourceOperationBuilder;
 import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 
 import org.apache.jena.rdf.model.Model;
 
@@ -28,6 +29,11 @@ public abstract class AbstractRdfSourceOperationBuilder extends AbstractRelaxabl
      */
     protected RdfStream tripleStream;
 
+    /**
+     * Holds the difference between the user's triples and the existing triples of the resource, if known.
+     */
+    protected RdfDelta delta;
+
     /**
      * Principal of the user performing the operation
      */
@@ -69,6 +75,12 @@ public abstract class AbstractRdfSourceOperationBuilder extends AbstractRelaxabl
         return this;
     }
 
+    @Override
+    public RdfSourceOperationBuilder delta(final RdfDelta delta) {
+        this.delta = delta;
+        return this;
+    }
+
     @Override
     public RdfSourceOperationBuilder relaxedProperties(final Model model) {
         return (RdfSourceOperationBuilder) super.relaxedProperties(model);
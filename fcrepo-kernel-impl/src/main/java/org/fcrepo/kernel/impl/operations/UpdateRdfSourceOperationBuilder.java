@@ -40,6 +40,7 @@ public class UpdateRdfSourceOperationBuilder extends AbstractRdfSourceOperationB
         operation.setCreatedDate(createdDate);
         operation.setLastModifiedBy(lastModifiedBy);
         operation.setLastModifiedDate(lastModifiedDate);
+        operation.setDelta(delta);
         return operation;
     }
 
@@ -12,6 +12,7 @@ import java.util.stream.Stream;
 
 import jakarta.inject.Inject;
 
+import org.fcrepo.kernel.api.BinaryDigestIndex;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.auth.ACLHandle;
 import org.fcrepo.kernel.api.exception.PathNotFoundException;
@@ -50,6 +51,9 @@ abstract public class AbstractDeleteResourceService extends AbstractService {
     @Inject
     private Cache<String, Optional<ACLHandle>> authHandleCache;
 
+    @Inject
+    protected BinaryDigestIndex binaryDigestIndex;
+
     /**
      * The starts the service, does initial checks and setups for processing.
      * @param tx the transaction.
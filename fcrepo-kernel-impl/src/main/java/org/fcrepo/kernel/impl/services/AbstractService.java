@@ -11,29 +11,40 @@ import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.RDFNode;
 import org.apache.jena.rdf.model.Statement;
 
+import org.fcrepo.config.DigestAlgorithm;
 import org.fcrepo.config.FedoraPropsConfig;
 import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.RdfLexicon;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.cache.UserTypesCache;
 import org.fcrepo.kernel.api.exception.ACLAuthorizationConstraintViolationException;
+import org.fcrepo.kernel.api.exception.ExternalContentAccessException;
+import org.fcrepo.kernel.api.exception.InvalidChecksumException;
 import org.fcrepo.kernel.api.exception.MalformedRdfException;
 import org.fcrepo.kernel.api.exception.RequestWithAclLinkHeaderException;
 import org.fcrepo.kernel.api.exception.ServerManagedPropertyException;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.ExternalContent;
 import org.fcrepo.kernel.api.observer.EventAccumulator;
 import org.fcrepo.kernel.api.operations.ResourceOperation;
 import org.fcrepo.kernel.api.services.MembershipService;
 import org.fcrepo.kernel.api.services.ReferenceService;
 import org.fcrepo.persistence.api.PersistentStorageSession;
+import org.fcrepo.persistence.common.MultiDigestInputStreamWrapper;
 import org.fcrepo.search.api.SearchIndex;
 import org.slf4j.Logger;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 
 import jakarta.inject.Inject;
+import java.io.IOException;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -56,6 +67,7 @@ import static org.fcrepo.kernel.api.RdfLexicon.WEBAC_ACCESS_TO_CLASS;
 import static org.fcrepo.kernel.api.RdfLexicon.WEBAC_ACCESS_TO_PROPERTY;
 import static org.fcrepo.kernel.api.RdfLexicon.isManagedPredicate;
 import static org.fcrepo.kernel.api.rdf.DefaultRdfStream.fromModel;
+import static org.fcrepo.kernel.impl.services.BinaryDigestIndexImpl.getAlgorithm;
 import static org.slf4j.LoggerFactory.getLogger;
 
 
@@ -308,6 +320,37 @@ public abstract class AbstractService {
         }
     }
 
+    /**
+     * Verify that the content of an external binary which is not copied into the repository matches the provided
+     * digests. When the server holding the content reports digests for all the provided algorithms, these are
+     * compared instead. Otherwise the content is read once, and closed once verified.
+     *
+     * @param externalContent the external content
+     * @param digests the digests provided for the content
+     */
+    protected void verifyExternalContent(final ExternalContent externalContent, final Collection<URI> digests) {
+        final Map<DigestAlgorithm, URI> remoteDigests = new EnumMap<>(DigestAlgorithm.class);
+        externalContent.getRemoteDigests()
+                .forEach(remote -> remoteDigests.put(getAlgorithm(remote), remote));
+        if (digests.stream().allMatch(digest -> remoteDigests.containsKey(getAlgorithm(digest)))) {
+            for (final var digest : digests) {
+                final var remote = remoteDigests.get(getAlgorithm(digest));
+                if (!digest.toString().equalsIgnoreCase(remote.toString())) {
+                    throw new InvalidChecksumException(String.format(
+                            "Checksum mismatch, digest %s reported for %s did not match expected value %s",
+                            remote, externalContent.getURI(), digest));
+                }
+            }
+            return;
+        }
+        try (final var content = externalContent.fetchExternalContent()) {
+            new MultiDigestInputStreamWrapper(content, digests, Collections.emptyList()).checkFixity();
+        } catch (final IOException e) {
+            throw new ExternalContentAccessException("Failed to read external content from " +
+                    externalContent.getURI(), e);
+        }
+    }
+
     /**
      * Returns a Statement with the resource containing the acl to be the accessTo target for the given auth subject.
      *
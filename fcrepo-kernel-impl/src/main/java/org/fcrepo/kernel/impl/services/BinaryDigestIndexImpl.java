@@ -0,0 +1,143 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.impl.services;
+
+import static org.fcrepo.kernel.api.FedoraTypes.FCR_VERSIONS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.net.URI;
+import java.util.Collection;
+import java.util.List;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import javax.sql.DataSource;
+
+import org.fcrepo.config.DigestAlgorithm;
+import org.fcrepo.kernel.api.BinaryDigestIndex;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.Binary;
+import org.slf4j.Logger;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Database backed {@link BinaryDigestIndex}. Each digest is recorded along with the state token of the binary it was
+ * computed from, and is ignored once the binary changes.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@Component
+public class BinaryDigestIndexImpl implements BinaryDigestIndex {
+
+    private static final Logger LOGGER = getLogger(BinaryDigestIndexImpl.class);
+
+    private static final String TABLE_NAME = "binary_digests";
+
+    private static final String FEDORA_ID_COLUMN = "fedora_id";
+
+    private static final String ALGORITHM_COLUMN = "algorithm";
+
+    private static final String STATE_TOKEN_COLUMN = "state_token";
+
+    private static final String DIGEST_COLUMN = "digest";
+
+    private static final String SELECT_DIGESTS = "SELECT " + DIGEST_COLUMN + " FROM " + TABLE_NAME + " WHERE " +
+            FEDORA_ID_COLUMN + " = :fedoraId AND " + STATE_TOKEN_COLUMN + " = :stateToken";
+
+    private static final String UPDATE_DIGEST = "UPDATE " + TABLE_NAME + " SET " + STATE_TOKEN_COLUMN +
+            " = :stateToken, " + DIGEST_COLUMN + " = :digest WHERE " + FEDORA_ID_COLUMN + " = :fedoraId AND " +
+            ALGORITHM_COLUMN + " = :algorithm";
+
+    private static final String INSERT_DIGEST = "INSERT INTO " + TABLE_NAME + " (" + FEDORA_ID_COLUMN + ", " +
+            ALGORITHM_COLUMN + ", " + STATE_TOKEN_COLUMN + ", " + DIGEST_COLUMN +
+            ") VALUES (:fedoraId, :algorithm, :stateToken, :digest)";
+
+    private static final String DELETE_DIGESTS = "DELETE FROM " + TABLE_NAME + " WHERE " + FEDORA_ID_COLUMN +
+            " = :fedoraId OR " + FEDORA_ID_COLUMN + " LIKE :mementoIds ESCAPE '!'";
+
+    private static final String TRUNCATE_TABLE = "TRUNCATE TABLE " + TABLE_NAME;
+
+    @Inject
+    private DataSource dataSource;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void setUp() {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+    }
+
+    @Override
+    public List<URI> getDigests(final Binary binary) {
+        if (binary.getStateToken() == null) {
+            return List.of();
+        }
+        final var parameterSource = new MapSqlParameterSource();
+        parameterSource.addValue("fedoraId", binary.getFedoraId().getFullId());
+        parameterSource.addValue("stateToken", binary.getStateToken());
+        return jdbcTemplate.queryForList(SELECT_DIGESTS, parameterSource, String.class).stream()
+                .map(URI::create)
+                .toList();
+    }
+
+    /**
+     * {@inheritDoc}
+     * Failures to record digests are logged, as they can be computed again.
+     */
+    @Override
+    public void addDigests(final Binary binary, final Collection<URI> digests) {
+        if (binary.getStateToken() == null) {
+            return;
+        }
+        for (final var digest : digests) {
+            final var parameterSource = new MapSqlParameterSource();
+            parameterSource.addValue("fedoraId", binary.getFedoraId().getFullId());
+            parameterSource.addValue("algorithm", getAlgorithm(digest).name());
+            parameterSource.addValue("stateToken", binary.getStateToken());
+            parameterSource.addValue("digest", digest.toString());
+            try {
+                if (jdbcTemplate.update(UPDATE_DIGEST, parameterSource) == 0) {
+                    jdbcTemplate.update(INSERT_DIGEST, parameterSource);
+                }
+            } catch (final DuplicateKeyException e) {
+                // The same digest was recorded by a concurrent request
+                LOGGER.debug("Digest {} of {} was already recorded", digest, binary.getFedoraId());
+            } catch (final DataAccessException e) {
+                LOGGER.warn("Failed to record digest {} of {}", digest, binary.getFedoraId(), e);
+            }
+        }
+    }
+
+    @Override
+    public void removeDigests(final FedoraId fedoraId) {
+        final var parameterSource = new MapSqlParameterSource();
+        parameterSource.addValue("fedoraId", fedoraId.getFullId());
+        parameterSource.addValue("mementoIds", fedoraId.getFullId().replaceAll("[!%_]", "!$0") + "/" +
+                FCR_VERSIONS + "/%");
+        jdbcTemplate.update(DELETE_DIGESTS, parameterSource);
+    }
+
+    @Override
+    public void reset() {
+        jdbcTemplate.update(TRUNCATE_TABLE, new MapSqlParameterSource());
+    }
+
+    /**
+     * Get the algorithm of a digest in URN format
+     *
+     * @param digest the digest
+     * @return the algorithm, or MISSING if the algorithm is not supported
+     */
+    static DigestAlgorithm getAlgorithm(final URI digest) {
+        return DigestAlgorithm.fromScheme(digest.getScheme() + ":" +
+                digest.getSchemeSpecificPart().split(":", 2)[0]);
+    }
+}
@@ -26,7 +26,6 @@ import org.fcrepo.persistence.api.PersistentStorageSession;
 import org.fcrepo.persistence.api.PersistentStorageSessionManager;
 import org.fcrepo.persistence.api.exceptions.PersistentItemNotFoundException;
 import org.fcrepo.persistence.api.exceptions.PersistentStorageException;
-import org.fcrepo.persistence.common.MultiDigestInputStreamWrapper;
 import org.slf4j.Logger;
 import org.springframework.stereotype.Component;
 
@@ -97,11 +96,7 @@ public class CreateResourceServiceImpl extends AbstractService implements Create
                     size = externalContent.getContentSize();
                 }
                 if (!digest.isEmpty()) {
-                    final var multiDigestWrapper = new MultiDigestInputStreamWrapper(
-                            externalContent.fetchExternalContent(),
-                            digest,
-                            Collections.emptyList());
-                    multiDigestWrapper.checkFixity();
+                    verifyExternalContent(externalContent, digest);
                 }
             }
 
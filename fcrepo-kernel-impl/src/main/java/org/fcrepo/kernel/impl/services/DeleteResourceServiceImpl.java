@@ -57,6 +57,8 @@ public class DeleteResourceServiceImpl extends AbstractDeleteResourceService imp
         containmentIndex.removeResource(tx, fedoraId);
         referenceService.deleteAllReferences(tx, fedoraId);
         searchIndex.removeFromIndex(tx, fedoraId);
+        // tombstones do not answer digest requests
+        binaryDigestIndex.removeDigests(fedoraId);
         recordEvent(tx, fedoraId, deleteOp);
         log.debug("deleted {}", fedoraId.getFullId());
     }
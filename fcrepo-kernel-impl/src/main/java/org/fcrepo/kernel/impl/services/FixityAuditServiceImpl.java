@@ -0,0 +1,282 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.impl.services;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.inject.Inject;
+import javax.sql.DataSource;
+
+import com.google.common.util.concurrent.RateLimiter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.apache.commons.lang3.StringUtils;
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.kernel.api.exception.InvalidChecksumException;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.Binary;
+import org.fcrepo.kernel.api.services.FixityAuditService;
+import org.fcrepo.kernel.api.utils.FixityAuditResult;
+import org.fcrepo.kernel.api.utils.FixityAuditResult.Outcome;
+import org.fcrepo.persistence.common.MultiDigestInputStreamWrapper;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Role;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Implementation of {@link FixityAuditService} which records the outcome of each check in the database.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@Component
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+public class FixityAuditServiceImpl implements FixityAuditService {
+
+    private static final Logger LOGGER = getLogger(FixityAuditServiceImpl.class);
+
+    private static final String METRIC_NAME = "fcrepo.fixity.audit";
+
+    private static final String OUTCOME = "outcome";
+
+    private static final Counter successCounter = Metrics.counter(METRIC_NAME, OUTCOME, "success");
+    private static final Counter failureCounter = Metrics.counter(METRIC_NAME, OUTCOME, "failure");
+    private static final Counter errorCounter = Metrics.counter(METRIC_NAME, OUTCOME, "error");
+    private static final DistributionSummary bytesSummary = DistributionSummary.builder(METRIC_NAME + ".bytes")
+            .baseUnit("bytes")
+            .register(Metrics.globalRegistry);
+    private static final Timer checkTimer = Metrics.timer(METRIC_NAME + ".check");
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private static final int MAX_DETAILS_LENGTH = 1024;
+
+    private static final String TABLE_NAME = "fixity_audit";
+
+    private static final String FEDORA_ID_COLUMN = "fedora_id";
+
+    private static final String LAST_CHECKED_COLUMN = "last_checked";
+
+    private static final String OUTCOME_COLUMN = "outcome";
+
+    private static final String CONTENT_SIZE_COLUMN = "content_size";
+
+    private static final String DETAILS_COLUMN = "details";
+
+    private static final String SELECT_COLUMNS = "SELECT " + FEDORA_ID_COLUMN + ", " + LAST_CHECKED_COLUMN + ", " +
+            OUTCOME_COLUMN + ", " + CONTENT_SIZE_COLUMN + ", " + DETAILS_COLUMN + " FROM " + TABLE_NAME;
+
+    private static final String SELECT_LAST_CHECKED = "SELECT " + LAST_CHECKED_COLUMN + " FROM " + TABLE_NAME +
+            " WHERE " + FEDORA_ID_COLUMN + " = :fedoraId";
+
+    private static final String SELECT_FAILURES = SELECT_COLUMNS + " WHERE " + OUTCOME_COLUMN + " <> '" +
+            Outcome.SUCCESS.name() + "' ORDER BY " + LAST_CHECKED_COLUMN + ", " + FEDORA_ID_COLUMN +
+            " LIMIT :limit OFFSET :offset";
+
+    private static final String SELECT_STALE = SELECT_COLUMNS + " WHERE " + LAST_CHECKED_COLUMN +
+            " < :checkedBefore ORDER BY " + LAST_CHECKED_COLUMN + ", " + FEDORA_ID_COLUMN +
+            " LIMIT :limit OFFSET :offset";
+
+    private static final String UPDATE_RESULT = "UPDATE " + TABLE_NAME + " SET " + LAST_CHECKED_COLUMN +
+            " = :lastChecked, " + OUTCOME_COLUMN + " = :outcome, " + CONTENT_SIZE_COLUMN + " = :contentSize, " +
+            DETAILS_COLUMN + " = :details WHERE " + FEDORA_ID_COLUMN + " = :fedoraId";
+
+    private static final String INSERT_RESULT = "INSERT INTO " + TABLE_NAME + " (" + FEDORA_ID_COLUMN + ", " +
+            LAST_CHECKED_COLUMN + ", " + OUTCOME_COLUMN + ", " + CONTENT_SIZE_COLUMN + ", " + DETAILS_COLUMN +
+            ") VALUES (:fedoraId, :lastChecked, :outcome, :contentSize, :details)";
+
+    private static final String DELETE_CHECKED_BEFORE = "DELETE FROM " + TABLE_NAME + " WHERE " +
+            LAST_CHECKED_COLUMN + " < :checkedBefore";
+
+    private static final String TRUNCATE_TABLE = "TRUNCATE TABLE " + TABLE_NAME;
+
+    private static final RowMapper<FixityAuditResult> RESULT_ROW_MAPPER = FixityAuditServiceImpl::mapResult;
+
+    @Inject
+    private DataSource dataSource;
+
+    @Inject
+    private FedoraPropsConfig fedoraPropsConfig;
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private RateLimiter rateLimiter;
+
+    @PostConstruct
+    public void setUp() {
+        jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        final var bytesPerSecond = fedoraPropsConfig.getFixityAuditBytesPerSecond();
+        rateLimiter = bytesPerSecond > 0 ? RateLimiter.create(bytesPerSecond) : null;
+    }
+
+    @Override
+    public FixityAuditResult audit(final Binary binary) {
+        final var fedoraId = binary.getFedoraId();
+        final var sample = Timer.start();
+        Outcome outcome;
+        String details = null;
+        long size = 0;
+        try (final var content = rateLimit(binary.getContent())) {
+            // The stored digests determine which digests are computed, all in a single read of the content
+            final var digestWrapper = new MultiDigestInputStreamWrapper(content, binary.getContentDigests(), null);
+            try (final var digestStream = digestWrapper.getInputStream()) {
+                final var buffer = new byte[BUFFER_SIZE];
+                int read;
+                while ((read = digestStream.read(buffer)) != -1) {
+                    size += read;
+                }
+            }
+            digestWrapper.checkFixity();
+            if (binary.getContentSize() >= 0 && binary.getContentSize() != size) {
+                outcome = Outcome.FAILURE;
+                details = String.format("Size mismatch, read %d bytes but expected %d", size,
+                        binary.getContentSize());
+            } else {
+                outcome = Outcome.SUCCESS;
+            }
+        } catch (final InvalidChecksumException e) {
+            outcome = Outcome.FAILURE;
+            details = e.getMessage();
+        } catch (final IOException | RuntimeException e) {
+            LOGGER.warn("Failed to read the content of {} for a fixity audit", fedoraId, e);
+            outcome = Outcome.ERROR;
+            details = e.getMessage();
+        }
+        sample.stop(checkTimer);
+        bytesSummary.record(size);
+        countOutcome(outcome);
+        if (outcome != Outcome.SUCCESS) {
+            LOGGER.warn("Fixity audit of {} did not succeed: {}", fedoraId, details);
+        }
+
+        final var result = new FixityAuditResult(fedoraId, outcome, Instant.now().truncatedTo(ChronoUnit.SECONDS),
+                size, StringUtils.abbreviate(details, MAX_DETAILS_LENGTH));
+        recordResult(result);
+        return result;
+    }
+
+    @Override
+    public Instant getLastChecked(final FedoraId fedoraId) {
+        final var checked = jdbcTemplate.queryForList(SELECT_LAST_CHECKED,
+                new MapSqlParameterSource("fedoraId", fedoraId.getFullId()), Timestamp.class);
+        return checked.isEmpty() ? null : checked.getFirst().toInstant();
+    }
+
+    @Override
+    public List<FixityAuditResult> getFailures(final int limit, final int offset) {
+        final var parameterSource = new MapSqlParameterSource();
+        parameterSource.addValue("limit", limit);
+        parameterSource.addValue("offset", offset);
+        return jdbcTemplate.query(SELECT_FAILURES, parameterSource, RESULT_ROW_MAPPER);
+    }
+
+    @Override
+    public List<FixityAuditResult> getStale(final Instant checkedBefore, final int limit, final int offset) {
+        final var parameterSource = new MapSqlParameterSource();
+        parameterSource.addValue("checkedBefore", Timestamp.from(checkedBefore));
+        parameterSource.addValue("limit", limit);
+        parameterSource.addValue("offset", offset);
+        return jdbcTemplate.query(SELECT_STALE, parameterSource, RESULT_ROW_MAPPER);
+    }
+
+    @Override
+    public int removeCheckedBefore(final Instant checkedBefore) {
+        return jdbcTemplate.update(DELETE_CHECKED_BEFORE,
+                new MapSqlParameterSource("checkedBefore", Timestamp.from(checkedBefore)));
+    }
+
+    @Override
+    public void reset() {
+        jdbcTemplate.update(TRUNCATE_TABLE, new MapSqlParameterSource());
+    }
+
+    private void recordResult(final FixityAuditResult result) {
+        final var parameterSource = new MapSqlParameterSource();
+        parameterSource.addValue("fedoraId", result.getFedoraId().getFullId());
+        parameterSource.addValue("lastChecked", Timestamp.from(result.getLastChecked()));
+        parameterSource.addValue("outcome", result.getOutcome().name());
+        parameterSource.addValue("contentSize", result.getContentSize());
+        parameterSource.addValue("details", result.getDetails());
+        // Binaries are only checked by one audit at a time, so there is no competing insert
+        if (jdbcTemplate.update(UPDATE_RESULT, parameterSource) == 0) {
+            jdbcTemplate.update(INSERT_RESULT, parameterSource);
+        }
+    }
+
+    private InputStream rateLimit(final InputStream content) {
+        if (rateLimiter == null) {
+            return content;
+        }
+        return new RateLimitedInputStream(content, rateLimiter);
+    }
+
+    private static void countOutcome(final Outcome outcome) {
+        switch (outcome) {
+            case SUCCESS -> successCounter.increment();
+            case FAILURE -> failureCounter.increment();
+            default -> errorCounter.increment();
+        }
+    }
+
+    private static FixityAuditResult mapResult(final ResultSet rs, final int rowNum) throws SQLException {
+        final long size = rs.getLong(CONTENT_SIZE_COLUMN);
+        final Long contentSize = rs.wasNull() ? null : size;
+        return new FixityAuditResult(
+                FedoraId.create(rs.getString(FEDORA_ID_COLUMN)),
+                Outcome.valueOf(rs.getString(OUTCOME_COLUMN)),
+                rs.getTimestamp(LAST_CHECKED_COLUMN).toInstant(),
+                contentSize,
+                rs.getString(DETAILS_COLUMN));
+    }
+
+    /**
+     * Limits the rate at which a stream is read, shared across all streams using the same limiter.
+     */
+    private static class RateLimitedInputStream extends FilterInputStream {
+
+        private final RateLimiter rateLimiter;
+
+        RateLimitedInputStream(final InputStream in, final RateLimiter rateLimiter) {
+            super(in);
+            this.rateLimiter = rateLimiter;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b != -1) {
+                rateLimiter.acquire();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read > 0) {
+                rateLimiter.acquire(read);
+            }
+            return read;
+        }
+    }
+}
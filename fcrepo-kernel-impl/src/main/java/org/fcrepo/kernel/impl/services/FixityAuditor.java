@@ -0,0 +1,211 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.impl.services;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.kernel.api.ContainmentIndex;
+import org.fcrepo.kernel.api.ReadOnlyTransaction;
+import org.fcrepo.kernel.api.RepositoryInitializationStatus;
+import org.fcrepo.kernel.api.exception.PathNotFoundException;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.Binary;
+import org.fcrepo.kernel.api.models.ResourceFactory;
+import org.fcrepo.kernel.api.services.FixityAuditService;
+import org.slf4j.Logger;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Component;
+
+/**
+ * Walks the repository in the background and checks the fixity of every binary which has not been checked within
+ * the configured interval. Each pass runs on its own thread, rather than the shared task scheduler, because a pass
+ * over a large repository can take days.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@Component
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+public class FixityAuditor {
+
+    private static final Logger LOGGER = getLogger(FixityAuditor.class);
+
+    @Inject
+    private FedoraPropsConfig fedoraPropsConfig;
+
+    @Inject
+    private FixityAuditService fixityAuditService;
+
+    @Inject
+    private ResourceFactory resourceFactory;
+
+    @Autowired
+    @Qualifier("containmentIndex")
+    private ContainmentIndex containmentIndex;
+
+    @Inject
+    private RepositoryInitializationStatus initializationStatus;
+
+    private ScheduledExecutorService scheduler;
+
+    private ExecutorService workers;
+
+    private volatile boolean shutdown;
+
+    @PostConstruct
+    public void start() {
+        if (!fedoraPropsConfig.isFixityAuditEnabled()) {
+            return;
+        }
+        final var threads = Math.max(1, fedoraPropsConfig.getFixityAuditThreads());
+        LOGGER.info("Starting fixity auditor with {} threads, checking binaries every {}", threads,
+                fedoraPropsConfig.getFixityAuditInterval());
+        workers = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("fixity-audit-%d").setDaemon(true).build());
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                new ThreadFactoryBuilder().setNameFormat("fixity-audit-scheduler").setDaemon(true).build());
+        final var delay = fedoraPropsConfig.getFixityAuditDelay().toMillis();
+        scheduler.scheduleWithFixedDelay(this::runScheduledAudit, delay, delay, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        shutdown = true;
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    private void runScheduledAudit() {
+        if (!initializationStatus.isInitializationComplete()) {
+            LOGGER.debug("Repository is not initialized, skipping fixity audit");
+            return;
+        }
+        try {
+            auditRepository();
+        } catch (final Exception e) {
+            // Exceptions would cancel future passes
+            LOGGER.error("Fixity audit failed", e);
+        }
+    }
+
+    /**
+     * Check the fixity of every binary in the repository which has not been checked within the configured interval,
+     * then remove the outcomes of binaries which no longer exist.
+     *
+     * @return the number of binaries checked
+     */
+    public long auditRepository() {
+        if (workers == null) {
+            throw new IllegalStateException("Fixity auditing is not enabled");
+        }
+        final var passStart = Instant.now().truncatedTo(ChronoUnit.SECONDS);
+        final var staleBefore = passStart.minus(fedoraPropsConfig.getFixityAuditInterval());
+        final var maxOutstanding = Math.max(1, fedoraPropsConfig.getFixityAuditThreads()) * 2;
+        final var outstanding = new Semaphore(maxOutstanding);
+        final var audited = new AtomicLong();
+
+        LOGGER.info("Starting fixity audit of binaries not checked since {}", staleBefore);
+        try {
+            visitChildren(FedoraId.getRepositoryRootId(), staleBefore, outstanding, audited);
+            // Wait for the remaining checks to complete
+            outstanding.acquire(maxOutstanding);
+            outstanding.release(maxOutstanding);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.info("Fixity audit interrupted after checking {} binaries", audited.get());
+            return audited.get();
+        }
+
+        if (!shutdown) {
+            // Every binary which still exists was either checked during this pass or within the interval
+            final var removed = fixityAuditService.removeCheckedBefore(staleBefore);
+            LOGGER.info("Completed fixity audit, checked {} binaries and removed {} outcomes of removed binaries",
+                    audited.get(), removed);
+        }
+        return audited.get();
+    }
+
+    private void visitChildren(final FedoraId parentId, final Instant staleBefore, final Semaphore outstanding,
+                               final AtomicLong audited) throws InterruptedException {
+        try (final var children = containmentIndex.getContains(ReadOnlyTransaction.INSTANCE, parentId)) {
+            final var iterator = children.iterator();
+            while (iterator.hasNext() && !shutdown) {
+                final var childId = FedoraId.create(iterator.next());
+                if (visit(childId, staleBefore, outstanding, audited)) {
+                    visitChildren(childId, staleBefore, outstanding, audited);
+                }
+            }
+        }
+    }
+
+    /**
+     * Check the fixity of a resource if it is a binary which has not been checked recently.
+     *
+     * @return true if the resource may contain other resources
+     */
+    private boolean visit(final FedoraId fedoraId, final Instant staleBefore, final Semaphore outstanding,
+                          final AtomicLong audited) throws InterruptedException {
+        final var lastChecked = fixityAuditService.getLastChecked(fedoraId);
+        if (lastChecked != null && !lastChecked.isBefore(staleBefore)) {
+            // only binaries have recorded checks
+            return false;
+        }
+
+        final Binary binary;
+        try {
+            if (!(resourceFactory.getResource(ReadOnlyTransaction.INSTANCE, fedoraId) instanceof Binary b)) {
+                return true;
+            }
+            binary = b;
+        } catch (final PathNotFoundException e) {
+            LOGGER.debug("{} was removed before its fixity could be checked", fedoraId);
+            return false;
+        }
+        // The content of external binaries is not managed by the repository
+        if (binary.isProxy() || binary.isRedirect()) {
+            return false;
+        }
+
+        outstanding.acquire();
+        try {
+            workers.execute(() -> {
+                try {
+                    fixityAuditService.audit(binary);
+                    audited.incrementAndGet();
+                } finally {
+                    outstanding.release();
+                }
+            });
+        } catch (final RejectedExecutionException e) {
+            outstanding.release();
+            throw e;
+        }
+        return false;
+    }
+}
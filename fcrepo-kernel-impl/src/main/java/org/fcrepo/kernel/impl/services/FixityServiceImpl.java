@@ -32,6 +32,7 @@ import static org.fcrepo.kernel.api.RdfLexicon.WAS_GENERATED_BY;
 import org.apache.jena.rdf.model.Literal;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Resource;
+import org.fcrepo.kernel.api.BinaryDigestIndex;
 import org.fcrepo.kernel.api.RdfStream;
 import org.fcrepo.kernel.api.exception.InvalidChecksumException;
 import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
@@ -43,11 +44,15 @@ import org.fcrepo.config.DigestAlgorithm;
 import org.fcrepo.persistence.common.MultiDigestInputStreamWrapper;
 import org.springframework.stereotype.Component;
 
+import jakarta.inject.Inject;
+
 import java.io.IOException;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -60,6 +65,9 @@ import java.util.stream.Collectors;
 @Component
 public class FixityServiceImpl extends AbstractService implements FixityService {
 
+    @Inject
+    private BinaryDigestIndex binaryDigestIndex;
+
     private static final Literal successResource = createTypedLiteral("SUCCESS");
     private static final Literal badChecksumResource = createTypedLiteral("BAD_CHECKSUM");
 
@@ -68,15 +76,55 @@ public class FixityServiceImpl extends AbstractService implements FixityService
             throws UnsupportedAlgorithmException {
         final var digestAlgs = algorithms.stream()
                 .map(DigestAlgorithm::fromAlgorithm)
+                .distinct()
                 .collect(Collectors.toList());
 
-        try (final var content = binary.getContent()) {
-            final MultiDigestInputStreamWrapper digestWrapper = new MultiDigestInputStreamWrapper(content, null,
-                    digestAlgs);
-            return digestWrapper.getDigests();
-        } catch (final IOException e) {
-            // input stream closed prematurely.
-            throw new RepositoryRuntimeException("Problem reading content stream from " + binary.getId(), e);
+        // Answer from the digests stored with the binary where possible, then from previously computed digests.
+        // The content of proxied and redirected binaries may change without the binary changing, so it is always
+        // digested again.
+        final Map<DigestAlgorithm, URI> digests = new EnumMap<>(DigestAlgorithm.class);
+        final boolean useKnownDigests = !binary.isProxy() && !binary.isRedirect();
+        if (useKnownDigests) {
+            final var storedDigests = binary.getContentDigests();
+            if (storedDigests != null) {
+                addDigests(digests, storedDigests, digestAlgs);
+            }
+            if (digests.size() < digestAlgs.size()) {
+                addDigests(digests, binaryDigestIndex.getDigests(binary), digestAlgs);
+            }
+        }
+
+        final var missingAlgs = digestAlgs.stream()
+                .filter(alg -> !digests.containsKey(alg))
+                .collect(Collectors.toList());
+        if (!missingAlgs.isEmpty()) {
+            final List<URI> computed;
+            try (final var content = binary.getContent()) {
+                final MultiDigestInputStreamWrapper digestWrapper = new MultiDigestInputStreamWrapper(content, null,
+                        missingAlgs);
+                computed = digestWrapper.getDigests();
+            } catch (final IOException e) {
+                // input stream closed prematurely.
+                throw new RepositoryRuntimeException("Problem reading content stream from " + binary.getId(), e);
+            }
+            if (useKnownDigests) {
+                binaryDigestIndex.addDigests(binary, computed);
+            }
+            addDigests(digests, computed, missingAlgs);
+        }
+
+        return digestAlgs.stream()
+                .map(digests::get)
+                .collect(Collectors.toList());
+    }
+
+    private static void addDigests(final Map<DigestAlgorithm, URI> digests, final Collection<URI> candidates,
+                                   final List<DigestAlgorithm> digestAlgs) {
+        for (final var digest : candidates) {
+            final var alg = BinaryDigestIndexImpl.getAlgorithm(digest);
+            if (alg != DigestAlgorithm.MISSING && digestAlgs.contains(alg)) {
+                digests.putIfAbsent(alg, digest);
+            }
         }
     }
 
@@ -11,6 +11,9 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Queue;
@@ -18,6 +21,7 @@ import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -26,8 +30,10 @@ import jakarta.inject.Inject;
 import javax.sql.DataSource;
 
 import org.fcrepo.common.db.DbPlatform;
+import org.fcrepo.config.FedoraPropsConfig;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.impl.cache.LastUpdatedCache;
 
 import org.apache.jena.graph.Node;
 import org.apache.jena.graph.NodeFactory;
@@ -469,6 +475,11 @@ public class MembershipIndexManager {
             "DELETE FROM membership_tx_operations" +
             " WHERE tx_id = :txId";
 
+    private static final String SELECT_SUBJECTS_IN_TX =
+            "SELECT DISTINCT subject_id" +
+            " FROM membership_tx_operations" +
+            " WHERE tx_id = :txId";
+
     private static final String TRUNCATE_MEMBERSHIP = "TRUNCATE TABLE membership";
 
     private static final String TRUNCATE_MEMBERSHIP_TX = "TRUNCATE TABLE membership_tx_operations";
@@ -476,16 +487,25 @@ public class MembershipIndexManager {
     @Inject
     private DataSource dataSource;
 
+    @Inject
+    private FedoraPropsConfig fedoraPropsConfig;
+
     private NamedParameterJdbcTemplate jdbcTemplate;
 
     private DbPlatform dbPlatform;
 
+    private LastUpdatedCache lastUpdatedCache;
+
     private static final int MEMBERSHIP_LIMIT = 50000;
 
+    private static final int MEMBERSHIP_BATCH_SIZE = 1000;
+
     @PostConstruct
     public void setUp() {
         jdbcTemplate = new NamedParameterJdbcTemplate(getDataSource());
         dbPlatform = DbPlatform.fromDataSource(dataSource);
+        lastUpdatedCache = new LastUpdatedCache(fedoraPropsConfig.getContainmentCacheSize(),
+                fedoraPropsConfig.getContainmentCacheTimeout());
     }
 
     /**
@@ -526,6 +546,7 @@ public class MembershipIndexManager {
                 parameterSource.addValue(END_TIME_PARAM, formatInstant(endTime));
                 parameterSource.addValue(NO_END_TIME_PARAM, NO_END_TIMESTAMP);
                 jdbcTemplate.update(DIRECT_END_EXISTING_MEMBERSHIP, parameterSource);
+                lastUpdatedCache.invalidateAll();
             }
         });
     }
@@ -560,6 +581,7 @@ public class MembershipIndexManager {
                         PROXY_ID_PARAM, proxyId.getFullId(),
                         END_TIME_PARAM, afterTimestamp);
                 jdbcTemplate.update(DIRECT_DELETE_EXISTING_FOR_PROXY_AFTER, parameterSource);
+                lastUpdatedCache.invalidateAll();
             }
         });
     }
@@ -593,6 +615,7 @@ public class MembershipIndexManager {
                         END_TIME_PARAM, formatInstant(endTime),
                         NO_END_TIME_PARAM, NO_END_TIMESTAMP);
                 jdbcTemplate.update(DIRECT_END_EXISTING_FOR_SOURCE, parameterSource);
+                lastUpdatedCache.invalidateAll();
             }
         });
     }
@@ -629,6 +652,7 @@ public class MembershipIndexManager {
                         SOURCE_ID_PARAM, sourceId.getFullId(),
                         START_TIME_PARAM, afterTimestamp);
                 jdbcTemplate.update(DIRECT_DELETE_EXISTING_FOR_SOURCE_AFTER, parameterSource);
+                lastUpdatedCache.invalidateAll();
             }
         });
     }
@@ -645,6 +669,7 @@ public class MembershipIndexManager {
 
         jdbcTemplate.update(PURGE_ALL_REFERENCES_TRANSACTION, parameterSource);
         jdbcTemplate.update(PURGE_ALL_REFERENCES_MEMBERSHIP, parameterSource);
+        lastUpdatedCache.invalidateAll();
     }
 
     /**
@@ -676,37 +701,58 @@ public class MembershipIndexManager {
     public void addMembership(final Transaction tx, final FedoraId sourceId, final FedoraId proxyId,
             final Triple membership, final Instant startTime, final Instant endTime) {
         tx.doInTx(() -> {
-            final Timestamp endTimestamp;
-            final Timestamp lastUpdated;
-            final Timestamp startTimestamp = formatInstant(startTime);
-            if (endTime == null) {
-                endTimestamp = NO_END_TIMESTAMP;
-                lastUpdated = startTimestamp;
-            } else {
-                endTimestamp = formatInstant(endTime);
-                lastUpdated = endTimestamp;
-            }
-            // Add the new membership operation
-            final MapSqlParameterSource parameterSource = new MapSqlParameterSource();
-            parameterSource.addValue(SUBJECT_ID_PARAM, membership.getSubject().getURI());
-            parameterSource.addValue(PROPERTY_PARAM, membership.getPredicate().getURI());
-            parameterSource.addValue(TARGET_ID_PARAM, membership.getObject().getURI());
-            parameterSource.addValue(SOURCE_ID_PARAM, sourceId.getFullId());
-            parameterSource.addValue(PROXY_ID_PARAM, proxyId.getFullId());
-            parameterSource.addValue(START_TIME_PARAM, startTimestamp);
-            parameterSource.addValue(END_TIME_PARAM, endTimestamp);
-            parameterSource.addValue(LAST_UPDATED_PARAM, lastUpdated);
-
-            if (!tx.isShortLived()) {
-                parameterSource.addValue(TX_ID_PARAM, tx.getId());
-                parameterSource.addValue(OPERATION_PARAM, ADD_OPERATION);
-                jdbcTemplate.update(INSERT_MEMBERSHIP_IN_TX, parameterSource);
-            } else {
-                jdbcTemplate.update(DIRECT_INSERT_MEMBERSHIP, parameterSource);
+            final var parameterSource = membershipParameters(tx, sourceId, proxyId, membership, startTime, endTime);
+            jdbcTemplate.update(insertMembershipQuery(tx), parameterSource);
+            if (tx.isShortLived()) {
+                lastUpdatedCache.invalidate(membership.getSubject().getURI());
             }
         });
     }
 
+    /**
+     * Start a batch of membership additions for the given transaction. Entries added to the batch are
+     * written with JDBC batch statements once the batch reaches its size threshold, or when it is flushed.
+     * @param tx transaction
+     * @return a new membership batch
+     */
+    public MembershipBatch batch(final Transaction tx) {
+        return new MembershipBatch(tx);
+    }
+
+    private MapSqlParameterSource membershipParameters(final Transaction tx, final FedoraId sourceId,
+            final FedoraId proxyId, final Triple membership, final Instant startTime, final Instant endTime) {
+        final Timestamp endTimestamp;
+        final Timestamp lastUpdated;
+        final Timestamp startTimestamp = formatInstant(startTime);
+        if (endTime == null) {
+            endTimestamp = NO_END_TIMESTAMP;
+            lastUpdated = startTimestamp;
+        } else {
+            endTimestamp = formatInstant(endTime);
+            lastUpdated = endTimestamp;
+        }
+        // Add the new membership operation
+        final MapSqlParameterSource parameterSource = new MapSqlParameterSource();
+        parameterSource.addValue(SUBJECT_ID_PARAM, membership.getSubject().getURI());
+        parameterSource.addValue(PROPERTY_PARAM, membership.getPredicate().getURI());
+        parameterSource.addValue(TARGET_ID_PARAM, membership.getObject().getURI());
+        parameterSource.addValue(SOURCE_ID_PARAM, sourceId.getFullId());
+        parameterSource.addValue(PROXY_ID_PARAM, proxyId.getFullId());
+        parameterSource.addValue(START_TIME_PARAM, startTimestamp);
+        parameterSource.addValue(END_TIME_PARAM, endTimestamp);
+        parameterSource.addValue(LAST_UPDATED_PARAM, lastUpdated);
+
+        if (!tx.isShortLived()) {
+            parameterSource.addValue(TX_ID_PARAM, tx.getId());
+            parameterSource.addValue(OPERATION_PARAM, ADD_OPERATION);
+        }
+        return parameterSource;
+    }
+
+    private static String insertMembershipQuery(final Transaction tx) {
+        return tx.isShortLived() ? DIRECT_INSERT_MEMBERSHIP : INSERT_MEMBERSHIP_IN_TX;
+    }
+
     /**
      * Get a stream of membership triples with
      * @param tx transaction from which membership will be retrieved, or null for no transaction
@@ -811,11 +857,15 @@ public class MembershipIndexManager {
             parameterSource.addValue(TX_ID_PARAM, transaction.getId());
             parameterSource.addValue(DELETE_OP_PARAM, DELETE_OPERATION);
         } else {
-            lastUpdatedQuery = SELECT_LAST_UPDATED;
             parameterSource.addValue(SUBJECT_ID_PARAM, subjectId.getFullId());
+            return lastUpdatedCache.get(subjectId.getFullId(),
+                    () -> selectLastUpdated(SELECT_LAST_UPDATED, parameterSource));
         }
+        return selectLastUpdated(lastUpdatedQuery, parameterSource);
+    }
 
-        final var updated = jdbcTemplate.queryForObject(lastUpdatedQuery, parameterSource, Timestamp.class);
+    private Instant selectLastUpdated(final String query, final MapSqlParameterSource parameterSource) {
+        final var updated = jdbcTemplate.queryForObject(query, parameterSource, Timestamp.class);
         if (updated != null) {
             return updated.toInstant();
         }
@@ -835,10 +885,13 @@ public class MembershipIndexManager {
                     DELETE_OP_PARAM, DELETE_OPERATION,
                     FORCE_PARAM, FORCE_FLAG);
 
+            final List<String> subjects = jdbcTemplate.queryForList(SELECT_SUBJECTS_IN_TX, parameterSource,
+                    String.class);
             jdbcTemplate.update(COMMIT_DELETES, parameterSource);
             final int ends = jdbcTemplate.update(COMMIT_ENDS_MAP.get(this.dbPlatform), parameterSource);
             final int adds = jdbcTemplate.update(COMMIT_ADDS, parameterSource);
             final int cleaned = jdbcTemplate.update(DELETE_TRANSACTION, parameterSource);
+            lastUpdatedCache.invalidateAll(subjects);
 
             log.debug("Completed commit, {} ended, {} adds, {} operations", ends, adds, cleaned);
         }
@@ -874,6 +927,7 @@ public class MembershipIndexManager {
     public void clearIndex() {
         jdbcTemplate.update(TRUNCATE_MEMBERSHIP, Map.of());
         jdbcTemplate.update(TRUNCATE_MEMBERSHIP_TX, Map.of());
+        lastUpdatedCache.invalidateAll();
     }
 
     public void clearAllTransactions() {
@@ -930,6 +984,57 @@ public class MembershipIndexManager {
         return dataSource;
     }
 
+    /**
+     * Buffer of membership additions for a single transaction, written to the index with JDBC batch statements.
+     * Not thread safe, each thread populating membership should use its own batch.
+     */
+    public class MembershipBatch {
+        private final Transaction tx;
+        private final List<MapSqlParameterSource> entries = new ArrayList<>();
+
+        private MembershipBatch(final Transaction tx) {
+            this.tx = tx;
+        }
+
+        /**
+         * Add a membership property to the batch, flushing the batch if it has reached its size threshold.
+         * @param sourceId ID of the direct/indirect container which produced the membership
+         * @param proxyId ID of the proxy producing this membership, when applicable
+         * @param membership membership triple, ignored if null
+         * @param startTime time the membership triple was added
+         * @param endTime time the membership triple ends, or never if null
+         */
+        public void add(final FedoraId sourceId, final FedoraId proxyId, final Triple membership,
+                        final Instant startTime, final Instant endTime) {
+            if (membership == null) {
+                return;
+            }
+            entries.add(membershipParameters(tx, sourceId, proxyId, membership, startTime, endTime));
+            if (entries.size() >= MEMBERSHIP_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * Write all buffered membership properties to the index.
+         */
+        public void flush() {
+            if (entries.isEmpty()) {
+                return;
+            }
+            final var psArray = entries.toArray(new MapSqlParameterSource[0]);
+            entries.clear();
+            tx.doInTx(() -> {
+                jdbcTemplate.batchUpdate(insertMembershipQuery(tx), psArray);
+                if (tx.isShortLived()) {
+                    lastUpdatedCache.invalidateAll(Arrays.stream(psArray)
+                            .map(ps -> (String) ps.getValue(SUBJECT_ID_PARAM))
+                            .collect(Collectors.toSet()));
+                }
+            });
+        }
+    }
+
     /**
      * Private class to back a stream with a paged DB query.
      *
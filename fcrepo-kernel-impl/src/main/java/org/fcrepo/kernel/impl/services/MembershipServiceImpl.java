@@ -341,6 +341,7 @@ public class MembershipServiceImpl implements MembershipService {
         }
 
         // get all the members of the DC and index the history for each, accounting for changes to the DC
+        final var batch = indexManager.batch(tx);
         fedoraResc.getChildren().forEach(member -> {
             // must ensure the tx does not close before indexing is complete
             tx.refresh();
@@ -374,12 +375,13 @@ public class MembershipServiceImpl implements MembershipService {
                     return;
                 }
                 // Start time of the membership is the later of member creation or membership resc memento time
-                indexManager.addMembership(tx, containerId, member.getFedoraId(),
+                batch.add(containerId, member.getFedoraId(),
                         membershipTriple,
                         instantMax(memberCreated, e.startDatetime),
                         instantMin(memberEnd, e.endDatetime));
             });
         });
+        batch.flush();
     }
 
     private Instant instantMax(final Instant first, final Instant second) {
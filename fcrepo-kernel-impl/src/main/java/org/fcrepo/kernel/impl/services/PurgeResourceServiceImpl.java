@@ -53,6 +53,7 @@ public class PurgeResourceServiceImpl extends AbstractDeleteResourceService impl
 
         pSession.persist(purgeOp);
         containmentIndex.purgeResource(tx, resourceId);
+        binaryDigestIndex.removeDigests(resourceId);
         recordEvent(tx, resourceId, purgeOp);
         log.debug("purged {}", resourceId.getFullId());
     }
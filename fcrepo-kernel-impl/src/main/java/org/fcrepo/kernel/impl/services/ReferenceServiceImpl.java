@@ -29,6 +29,7 @@ import org.fcrepo.kernel.api.models.FedoraResource;
 import org.fcrepo.kernel.api.models.NonRdfSourceDescription;
 import org.fcrepo.kernel.api.observer.EventAccumulator;
 import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 import org.fcrepo.kernel.api.services.ReferenceService;
 import org.fcrepo.kernel.impl.operations.ReferenceOperation;
 import org.fcrepo.kernel.impl.operations.ReferenceOperationBuilder;
@@ -330,6 +331,24 @@ public class ReferenceServiceImpl implements ReferenceService {
         }
     }
 
+    @Override
+    public void updateReferences(@Nonnull final Transaction tx, final FedoraId resourceId, final String userPrincipal,
+                                 final RdfDelta delta) {
+        try {
+            final Node resourceNode = NodeFactory.createURI(resourceId.getFullId());
+            // The delta only holds triples which were, or were not, in the resource, so the index already holds the
+            // removed references and none of the added ones.
+            getReferencesFromRdf(delta.getRemoved().stream())
+                    .forEach(r -> removeReference(tx, Quad.create(resourceNode, r)));
+            getReferencesFromRdf(delta.getAdded().stream())
+                    .forEach(r -> addReference(tx, Quad.create(resourceNode, r), userPrincipal));
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to update reference index for resource {} in transaction {}: {}",
+                    resourceId.getFullId(), tx.getId(), e.getMessage());
+            throw new RepositoryRuntimeException("Unable to update reference index", e);
+        }
+    }
+
     @Override
     public void commitTransaction(final Transaction tx) {
         if (!tx.isShortLived()) {
@@ -471,7 +490,7 @@ public class ReferenceServiceImpl implements ReferenceService {
      * @param stream the provided stream
      * @return stream of triples with internal references.
      */
-    private Stream<Triple> getReferencesFromRdf(final RdfStream stream) {
+    private Stream<Triple> getReferencesFromRdf(final Stream<Triple> stream) {
         final Predicate<Triple> isInternalReference = t -> {
             final Node s = t.getSubject();
             final Node o = t.getObject();
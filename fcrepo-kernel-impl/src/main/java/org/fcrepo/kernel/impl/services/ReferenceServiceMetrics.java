@@ -13,6 +13,7 @@ import org.fcrepo.kernel.api.RdfStream;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.models.FedoraResource;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 import org.fcrepo.kernel.api.services.ReferenceService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -40,6 +41,8 @@ public class ReferenceServiceMetrics implements ReferenceService {
             DB, REFERENCE, OPERATION, "deleteAllReferences");
     private static final Timer updateReferencesTimer = Metrics.timer(METRIC_NAME,
             DB, REFERENCE, OPERATION, "updateReferences");
+    private static final Timer updateReferencesDeltaTimer = Metrics.timer(METRIC_NAME,
+            DB, REFERENCE, OPERATION, "updateReferencesDelta");
     private static final Timer commitTransactionTimer = Metrics.timer(METRIC_NAME,
             DB, REFERENCE, OPERATION, "commitTransaction");
     private static final Timer rollbackTransactionTimer = Metrics.timer(METRIC_NAME,
@@ -77,6 +80,16 @@ public class ReferenceServiceMetrics implements ReferenceService {
         });
     }
 
+    @Override
+    public void updateReferences(final Transaction tx,
+                                 final FedoraId resourceId,
+                                 final String userPrincipal,
+                                 final RdfDelta delta) {
+        updateReferencesDeltaTimer.record(() -> {
+            referenceServiceImpl.updateReferences(tx, resourceId, userPrincipal, delta);
+        });
+    }
+
     @Override
     public void commitTransaction(final Transaction tx) {
         commitTransactionTimer.record(() -> {
@@ -6,19 +6,24 @@
  */
 package org.fcrepo.kernel.impl.services;
 
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
 
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.Statement;
 import org.fcrepo.kernel.api.RdfLexicon;
+import org.fcrepo.kernel.api.RdfStream;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.auth.ACLHandle;
 import org.fcrepo.kernel.api.exception.MalformedRdfException;
 import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.operations.NonRdfSourceOperationFactory;
+import org.fcrepo.kernel.api.operations.RdfSourceOperation;
 import org.fcrepo.kernel.api.operations.RdfSourceOperationFactory;
 import org.fcrepo.kernel.api.operations.ResourceOperation;
+import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 import org.fcrepo.kernel.api.services.ReplacePropertiesService;
 import org.fcrepo.persistence.api.PersistentStorageSession;
 import org.fcrepo.persistence.api.PersistentStorageSessionManager;
@@ -27,10 +32,16 @@ import org.springframework.stereotype.Component;
 
 import jakarta.inject.Inject;
 
+import static org.apache.jena.graph.NodeFactory.createURI;
+import static org.apache.jena.vocabulary.RDF.type;
 import static org.fcrepo.kernel.api.rdf.DefaultRdfStream.fromModel;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 import com.github.benmanes.caffeine.cache.Cache;
 
@@ -68,13 +79,15 @@ public class ReplacePropertiesServiceImpl extends AbstractService implements Rep
             ensureValidACLAuthorization(inputModel);
             // Extract triples which impact the headers of binary resources from incoming description RDF
             final BinaryHeaderDetails binHeaders = extractNonRdfSourceHeaderTriples(fedoraId, inputModel);
+            // The triples of descriptions are indexed under the binary as well, so they are always reindexed fully
+            final RdfDelta delta = fedoraId.isDescription() ? null : computeDelta(pSession, fedoraId, inputModel);
 
             final var rdfStream = fromModel(
                     inputModel.createResource(fedoraId.getFullDescribedId()).asNode(), inputModel);
             final var serverManagedMode = fedoraPropsConfig.getServerManagedPropsMode();
 
             // create 2 updates -- one for the properties coming in and one for and server managed properties
-            final ResourceOperation primaryOp;
+            final RdfSourceOperation primaryOp;
             final Optional<ResourceOperation> secondaryOp;
             if (fedoraId.isDescription()) {
                 primaryOp = factory.updateBuilder(tx, fedoraId, serverManagedMode)
@@ -94,6 +107,7 @@ public class ReplacePropertiesServiceImpl extends AbstractService implements Rep
                                    .relaxedProperties(inputModel)
                                    .userPrincipal(userPrincipal)
                                    .triples(rdfStream)
+                                   .delta(delta)
                                    .build();
                 secondaryOp = Optional.empty();
             }
@@ -106,12 +120,8 @@ public class ReplacePropertiesServiceImpl extends AbstractService implements Rep
 
             pSession.persist(primaryOp);
 
-            userTypesCache.cacheUserTypes(fedoraId,
-                    fromModel(inputModel.getResource(fedoraId.getFullId()).asNode(), inputModel), pSession.getId());
-
-            updateReferences(tx, fedoraId, userPrincipal, inputModel);
-            membershipService.resourceModified(tx, fedoraId);
-            searchIndex.addUpdateIndex(tx, pSession.getHeaders(fedoraId, null));
+            updateIndexes(tx, pSession, userPrincipal, primaryOp,
+                    () -> fromModel(inputModel.getResource(fedoraId.getFullId()).asNode(), inputModel));
             recordEvent(tx, fedoraId, primaryOp);
             secondaryOp.ifPresent(operation -> updateBinaryHeaders(tx, pSession, operation));
             if (fedoraId.isAcl()) {
@@ -124,6 +134,95 @@ public class ReplacePropertiesServiceImpl extends AbstractService implements Rep
         }
     }
 
+    @Override
+    public void perform(final Transaction tx,
+                        final String userPrincipal,
+                        final FedoraId fedoraId,
+                        final Collection<Triple> triples,
+                        final RdfDelta delta) throws MalformedRdfException {
+        if (fedoraId.isDescription()) {
+            throw new IllegalArgumentException("Binary descriptions cannot be updated with a delta: " + fedoraId);
+        }
+        try {
+            final PersistentStorageSession pSession = psManager.getSession(tx);
+            final var resourceNode = createURI(fedoraId.getFullId());
+
+            final RdfSourceOperation primaryOp = factory.updateBuilder(tx, fedoraId,
+                            fedoraPropsConfig.getServerManagedPropsMode())
+                    .userPrincipal(userPrincipal)
+                    .triples(new DefaultRdfStream(resourceNode, triples.stream()))
+                    .delta(delta)
+                    .build();
+
+            lockArchivalGroupResource(tx, pSession, fedoraId);
+            tx.lockResource(fedoraId);
+
+            pSession.persist(primaryOp);
+
+            updateIndexes(tx, pSession, userPrincipal, primaryOp,
+                    () -> new DefaultRdfStream(resourceNode, triples.stream()));
+            recordEvent(tx, fedoraId, primaryOp);
+        } catch (final PersistentStorageException ex) {
+            throw new RepositoryRuntimeException(String.format("failed to replace resource %s",
+                    fedoraId), ex);
+        }
+    }
+
+    /**
+     * Update the indexes derived from the triples of a resource. When the operation knows the triples it added and
+     * removed only those are applied, otherwise the indexes are derived again from all the triples.
+     *
+     * @param tx the transaction
+     * @param pSession the session the operation was persisted in
+     * @param userPrincipal the user performing the operation
+     * @param operation the persisted operation
+     * @param triples provides the triples of the resource after the operation
+     */
+    private void updateIndexes(final Transaction tx,
+                               final PersistentStorageSession pSession,
+                               final String userPrincipal,
+                               final RdfSourceOperation operation,
+                               final Supplier<RdfStream> triples) {
+        final var fedoraId = operation.getResourceId();
+        final var delta = operation.getDelta();
+        // The user types only need to be extracted again if the operation changed them
+        if (delta == null || delta.anyMatch(t -> t.getPredicate().equals(type.asNode()))) {
+            userTypesCache.cacheUserTypes(fedoraId, triples.get(), pSession.getId());
+        }
+        if (delta == null) {
+            referenceService.updateReferences(tx, fedoraId, userPrincipal, triples.get());
+        } else {
+            referenceService.updateReferences(tx, fedoraId, userPrincipal, delta);
+        }
+        membershipService.resourceModified(tx, fedoraId);
+        final var headers = pSession.getHeaders(fedoraId, null);
+        if (delta == null) {
+            searchIndex.addUpdateIndex(tx, headers);
+        } else {
+            searchIndex.addUpdateIndex(tx, headers, delta);
+        }
+    }
+
+    /**
+     * Compute the difference between the existing triples of a resource and the triples replacing them.
+     *
+     * @param pSession the session
+     * @param fedoraId the resource
+     * @param model the triples replacing the existing ones
+     * @return the delta
+     */
+    private RdfDelta computeDelta(final PersistentStorageSession pSession, final FedoraId fedoraId,
+                                  final Model model) {
+        final Set<Triple> existing;
+        try (final var triples = pSession.getTriples(fedoraId, null)) {
+            existing = triples.collect(Collectors.toSet());
+        }
+        final Set<Triple> replacement = model.getGraph().find().toSet();
+        final List<Triple> added = replacement.stream().filter(t -> !existing.contains(t)).toList();
+        final List<Triple> removed = existing.stream().filter(t -> !replacement.contains(t)).toList();
+        return new RdfDelta(added, removed);
+    }
+
     private void updateBinaryHeaders(final Transaction tx,
                                      final PersistentStorageSession pSession,
                                      final ResourceOperation operation) {
@@ -6,7 +6,18 @@
  */
 package org.fcrepo.kernel.impl.services;
 
+import static org.fcrepo.config.ServerManagedPropsMode.STRICT;
+import static org.fcrepo.kernel.api.FedoraTypes.FCR_ACL;
 import static org.fcrepo.kernel.api.RdfCollectors.toModel;
+import static org.fcrepo.kernel.api.RdfLexicon.HAS_MEMBER_RELATION;
+import static org.fcrepo.kernel.api.RdfLexicon.INSERTED_CONTENT_RELATION;
+import static org.fcrepo.kernel.api.RdfLexicon.IS_MEMBER_OF_RELATION;
+import static org.fcrepo.kernel.api.RdfLexicon.MEMBERSHIP_RESOURCE;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import jakarta.inject.Inject;
 
@@ -16,13 +27,21 @@ import org.fcrepo.kernel.api.exception.ItemNotFoundException;
 import org.fcrepo.kernel.api.exception.MalformedRdfException;
 import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 import org.fcrepo.kernel.api.services.ReplacePropertiesService;
 import org.fcrepo.kernel.api.services.UpdatePropertiesService;
 import org.fcrepo.persistence.api.PersistentStorageSessionManager;
 import org.fcrepo.persistence.api.exceptions.PersistentItemNotFoundException;
 import org.fcrepo.persistence.api.exceptions.PersistentStorageException;
 
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
+import org.apache.jena.sparql.core.Quad;
+import org.apache.jena.sparql.modify.request.UpdateData;
+import org.apache.jena.sparql.modify.request.UpdateDataDelete;
+import org.apache.jena.sparql.modify.request.UpdateDataInsert;
+import org.apache.jena.update.Update;
 import org.apache.jena.update.UpdateAction;
 import org.apache.jena.update.UpdateFactory;
 import org.apache.jena.update.UpdateRequest;
@@ -31,6 +50,10 @@ import org.springframework.stereotype.Component;
 /**
  * This class implements the update properties operation.
  *
+ * Updates made only of INSERT DATA and DELETE DATA operations are applied to the triples of the resource directly,
+ * and only the indexes affected by the triples they actually add or remove are updated. Other updates are executed
+ * against a model of the resource, which then replaces its properties.
+ *
  * @author dbernstein
  */
 @Component
@@ -42,6 +65,9 @@ public class UpdatePropertiesServiceImpl extends AbstractService implements Upda
     @Inject
     private PersistentStorageSessionManager persistentStorageSessionManager;
 
+    private static final Set<Node> MEMBERSHIP_PROPERTIES = Set.of(MEMBERSHIP_RESOURCE.asNode(),
+            HAS_MEMBER_RELATION.asNode(), IS_MEMBER_OF_RELATION.asNode(), INSERTED_CONTENT_RELATION.asNode());
+
     @Override
     public void updateProperties(final Transaction tx, final String userPrincipal,
                                  final FedoraId fedoraId, final String sparqlUpdateStatement)
@@ -49,8 +75,20 @@ public class UpdatePropertiesServiceImpl extends AbstractService implements Upda
         try {
             final var psession = persistentStorageSessionManager.getSession(tx);
             final var triples = psession.getTriples(fedoraId, null);
-            final Model model = triples.collect(toModel());
             final UpdateRequest request = UpdateFactory.create(sparqlUpdateStatement, fedoraId.getFullDescribedId());
+            if (isDataOnly(fedoraId, request)) {
+                final Set<Triple> updated = triples.collect(Collectors.toCollection(LinkedHashSet::new));
+                final RdfDelta delta = applyData(request, updated);
+                if (isDeltaApplicable(delta)) {
+                    replacePropertiesService.perform(tx, userPrincipal, fedoraId, updated, delta);
+                    return;
+                }
+                // Validation of the resource as a whole is required, so fall back to the model
+                final Model model = updated.stream().collect(toModel());
+                replacePropertiesService.perform(tx, userPrincipal, fedoraId, model);
+                return;
+            }
+            final Model model = triples.collect(toModel());
             UpdateAction.execute(request, model);
             replacePropertiesService.perform(tx, userPrincipal, fedoraId, model);
         } catch (final PersistentItemNotFoundException ex) {
@@ -60,4 +98,51 @@ public class UpdatePropertiesServiceImpl extends AbstractService implements Upda
         }
 
     }
+
+    /**
+     * Whether the update only inserts and deletes concrete triples of the default graph, so that it can be applied
+     * without executing it against a model of the resource.
+     */
+    private boolean isDataOnly(final FedoraId fedoraId, final UpdateRequest request) {
+        final List<Update> operations = request.getOperations();
+        return !operations.isEmpty() && operations.stream().allMatch(operation ->
+                (operation instanceof UpdateDataInsert || operation instanceof UpdateDataDelete)
+                        && ((UpdateData) operation).getQuads().stream().allMatch(UpdatePropertiesServiceImpl::isData))
+                && !fedoraId.isDescription() && !fedoraId.isAcl()
+                && fedoraPropsConfig.getServerManagedPropsMode() == STRICT;
+    }
+
+    private static boolean isData(final Quad quad) {
+        return quad.isDefaultGraph() && quad.isConcrete()
+                && !quad.getSubject().isBlank() && !quad.getObject().isBlank();
+    }
+
+    /**
+     * Apply the operations of the update in order to the triples of the resource.
+     * @return the triples added and removed by the update as a whole
+     */
+    private static RdfDelta applyData(final UpdateRequest request, final Set<Triple> triples) {
+        final Set<Triple> added = new LinkedHashSet<>();
+        final Set<Triple> removed = new LinkedHashSet<>();
+        for (final Update operation : request.getOperations()) {
+            final boolean insert = operation instanceof UpdateDataInsert;
+            for (final Quad quad : ((UpdateData) operation).getQuads()) {
+                final Triple triple = quad.asTriple();
+                if (insert && triples.add(triple) && !removed.remove(triple)) {
+                    added.add(triple);
+                } else if (!insert && triples.remove(triple) && !added.remove(triple)) {
+                    removed.add(triple);
+                }
+            }
+        }
+        return new RdfDelta(added, removed);
+    }
+
+    /**
+     * Whether the delta leaves alone the properties which are validated against the whole resource.
+     */
+    private static boolean isDeltaApplicable(final RdfDelta delta) {
+        return !delta.anyMatch(t -> MEMBERSHIP_PROPERTIES.contains(t.getPredicate())
+                || (t.getSubject().isURI() && t.getSubject().getURI().contains("/" + FCR_ACL + "#")));
+    }
 }
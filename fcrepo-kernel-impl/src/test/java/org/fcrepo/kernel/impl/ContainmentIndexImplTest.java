@@ -13,8 +13,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.getField;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import java.time.Instant;
 import java.util.ArrayList;
@@ -25,8 +32,10 @@ import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import jakarta.inject.Inject;
+import javax.sql.DataSource;
 
 import org.fcrepo.kernel.api.Transaction;
+import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.models.FedoraResource;
 
@@ -39,10 +48,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author peichman
@@ -75,6 +90,12 @@ public class ContainmentIndexImplTest {
     @Inject
     private ContainmentIndexImpl containmentIndex;
 
+    @Inject
+    private DataSource dataSource;
+
+    @Inject
+    private PlatformTransactionManager txManager;
+
     private final Map<String, FedoraResource> id_to_resource = new HashMap<>();
     private final Map<String, Transaction> id_to_transaction = new HashMap<>();
 
@@ -791,6 +812,117 @@ public class ContainmentIndexImplTest {
         assertEquals(expectedChildren, foundChildren);
     }
 
+    @Test
+    public void testTransactionChangesBuffered() {
+        stubObject("transaction1");
+        stubObject("parent1");
+        containmentIndex.setTransactionBatchSize(3);
+        final FedoraId child0 = parent1.getFedoraId().resolve("child_0");
+        final FedoraId child1 = parent1.getFedoraId().resolve("child_1");
+        containmentIndex.addContainedBy(transaction1, parent1.getFedoraId(), child0);
+        containmentIndex.addContainedBy(transaction1, parent1.getFedoraId(), child1);
+        // the changes are answered from the buffer before they are written
+        assertEquals(0, countTransactionRows(transaction1));
+        assertTrue(containmentIndex.resourceExists(transaction1, child0, false));
+        assertEquals(parent1.getFedoraId().getFullId(), containmentIndex.getContainedBy(transaction1, child1));
+        containmentIndex.removeResource(transaction1, child1);
+        assertFalse(containmentIndex.resourceExists(transaction1, child1, false));
+        assertNull(containmentIndex.getContainedBy(transaction1, child1));
+        assertEquals(0, countTransactionRows(transaction1));
+
+        // the buffer is written once it is full
+        for (var i = 2; i < 5; i += 1) {
+            containmentIndex.addContainedBy(transaction1, parent1.getFedoraId(),
+                    parent1.getFedoraId().resolve("child_" + i));
+        }
+        assertEquals(3, countTransactionRows(transaction1));
+        // and before the transaction is queried
+        assertEquals(4, containmentIndex.getContains(transaction1, parent1.getFedoraId()).count());
+        assertEquals(4, countTransactionRows(transaction1));
+        assertEquals(0, containmentIndex.getContains(shortLivedTx, parent1.getFedoraId()).count());
+
+        containmentIndex.addContainedBy(transaction1, parent1.getFedoraId(), child1);
+        containmentIndex.commitTransaction(transaction1);
+        assertEquals(5, containmentIndex.getContains(shortLivedTx, parent1.getFedoraId()).count());
+        assertEquals(0, countTransactionRows(transaction1));
+    }
+
+    @Test
+    public void testTransactionChangesKeptWhenWriteFails() {
+        stubObject("transaction1");
+        stubObject("parent1");
+        stubObject("child1");
+        containmentIndex.setTransactionBatchSize(3);
+        containmentIndex.addContainedBy(transaction1, parent1.getFedoraId(), child1.getFedoraId());
+
+        final var jdbcTemplate = (NamedParameterJdbcTemplate) getField(containmentIndex, "jdbcTemplate");
+        final var failingTemplate = spy(jdbcTemplate);
+        doThrow(new TransientDataAccessResourceException("write failed"))
+                .when(failingTemplate).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        setField(containmentIndex, "jdbcTemplate", failingTemplate);
+        try {
+            assertThrows(RepositoryRuntimeException.class, () -> containmentIndex.commitTransaction(transaction1));
+        } finally {
+            setField(containmentIndex, "jdbcTemplate", jdbcTemplate);
+        }
+        assertEquals(0, containmentIndex.getContains(shortLivedTx, parent1.getFedoraId()).count());
+
+        containmentIndex.commitTransaction(transaction1);
+        assertEquals(1, containmentIndex.getContains(shortLivedTx, parent1.getFedoraId()).count());
+    }
+
+    @Test
+    public void testTransactionChangesKeptWhenCommitRolledBack() {
+        stubObject("transaction1");
+        stubObject("parent1");
+        stubObject("child1");
+        containmentIndex.setTransactionBatchSize(3);
+        containmentIndex.addContainedBy(transaction1, parent1.getFedoraId(), child1.getFedoraId());
+
+        new TransactionTemplate(txManager).executeWithoutResult(status -> {
+            containmentIndex.commitTransaction(transaction1);
+            status.setRollbackOnly();
+        });
+        assertEquals(0, containmentIndex.getContains(shortLivedTx, parent1.getFedoraId()).count());
+
+        containmentIndex.commitTransaction(transaction1);
+        assertEquals(1, containmentIndex.getContains(shortLivedTx, parent1.getFedoraId()).count());
+    }
+
+    private int countTransactionRows(final Transaction tx) {
+        return new JdbcTemplate(dataSource).queryForObject(
+                "SELECT COUNT(*) FROM containment_transactions WHERE transaction_id = ?", Integer.class, tx.getId());
+    }
+
+    @Test
+    public void testGetContainsPage() {
+        stubObject("transaction1");
+        stubObject("parent1");
+        final List<String> expectedChildren = new ArrayList<>(7);
+        for (var i = 0; i < 7; i += 1) {
+            final FedoraId childId = parent1.getFedoraId().resolve("child_" + i);
+            expectedChildren.add(childId.getFullId());
+            containmentIndex.addContainedBy(transaction1, parent1.getFedoraId(), childId);
+        }
+        // pages include uncommitted children within the transaction
+        assertEquals(expectedChildren.subList(0, 3),
+                containmentIndex.getContainsPage(transaction1, parent1.getFedoraId(), null, 3));
+        containmentIndex.commitTransaction(transaction1);
+
+        final List<String> foundChildren = new ArrayList<>();
+        String after = null;
+        List<String> page;
+        do {
+            page = containmentIndex.getContainsPage(shortLivedTx, parent1.getFedoraId(), after, 3);
+            assertTrue(page.size() <= 3);
+            foundChildren.addAll(page);
+            after = page.isEmpty() ? after : page.get(page.size() - 1);
+        } while (page.size() == 3);
+        assertEquals(expectedChildren, foundChildren);
+        assertEquals(expectedChildren.subList(5, 7),
+                containmentIndex.getContainsPage(shortLivedTx, parent1.getFedoraId(), expectedChildren.get(4), 10));
+    }
+
     @Test
     public void testAddAclInTransaction() {
         stubObject("parent1");
@@ -22,6 +22,7 @@ import org.fcrepo.common.db.DbTransactionExecutor;
 import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.TransactionState;
+import org.fcrepo.kernel.api.cache.ResourceHeadersCache;
 import org.fcrepo.kernel.api.cache.UserTypesCache;
 import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
 import org.fcrepo.kernel.api.exception.TransactionClosedException;
@@ -92,6 +93,9 @@ public class TransactionImplTest {
     @Mock
     private UserTypesCache userTypesCache;
 
+    @Mock
+    private ResourceHeadersCache resourceHeadersCache;
+
     private static final long DEFAULT_SESSION_MILLI = 180000;
     private static final Duration DEFAULT_SESSION_DURATION = Duration.ofMillis(DEFAULT_SESSION_MILLI);
 
@@ -108,6 +112,7 @@ public class TransactionImplTest {
         when(txManager.getDbTransactionExecutor()).thenReturn(new DbTransactionExecutor());
         when(txManager.getResourceLockManager()).thenReturn(resourceLockManager);
         when(txManager.getUserTypesCache()).thenReturn(userTypesCache);
+        when(txManager.getResourceHeadersCache()).thenReturn(resourceHeadersCache);
     }
 
     @Test
@@ -179,6 +184,7 @@ public class TransactionImplTest {
     public void testRollback() throws Exception {
         testTx.rollback();
         verify(psSession).rollback();
+        verify(resourceHeadersCache).invalidateSession(testTx.getId());
     }
 
     @Test
@@ -445,6 +451,7 @@ public class TransactionImplTest {
         testTx.lockResource(resourceId);
 
         verify(resourceLockManager).acquireExclusive(testTx.getId(), resourceId);
+        verify(resourceHeadersCache).recordChange(resourceId, testTx.getId());
     }
 
     @Test
@@ -513,6 +520,7 @@ public class TransactionImplTest {
 
         // User types cache should be merged
         verify(userTypesCache).mergeSessionCache(testTx.getId());
+        verify(resourceHeadersCache).invalidateSession(testTx.getId());
     }
 
     @Test
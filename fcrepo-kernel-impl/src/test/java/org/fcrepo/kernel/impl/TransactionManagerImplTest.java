@@ -21,6 +21,7 @@ import java.time.Duration;
 import org.fcrepo.common.db.DbTransactionExecutor;
 import org.fcrepo.config.FedoraPropsConfig;
 import org.fcrepo.kernel.api.ContainmentIndex;
+import org.fcrepo.kernel.api.cache.ResourceHeadersCache;
 import org.fcrepo.kernel.api.cache.UserTypesCache;
 import org.fcrepo.kernel.api.exception.TransactionClosedException;
 import org.fcrepo.kernel.api.exception.TransactionNotFoundException;
@@ -80,6 +81,9 @@ public class TransactionManagerImplTest {
     @Mock
     private UserTypesCache userTypesCache;
 
+    @Mock
+    private ResourceHeadersCache resourceHeadersCache;
+
     private FedoraPropsConfig fedoraPropsConfig;
 
     @BeforeEach
@@ -98,6 +102,7 @@ public class TransactionManagerImplTest {
         setField(testTxManager, "fedoraPropsConfig", fedoraPropsConfig);
         setField(testTxManager, "resourceLockManager", resourceLockManager);
         setField(testTxManager, "userTypesCache", userTypesCache);
+        setField(testTxManager, "resourceHeadersCache", resourceHeadersCache);
         testTx = (TransactionImpl) testTxManager.create();
     }
 
@@ -0,0 +1,107 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.impl.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * @author fcrepo
+ */
+public class LastUpdatedCacheTest {
+
+    private static final String RESOURCE_ID = "info:fedora/resource";
+
+    private static final Instant FIRST = Instant.parse("2024-01-01T00:00:00Z");
+
+    private static final Instant SECOND = Instant.parse("2024-01-02T00:00:00Z");
+
+    private LastUpdatedCache cache;
+
+    private AtomicInteger loads;
+
+    @BeforeEach
+    public void setup() {
+        cache = new LastUpdatedCache(1024, 10);
+        loads = new AtomicInteger();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clear();
+        }
+    }
+
+    @Test
+    public void testCachesValue() {
+        assertEquals(FIRST, cache.get(RESOURCE_ID, loader(FIRST)));
+        assertEquals(FIRST, cache.get(RESOURCE_ID, loader(SECOND)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testCachesMissingValue() {
+        assertNull(cache.get(RESOURCE_ID, loader(null)));
+        assertNull(cache.get(RESOURCE_ID, loader(FIRST)));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testInvalidate() {
+        cache.get(RESOURCE_ID, loader(FIRST));
+        cache.get("info:fedora/other", loader(FIRST));
+        cache.invalidate(RESOURCE_ID);
+        assertEquals(SECOND, cache.get(RESOURCE_ID, loader(SECOND)));
+        assertEquals(FIRST, cache.get("info:fedora/other", loader(SECOND)));
+
+        cache.invalidateAll();
+        assertEquals(SECOND, cache.get("info:fedora/other", loader(SECOND)));
+        assertEquals(4, loads.get());
+    }
+
+    @Test
+    public void testInvalidatedWhileLoading() {
+        assertEquals(FIRST, cache.get(RESOURCE_ID, () -> {
+            cache.invalidate(RESOURCE_ID);
+            return FIRST;
+        }));
+        assertEquals(SECOND, cache.get(RESOURCE_ID, loader(SECOND)));
+    }
+
+    @Test
+    public void testInvalidatedAgainOnCompletion() {
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidateAll(List.of(RESOURCE_ID));
+
+        // read by another connection before the change was committed
+        cache.get(RESOURCE_ID, loader(FIRST));
+
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertEquals(SECOND, cache.get(RESOURCE_ID, loader(SECOND)));
+    }
+
+    private Supplier<Instant> loader(final Instant value) {
+        return () -> {
+            loads.incrementAndGet();
+            return value;
+        };
+    }
+}
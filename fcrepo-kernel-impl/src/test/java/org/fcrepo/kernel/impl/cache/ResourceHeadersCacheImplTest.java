@@ -0,0 +1,185 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+
+package org.fcrepo.kernel.impl.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.kernel.api.ReadOnlyTransaction;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.ResourceHeaders;
+import org.fcrepo.persistence.common.ResourceHeadersImpl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author fcrepo
+ */
+public class ResourceHeadersCacheImplTest {
+
+    private ResourceHeadersCacheImpl cache;
+
+    private FedoraId fedoraId;
+
+    private String sessionId;
+
+    private String sessionId2;
+
+    @BeforeEach
+    public void setup() {
+        final var props = new FedoraPropsConfig();
+        props.setResourceHeadersCacheSize(1024 * 1024);
+        props.setResourceHeadersCacheTimeout(10);
+        cache = new ResourceHeadersCacheImpl(props);
+
+        fedoraId = FedoraId.create(UUID.randomUUID().toString());
+        sessionId = UUID.randomUUID().toString();
+        sessionId2 = UUID.randomUUID().toString();
+    }
+
+    @Test
+    public void loadHeadersWhenNotCached() {
+        final var headers = cache.getHeaders(fedoraId, sessionId, loader("first"));
+        assertEquals(fedoraId, headers.getId());
+        assertEquals("first", headers.getStateToken());
+        assertEquals(List.of(URI.create("urn:sha1:1234")), List.copyOf(headers.getDigests()));
+    }
+
+    @Test
+    public void loadFromCacheWhenCached() {
+        final var headers = cache.getHeaders(fedoraId, ReadOnlyTransaction.READ_ONLY_TX_ID, loader("first"));
+
+        assertSame(headers, cache.getHeaders(fedoraId, ReadOnlyTransaction.READ_ONLY_TX_ID, noCallLoader()));
+        assertSame(headers, cache.getHeaders(fedoraId, sessionId, noCallLoader()));
+    }
+
+    @Test
+    public void cachedHeadersAreNotChangedWithLoadedHeaders() {
+        final var loaded = headers(fedoraId, "first");
+        cache.getHeaders(fedoraId, sessionId, id -> loaded);
+        loaded.setStateToken("changed");
+
+        assertEquals("first", cache.getHeaders(fedoraId, sessionId, noCallLoader()).getStateToken());
+    }
+
+    @Test
+    public void mementoHeadersAreCachedSeparately() {
+        final var mementoId = fedoraId.asMemento(Instant.parse("2020-01-01T00:00:00Z"));
+        cache.getHeaders(fedoraId, sessionId, loader("head"));
+        cache.getHeaders(mementoId, sessionId, loader("memento"));
+
+        assertEquals("head", cache.getHeaders(fedoraId, sessionId, noCallLoader()).getStateToken());
+        assertEquals("memento", cache.getHeaders(mementoId, sessionId, noCallLoader()).getStateToken());
+    }
+
+    @Test
+    public void changedResourcesAreLoadedInSession() {
+        cache.getHeaders(fedoraId, sessionId, loader("first"));
+        cache.recordChange(fedoraId, sessionId);
+
+        assertEquals("second", cache.getHeaders(fedoraId, sessionId, loader("second")).getStateToken());
+        assertEquals("first", cache.getHeaders(fedoraId, sessionId2, noCallLoader()).getStateToken());
+    }
+
+    @Test
+    public void commitInvalidatesChangedResources() {
+        final var descriptionId = fedoraId.asDescription();
+        final var mementoId = fedoraId.asMemento(Instant.parse("2020-01-01T00:00:00Z"));
+        final var otherId = FedoraId.create(UUID.randomUUID().toString());
+        cache.getHeaders(descriptionId, sessionId2, loader("description"));
+        cache.getHeaders(mementoId, sessionId2, loader("memento"));
+        cache.getHeaders(otherId, sessionId2, loader("other"));
+
+        cache.recordChange(fedoraId, sessionId);
+        cache.invalidateSession(sessionId);
+
+        assertEquals("second", cache.getHeaders(descriptionId, sessionId2, loader("second")).getStateToken());
+        assertEquals("second", cache.getHeaders(mementoId, sessionId2, loader("second")).getStateToken());
+        assertEquals("other", cache.getHeaders(otherId, sessionId2, noCallLoader()).getStateToken());
+        assertEquals("second", cache.getHeaders(fedoraId, sessionId, loader("second")).getStateToken());
+    }
+
+    @Test
+    public void invalidateDiscardsResources() {
+        final var mementoId = fedoraId.asMemento(Instant.parse("2020-01-01T00:00:00Z"));
+        final var otherId = FedoraId.create(UUID.randomUUID().toString());
+        cache.getHeaders(fedoraId, sessionId, loader("first"));
+        cache.getHeaders(mementoId, sessionId, loader("memento"));
+        cache.getHeaders(otherId, sessionId, loader("other"));
+
+        cache.invalidate(List.of(fedoraId));
+
+        assertEquals("second", cache.getHeaders(fedoraId, sessionId, loader("second")).getStateToken());
+        assertEquals("second", cache.getHeaders(mementoId, sessionId, loader("second")).getStateToken());
+        assertEquals("other", cache.getHeaders(otherId, sessionId, noCallLoader()).getStateToken());
+    }
+
+    @Test
+    public void invalidateAllDiscardsAllResources() {
+        final var otherId = FedoraId.create(UUID.randomUUID().toString());
+        cache.getHeaders(fedoraId, sessionId, loader("first"));
+        cache.getHeaders(otherId, sessionId, loader("other"));
+
+        cache.invalidateAll();
+
+        assertEquals("second", cache.getHeaders(fedoraId, sessionId, loader("second")).getStateToken());
+        assertEquals("second", cache.getHeaders(otherId, sessionId, loader("second")).getStateToken());
+    }
+
+    @Test
+    public void headersLoadedDuringInvalidationAreNotCached() {
+        cache.recordChange(fedoraId, sessionId);
+        cache.getHeaders(fedoraId, sessionId2, id -> {
+            cache.invalidateSession(sessionId);
+            return headers(id, "stale");
+        });
+
+        assertEquals("fresh", cache.getHeaders(fedoraId, sessionId2, loader("fresh")).getStateToken());
+    }
+
+    @Test
+    public void disabledCacheAlwaysLoads() {
+        final var props = new FedoraPropsConfig();
+        props.setResourceHeadersCacheSize(0);
+        props.setResourceHeadersCacheTimeout(10);
+        final var disabled = new ResourceHeadersCacheImpl(props);
+
+        final var first = disabled.getHeaders(fedoraId, sessionId, loader("first"));
+        assertNotSame(first, disabled.getHeaders(fedoraId, sessionId, loader("first")));
+        assertEquals("second", disabled.getHeaders(fedoraId, sessionId, loader("second")).getStateToken());
+    }
+
+    private Function<FedoraId, ResourceHeaders> loader(final String stateToken) {
+        return id -> headers(id, stateToken);
+    }
+
+    private ResourceHeadersImpl headers(final FedoraId id, final String stateToken) {
+        final var headers = new ResourceHeadersImpl();
+        headers.setId(id);
+        headers.setStateToken(stateToken);
+        headers.setDigests(List.of(URI.create("urn:sha1:1234")));
+        return headers;
+    }
+
+    private Function<FedoraId, ResourceHeaders> noCallLoader() {
+        return id -> {
+            fail("loader should not be called");
+            return null;
+        };
+    }
+
+}
@@ -34,8 +34,8 @@ import static org.mockito.Mockito.when;
 import java.net.URI;
 import java.nio.file.Paths;
 import java.time.Instant;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.TreeMap;
 
 import org.fcrepo.kernel.api.RdfLexicon;
 import org.fcrepo.kernel.api.Transaction;
@@ -356,15 +356,33 @@ public class FedoraResourceImplTest {
     }
 
     private void expectMementos(final String... instants) {
-        final var mementos = new ArrayList<FedoraResource>(instants.length);
+        final var timeline = new TreeMap<Instant, FedoraResource>();
         for (int i = 0; i < instants.length; i++) {
-            mementos.add(memento(String.valueOf(i), instant(instants[i])));
+            final var memento = memento(String.valueOf(i), instant(instants[i]));
+            timeline.put(memento.getMementoDatetime(), memento);
+        }
+        when(timeMap.getFedoraId()).thenReturn(FEDORA_ID.asTimemap());
+        when(sessionManager.getReadOnlySession()).thenReturn(psSession);
+        try {
+            when(psSession.findClosestVersion(eq(FEDORA_ID), any(Instant.class))).thenAnswer(invocation -> {
+                final Instant datetime = invocation.getArgument(1);
+                if (timeline.isEmpty()) {
+                    return null;
+                }
+                final var closest = timeline.floorKey(datetime);
+                return closest != null ? closest : timeline.firstKey();
+            });
+            for (final var entry : timeline.entrySet()) {
+                when(resourceFactory.getResource(any(), eq(FEDORA_ID.asMemento(entry.getKey()))))
+                        .thenReturn(entry.getValue());
+            }
+        } catch (final Exception e) {
+            throw new RuntimeException(e);
         }
-        when(timeMap.getChildren()).thenReturn(mementos.stream());
     }
 
     private FedoraResource resourceWithMockedTimeMap() {
-        final var resource = spy(new FedoraResourceImpl(FEDORA_ID, null, sessionManager,
+        final var resource = spy(new FedoraResourceImpl(FEDORA_ID, transaction, sessionManager,
                 resourceFactory, null));
         doReturn(timeMap).when(resource).getTimeMap();
         return resource;
@@ -28,6 +28,7 @@ import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import org.apache.jena.rdf.model.Resource;
 import org.apache.jena.rdf.model.ResourceFactory;
+import org.fcrepo.config.FedoraPropsConfig;
 import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.ReadOnlyTransaction;
 import org.fcrepo.kernel.api.Transaction;
@@ -40,6 +41,7 @@ import org.fcrepo.kernel.api.models.Container;
 import org.fcrepo.kernel.api.models.FedoraResource;
 import org.fcrepo.kernel.api.models.TimeMap;
 import org.fcrepo.kernel.impl.TestTransactionHelper;
+import org.fcrepo.kernel.impl.cache.ResourceHeadersCacheImpl;
 import org.fcrepo.persistence.api.PersistentStorageSession;
 import org.fcrepo.persistence.api.PersistentStorageSessionManager;
 import org.fcrepo.persistence.api.exceptions.PersistentItemNotFoundException;
@@ -141,6 +143,7 @@ public class ResourceFactoryImplTest {
 
         setField(factory, "persistentStorageSessionManager", sessionManager);
         setField(factory, "containmentIndex", containmentIndex);
+        setField(factory, "resourceHeadersCache", new ResourceHeadersCacheImpl(new FedoraPropsConfig()));
 
         resourceHeaders = new ResourceHeadersImpl();
         resourceHeaders.setId(fedoraId);
@@ -44,7 +44,10 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -138,10 +141,26 @@ public class TimeMapImplTest {
         final var timeMapUri = node(timeMap);
 
         assertThat(triples.collect(Collectors.toList()), contains(
-                Triple.create(timeMapUri, RdfLexicon.CONTAINS.asNode(), node(mementos.get(1))),
-                Triple.create(timeMapUri, RdfLexicon.CONTAINS.asNode(), node(mementos.get(0))),
                 Triple.create(timeMapUri, RdfLexicon.MEMENTO_ORIGINAL_RESOURCE.asNode(),
-                        NodeFactory.createURI(defaultId))));
+                        NodeFactory.createURI(defaultId)),
+                Triple.create(timeMapUri, RdfLexicon.CONTAINS.asNode(), node(mementos.get(0))),
+                Triple.create(timeMapUri, RdfLexicon.CONTAINS.asNode(), node(mementos.get(1)))));
+        // listing the mementos does not require loading them
+        verify(resourceFactory, never()).getResource(any(Transaction.class), any(FedoraId.class));
+    }
+
+    @Test
+    public void returnOneContainsTripleForVersionsWithSameDatetime()
+            throws PersistentStorageException, PathNotFoundException {
+        final var version = instant("20200225131900");
+
+        mockListVersions(defaultId, version, version);
+
+        final var contains = timeMap.getTriples()
+                .filter(t -> t.getPredicate().equals(RdfLexicon.CONTAINS.asNode()))
+                .count();
+
+        assertEquals(1, contains);
     }
 
     @Test
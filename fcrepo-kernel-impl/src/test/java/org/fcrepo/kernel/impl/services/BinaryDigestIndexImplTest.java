@@ -0,0 +1,115 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.impl.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.fcrepo.kernel.api.BinaryDigestIndex;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.Binary;
+import org.flywaydb.test.FlywayTestExecutionListener;
+import org.flywaydb.test.annotation.FlywayTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+
+/**
+ * @author fcrepo
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration("/containmentIndexTest.xml")
+@TestExecutionListeners({DependencyInjectionTestExecutionListener.class, FlywayTestExecutionListener.class })
+public class BinaryDigestIndexImplTest {
+
+    private static final URI MD5 = URI.create("urn:md5:effd5cdb18646d898596e683a2b8d9ea");
+
+    private static final URI SHA256 =
+            URI.create("urn:sha-256:8cd4f00a8e7c6ae3e2b0e6a5e9c1e7d4b7a0b4f9d8c3e2a1f0e9d8c7b6a5f4e3");
+
+    private static final URI OTHER_MD5 = URI.create("urn:md5:94e66df8cd09d410c62d9e0dc59d3a88");
+
+    @Inject
+    private BinaryDigestIndex binaryDigestIndex;
+
+    private FedoraId fedoraId;
+
+    @BeforeEach
+    @FlywayTest
+    public void setUp() {
+        binaryDigestIndex.reset();
+        fedoraId = FedoraId.create(UUID.randomUUID().toString());
+    }
+
+    @Test
+    public void testAddAndGetDigests() {
+        final var binary = mockBinary("token1");
+        assertTrue(binaryDigestIndex.getDigests(binary).isEmpty());
+
+        binaryDigestIndex.addDigests(binary, List.of(MD5, SHA256));
+        assertEquals(Set.of(MD5, SHA256), Set.copyOf(binaryDigestIndex.getDigests(binary)));
+
+        // recording the same digest again has no effect
+        binaryDigestIndex.addDigests(binary, List.of(MD5));
+        assertEquals(2, binaryDigestIndex.getDigests(binary).size());
+    }
+
+    @Test
+    public void testDigestsOfEarlierStateIgnored() {
+        binaryDigestIndex.addDigests(mockBinary("token1"), List.of(MD5, SHA256));
+
+        final var changed = mockBinary("token2");
+        assertTrue(binaryDigestIndex.getDigests(changed).isEmpty());
+
+        binaryDigestIndex.addDigests(changed, List.of(OTHER_MD5));
+        assertEquals(List.of(OTHER_MD5), binaryDigestIndex.getDigests(changed));
+        assertEquals(List.of(SHA256), binaryDigestIndex.getDigests(mockBinary("token1")));
+    }
+
+    @Test
+    public void testRemoveDigests() {
+        final var binary = mockBinary("token1");
+        binaryDigestIndex.addDigests(binary, List.of(MD5));
+        final var memento = mockBinary(fedoraId.asMemento("20240101000000"), "token2");
+        binaryDigestIndex.addDigests(memento, List.of(SHA256));
+        // an id whose mementos would match those of the binary if it was not escaped
+        final var similar = mockBinary(FedoraId.create(fedoraId.getFullId().replace('-', '_')), "token1");
+        binaryDigestIndex.addDigests(similar, List.of(MD5));
+
+        binaryDigestIndex.removeDigests(similar.getFedoraId());
+        assertTrue(binaryDigestIndex.getDigests(similar).isEmpty());
+        assertEquals(List.of(MD5), binaryDigestIndex.getDigests(binary));
+        assertEquals(List.of(SHA256), binaryDigestIndex.getDigests(memento));
+
+        binaryDigestIndex.removeDigests(fedoraId);
+        assertTrue(binaryDigestIndex.getDigests(binary).isEmpty());
+        assertTrue(binaryDigestIndex.getDigests(memento).isEmpty());
+    }
+
+    private Binary mockBinary(final String stateToken) {
+        return mockBinary(fedoraId, stateToken);
+    }
+
+    private Binary mockBinary(final FedoraId id, final String stateToken) {
+        final var binary = mock(Binary.class);
+        when(binary.getFedoraId()).thenReturn(id);
+        when(binary.getStateToken()).thenReturn(stateToken);
+        return binary;
+    }
+}
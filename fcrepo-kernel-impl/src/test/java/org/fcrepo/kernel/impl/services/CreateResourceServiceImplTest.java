@@ -23,6 +23,7 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -51,6 +52,7 @@ import org.fcrepo.kernel.api.RdfLexicon;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.cache.UserTypesCache;
 import org.fcrepo.kernel.api.exception.InteractionModelViolationException;
+import org.fcrepo.kernel.api.exception.InvalidChecksumException;
 import org.fcrepo.kernel.api.exception.RequestWithAclLinkHeaderException;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.models.ExternalContent;
@@ -628,6 +630,50 @@ public class CreateResourceServiceImplTest {
         verify(transaction).lockResourceAndGhostNodes(childId);
     }
 
+    @Test
+    public void testProxyExternalBinaryVerifiedByRemoteDigest() throws Exception {
+        final var realDigests = asList(URI.create("urn:sha1:94e66df8cd09d410c62d9e0dc59d3a884e458e05"));
+        final FedoraId childId = setupProxyWithRemoteDigests(realDigests);
+
+        createResourceService.perform(transaction, USER_PRINCIPAL, childId,
+                CONTENT_TYPE, FILENAME, 12L, null, realDigests, null, extContent);
+
+        // the digest reported by the server holding the content is trusted, the content is not downloaded
+        verify(extContent, never()).fetchExternalContent();
+        verify(psSession, times(2)).persist(operationCaptor.capture());
+        final var operation = getOperation(operationCaptor.getAllValues(), CreateNonRdfSourceOperation.class);
+        assertExternalBinaryPropertiesPresent(operation, URI.create("http://example.org/content"),
+                ExternalContent.PROXY);
+    }
+
+    @Test
+    public void testProxyExternalBinaryRemoteDigestMismatch() throws Exception {
+        final FedoraId childId = setupProxyWithRemoteDigests(
+                List.of(URI.create("urn:sha1:e070a846e478723070bd3c84cf83281acdb1cb09")));
+        final var digests = List.of(URI.create("urn:sha1:94e66df8cd09d410c62d9e0dc59d3a884e458e05"));
+
+        assertThrows(InvalidChecksumException.class, () -> createResourceService.perform(transaction,
+                USER_PRINCIPAL, childId, CONTENT_TYPE, FILENAME, 12L, null, digests, null, extContent));
+        verify(extContent, never()).fetchExternalContent();
+    }
+
+    private FedoraId setupProxyWithRemoteDigests(final Collection<URI> remoteDigests) {
+        when(extContent.getURI()).thenReturn(URI.create("http://example.org/content"));
+        when(extContent.getHandling()).thenReturn(ExternalContent.PROXY);
+        when(extContent.getContentType()).thenReturn(EXTERNAL_CONTENT_TYPE);
+        when(extContent.getRemoteDigests()).thenReturn(remoteDigests);
+
+        final FedoraId fedoraId = FedoraId.create(UUID.randomUUID().toString());
+        containmentIndex.addContainedBy(transaction, FedoraId.getRepositoryRootId(), fedoraId);
+        containmentIndex.commitTransaction(transaction);
+        when(resourceHeaders.getArchivalGroupId()).thenReturn(null);
+        when(resourceHeaders.isArchivalGroup()).thenReturn(false);
+        when(psSession.getHeaders(fedoraId, null)).thenReturn(resourceHeaders);
+        final FedoraId childId = fedoraId.resolve("child");
+        when(psSession.getHeaders(childId, null)).thenReturn(resourceHeaders);
+        return childId;
+    }
+
     private void assertBinaryPropertiesPresent(final ResourceOperation operation, final String exMimetype,
             final String exFilename, final long exContentSize, final Collection<URI> exDigests) {
         final var nonRdfOperation = (NonRdfSourceOperation) operation;
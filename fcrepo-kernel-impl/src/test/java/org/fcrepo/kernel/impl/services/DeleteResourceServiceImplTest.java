@@ -19,6 +19,7 @@ import java.util.UUID;
 
 import jakarta.inject.Inject;
 
+import org.fcrepo.kernel.api.BinaryDigestIndex;
 import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.auth.ACLHandle;
@@ -118,6 +119,9 @@ public class DeleteResourceServiceImplTest {
     @Mock
     private Cache<String, Optional<ACLHandle>> authHandleCache;
 
+    @Mock
+    private BinaryDigestIndex binaryDigestIndex;
+
     @Captor
     private ArgumentCaptor<DeleteResourceOperation> operationCaptor;
 
@@ -139,6 +143,7 @@ public class DeleteResourceServiceImplTest {
         setField(service, "deleteResourceFactory", factoryImpl);
         setField(service, "containmentIndex", containmentIndex);
         setField(service, "eventAccumulator", eventAccumulator);
+        setField(service, "binaryDigestIndex", binaryDigestIndex);
         setField(service, "referenceService", referenceService);
         setField(service, "membershipService", membershipService);
         setField(service, "searchIndex", searchIndex);
@@ -236,6 +241,7 @@ public class DeleteResourceServiceImplTest {
         verify(tx).lockResource(RESOURCE_ID);
         verify(tx).lockResource(RESOURCE_DESCRIPTION_ID);
         verify(tx).lockResource(RESOURCE_ACL_ID);
+        verify(binaryDigestIndex).removeDigests(RESOURCE_ID);
     }
 
 }
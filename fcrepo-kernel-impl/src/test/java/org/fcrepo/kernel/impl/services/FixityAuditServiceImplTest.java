@@ -0,0 +1,153 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.impl.services;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.inject.Inject;
+
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.Binary;
+import org.fcrepo.kernel.api.services.FixityAuditService;
+import org.fcrepo.kernel.api.utils.FixityAuditResult.Outcome;
+import org.flywaydb.test.FlywayTestExecutionListener;
+import org.flywaydb.test.annotation.FlywayTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestExecutionListeners;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+
+/**
+ * @author fcrepo
+ */
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration("/containmentIndexTest.xml")
+@TestExecutionListeners({DependencyInjectionTestExecutionListener.class, FlywayTestExecutionListener.class })
+public class FixityAuditServiceImplTest {
+
+    private static final String CONTENT = "Test binary content";
+
+    private static final URI CORRECT_SHA1 = URI.create("urn:sha1:e070a846e478723070bd3c84cf83281acdb1cb09");
+
+    private static final URI CORRECT_MD5 = URI.create("urn:md5:effd5cdb18646d898596e683a2b8d9ea");
+
+    private static final URI OTHER_SHA1 = URI.create("urn:sha1:94e66df8cd09d410c62d9e0dc59d3a884e458e05");
+
+    @Inject
+    private FixityAuditService fixityAuditService;
+
+    @BeforeEach
+    @FlywayTest
+    public void setUp() {
+        fixityAuditService.reset();
+    }
+
+    @Test
+    public void testAuditSuccess() throws IOException {
+        final var binary = mockBinary(CONTENT.length(), CORRECT_SHA1, CORRECT_MD5);
+
+        final var result = fixityAuditService.audit(binary);
+
+        assertEquals(Outcome.SUCCESS, result.getOutcome());
+        assertEquals(CONTENT.length(), result.getContentSize());
+        assertNull(result.getDetails());
+        assertEquals(result.getLastChecked(), fixityAuditService.getLastChecked(binary.getFedoraId()));
+        assertTrue(fixityAuditService.getFailures(10, 0).isEmpty());
+    }
+
+    @Test
+    public void testAuditBadChecksum() throws IOException {
+        final var binary = mockBinary(CONTENT.length(), OTHER_SHA1);
+
+        final var result = fixityAuditService.audit(binary);
+
+        assertEquals(Outcome.FAILURE, result.getOutcome());
+        assertNotNull(result.getDetails());
+
+        final var failures = fixityAuditService.getFailures(10, 0);
+        assertEquals(1, failures.size());
+        assertEquals(binary.getFedoraId(), failures.getFirst().getFedoraId());
+        assertEquals(Outcome.FAILURE, failures.getFirst().getOutcome());
+        assertEquals(CONTENT.length(), failures.getFirst().getContentSize());
+    }
+
+    @Test
+    public void testAuditBadSize() throws IOException {
+        final var binary = mockBinary(CONTENT.length() + 1, CORRECT_SHA1);
+
+        assertEquals(Outcome.FAILURE, fixityAuditService.audit(binary).getOutcome());
+    }
+
+    @Test
+    public void testAuditUnreadableContent() throws IOException {
+        final var binary = mockBinary(CONTENT.length(), CORRECT_SHA1);
+        when(binary.getContent()).thenReturn(new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Unreadable");
+            }
+        });
+
+        assertEquals(Outcome.ERROR, fixityAuditService.audit(binary).getOutcome());
+        assertEquals(1, fixityAuditService.getFailures(10, 0).size());
+    }
+
+    @Test
+    public void testRecheckReplacesOutcome() throws IOException {
+        final var binary = mockBinary(CONTENT.length(), OTHER_SHA1);
+        fixityAuditService.audit(binary);
+        assertEquals(1, fixityAuditService.getFailures(10, 0).size());
+
+        when(binary.getContentDigests()).thenReturn(List.of(CORRECT_SHA1));
+        when(binary.getContent()).thenReturn(new ByteArrayInputStream(CONTENT.getBytes(UTF_8)));
+        assertEquals(Outcome.SUCCESS, fixityAuditService.audit(binary).getOutcome());
+        assertTrue(fixityAuditService.getFailures(10, 0).isEmpty());
+    }
+
+    @Test
+    public void testGetStaleAndRemove() throws IOException {
+        final var binary1 = mockBinary(CONTENT.length(), CORRECT_SHA1);
+        final var binary2 = mockBinary(CONTENT.length(), CORRECT_SHA1);
+        fixityAuditService.audit(binary1);
+        fixityAuditService.audit(binary2);
+
+        final var future = Instant.now().plus(1, ChronoUnit.DAYS);
+        assertTrue(fixityAuditService.getStale(Instant.now().minus(1, ChronoUnit.DAYS), 10, 0).isEmpty());
+        assertEquals(2, fixityAuditService.getStale(future, 10, 0).size());
+        assertEquals(1, fixityAuditService.getStale(future, 1, 0).size());
+        assertEquals(1, fixityAuditService.getStale(future, 10, 1).size());
+
+        assertEquals(2, fixityAuditService.removeCheckedBefore(future));
+        assertNull(fixityAuditService.getLastChecked(binary1.getFedoraId()));
+    }
+
+    private static Binary mockBinary(final long size, final URI... digests) throws IOException {
+        final var binary = mock(Binary.class);
+        when(binary.getFedoraId()).thenReturn(FedoraId.create(UUID.randomUUID().toString()));
+        when(binary.getContent()).thenReturn(new ByteArrayInputStream(CONTENT.getBytes(UTF_8)));
+        when(binary.getContentSize()).thenReturn(size);
+        when(binary.getContentDigests()).thenReturn(List.of(digests));
+        return binary;
+    }
+}
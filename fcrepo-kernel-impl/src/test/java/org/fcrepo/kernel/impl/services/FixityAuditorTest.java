@@ -0,0 +1,142 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.kernel.impl.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.kernel.api.ContainmentIndex;
+import org.fcrepo.kernel.api.ReadOnlyTransaction;
+import org.fcrepo.kernel.api.RepositoryInitializationStatus;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.Binary;
+import org.fcrepo.kernel.api.models.Container;
+import org.fcrepo.kernel.api.models.ResourceFactory;
+import org.fcrepo.kernel.api.services.FixityAuditService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * @author fcrepo
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class FixityAuditorTest {
+
+    private static final FedoraId ROOT_ID = FedoraId.getRepositoryRootId();
+
+    private static final FedoraId CONTAINER_ID = FedoraId.create("container");
+
+    private static final FedoraId BINARY_ID = FedoraId.create("container/binary");
+
+    private static final FedoraId FRESH_BINARY_ID = FedoraId.create("container/fresh");
+
+    private static final FedoraId EXTERNAL_BINARY_ID = FedoraId.create("external");
+
+    @Mock
+    private FedoraPropsConfig fedoraPropsConfig;
+
+    @Mock
+    private FixityAuditService fixityAuditService;
+
+    @Mock
+    private ResourceFactory resourceFactory;
+
+    @Mock
+    private ContainmentIndex containmentIndex;
+
+    @Mock
+    private RepositoryInitializationStatus initializationStatus;
+
+    @InjectMocks
+    private FixityAuditor fixityAuditor;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        when(fedoraPropsConfig.isFixityAuditEnabled()).thenReturn(true);
+        when(fedoraPropsConfig.getFixityAuditThreads()).thenReturn(2);
+        when(fedoraPropsConfig.getFixityAuditInterval()).thenReturn(Duration.ofDays(30));
+        when(fedoraPropsConfig.getFixityAuditDelay()).thenReturn(Duration.ofHours(1));
+        when(initializationStatus.isInitializationComplete()).thenReturn(true);
+
+        when(containmentIndex.getContains(ReadOnlyTransaction.INSTANCE, ROOT_ID))
+                .thenAnswer(i -> Stream.of(CONTAINER_ID.getFullId(), EXTERNAL_BINARY_ID.getFullId()));
+        when(containmentIndex.getContains(ReadOnlyTransaction.INSTANCE, CONTAINER_ID))
+                .thenAnswer(i -> Stream.of(BINARY_ID.getFullId(), FRESH_BINARY_ID.getFullId()));
+
+        final var container = mock(Container.class);
+        when(resourceFactory.getResource(ReadOnlyTransaction.INSTANCE, CONTAINER_ID)).thenReturn(container);
+
+        final var binary = mock(Binary.class);
+        when(binary.getFedoraId()).thenReturn(BINARY_ID);
+        when(binary.isProxy()).thenReturn(false);
+        when(binary.isRedirect()).thenReturn(false);
+        when(resourceFactory.getResource(ReadOnlyTransaction.INSTANCE, BINARY_ID)).thenReturn(binary);
+
+        final var external = mock(Binary.class);
+        when(external.isProxy()).thenReturn(true);
+        when(resourceFactory.getResource(ReadOnlyTransaction.INSTANCE, EXTERNAL_BINARY_ID)).thenReturn(external);
+
+        when(fixityAuditService.getLastChecked(FRESH_BINARY_ID)).thenReturn(Instant.now());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        fixityAuditor.stop();
+    }
+
+    @Test
+    public void testAuditRepository() throws Exception {
+        fixityAuditor.start();
+
+        assertEquals(1, fixityAuditor.auditRepository());
+
+        verify(fixityAuditService).audit(any(Binary.class));
+        verify(resourceFactory, never()).getResource(ReadOnlyTransaction.INSTANCE, FRESH_BINARY_ID);
+        // binaries are not expected to contain other resources
+        verify(containmentIndex, never()).getContains(ReadOnlyTransaction.INSTANCE, BINARY_ID);
+        verify(fixityAuditService).removeCheckedBefore(any(Instant.class));
+    }
+
+    @Test
+    public void testStaleBinaryIsChecked() throws Exception {
+        when(fixityAuditService.getLastChecked(FRESH_BINARY_ID)).thenReturn(Instant.now().minus(Duration.ofDays(31)));
+        final var binary = mock(Binary.class);
+        when(binary.isProxy()).thenReturn(false);
+        when(binary.isRedirect()).thenReturn(false);
+        when(resourceFactory.getResource(ReadOnlyTransaction.INSTANCE, FRESH_BINARY_ID)).thenReturn(binary);
+        fixityAuditor.start();
+
+        assertEquals(2, fixityAuditor.auditRepository());
+        verify(fixityAuditService).audit(eq(binary));
+    }
+
+    @Test
+    public void testAuditRequiresEnabled() {
+        when(fedoraPropsConfig.isFixityAuditEnabled()).thenReturn(false);
+        fixityAuditor.start();
+
+        assertThrows(IllegalStateException.class, () -> fixityAuditor.auditRepository());
+    }
+}
@@ -19,10 +19,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.Resource;
+import org.fcrepo.kernel.api.BinaryDigestIndex;
 import org.fcrepo.kernel.api.RdfCollectors;
 import org.fcrepo.kernel.api.RdfStream;
 import org.fcrepo.kernel.api.exception.InvalidChecksumException;
@@ -58,6 +63,9 @@ public class FixityServiceImplTest {
     @Mock
     private Binary binary;
 
+    @Mock
+    private BinaryDigestIndex binaryDigestIndex;
+
     @InjectMocks
     private FixityServiceImpl fixityService;
 
@@ -76,6 +84,7 @@ public class FixityServiceImplTest {
         when(binary.getFedoraId()).thenReturn(FedoraId.create(FEDORA_ID));
         when(binary.getContentSize()).thenReturn(CONTENT_SIZE);
         when(binary.getContentDigests()).thenReturn(List.of(CORRECT_SHA1));
+        when(binaryDigestIndex.getDigests(binary)).thenReturn(List.of());
     }
 
     @Test
@@ -94,6 +103,69 @@ public class FixityServiceImplTest {
         assertTrue(fixityResults.contains(CORRECT_MD5));
     }
 
+    @Test
+    public void testGetFixityFromStoredDigest() throws Exception {
+        final Collection<URI> fixityResults = fixityService.getFixity(binary, List.of("SHA"));
+
+        assertEquals(List.of(CORRECT_SHA1), fixityResults);
+        verify(binary, never()).getContent();
+        verify(binaryDigestIndex, never()).getDigests(any(Binary.class));
+    }
+
+    @Test
+    public void testGetFixityRecordsComputedDigest() throws Exception {
+        final Collection<URI> fixityResults = fixityService.getFixity(binary, List.of("MD5", "SHA-1"));
+
+        assertEquals(List.of(CORRECT_MD5, CORRECT_SHA1), fixityResults);
+        // only the digest which was not stored is computed and recorded
+        verify(binaryDigestIndex).addDigests(binary, List.of(CORRECT_MD5));
+    }
+
+    @Test
+    public void testGetFixityFromRecordedDigest() throws Exception {
+        when(binaryDigestIndex.getDigests(binary)).thenReturn(List.of(CORRECT_MD5));
+
+        final Collection<URI> fixityResults = fixityService.getFixity(binary, List.of("MD5"));
+
+        assertEquals(List.of(CORRECT_MD5), fixityResults);
+        verify(binary, never()).getContent();
+        verify(binaryDigestIndex, never()).addDigests(any(Binary.class), anyCollection());
+    }
+
+    @Test
+    public void testGetFixityNotRecordedForProxy() throws Exception {
+        when(binary.isProxy()).thenReturn(true);
+
+        final Collection<URI> fixityResults = fixityService.getFixity(binary, List.of("MD5"));
+
+        assertEquals(List.of(CORRECT_MD5), fixityResults);
+        verify(binaryDigestIndex, never()).getDigests(any(Binary.class));
+        verify(binaryDigestIndex, never()).addDigests(any(Binary.class), anyCollection());
+    }
+
+    @Test
+    public void testGetFixityIgnoresStoredDigestOfRedirect() throws Exception {
+        // the external content changed since the digest was stored
+        when(binary.isRedirect()).thenReturn(true);
+        when(binary.getContentDigests()).thenReturn(List.of(OTHER_SHA1));
+
+        final Collection<URI> fixityResults = fixityService.getFixity(binary, List.of("SHA-1"));
+
+        assertEquals(List.of(CORRECT_SHA1), fixityResults);
+        verify(binaryDigestIndex, never()).getDigests(any(Binary.class));
+        verify(binaryDigestIndex, never()).addDigests(any(Binary.class), anyCollection());
+    }
+
+    @Test
+    public void testGetFixityWithoutStoredDigests() throws Exception {
+        when(binary.getContentDigests()).thenReturn(null);
+
+        final Collection<URI> fixityResults = fixityService.getFixity(binary, List.of("SHA-1"));
+
+        assertEquals(List.of(CORRECT_SHA1), fixityResults);
+        verify(binaryDigestIndex).addDigests(binary, List.of(CORRECT_SHA1));
+    }
+
     @Test
     public void testGetFixity_UnsupportedAlgorithm() {
         final Collection<String> algorithms = List.of("INVALID-ALG");
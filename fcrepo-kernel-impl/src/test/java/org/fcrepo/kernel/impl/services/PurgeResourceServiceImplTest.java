@@ -18,6 +18,7 @@ import java.util.Optional;
 
 import jakarta.inject.Inject;
 
+import org.fcrepo.kernel.api.BinaryDigestIndex;
 import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.auth.ACLHandle;
@@ -111,6 +112,9 @@ public class PurgeResourceServiceImplTest {
     @Mock
     private Cache<String, Optional<ACLHandle>> authHandleCache;
 
+    @Mock
+    private BinaryDigestIndex binaryDigestIndex;
+
     @Captor
     private ArgumentCaptor<PurgeResourceOperation> operationCaptor;
 
@@ -132,6 +136,7 @@ public class PurgeResourceServiceImplTest {
         setField(service, "deleteResourceFactory", factoryImpl);
         setField(service, "containmentIndex", containmentIndex);
         setField(service, "eventAccumulator", eventAccumulator);
+        setField(service, "binaryDigestIndex", binaryDigestIndex);
         when(container.getFedoraId()).thenReturn(RESOURCE_ID);
 
         when(pSession.getHeaders(RESOURCE_ID, null)).thenReturn(resourceHeaders);
@@ -221,6 +226,7 @@ public class PurgeResourceServiceImplTest {
         verify(tx).lockResource(RESOURCE_ID);
         verify(tx).lockResource(RESOURCE_DESCRIPTION_ID);
         verify(tx).lockResource(RESOURCE_ACL_ID);
+        verify(binaryDigestIndex).removeDigests(RESOURCE_ID);
     }
 
 }
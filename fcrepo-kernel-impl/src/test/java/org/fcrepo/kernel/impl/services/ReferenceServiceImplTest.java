@@ -26,6 +26,7 @@ import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.models.Binary;
 import org.fcrepo.kernel.api.models.FedoraResource;
 import org.fcrepo.kernel.api.models.NonRdfSourceDescription;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 import org.fcrepo.kernel.api.services.ReferenceService;
 import org.fcrepo.kernel.impl.TestTransactionHelper;
 
@@ -281,6 +282,25 @@ public class ReferenceServiceImplTest {
         assertEquals(0, referenceService.getInboundReferences(shortLivedTx, targetResource).count());
     }
 
+    @Test
+    public void testUpdateWithDelta() {
+        final Triple reference = Triple.create(subject1.asNode(), referenceProp.asNode(), target.asNode());
+        final Triple literal = Triple.create(subject1.asNode(),
+                ResourceFactory.createProperty("http://someother/description").asNode(),
+                ResourceFactory.createPlainLiteral("Some text").asNode());
+
+        referenceService.updateReferences(transaction, subject1Id, TEST_USER,
+                new RdfDelta(List.of(reference, literal), List.of()));
+        assertEquals(0, referenceService.getInboundReferences(shortLivedTx, targetResource).count());
+        assertEquals(1, referenceService.getInboundReferences(transaction, targetResource).count());
+        referenceService.commitTransaction(transaction);
+        assertEquals(1, referenceService.getInboundReferences(shortLivedTx, targetResource).count());
+
+        referenceService.updateReferences(shortLivedTx, subject1Id, TEST_USER,
+                new RdfDelta(List.of(), List.of(reference, literal)));
+        assertEquals(0, referenceService.getInboundReferences(shortLivedTx, targetResource).count());
+    }
+
     @Test
     public void testBinaryDescriptionListAllReferences() {
         final FedoraId binaryId = FedoraId.create(UUID.randomUUID().toString());
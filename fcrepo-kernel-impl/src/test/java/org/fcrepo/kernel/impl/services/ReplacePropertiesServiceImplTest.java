@@ -11,10 +11,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import org.apache.commons.io.IOUtils;
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ModelFactory;
 import org.apache.jena.rdf.model.ResourceFactory;
@@ -34,6 +36,8 @@ import org.fcrepo.kernel.api.operations.NonRdfSourceOperation;
 import org.fcrepo.kernel.api.operations.NonRdfSourceOperationFactory;
 import org.fcrepo.kernel.api.operations.RdfSourceOperation;
 import org.fcrepo.kernel.api.operations.RdfSourceOperationFactory;
+import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 import org.fcrepo.kernel.api.services.MembershipService;
 import org.fcrepo.kernel.api.services.ReferenceService;
 import org.fcrepo.kernel.impl.operations.NonRdfSourceOperationFactoryImpl;
@@ -52,6 +56,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * DeleteResourceServiceTest
@@ -139,6 +146,8 @@ public class ReplacePropertiesServiceImplTest {
         RDFDataMgr.read(model, IOUtils.toInputStream(RDF, "UTF-8"), Lang.NTRIPLES);
 
         when(headers.getInteractionModel()).thenReturn(RdfLexicon.RDF_SOURCE.toString());
+        when(pSession.getTriples(FEDORA_ID, null)).thenReturn(new DefaultRdfStream(
+                ResourceFactory.createResource(FEDORA_ID.getFullId()).asNode()));
 
         service.perform(tx, USER_PRINCIPAL, FEDORA_ID, model);
         verify(tx).lockResource(FEDORA_ID);
@@ -179,5 +188,50 @@ public class ReplacePropertiesServiceImplTest {
         final var nonRdfOp = nonRdfOperationCaptor.getValue();
         assertEquals(binaryId, nonRdfOp.getResourceId());
     }
-}
 
+    @Test
+    public void testReplacePropertiesWithDelta() throws Exception {
+        final var subject = ResourceFactory.createResource(FEDORA_ID.getFullId()).asNode();
+        final var kept = Triple.create(subject, title.asNode(), ResourceFactory.createPlainLiteral("kept").asNode());
+        final var added = Triple.create(subject, title.asNode(), ResourceFactory.createPlainLiteral("added").asNode());
+        final var removed = Triple.create(subject, title.asNode(),
+                ResourceFactory.createPlainLiteral("removed").asNode());
+        final var delta = new RdfDelta(List.of(added), List.of(removed));
+
+        service.perform(tx, USER_PRINCIPAL, FEDORA_ID, List.of(kept, added), delta);
+        verify(tx).lockResource(FEDORA_ID);
+        verify(pSession).persist(operationCaptor.capture());
+        assertEquals(List.of(kept, added), operationCaptor.getValue().getTriples().collect(Collectors.toList()));
+        verify(referenceService).updateReferences(tx, FEDORA_ID, USER_PRINCIPAL, delta);
+        verify(membershipService).resourceModified(tx, FEDORA_ID);
+        verify(searchIndex).addUpdateIndex(tx, headers, delta);
+        // The update did not change the types of the resource
+        verifyNoInteractions(userTypesCache);
+    }
+
+    @Test
+    public void testReplacePropertiesComputesDelta() throws Exception {
+        final var subject = ResourceFactory.createResource(FEDORA_ID.getFullId()).asNode();
+        final var kept = Triple.create(subject, title.asNode(),
+                ResourceFactory.createPlainLiteral("fancy title").asNode());
+        final var removed = Triple.create(subject, title.asNode(),
+                ResourceFactory.createPlainLiteral("old title").asNode());
+        final var added = Triple.create(subject, title.asNode(),
+                ResourceFactory.createPlainLiteral("another fancy title").asNode());
+        final Model model = ModelFactory.createDefaultModel();
+        RDFDataMgr.read(model, IOUtils.toInputStream(RDF, "UTF-8"), Lang.NTRIPLES);
+
+        when(headers.getInteractionModel()).thenReturn(RdfLexicon.RDF_SOURCE.toString());
+        when(pSession.getTriples(FEDORA_ID, null)).thenReturn(new DefaultRdfStream(subject,
+                Stream.of(kept, removed)));
+
+        service.perform(tx, USER_PRINCIPAL, FEDORA_ID, model);
+        verify(pSession).persist(operationCaptor.capture());
+        final var delta = operationCaptor.getValue().getDelta();
+        assertEquals(List.of(added), delta.getAdded());
+        assertEquals(List.of(removed), delta.getRemoved());
+        verify(referenceService).updateReferences(tx, FEDORA_ID, USER_PRINCIPAL, delta);
+        verify(searchIndex).addUpdateIndex(tx, headers, delta);
+        verifyNoInteractions(userTypesCache);
+    }
+}
@@ -6,21 +6,33 @@
 package org.fcrepo.kernel.impl.services;
 
 import static org.apache.jena.rdf.model.ModelFactory.createDefaultModel;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.apache.jena.graph.Triple;
 import org.apache.jena.rdf.model.Model;
 import org.apache.jena.rdf.model.ResourceFactory;
+import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.config.ServerManagedPropsMode;
+import org.fcrepo.kernel.api.RdfLexicon;
 import org.fcrepo.kernel.api.RdfStream;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.exception.ItemNotFoundException;
 import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 import org.fcrepo.kernel.api.services.ReplacePropertiesService;
 import org.fcrepo.persistence.api.PersistentStorageSession;
 import org.fcrepo.persistence.api.PersistentStorageSessionManager;
@@ -29,6 +41,8 @@ import org.fcrepo.persistence.api.exceptions.PersistentStorageException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -56,6 +70,15 @@ public class UpdatePropertiesServiceImplTest {
     @Mock
     private Transaction transaction;
 
+    @Mock
+    private FedoraPropsConfig fedoraPropsConfig;
+
+    @Captor
+    private ArgumentCaptor<Collection<Triple>> triplesCaptor;
+
+    @Captor
+    private ArgumentCaptor<RdfDelta> deltaCaptor;
+
     @InjectMocks
     private UpdatePropertiesServiceImpl service;
 
@@ -64,6 +87,8 @@ public class UpdatePropertiesServiceImplTest {
     private Model initialModel;
     private RdfStream initialTriples;
 
+    private static final String TITLE = "http://purl.org/dc/elements/1.1/title";
+
     @BeforeEach
     public void setup() {
         fedoraId = FedoraId.create("info:fedora/test-resource");
@@ -81,6 +106,7 @@ public class UpdatePropertiesServiceImplTest {
         // Setup mocks
         when(persistentStorageSessionManager.getSession(transaction)).thenReturn(persistentStorageSession);
         when(persistentStorageSession.getTriples(fedoraId, null)).thenReturn(initialTriples);
+        when(fedoraPropsConfig.getServerManagedPropsMode()).thenReturn(ServerManagedPropsMode.STRICT);
     }
 
     @Test
@@ -99,6 +125,68 @@ public class UpdatePropertiesServiceImplTest {
         verify(replacePropertiesService).perform(eq(transaction), eq(userPrincipal), eq(fedoraId), any(Model.class));
     }
 
+    @Test
+    public void testUpdateProperties_DataOnly() throws Exception {
+        final String sparqlUpdate =
+                "PREFIX dc: <http://purl.org/dc/elements/1.1/>\n" +
+                        "DELETE DATA { <" + fedoraId.getFullId() + "> dc:title \"Original Title\" } ;\n" +
+                        "INSERT DATA { <" + fedoraId.getFullId() + "> dc:title \"Updated Title\" . " +
+                        "<" + fedoraId.getFullId() + "> dc:title \"Original Title\" . " +
+                        "<" + fedoraId.getFullId() + "> dc:subject \"Subject\" } ;\n" +
+                        "DELETE DATA { <" + fedoraId.getFullId() + "> dc:subject \"Subject\" }";
+
+        service.updateProperties(transaction, userPrincipal, fedoraId, sparqlUpdate);
+
+        verify(replacePropertiesService).perform(eq(transaction), eq(userPrincipal), eq(fedoraId),
+                triplesCaptor.capture(), deltaCaptor.capture());
+        verify(replacePropertiesService, never()).perform(any(), any(), any(), any(Model.class));
+
+        final var updated = triple(TITLE, "Updated Title");
+        assertEquals(2, triplesCaptor.getValue().size());
+        assertTrue(triplesCaptor.getValue().contains(updated));
+        assertTrue(triplesCaptor.getValue().contains(triple(TITLE, "Original Title")));
+        assertEquals(List.of(updated), deltaCaptor.getValue().getAdded());
+        assertTrue(deltaCaptor.getValue().getRemoved().isEmpty());
+    }
+
+    @Test
+    public void testUpdateProperties_DataOnlyRemovesExisting() throws Exception {
+        final String sparqlUpdate =
+                "PREFIX dc: <http://purl.org/dc/elements/1.1/>\n" +
+                        "DELETE DATA { <" + fedoraId.getFullId() + "> dc:title \"Original Title\" . " +
+                        "<" + fedoraId.getFullId() + "> dc:title \"Missing Title\" }";
+
+        service.updateProperties(transaction, userPrincipal, fedoraId, sparqlUpdate);
+
+        verify(replacePropertiesService).perform(eq(transaction), eq(userPrincipal), eq(fedoraId),
+                triplesCaptor.capture(), deltaCaptor.capture());
+        assertTrue(triplesCaptor.getValue().isEmpty());
+        assertTrue(deltaCaptor.getValue().getAdded().isEmpty());
+        assertEquals(List.of(triple(TITLE, "Original Title")), deltaCaptor.getValue().getRemoved());
+    }
+
+    @Test
+    public void testUpdateProperties_DataOnlyMembershipProperty() throws Exception {
+        final String sparqlUpdate = "INSERT DATA { <" + fedoraId.getFullId() + "> <"
+                + RdfLexicon.HAS_MEMBER_RELATION.getURI() + "> <http://example.org/member> }";
+
+        service.updateProperties(transaction, userPrincipal, fedoraId, sparqlUpdate);
+
+        verify(replacePropertiesService).perform(eq(transaction), eq(userPrincipal), eq(fedoraId), any(Model.class));
+        verify(replacePropertiesService, never()).perform(any(), any(), any(), anyCollection(), any());
+    }
+
+    @Test
+    public void testUpdateProperties_DataOnlyRelaxedMode() throws Exception {
+        when(fedoraPropsConfig.getServerManagedPropsMode()).thenReturn(ServerManagedPropsMode.RELAXED);
+        final String sparqlUpdate = "INSERT DATA { <" + fedoraId.getFullId() + "> <" + TITLE + "> \"Title\" }";
+
+        service.updateProperties(transaction, userPrincipal, fedoraId, sparqlUpdate);
+
+        verify(replacePropertiesService).perform(eq(transaction), eq(userPrincipal), eq(fedoraId), any(Model.class));
+        verify(replacePropertiesService, never()).perform(any(), any(), any(), anyCollection(), any());
+    }
+
     @Test
     public void testUpdateProperties_ItemNotFound() throws Exception {
         // Setup service to throw PersistentItemNotFoundException
@@ -128,4 +216,10 @@ public class UpdatePropertiesServiceImplTest {
             service.updateProperties(transaction, userPrincipal, fedoraId, sparqlUpdate);
         });
     }
-}
\ No newline at end of file
+
+    private Triple triple(final String predicate, final String value) {
+        return Triple.create(ResourceFactory.createResource(fedoraId.getFullId()).asNode(),
+                ResourceFactory.createProperty(predicate).asNode(),
+                ResourceFactory.createPlainLiteral(value).asNode());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.load;
+
+/**
+ * The credentials of a user of the load test
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class Credentials {
+
+    private final String user;
+
+    private final String password;
+
+    /**
+     * @param user the user name
+     * @param password the password
+     */
+    public Credentials(final String user, final String password) {
+        this.user = user;
+        this.password = password;
+    }
+
+    /**
+     * @param value credentials of the form user:password
+     * @return the credentials
+     */
+    public static Credentials parse(final String value) {
+        final int separator = value.indexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Credentials must be of the form user:password, not " + value);
+        }
+        return new Credentials(value.substring(0, separator), value.substring(separator + 1));
+    }
+
+    /**
+     * @return the user name
+     */
+    public String getUser() {
+        return user;
+    }
+
+    /**
+     * @return the password
+     */
+    public String getPassword() {
+        return password;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.load;
+
+import java.util.Arrays;
+
+/**
+ * The latencies of the successful requests of an operation, with the count of its failed requests. Each client
+ * records into stats of its own, which are merged once the run is over.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class LatencyStats {
+
+    private long[] latencies = new long[1024];
+
+    private int count;
+
+    private boolean sorted = true;
+
+    private long resources;
+
+    private int errors;
+
+    private String lastError;
+
+    /**
+     * Record a successful request
+     *
+     * @param nanos the latency of the request
+     * @param resourceCount the number of resources created or read by the request
+     */
+    public void record(final long nanos, final int resourceCount) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count * 2);
+        }
+        latencies[count++] = nanos;
+        sorted = false;
+        resources += resourceCount;
+    }
+
+    /**
+     * Record a failed request
+     *
+     * @param message the cause of the failure
+     */
+    public void recordError(final String message) {
+        errors++;
+        lastError = message;
+    }
+
+    /**
+     * @param other stats of the same operation to add to these
+     */
+    public void merge(final LatencyStats other) {
+        if (count + other.count > latencies.length) {
+            latencies = Arrays.copyOf(latencies, count + other.count);
+        }
+        System.arraycopy(other.latencies, 0, latencies, count, other.count);
+        count += other.count;
+        sorted = false;
+        resources += other.resources;
+        errors += other.errors;
+        if (other.lastError != null) {
+            lastError = other.lastError;
+        }
+    }
+
+    /**
+     * @param percentile the percentile, between 0 and 100
+     * @return the latency in nanoseconds under which the percentile of the successful requests completed
+     */
+    public long percentile(final double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        if (!sorted) {
+            Arrays.sort(latencies, 0, count);
+            sorted = true;
+        }
+        final int rank = (int) Math.ceil(percentile / 100 * count);
+        return latencies[Math.max(0, Math.min(count, rank) - 1)];
+    }
+
+    /**
+     * @return the number of successful requests
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return the number of resources created or read by the successful requests
+     */
+    public long getResources() {
+        return resources;
+    }
+
+    /**
+     * @return the number of failed requests
+     */
+    public int getErrors() {
+        return errors;
+    }
+
+    /**
+     * @return the cause of the last failed request, if any
+     */
+    public String getLastError() {
+        return lastError;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.load;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.http.HttpHeaders.AUTHORIZATION;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Base64;
+
+import org.apache.http.client.methods.HttpHead;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.util.EntityUtils;
+
+/**
+ * A client of the rest endpoint of the repository, pooling a connection per concurrent client of the load test.
+ * Credentials are sent preemptively, so that the latencies measured do not include authentication challenges.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class LoadClient implements Closeable {
+
+    private static final byte[] NO_CONTENT = new byte[0];
+
+    private final String baseUrl;
+
+    private final CloseableHttpClient client;
+
+    /**
+     * @param baseUrl the URI of the rest endpoint, without a trailing slash
+     * @param connections the maximum number of connections to the repository
+     */
+    public LoadClient(final String baseUrl, final int connections) {
+        this.baseUrl = baseUrl.endsWith("/") ? baseUrl.substring(0, baseUrl.length() - 1) : baseUrl;
+        this.client = HttpClientBuilder.create()
+                .setMaxConnPerRoute(connections)
+                .setMaxConnTotal(connections)
+                .disableRedirectHandling()
+                .build();
+    }
+
+    /**
+     * @param path a path of the repository, starting with a slash
+     * @return the URI of the path
+     */
+    public String uri(final String path) {
+        return baseUrl + path;
+    }
+
+    /**
+     * Execute a request, reading the whole response
+     *
+     * @param request the request
+     * @param credentials the credentials of the user making the request
+     * @return the body of the response
+     * @throws UnexpectedStatusException if the response is not successful
+     * @throws IOException if the request fails
+     */
+    public byte[] execute(final HttpUriRequest request, final Credentials credentials) throws IOException {
+        request.setHeader(AUTHORIZATION, basic(credentials));
+        try (final var response = client.execute(request)) {
+            final int status = response.getStatusLine().getStatusCode();
+            final var body = response.getEntity() == null ? NO_CONTENT : EntityUtils.toByteArray(response.getEntity());
+            if (status < 200 || status >= 300) {
+                throw new UnexpectedStatusException(request, status, new String(body, UTF_8));
+            }
+            return body;
+        }
+    }
+
+    /**
+     * @param path a path of the repository
+     * @param credentials the credentials of the user making the request
+     * @return whether a resource exists at the path
+     * @throws IOException if the request fails
+     */
+    public boolean exists(final String path, final Credentials credentials) throws IOException {
+        try {
+            execute(new HttpHead(uri(path)), credentials);
+            return true;
+        } catch (final UnexpectedStatusException e) {
+            if (e.getStatus() == 404) {
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private static String basic(final Credentials credentials) {
+        final var token = credentials.getUser() + ":" + credentials.getPassword();
+        return "Basic " + Base64.getEncoder().encodeToString(token.getBytes(UTF_8));
+    }
+
+    @Override
+    public void close() throws IOException {
+        client.close();
+    }
+
+    /**
+     * A response which is not successful
+     */
+    public static class UnexpectedStatusException extends IOException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        /**
+         * @param request the request
+         * @param status the status of the response
+         * @param body the body of the response
+         */
+        public UnexpectedStatusException(final HttpUriRequest request, final int status, final String body) {
+            super(request.getMethod() + " " + request.getURI() + " returned " + status + ": " + body);
+            this.status = status;
+        }
+
+        /**
+         * @return the status of the response
+         */
+        public int getStatus() {
+            return status;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.load;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The throughput and latency percentiles of each operation of a workload over its measured run.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 100};
+
+    private final Workload workload;
+
+    private final Map<Operation, LatencyStats> stats = new EnumMap<>(Operation.class);
+
+    /**
+     * @param workload the workload
+     * @param workers the clients of the run, whose stats are merged
+     */
+    public LoadReport(final Workload workload, final List<Worker> workers) {
+        this.workload = workload;
+        for (final var worker : workers) {
+            worker.getStats().forEach((operation, operationStats) ->
+                    stats.computeIfAbsent(operation, o -> new LatencyStats()).merge(operationStats));
+        }
+    }
+
+    /**
+     * @param operation an operation of the workload
+     * @return its stats, empty when it did not complete during the measured run
+     */
+    public LatencyStats getStats(final Operation operation) {
+        return stats.getOrDefault(operation, new LatencyStats());
+    }
+
+    /**
+     * Print the report as a table
+     *
+     * @param out the stream to print to
+     */
+    public void print(final PrintStream out) {
+        out.printf("%nWorkload %s: %d clients, %d s measured after %d s of warmup%n", workload.getName(),
+                workload.getThreads(), workload.getDuration(), workload.getWarmup());
+        out.printf("%-12s %9s %7s %10s %12s %9s %9s %9s %9s%n", "operation", "requests", "errors", "req/s",
+                "resources/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (final var operation : workload.getWeights().keySet()) {
+            final var operationStats = getStats(operation);
+            out.printf("%-12s %9d %7d %10.1f %12.1f", operation.getName(), operationStats.getCount(),
+                    operationStats.getErrors(), perSecond(operationStats.getCount()),
+                    perSecond(operationStats.getResources()));
+            for (final double percentile : PERCENTILES) {
+                out.printf(" %9.1f", millis(operationStats.percentile(percentile)));
+            }
+            out.println();
+            if (operationStats.getLastError() != null) {
+                out.printf("%-12s last error: %s%n", "", operationStats.getLastError());
+            }
+        }
+    }
+
+    /**
+     * @return the report as a tree of maps and lists, to be serialized as JSON
+     */
+    public Map<String, Object> toMap() {
+        final List<Map<String, Object>> operations = new ArrayList<>();
+        for (final var operation : workload.getWeights().keySet()) {
+            final var operationStats = getStats(operation);
+            final Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("operation", operation.getName());
+            entry.put("weight", workload.getWeights().get(operation));
+            entry.put("requests", operationStats.getCount());
+            entry.put("errors", operationStats.getErrors());
+            entry.put("requestsPerSecond", perSecond(operationStats.getCount()));
+            entry.put("resourcesPerSecond", perSecond(operationStats.getResources()));
+            final Map<String, Object> latencies = new LinkedHashMap<>();
+            for (final double percentile : PERCENTILES) {
+                latencies.put(percentile == 100 ? "max" : "p" + (int) percentile,
+                        millis(operationStats.percentile(percentile)));
+            }
+            entry.put("latencyMillis", latencies);
+            if (operationStats.getLastError() != null) {
+                entry.put("lastError", operationStats.getLastError());
+            }
+            operations.add(entry);
+        }
+        final Map<String, Object> report = new LinkedHashMap<>();
+        report.put("workload", workload.getName());
+        report.put("threads", workload.getThreads());
+        report.put("warmupSeconds", workload.getWarmup());
+        report.put("durationSeconds", workload.getDuration());
+        report.put("operations", operations);
+        return report;
+    }
+
+    private double perSecond(final long count) {
+        return (double) count / workload.getDuration();
+    }
+
+    private static double millis(final long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
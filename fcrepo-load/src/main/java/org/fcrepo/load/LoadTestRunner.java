@@ -0,0 +1,137 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.load;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Replays workloads against the Fedora webapp, started in-process from its war unless the URL of a running
+ * repository is given, and reports the throughput and latency percentiles of their operations.
+ *
+ * <pre>
+ * java -jar load.jar [--url http://localhost:8080/rest] [--war fcrepo-webapp.war]
+ *     [--admin fedoraAdmin:fedoraAdmin] [--reader reader:reader] [--result load-result.json]
+ *     [workload ...]
+ * </pre>
+ *
+ * Workloads are files or the names of bundled workloads, production-mix by default. The ingest and bulk-ingest
+ * workloads compare creating resources one request at a time with creating them from archives.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class LoadTestRunner {
+
+    private static final Logger LOGGER = getLogger(LoadTestRunner.class);
+
+    private static final int SEED_THREADS = 8;
+
+    private LoadTestRunner() {
+    }
+
+    /**
+     * @param args the options and workloads
+     * @throws Exception if the webapp fails to start or a workload cannot be seeded
+     */
+    public static void main(final String[] args) throws Exception {
+        String url = null;
+        Path war = null;
+        var admin = new Credentials("fedoraAdmin", "fedoraAdmin");
+        var reader = new Credentials("reader", "reader");
+        var result = Path.of("load-result.json");
+        final List<Workload> workloads = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--url" -> url = value(args, ++i);
+                case "--war" -> war = Path.of(value(args, ++i));
+                case "--admin" -> admin = Credentials.parse(value(args, ++i));
+                case "--reader" -> reader = Credentials.parse(value(args, ++i));
+                case "--result" -> result = Path.of(value(args, ++i));
+                default -> workloads.add(Workload.load(args[i]));
+            }
+        }
+        if (workloads.isEmpty()) {
+            workloads.add(Workload.load("production-mix"));
+        }
+
+        final List<LoadReport> reports;
+        if (url != null) {
+            reports = run(url, admin, reader, workloads);
+        } else {
+            try (final var server = new LoadTestServer(war == null ? bundledWar() : war, admin, reader)) {
+                reports = run(server.getBaseUrl(), admin, reader, workloads);
+            }
+        }
+
+        final List<Map<String, Object>> results = new ArrayList<>();
+        for (final var report : reports) {
+            report.print(System.out);
+            results.add(report.toMap());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(result.toFile(), results);
+        System.out.printf("%nResults saved to %s%n", result);
+    }
+
+    private static List<LoadReport> run(final String url, final Credentials admin, final Credentials reader,
+                                        final List<Workload> workloads) throws Exception {
+        final int connections = workloads.stream().mapToInt(Workload::getThreads).max().orElse(1);
+        final List<LoadReport> reports = new ArrayList<>();
+        try (final var client = new LoadClient(url, Math.max(connections, SEED_THREADS))) {
+            final var seeder = new RepositorySeeder(client, admin, reader, SEED_THREADS);
+            for (final var workload : workloads) {
+                seeder.seed(workload);
+                reports.add(run(client, admin, reader, workload));
+            }
+        }
+        return reports;
+    }
+
+    private static LoadReport run(final LoadClient client, final Credentials admin, final Credentials reader,
+                                  final Workload workload) throws InterruptedException {
+        LOGGER.info("Running workload {} with {} clients for {} s after {} s of warmup", workload.getName(),
+                workload.getThreads(), workload.getDuration(), workload.getWarmup());
+        final long measureFrom = System.nanoTime() + SECONDS.toNanos(workload.getWarmup());
+        final long stopAt = measureFrom + SECONDS.toNanos(workload.getDuration());
+        final List<Worker> workers = new ArrayList<>();
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < workload.getThreads(); i++) {
+            final var worker = new Worker(client, workload, admin, reader, measureFrom, stopAt);
+            workers.add(worker);
+            threads.add(Thread.ofPlatform().name("load-" + workload.getName() + "-" + i).start(worker));
+        }
+        for (final var thread : threads) {
+            thread.join();
+        }
+        return new LoadReport(workload, workers);
+    }
+
+    private static String value(final String[] args, final int index) {
+        if (index >= args.length) {
+            throw new IllegalArgumentException("Missing value of option " + args[index - 1]);
+        }
+        return args[index];
+    }
+
+    /**
+     * @return the war copied next to the jar of the load tests when they are built
+     */
+    private static Path bundledWar() throws URISyntaxException {
+        final var jar = Path.of(LoadTestRunner.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        return jar.resolveSibling("fcrepo-webapp.war");
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.load;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import org.eclipse.jetty.ee10.webapp.WebAppContext;
+import org.eclipse.jetty.security.HashLoginService;
+import org.eclipse.jetty.security.UserStore;
+import org.eclipse.jetty.server.Server;
+import org.eclipse.jetty.server.ServerConnector;
+import org.eclipse.jetty.util.security.Password;
+import org.slf4j.Logger;
+
+/**
+ * The Fedora webapp started from its war in an embedded Jetty, with the default H2 database and ocfl-fs storage
+ * in a temporary fcrepo.home, and the users of the load test known to the container.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class LoadTestServer implements AutoCloseable {
+
+    private static final Logger LOGGER = getLogger(LoadTestServer.class);
+
+    private static final String CONTEXT_PATH = "/fcrepo";
+
+    private final Path home;
+
+    private final Server server;
+
+    /**
+     * Start the webapp
+     *
+     * @param war the war of the webapp
+     * @param admin the credentials of the administrator
+     * @param reader the credentials of the user reading resources protected by WebAC
+     * @throws Exception if the webapp fails to start
+     */
+    public LoadTestServer(final Path war, final Credentials admin, final Credentials reader) throws Exception {
+        home = Files.createTempDirectory("fcrepo-load");
+        // The webapp reads its configuration from the system properties
+        System.setProperty("fcrepo.home", home.toString());
+        System.setProperty("fcrepo.jms.enabled", "false");
+        // Logging every request at INFO would weigh on the measured latencies
+        if (System.getProperty("fcrepo.log") == null) {
+            System.setProperty("fcrepo.log", "WARN");
+        }
+        // The webapp also finds the logback.xml of the load tests, which logback would report on every start
+        System.setProperty("logback.statusListenerClass", "ch.qos.logback.core.status.NopStatusListener");
+
+        final var users = new UserStore();
+        users.addUser(admin.getUser(), new Password(admin.getPassword()), new String[]{"fedoraAdmin"});
+        users.addUser(reader.getUser(), new Password(reader.getPassword()), new String[]{"fedoraUser"});
+        final var loginService = new HashLoginService("fcrepo");
+        loginService.setUserStore(users);
+
+        server = new Server();
+        final var connector = new ServerConnector(server);
+        connector.setPort(0);
+        server.addConnector(connector);
+        server.addBean(loginService);
+
+        final var webapp = new WebAppContext(war.toString(), CONTEXT_PATH);
+        webapp.setTempDirectory(home.resolve("jetty").toFile());
+        server.setHandler(webapp);
+
+        LOGGER.info("Starting the webapp {} with fcrepo.home {}", war, home);
+        server.start();
+        if (!webapp.isAvailable()) {
+            close();
+            throw new IllegalStateException("The webapp " + war + " failed to start", webapp.getUnavailableException());
+        }
+    }
+
+    /**
+     * @return the URI of the rest endpoint of the webapp
+     */
+    public String getBaseUrl() {
+        final var port = ((ServerConnector) server.getConnectors()[0]).getLocalPort();
+        return "http://localhost:" + port + CONTEXT_PATH + "/rest";
+    }
+
+    @Override
+    public void close() throws Exception {
+        server.stop();
+        try (final Stream<Path> paths = Files.walk(home)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.load;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.util.UUID;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * The operations of the workloads, each reproducing a pattern of requests seen in production.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public enum Operation {
+
+    /** Create a resource in a container shared by all clients, one request per resource */
+    INGEST("ingest") {
+        @Override
+        int perform(final Worker worker) throws IOException {
+            final var post = new HttpPost(worker.getClient().uri(Workload.INGEST_CONTAINER));
+            post.setEntity(new StringEntity(description(worker.getRandom().nextInt()), TURTLE));
+            worker.execute(post);
+            return 1;
+        }
+    },
+
+    /** Create a batch of resources with a single archive, as the bulk ingest endpoint allows */
+    BULK_INGEST("bulk-ingest") {
+        @Override
+        int perform(final Worker worker) throws IOException {
+            final int size = worker.getWorkload().getBulkSize();
+            final var post = new HttpPost(worker.getClient().uri(Workload.BULK_CONTAINER + "/fcr:ingest"));
+            post.setEntity(new ByteArrayEntity(archive(size, worker.getRandom().nextInt()),
+                    ContentType.create("application/zip")));
+            worker.execute(post);
+            return size + 1;
+        }
+    },
+
+    /** Page through the search results of the whole repository, as a harvester does */
+    HARVEST("harvest") {
+        @Override
+        int perform(final Worker worker) throws IOException {
+            final int offset = worker.getHarvestOffset();
+            final var get = new HttpGet(worker.getClient().uri("/fcr:search?fields=" +
+                    URLEncoder.encode("fedora_id,modified", UTF_8) + "&order_by=fedora_id&max_results=" +
+                    HARVEST_PAGE + "&offset=" + offset));
+            get.setHeader("Accept", "application/json");
+            final int items = MAPPER.readTree(worker.execute(get)).path("items").size();
+            // Start over once the last page has been harvested
+            worker.setHarvestOffset(items < HARVEST_PAGE ? 0 : offset + HARVEST_PAGE);
+            return items;
+        }
+    },
+
+    /** Get a wide container with the descriptions of its children embedded */
+    EMBED("embed") {
+        @Override
+        int perform(final Worker worker) throws IOException {
+            final var get = new HttpGet(worker.getClient().uri(worker.getWorkload().getWideContainer()));
+            get.setHeader("Accept", "text/turtle");
+            get.setHeader("Prefer", "return=representation; include=\"" + EMBED_CONTAINED + "\"");
+            worker.execute(get);
+            return worker.getWorkload().getWideChildren() + 1;
+        }
+
+        @Override
+        void validate(final Workload workload) {
+            requireSeeded(workload.getWideChildren(), "seed.wide.children");
+        }
+    },
+
+    /** Get a resource at a random depth of a deep tree */
+    GET("get") {
+        @Override
+        int perform(final Worker worker) throws IOException {
+            final var workload = worker.getWorkload();
+            final int depth = worker.getRandom().nextInt(workload.getDeepDepth());
+            final var path = new StringBuilder(workload.getDeepContainer());
+            for (int level = 0; level < depth; level++) {
+                path.append("/n0");
+            }
+            path.append("/n").append(worker.getRandom().nextInt(workload.getDeepBreadth()));
+            final var get = new HttpGet(worker.getClient().uri(path.toString()));
+            get.setHeader("Accept", "text/turtle");
+            worker.execute(get);
+            return 1;
+        }
+
+        @Override
+        void validate(final Workload workload) {
+            requireSeeded(workload.getDeepDepth(), "seed.deep.depth");
+        }
+    },
+
+    /** Get a resource inheriting a large ACL, as a user who is not an administrator */
+    WEBAC_READ("webac-read") {
+        @Override
+        int perform(final Worker worker) throws IOException {
+            final var workload = worker.getWorkload();
+            final var get = new HttpGet(worker.getClient().uri(workload.getAclContainer() + "/r" +
+                    worker.getRandom().nextInt(workload.getAclResources())));
+            get.setHeader("Accept", "text/turtle");
+            worker.execute(get, worker.getReader());
+            return 1;
+        }
+
+        @Override
+        void validate(final Workload workload) {
+            requireSeeded(workload.getAclResources(), "seed.acl.resources");
+        }
+    },
+
+    /** List the versions of a resource with many versions */
+    TIMEMAP("timemap") {
+        @Override
+        int perform(final Worker worker) throws IOException {
+            final var workload = worker.getWorkload();
+            final var get = new HttpGet(worker.getClient().uri(workload.getVersionedContainer() + "/v" +
+                    worker.getRandom().nextInt(workload.getVersionedResources()) + "/fcr:versions"));
+            get.setHeader("Accept", "application/link-format");
+            worker.execute(get);
+            return 1;
+        }
+
+        @Override
+        void validate(final Workload workload) {
+            requireSeeded(workload.getVersionedResources(), "seed.versions.resources");
+        }
+    },
+
+    /** Add a property to a child of the wide container */
+    UPDATE("update") {
+        @Override
+        int perform(final Worker worker) throws IOException {
+            final var workload = worker.getWorkload();
+            final var patch = new HttpPatch(worker.getClient().uri(workload.getWideContainer() + "/c" +
+                    worker.getRandom().nextInt(workload.getWideChildren())));
+            patch.setEntity(new StringEntity("PREFIX dc: <" + DC + ">\nINSERT DATA { <> dc:description \"" +
+                    UUID.randomUUID() + "\" }", ContentType.create("application/sparql-update", UTF_8)));
+            worker.execute(patch);
+            return 1;
+        }
+
+        @Override
+        void validate(final Workload workload) {
+            requireSeeded(workload.getWideChildren(), "seed.wide.children");
+        }
+    };
+
+    static final String DC = "http://purl.org/dc/elements/1.1/";
+
+    static final ContentType TURTLE = ContentType.create("text/turtle", UTF_8);
+
+    private static final String EMBED_CONTAINED = "http://www.w3.org/ns/oa#PreferContainedDescriptions";
+
+    private static final int HARVEST_PAGE = 100;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final String name;
+
+    Operation(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return the name of the operation in workloads and reports
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Make the requests of the operation
+     *
+     * @param worker the client making the requests
+     * @return the number of resources created or read
+     * @throws IOException if a request fails
+     */
+    abstract int perform(Worker worker) throws IOException;
+
+    /**
+     * Check that the repository a workload seeds has what the operation needs
+     *
+     * @param workload the workload
+     */
+    void validate(final Workload workload) {
+    }
+
+    private static void requireSeeded(final int size, final String property) {
+        if (size == 0) {
+            throw new IllegalArgumentException("The workload must set " + property + " for its operations");
+        }
+    }
+
+    /**
+     * @param value a value distinguishing the resource
+     * @return the turtle description of a resource
+     */
+    static String description(final int value) {
+        return "@prefix dc: <" + DC + "> .\n" +
+                "<> dc:title \"Resource " + value + "\" ;\n" +
+                "   dc:identifier \"id:" + value + "\" ;\n" +
+                "   dc:subject \"load\", \"test\" ;\n" +
+                "   dc:date \"2024-01-01\" .\n";
+    }
+
+    private static byte[] archive(final int size, final int value) throws IOException {
+        final var bytes = new ByteArrayOutputStream();
+        final var batch = "batch-" + UUID.randomUUID() + "/";
+        try (final var zip = new ZipOutputStream(bytes)) {
+            zip.putNextEntry(new ZipEntry(batch));
+            zip.closeEntry();
+            for (int i = 0; i < size; i++) {
+                zip.putNextEntry(new ZipEntry(batch + "r" + i + "/"));
+                zip.closeEntry();
+                zip.putNextEntry(new ZipEntry(batch + "r" + i + ".fcrepo.ttl"));
+                zip.write(description(value + i).getBytes(UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+}
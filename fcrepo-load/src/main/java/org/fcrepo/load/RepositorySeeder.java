@@ -0,0 +1,221 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.load;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.http.client.methods.HttpPatch;
+import org.apache.http.client.methods.HttpPut;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.slf4j.Logger;
+
+/**
+ * Seeds the shapes of repository a workload is replayed against. Each shape lives in a container named after its
+ * dimensions, which is only seeded when it does not exist yet, so that workloads replayed one after another, or
+ * against the same external repository, share their shapes.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class RepositorySeeder {
+
+    private static final Logger LOGGER = getLogger(RepositorySeeder.class);
+
+    private static final String ACL = "http://www.w3.org/ns/auth/acl#";
+
+    private final LoadClient client;
+
+    private final Credentials admin;
+
+    private final Credentials reader;
+
+    private final int threads;
+
+    /**
+     * @param client the client of the repository
+     * @param admin the credentials of the administrator
+     * @param reader the credentials of the user granted read access to the resources protected by WebAC
+     * @param threads the number of concurrent requests creating resources
+     */
+    public RepositorySeeder(final LoadClient client, final Credentials admin, final Credentials reader,
+                            final int threads) {
+        this.client = client;
+        this.admin = admin;
+        this.reader = reader;
+        this.threads = threads;
+    }
+
+    /**
+     * Seed the shapes of a workload which do not exist yet
+     *
+     * @param workload the workload
+     * @throws IOException if a resource cannot be created
+     */
+    public void seed(final Workload workload) throws IOException {
+        createIfMissing(Workload.ROOT);
+        final var operations = workload.getWeights().keySet();
+        if (operations.contains(Operation.INGEST)) {
+            createIfMissing(Workload.INGEST_CONTAINER);
+        }
+        if (operations.contains(Operation.BULK_INGEST)) {
+            createIfMissing(Workload.BULK_CONTAINER);
+        }
+
+        final var executor = Executors.newFixedThreadPool(threads);
+        try {
+            if (workload.getWideChildren() > 0 && createIfMissing(workload.getWideContainer())) {
+                seedWide(executor, workload);
+            }
+            if (workload.getDeepDepth() > 0 && createIfMissing(workload.getDeepContainer())) {
+                seedDeep(executor, workload);
+            }
+            if (workload.getVersionedResources() > 0 && createIfMissing(workload.getVersionedContainer())) {
+                seedVersions(executor, workload);
+            }
+            if (workload.getAclResources() > 0 && createIfMissing(workload.getAclContainer())) {
+                seedAcl(executor, workload);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void seedWide(final ExecutorService executor, final Workload workload) throws IOException {
+        final var container = workload.getWideContainer();
+        LOGGER.info("Seeding {} with {} children", container, workload.getWideChildren());
+        final List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < workload.getWideChildren(); i++) {
+            final var path = container + "/c" + i;
+            final int value = i;
+            tasks.add(() -> create(path, Operation.description(value)));
+        }
+        runAll(executor, tasks);
+    }
+
+    private void seedDeep(final ExecutorService executor, final Workload workload) throws IOException {
+        var parent = workload.getDeepContainer();
+        LOGGER.info("Seeding {} with {} levels of {} children", parent, workload.getDeepDepth(),
+                workload.getDeepBreadth());
+        for (int level = 0; level < workload.getDeepDepth(); level++) {
+            final List<Runnable> tasks = new ArrayList<>();
+            for (int i = 0; i < workload.getDeepBreadth(); i++) {
+                final var path = parent + "/n" + i;
+                final int value = level * workload.getDeepBreadth() + i;
+                tasks.add(() -> create(path, Operation.description(value)));
+            }
+            runAll(executor, tasks);
+            // The first child of each level holds the next level
+            parent = parent + "/n0";
+        }
+    }
+
+    private void seedVersions(final ExecutorService executor, final Workload workload) throws IOException {
+        final var container = workload.getVersionedContainer();
+        LOGGER.info("Seeding {} with {} resources of {} versions", container, workload.getVersionedResources(),
+                workload.getVersions());
+        final List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < workload.getVersionedResources(); i++) {
+            final var path = container + "/v" + i;
+            final int value = i;
+            tasks.add(() -> {
+                create(path, Operation.description(value));
+                // Every update is a version of its own with the default auto-versioning
+                for (int version = 1; version < workload.getVersions(); version++) {
+                    final var patch = new HttpPatch(client.uri(path));
+                    patch.setEntity(new StringEntity("PREFIX dc: <" + Operation.DC + ">\n" +
+                            "INSERT DATA { <> dc:description \"Version " + version + "\" }",
+                            ContentType.create("application/sparql-update", UTF_8)));
+                    execute(patch);
+                }
+            });
+        }
+        runAll(executor, tasks);
+    }
+
+    private void seedAcl(final ExecutorService executor, final Workload workload) throws IOException {
+        final var container = workload.getAclContainer();
+        LOGGER.info("Seeding {} with {} resources inheriting {} authorizations", container,
+                workload.getAclResources(), workload.getAclAuthorizations());
+        final var target = "<" + client.uri(container) + ">";
+        final var acl = new StringBuilder("@prefix acl: <" + ACL + "> .\n");
+        // The reader is granted read access by the last authorization, after all those of other agents
+        for (int i = 0; i < workload.getAclAuthorizations(); i++) {
+            final var agent = i == workload.getAclAuthorizations() - 1 ? reader.getUser() : "agent" + i;
+            acl.append("<#auth").append(i).append("> a acl:Authorization ;\n")
+                    .append("  acl:agent \"").append(agent).append("\" ;\n")
+                    .append("  acl:mode acl:Read").append(i % 2 == 0 ? "" : ", acl:Write").append(" ;\n")
+                    .append("  acl:accessTo ").append(target).append(" ;\n")
+                    .append("  acl:default ").append(target).append(" .\n");
+        }
+        final var put = new HttpPut(client.uri(container + "/fcr:acl"));
+        put.setEntity(new StringEntity(acl.toString(), Operation.TURTLE));
+        client.execute(put, admin);
+
+        final List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < workload.getAclResources(); i++) {
+            final var path = container + "/r" + i;
+            final int value = i;
+            tasks.add(() -> create(path, Operation.description(value)));
+        }
+        runAll(executor, tasks);
+    }
+
+    private boolean createIfMissing(final String path) throws IOException {
+        if (client.exists(path, admin)) {
+            LOGGER.info("Reusing {}", path);
+            return false;
+        }
+        final var put = new HttpPut(client.uri(path));
+        client.execute(put, admin);
+        return true;
+    }
+
+    private void create(final String path, final String description) {
+        final var put = new HttpPut(client.uri(path));
+        put.setEntity(new StringEntity(description, Operation.TURTLE));
+        execute(put);
+    }
+
+    private void execute(final HttpUriRequest request) {
+        try {
+            client.execute(request, admin);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void runAll(final ExecutorService executor, final List<Runnable> tasks) throws IOException {
+        final List<Future<?>> futures = new ArrayList<>();
+        for (final var task : tasks) {
+            futures.add(executor.submit(task));
+        }
+        try {
+            for (final var future : futures) {
+                future.get();
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while seeding the repository", e);
+        } catch (final ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new IOException("Unable to seed the repository", e.getCause());
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.load;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.http.client.methods.HttpUriRequest;
+import org.slf4j.Logger;
+
+/**
+ * A concurrent client of a workload, making operations picked at random until the end of the run and recording
+ * the latencies of those completed after the warmup.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class Worker implements Runnable {
+
+    private static final Logger LOGGER = getLogger(Worker.class);
+
+    private final LoadClient client;
+
+    private final Workload workload;
+
+    private final Credentials admin;
+
+    private final Credentials reader;
+
+    private final long measureFrom;
+
+    private final long stopAt;
+
+    private final Random random = new Random();
+
+    private final Map<Operation, LatencyStats> stats = new EnumMap<>(Operation.class);
+
+    private int harvestOffset;
+
+    /**
+     * @param client the client of the repository
+     * @param workload the workload
+     * @param admin the credentials of the administrator
+     * @param reader the credentials of the user reading resources protected by WebAC
+     * @param measureFrom the nano time from which latencies are recorded
+     * @param stopAt the nano time at which the run ends
+     */
+    public Worker(final LoadClient client, final Workload workload, final Credentials admin,
+                  final Credentials reader, final long measureFrom, final long stopAt) {
+        this.client = client;
+        this.workload = workload;
+        this.admin = admin;
+        this.reader = reader;
+        this.measureFrom = measureFrom;
+        this.stopAt = stopAt;
+    }
+
+    @Override
+    public void run() {
+        long now = System.nanoTime();
+        while (now < stopAt) {
+            final var operation = workload.pick(random);
+            final long start = now;
+            try {
+                final int resources = operation.perform(this);
+                now = System.nanoTime();
+                if (start >= measureFrom) {
+                    stats(operation).record(now - start, resources);
+                }
+            } catch (final IOException | RuntimeException e) {
+                now = System.nanoTime();
+                LOGGER.debug("Operation {} failed", operation.getName(), e);
+                if (start >= measureFrom) {
+                    stats(operation).recordError(e.getMessage());
+                }
+            }
+        }
+    }
+
+    private LatencyStats stats(final Operation operation) {
+        return stats.computeIfAbsent(operation, o -> new LatencyStats());
+    }
+
+    /**
+     * Execute a request as the administrator
+     *
+     * @param request the request
+     * @return the body of the response
+     * @throws IOException if the request fails or its response is not successful
+     */
+    byte[] execute(final HttpUriRequest request) throws IOException {
+        return client.execute(request, admin);
+    }
+
+    /**
+     * Execute a request as another user
+     *
+     * @param request the request
+     * @param credentials the credentials of the user
+     * @return the body of the response
+     * @throws IOException if the request fails or its response is not successful
+     */
+    byte[] execute(final HttpUriRequest request, final Credentials credentials) throws IOException {
+        return client.execute(request, credentials);
+    }
+
+    /**
+     * @return the latencies recorded by operation
+     */
+    public Map<Operation, LatencyStats> getStats() {
+        return stats;
+    }
+
+    LoadClient getClient() {
+        return client;
+    }
+
+    Workload getWorkload() {
+        return workload;
+    }
+
+    Credentials getReader() {
+        return reader;
+    }
+
+    Random getRandom() {
+        return random;
+    }
+
+    int getHarvestOffset() {
+        return harvestOffset;
+    }
+
+    void setHarvestOffset(final int harvestOffset) {
+        this.harvestOffset = harvestOffset;
+    }
+}
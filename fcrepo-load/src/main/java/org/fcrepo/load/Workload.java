@@ -0,0 +1,297 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.load;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+/**
+ * A scripted workload: the shape of the repository it is replayed against and the mix of operations made by its
+ * concurrent clients. Workloads are properties files, either on the file system or bundled as
+ * <code>workloads/{name}.properties</code>, such as:
+ *
+ * <pre>
+ * threads = 16
+ * warmup = 10
+ * duration = 60
+ * seed.wide.children = 1000
+ * operation.ingest = 10
+ * operation.embed = 90
+ * </pre>
+ *
+ * Each client picks its next operation at random, in proportion to the weights of the operations.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public class Workload {
+
+    /** The container of all resources created by the load tests */
+    public static final String ROOT = "/load";
+
+    /** The container which resources are ingested into one request at a time */
+    public static final String INGEST_CONTAINER = ROOT + "/ingest";
+
+    /** The container which archives are bulk ingested into */
+    public static final String BULK_CONTAINER = ROOT + "/bulk";
+
+    private final String name;
+
+    private final int threads;
+
+    private final int warmup;
+
+    private final int duration;
+
+    private final int wideChildren;
+
+    private final int deepDepth;
+
+    private final int deepBreadth;
+
+    private final int versionedResources;
+
+    private final int versions;
+
+    private final int aclResources;
+
+    private final int aclAuthorizations;
+
+    private final int bulkSize;
+
+    private final Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+
+    private final int totalWeight;
+
+    /**
+     * @param name the name of the workload
+     * @param properties the definition of the workload
+     */
+    public Workload(final String name, final Properties properties) {
+        this.name = name;
+        this.threads = positive(properties, "threads", 8);
+        this.warmup = number(properties, "warmup", 10);
+        this.duration = positive(properties, "duration", 60);
+        this.wideChildren = number(properties, "seed.wide.children", 0);
+        this.deepDepth = number(properties, "seed.deep.depth", 0);
+        this.deepBreadth = number(properties, "seed.deep.breadth", 1);
+        this.versionedResources = number(properties, "seed.versions.resources", 0);
+        this.versions = number(properties, "seed.versions.count", 1);
+        this.aclResources = number(properties, "seed.acl.resources", 0);
+        this.aclAuthorizations = number(properties, "seed.acl.authorizations", 1);
+        this.bulkSize = positive(properties, "bulk.size", 100);
+
+        int total = 0;
+        for (final var operation : Operation.values()) {
+            final int weight = number(properties, "operation." + operation.getName(), 0);
+            if (weight > 0) {
+                operation.validate(this);
+                weights.put(operation, weight);
+                total += weight;
+            }
+        }
+        if (total == 0) {
+            throw new IllegalArgumentException("Workload " + name + " has no operation with a positive weight");
+        }
+        this.totalWeight = total;
+    }
+
+    /**
+     * Load a workload from a file or, failing that, from the bundled workloads
+     *
+     * @param nameOrPath the path of a workload file or the name of a bundled workload
+     * @return the workload
+     */
+    public static Workload load(final String nameOrPath) {
+        final var properties = new Properties();
+        final var path = Path.of(nameOrPath);
+        try {
+            if (Files.isRegularFile(path)) {
+                try (final InputStream in = Files.newInputStream(path)) {
+                    properties.load(in);
+                }
+                final var fileName = path.getFileName().toString();
+                return new Workload(fileName.replaceFirst("\\.properties$", ""), properties);
+            }
+            try (final InputStream in = Workload.class.getResourceAsStream(
+                    "/workloads/" + nameOrPath + ".properties")) {
+                if (in == null) {
+                    throw new IllegalArgumentException("No workload file or bundled workload named " + nameOrPath);
+                }
+                properties.load(in);
+            }
+            return new Workload(nameOrPath, properties);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static int number(final Properties properties, final String key, final int defaultValue) {
+        final var value = properties.getProperty(key);
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            final int number = Integer.parseInt(value.trim());
+            if (number < 0) {
+                throw new IllegalArgumentException("The workload property " + key + " must not be negative");
+            }
+            return number;
+        } catch (final NumberFormatException e) {
+            throw new IllegalArgumentException("The workload property " + key + " must be a number, not " + value);
+        }
+    }
+
+    private static int positive(final Properties properties, final String key, final int defaultValue) {
+        final int number = number(properties, key, defaultValue);
+        if (number == 0) {
+            throw new IllegalArgumentException("The workload property " + key + " must be positive");
+        }
+        return number;
+    }
+
+    /**
+     * @param random the random numbers of the client
+     * @return the next operation of a client
+     */
+    public Operation pick(final Random random) {
+        int value = random.nextInt(totalWeight);
+        for (final var entry : weights.entrySet()) {
+            value -= entry.getValue();
+            if (value < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("The weights of the operations exceed their total");
+    }
+
+    /**
+     * @return the container of the wide shape, whose children are all direct children
+     */
+    public String getWideContainer() {
+        return ROOT + "/wide-" + wideChildren;
+    }
+
+    /**
+     * @return the container of the deep shape, with a chain of containers each holding breadth children
+     */
+    public String getDeepContainer() {
+        return ROOT + "/deep-" + deepDepth + "x" + deepBreadth;
+    }
+
+    /**
+     * @return the container of the resources with many versions
+     */
+    public String getVersionedContainer() {
+        return ROOT + "/versions-" + versionedResources + "x" + versions;
+    }
+
+    /**
+     * @return the container of the resources inheriting a large ACL
+     */
+    public String getAclContainer() {
+        return ROOT + "/acl-" + aclResources + "x" + aclAuthorizations;
+    }
+
+    /**
+     * @return the name of the workload
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the number of concurrent clients
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * @return the seconds run before measuring
+     */
+    public int getWarmup() {
+        return warmup;
+    }
+
+    /**
+     * @return the seconds measured
+     */
+    public int getDuration() {
+        return duration;
+    }
+
+    /**
+     * @return the number of children of the wide container
+     */
+    public int getWideChildren() {
+        return wideChildren;
+    }
+
+    /**
+     * @return the depth of the deep shape
+     */
+    public int getDeepDepth() {
+        return deepDepth;
+    }
+
+    /**
+     * @return the number of children at each level of the deep shape
+     */
+    public int getDeepBreadth() {
+        return deepBreadth;
+    }
+
+    /**
+     * @return the number of resources with many versions
+     */
+    public int getVersionedResources() {
+        return versionedResources;
+    }
+
+    /**
+     * @return the number of versions of each versioned resource
+     */
+    public int getVersions() {
+        return versions;
+    }
+
+    /**
+     * @return the number of resources inheriting the large ACL
+     */
+    public int getAclResources() {
+        return aclResources;
+    }
+
+    /**
+     * @return the number of authorizations of the large ACL
+     */
+    public int getAclAuthorizations() {
+        return aclAuthorizations;
+    }
+
+    /**
+     * @return the number of resources in each bulk ingested archive
+     */
+    public int getBulkSize() {
+        return bulkSize;
+    }
+
+    /**
+     * @return the weights of the operations of the workload
+     */
+    public Map<Operation, Integer> getWeights() {
+        return Collections.unmodifiableMap(weights);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author fcrepo
+ */
+public class LatencyStatsTest {
+
+    @Test
+    public void testPercentiles() {
+        final var stats = new LatencyStats();
+        for (int i = 100; i >= 1; i--) {
+            stats.record(i, 1);
+        }
+        assertEquals(50, stats.percentile(50));
+        assertEquals(90, stats.percentile(90));
+        assertEquals(99, stats.percentile(99));
+        assertEquals(100, stats.percentile(100));
+        assertEquals(1, stats.percentile(0));
+    }
+
+    @Test
+    public void testEmpty() {
+        assertEquals(0, new LatencyStats().percentile(50));
+    }
+
+    @Test
+    public void testMerge() {
+        final var first = new LatencyStats();
+        final var second = new LatencyStats();
+        for (int i = 0; i < 2000; i++) {
+            first.record(1, 1);
+            second.record(2, 3);
+        }
+        second.recordError("failed");
+        first.merge(second);
+        assertEquals(4000, first.getCount());
+        assertEquals(8000, first.getResources());
+        assertEquals(1, first.getErrors());
+        assertEquals("failed", first.getLastError());
+        assertEquals(1, first.percentile(50));
+        assertEquals(2, first.percentile(51));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author fcrepo
+ */
+public class WorkloadTest {
+
+    @Test
+    public void testBundledWorkloads() {
+        for (final var name : new String[]{"production-mix", "ingest", "bulk-ingest"}) {
+            final var workload = Workload.load(name);
+            assertEquals(name, workload.getName());
+        }
+    }
+
+    @Test
+    public void testDefaults() {
+        final var workload = new Workload("test", properties("operation.ingest", "1"));
+        assertEquals(8, workload.getThreads());
+        assertEquals(10, workload.getWarmup());
+        assertEquals(60, workload.getDuration());
+        assertEquals(100, workload.getBulkSize());
+        assertEquals(Map.of(Operation.INGEST, 1), workload.getWeights());
+    }
+
+    @Test
+    public void testShapeContainers() {
+        final var workload = new Workload("test", properties("operation.get", "1", "seed.deep.depth", "4",
+                "seed.deep.breadth", "3", "seed.acl.resources", "5", "seed.acl.authorizations", "2"));
+        assertEquals("/load/deep-4x3", workload.getDeepContainer());
+        assertEquals("/load/acl-5x2", workload.getAclContainer());
+    }
+
+    @Test
+    public void testPickFollowsWeights() {
+        final var workload = new Workload("test", properties("operation.ingest", "1", "operation.get", "3",
+                "seed.deep.depth", "2"));
+        final var random = new Random(42);
+        final Map<Operation, Integer> picks = new EnumMap<>(Operation.class);
+        for (int i = 0; i < 4000; i++) {
+            picks.merge(workload.pick(random), 1, Integer::sum);
+        }
+        assertEquals(2, picks.size());
+        assertEquals(3.0, (double) picks.get(Operation.GET) / picks.get(Operation.INGEST), 0.3);
+    }
+
+    @Test
+    public void testNoOperation() {
+        assertThrows(IllegalArgumentException.class, () -> new Workload("test", properties("threads", "2")));
+    }
+
+    @Test
+    public void testUnseededOperation() {
+        assertThrows(IllegalArgumentException.class, () -> new Workload("test", properties("operation.get", "1")));
+    }
+
+    @Test
+    public void testInvalidNumber() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new Workload("test", properties("operation.ingest", "1", "threads", "many")));
+        assertThrows(IllegalArgumentException.class,
+                () -> new Workload("test", properties("operation.ingest", "1", "duration", "0")));
+    }
+
+    private static Properties properties(final String... keysAndValues) {
+        final var properties = new Properties();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            properties.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return properties;
+    }
+}
@@ -99,6 +99,19 @@ public interface PersistentStorageSession {
     List<Instant> listVersions(final FedoraId identifier)
             throws PersistentStorageException;
 
+    /**
+     * Returns the creation time of the version of the resource that is closest to the requested datetime. This is
+     * the most recent version created at or before the datetime, or the earliest version if all versions were
+     * created after it.
+     *
+     * @param identifier identifier for the resource.
+     * @param datetime the requested datetime
+     * @return the instant of the closest version, or null if the resource has no versions
+     * @throws PersistentStorageException  Either a PersistentItemNotFoundException or PersistentSessionClosedException
+     */
+    Instant findClosestVersion(final FedoraId identifier, final Instant datetime)
+            throws PersistentStorageException;
+
     /**
      * Does anything that's necessary to prepare the session to be committed, for example committing database
      * changes. This method MUST be called before commit(). If prepare() fails, then the session should be rolled back.
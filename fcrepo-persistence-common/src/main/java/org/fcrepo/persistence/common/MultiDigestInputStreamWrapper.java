@@ -10,6 +10,7 @@ import static org.apache.commons.codec.binary.Hex.encodeHexString;
 import static org.apache.commons.lang3.StringUtils.substringAfterLast;
 import static org.fcrepo.kernel.api.utils.ContentDigest.getAlgorithm;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
@@ -102,6 +103,17 @@ public class MultiDigestInputStreamWrapper {
         return digestStream;
     }
 
+    /**
+     * Get the InputStream wrapped to produce the requested digests, which verifies the provided digests as soon as
+     * the end of the content is reached. A mismatch is thrown from the read that reached the end of the content, so
+     * a consumer never sees the complete content when it does not match its digests.
+     *
+     * @return wrapped input stream
+     */
+    public InputStream getVerifyingInputStream() {
+        return new VerifyingInputStream(getInputStream());
+    }
+
     /**
      * After consuming the inputstream, verify that all of the computed digests
      * matched the provided digests.
@@ -182,4 +194,41 @@ public class MultiDigestInputStreamWrapper {
             computedDigests.put(algorithm, computed);
         });
     }
+
+    /**
+     * Stream which checks the fixity of the content once the end of the wrapped stream is reached
+     */
+    private class VerifyingInputStream extends FilterInputStream {
+
+        private boolean verified;
+
+        VerifyingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b == -1) {
+                verify();
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read == -1) {
+                verify();
+            }
+            return read;
+        }
+
+        private void verify() {
+            if (!verified) {
+                verified = true;
+                checkFixity();
+            }
+        }
+    }
 }
@@ -8,6 +8,7 @@ package org.fcrepo.persistence.common;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -91,6 +92,24 @@ public class MultiDigestInputStreamWrapperTest {
         assertThrows(InvalidChecksumException.class, wrapper::checkFixity);
     }
 
+    @Test
+    public void verifyingInputStream_Success() throws Exception {
+        final var digests = asList(MD5_URI, SHA1_URI, SHA512_URI);
+        final var wrapper = new MultiDigestInputStreamWrapper(contentStream, digests, null);
+
+        assertEquals(CONTENT, IOUtils.toString(wrapper.getVerifyingInputStream(), UTF_8));
+    }
+
+    @Test
+    public void verifyingInputStream_InvalidDigest() throws Exception {
+        final var digests = asList(MD5_URI, URI.create("urn:sha1:totallybusted"));
+        final var wrapper = new MultiDigestInputStreamWrapper(contentStream, digests, null);
+
+        // The mismatch is thrown by the read reaching the end of the content
+        assertThrows(InvalidChecksumException.class,
+                () -> IOUtils.toString(wrapper.getVerifyingInputStream(), UTF_8));
+    }
+
     @Test
     public void unsupportedDigestAlgorithm() throws Exception {
         final var digests = asList(URI.create("urn:yum:123456"), SHA512_URI);
@@ -20,6 +20,7 @@ import org.fcrepo.persistence.api.exceptions.PersistentItemNotFoundException;
 import org.fcrepo.persistence.api.exceptions.PersistentStorageException;
 import org.fcrepo.persistence.ocfl.api.IndexBuilder;
 import org.fcrepo.persistence.ocfl.impl.OcflPersistentSessionManager;
+import org.fcrepo.persistence.ocfl.impl.RdfStorageFormatMigrator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -66,19 +67,33 @@ public class RepositoryInitializer {
     @Inject
     private RepositoryInitializationStatus initializationStatus;
 
+    @Inject
+    private RdfStorageFormatMigrator rdfStorageFormatMigrator;
+
     // This is used in-place of @PostConstruct so that it is called _after_ the rest of context has been
     // completely initialized.
     @Async
     @EventListener
     public void onApplicationEvent(final ContextRefreshedEvent event) {
+        var initialized = false;
         try {
             initialize();
+            initialized = true;
         } catch (Exception e) {
             LOGGER.error("Failed to initialize repository", e);
             ((ConfigurableApplicationContext) event.getApplicationContext()).close();
         } finally {
             initializationStatus.setInitializationComplete(true);
         }
+
+        // Conversion runs after the repository is available, since it may take a long time on large repositories
+        if (initialized && config.isRdfStorageFormatMigrationEnabled()) {
+            try {
+                rdfStorageFormatMigrator.migrate();
+            } catch (Exception e) {
+                LOGGER.error("Failed to convert RDF storage format", e);
+            }
+        }
     }
 
     /**
@@ -5,6 +5,7 @@
  */
 package org.fcrepo.persistence.ocfl.impl;
 
+import org.fcrepo.kernel.api.exception.InvalidChecksumException;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.operations.NonRdfSourceOperation;
 import org.fcrepo.kernel.api.operations.ResourceOperation;
@@ -84,13 +85,18 @@ abstract class AbstractNonRdfSourcePersister extends AbstractPersister {
                     nonRdfSourceOperation.getContentStream(),
                     providedDigests,
                     Collections.emptyList());
-            final var contentStream = multiDigestWrapper.getInputStream();
-
-            objectSession.writeResource(headers.asStorageHeaders(), new BufferedInputStream(contentStream));
-
-            // Verify that the content matches the provided digests
-            if (!CollectionUtils.isEmpty(providedDigests)) {
-                multiDigestWrapper.checkFixity();
+            // Verify that the content matches the provided digests as it is staged, in the same read of the
+            // content. A mismatch fails the write, so the session discards the staged content.
+            final var contentStream = CollectionUtils.isEmpty(providedDigests) ?
+                    multiDigestWrapper.getInputStream() : multiDigestWrapper.getVerifyingInputStream();
+
+            try {
+                objectSession.writeResource(headers.asStorageHeaders(), new BufferedInputStream(contentStream));
+            } catch (final PersistentStorageException e) {
+                if (e.getCause() instanceof InvalidChecksumException) {
+                    throw (InvalidChecksumException) e.getCause();
+                }
+                throw e;
             }
         }
     }
@@ -122,8 +122,11 @@ abstract class AbstractRdfSourcePersister extends AbstractPersister {
     private void writeRdf(final OcflObjectSession session,
                           final ResourceHeadersImpl headers,
                           final RdfStream triples) throws PersistentStorageException {
+        final var format = OcflPersistentStorageUtils.getRdfStorageFormat();
+        // Record the serialization in the headers so that content in other formats remains readable
+        headers.setMimeType(format.getMimeType());
         try (final var os = new ByteArrayOutputStream()) {
-            final StreamRDF streamRDF = getWriterStream(os, OcflPersistentStorageUtils.getRdfFormat().getLang());
+            final StreamRDF streamRDF = getWriterStream(os, format.getLang());
             streamRDF.start();
             if (triples != null) {
                 triples.forEach(streamRDF::triple);
@@ -6,9 +6,12 @@
 
 package org.fcrepo.persistence.ocfl.impl;
 
+import static org.fcrepo.common.metrics.RequestTimings.Phase.OCFL_INDEX;
+
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 import org.fcrepo.common.metrics.MetricsHelper;
+import org.fcrepo.common.metrics.RequestTimings;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.persistence.ocfl.api.FedoraOcflMappingNotFoundException;
@@ -54,10 +57,12 @@ public class FedoraToOcflObjectIndexMetrics implements FedoraToOcflObjectIndex {
     public FedoraOcflMapping getMapping(final Transaction session, final FedoraId fedoraResourceIdentifier)
             throws FedoraOcflMappingNotFoundException {
         final var stopwatch = Timer.start();
+        final var started = RequestTimings.enter(OCFL_INDEX);
         try  {
             return ocflIndexImpl.getMapping(session, fedoraResourceIdentifier);
         } finally {
             stopwatch.stop(getMappingTimer);
+            RequestTimings.exit(OCFL_INDEX, started);
         }
     }
 
@@ -66,7 +71,7 @@ public class FedoraToOcflObjectIndexMetrics implements FedoraToOcflObjectIndex {
                                         final FedoraId fedoraResourceIdentifier,
                                         final FedoraId fedoraRootObjectIdentifier,
                                         final String ocflObjectId) {
-        return MetricsHelper.time(addMappingTimer, () -> {
+        return MetricsHelper.time(OCFL_INDEX, addMappingTimer, () -> {
             return ocflIndexImpl.addMapping(session, fedoraResourceIdentifier,
                     fedoraRootObjectIdentifier, ocflObjectId);
         });
@@ -74,35 +79,35 @@ public class FedoraToOcflObjectIndexMetrics implements FedoraToOcflObjectIndex {
 
     @Override
     public void removeMapping(final Transaction session, final FedoraId fedoraResourceIdentifier) {
-        removeMappingTimer.record(() -> {
+        MetricsHelper.record(OCFL_INDEX, removeMappingTimer, () -> {
             ocflIndexImpl.removeMapping(session, fedoraResourceIdentifier);
         });
     }
 
     @Override
     public void reset() {
-        resetTimer.record(() -> {
+        MetricsHelper.record(OCFL_INDEX, resetTimer, () -> {
             ocflIndexImpl.reset();
         });
     }
 
     @Override
     public void commit(final Transaction session) {
-        commitTimer.record(() -> {
+        MetricsHelper.record(OCFL_INDEX, commitTimer, () -> {
             ocflIndexImpl.commit(session);
         });
     }
 
     @Override
     public void rollback(final Transaction session) {
-        rollbackTimer.record(() -> {
+        MetricsHelper.record(OCFL_INDEX, rollbackTimer, () -> {
             ocflIndexImpl.rollback(session);
         });
     }
 
     @Override
     public void clearAllTransactions() {
-        clearAllTransactionsTimer.record(() -> {
+        MetricsHelper.record(OCFL_INDEX, clearAllTransactionsTimer, () -> {
             ocflIndexImpl.clearAllTransactions();
         });
     }
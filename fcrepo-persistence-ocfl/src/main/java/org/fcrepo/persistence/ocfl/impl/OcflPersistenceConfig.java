@@ -100,6 +100,9 @@ public class OcflPersistenceConfig {
     @Bean
     @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
     public OcflObjectSessionFactory ocflObjectSessionFactory() throws IOException {
+        OcflPersistentStorageUtils.setRdfStorageFormat(
+                RdfStorageFormat.fromString(ocflPropsConfig.getRdfStorageFormat()));
+
         final var objectMapper = OcflPersistentStorageUtils.objectMapper();
 
         final var factory = new DefaultOcflObjectSessionFactory(repository(),
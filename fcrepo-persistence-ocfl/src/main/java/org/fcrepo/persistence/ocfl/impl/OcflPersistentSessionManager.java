@@ -58,6 +58,9 @@ public class OcflPersistentSessionManager implements PersistentStorageSessionMan
     @Inject
     private OcflPropsConfig ocflPropsConfig;
 
+    @Inject
+    private VersionTimelineCache versionTimelineCache;
+
     /**
      * Default constructor
      */
@@ -79,7 +82,8 @@ public class OcflPersistentSessionManager implements PersistentStorageSessionMan
                             transaction,
                             ocflIndex,
                             objectSessionFactory,
-                            reindexService));
+                            reindexService,
+                            versionTimelineCache));
         });
     }
 
@@ -93,7 +97,8 @@ public class OcflPersistentSessionManager implements PersistentStorageSessionMan
                 if (localSession == null) {
                     this.readOnlySession = new OcflPersistentStorageSessionMetrics(
                             new OcflPersistentStorageSession(ReadOnlyTransaction.INSTANCE,
-                                    ocflIndex, objectSessionFactory, reindexService));
+                                    ocflIndex, objectSessionFactory, reindexService, versionTimelineCache,
+                                    ocflPropsConfig.getReadOnlySessionCacheMaxSize()));
                     localSession = this.readOnlySession;
                 }
             }
@@ -14,10 +14,10 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.time.Instant;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Phaser;
@@ -82,6 +82,8 @@ public class OcflPersistentStorageSession implements PersistentStorageSession {
 
     private final OcflObjectSessionFactory objectSessionFactory;
 
+    private final VersionTimelineCache versionTimelineCache;
+
     private enum State {
         COMMIT_NOT_STARTED(true),
         PREPARE_STARTED(false),
@@ -108,15 +110,38 @@ public class OcflPersistentStorageSession implements PersistentStorageSession {
      * @param tx                   the transaction.
      * @param fedoraOcflIndex      the index
      * @param objectSessionFactory the session factory
+     * @param reindexService       the reindex service
+     * @param versionTimelineCache the cache of resource version timelines
      */
     protected OcflPersistentStorageSession(final Transaction tx,
                                            final FedoraToOcflObjectIndex fedoraOcflIndex,
                                            final OcflObjectSessionFactory objectSessionFactory,
-                                           final ReindexService reindexService) {
+                                           final ReindexService reindexService,
+                                           final VersionTimelineCache versionTimelineCache) {
+        this(tx, fedoraOcflIndex, objectSessionFactory, reindexService, versionTimelineCache, 512);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param tx                   the transaction.
+     * @param fedoraOcflIndex      the index
+     * @param objectSessionFactory the session factory
+     * @param reindexService       the reindex service
+     * @param versionTimelineCache the cache of resource version timelines
+     * @param readOnlyCacheSize    the number of object sessions held open by a read-only session
+     */
+    protected OcflPersistentStorageSession(final Transaction tx,
+                                           final FedoraToOcflObjectIndex fedoraOcflIndex,
+                                           final OcflObjectSessionFactory objectSessionFactory,
+                                           final ReindexService reindexService,
+                                           final VersionTimelineCache versionTimelineCache,
+                                           final long readOnlyCacheSize) {
         this.transaction = tx;
         this.fedoraOcflIndex = fedoraOcflIndex;
         this.objectSessionFactory = objectSessionFactory;
         this.reindexSerivce = reindexService;
+        this.versionTimelineCache = versionTimelineCache;
         this.sessionsToRollback = new HashMap<>();
 
         if (!tx.isReadOnly()) {
@@ -124,7 +149,7 @@ public class OcflPersistentStorageSession implements PersistentStorageSession {
         } else {
             // The read-only session is never closed, so it needs to periodically expire object sessions
             this.sessionMap = Caffeine.newBuilder()
-                    .maximumSize(512)
+                    .maximumSize(readOnlyCacheSize)
                     .expireAfterAccess(10, TimeUnit.MINUTES)
                     .<String, OcflObjectSession>build()
                     .asMap();
@@ -225,9 +250,16 @@ public class OcflPersistentStorageSession implements PersistentStorageSession {
 
         LOGGER.debug("Getting triples for {} at {}", identifier, version);
 
-        try (final InputStream is = getBinaryContent(identifier, version)) {
+        final var mapping = getFedoraOcflMapping(identifier);
+        final var objSession = findOrCreateSession(mapping.getOcflObjectId());
+        final var versionNumber = resolveVersionNumber(objSession, identifier, version);
+        final var content = objSession.readContent(identifier.getResourceId(), versionNumber);
+
+        try (final InputStream is = content.getContentStream()
+                .orElseThrow(() -> new PersistentItemNotFoundException("No RDF content found for resource "
+                        + identifier.getFullId()))) {
             final Model model = createDefaultModel();
-            RDFDataMgr.read(model, is, OcflPersistentStorageUtils.getRdfFormat().getLang());
+            RDFDataMgr.read(model, is, OcflPersistentStorageUtils.getRdfLang(content.getHeaders().getMimeType()));
             final FedoraId topic = resolveTopic(identifier);
             return DefaultRdfStream.fromModel(createURI(topic.getFullId()), model);
         } catch (final IOException ex) {
@@ -246,6 +278,20 @@ public class OcflPersistentStorageSession implements PersistentStorageSession {
                 .collect(Collectors.toList());
     }
 
+    @Override
+    public Instant findClosestVersion(final FedoraId fedoraIdentifier, final Instant datetime)
+            throws PersistentStorageException {
+        final var mapping = getFedoraOcflMapping(fedoraIdentifier);
+        final var objSession = findOrCreateSession(mapping.getOcflObjectId());
+
+        final var timeline = getVersionTimeline(objSession, fedoraIdentifier);
+        if (timeline.isEmpty()) {
+            return null;
+        }
+        final var closest = timeline.floorKey(datetime);
+        return closest != null ? closest : timeline.firstKey();
+    }
+
     @Override
     public InputStream getBinaryContent(final FedoraId identifier, final Instant version)
             throws PersistentStorageException {
@@ -332,6 +378,7 @@ public class OcflPersistentStorageSession implements PersistentStorageSession {
             final var session = entry.getValue();
             try {
                 session.commit();
+                versionTimelineCache.invalidate(id);
                 sessionsToRollback.put(id, session);
             } catch (final Exception e) {
                 this.state = State.COMMIT_FAILED;
@@ -407,23 +454,30 @@ public class OcflPersistentStorageSession implements PersistentStorageSession {
                                        final Instant version)
             throws PersistentStorageException {
         if (version != null) {
-            final var versions = objSession.listVersions(fedoraId.getResourceId());
-            // reverse order so that the most recent version is matched first
-            Collections.reverse(versions);
-            return versions.stream()
-                    .filter(vd -> vd.getCreated().equals(version))
-                    .map(OcflVersionInfo::getVersionNumber)
-                    .findFirst()
-                    .orElseThrow(() -> {
-                        return new PersistentItemNotFoundException(format(
-                                "There is no version in %s with a created date matching %s",
-                                fedoraId, version));
-                    });
+            final var versionNumber = getVersionTimeline(objSession, fedoraId).get(version);
+            if (versionNumber == null) {
+                throw new PersistentItemNotFoundException(format(
+                        "There is no version in %s with a created date matching %s",
+                        fedoraId, version));
+            }
+            return versionNumber;
         }
 
         return null;
     }
 
+    /**
+     * Get the committed versions of a resource ordered by creation time
+     *
+     * @param objSession session
+     * @param fedoraId the FedoraId of the resource
+     * @return map of version creation time to version number
+     */
+    private NavigableMap<Instant, String> getVersionTimeline(final OcflObjectSession objSession,
+                                                             final FedoraId fedoraId) {
+        return versionTimelineCache.getTimeline(objSession, fedoraId.getResourceId());
+    }
+
     private void closeUncommittedSessions() {
         this.sessionMap.entrySet().stream()
                 .filter(entry -> !sessionsToRollback.containsKey(entry.getKey()))
@@ -443,6 +497,8 @@ public class OcflPersistentStorageSession implements PersistentStorageSession {
             } catch (final Exception e) {
                 rollbackFailures.add(String.format("Failed to rollback object <%s> in session <%s>: %s",
                         id, session.sessionId(), e.getMessage()));
+            } finally {
+                versionTimelineCache.invalidate(id);
             }
         }
 
@@ -6,6 +6,8 @@
 
 package org.fcrepo.persistence.ocfl.impl;
 
+import static org.fcrepo.common.metrics.RequestTimings.Phase.OCFL;
+
 import java.io.InputStream;
 import java.time.Instant;
 import java.util.List;
@@ -34,6 +36,8 @@ public class OcflPersistentStorageSessionMetrics implements PersistentStorageSes
     private static final Timer getHeadersTimer = Metrics.timer(METRIC_NAME, OPERATION, "getHeaders");
     private static final Timer getTriplesTimer = Metrics.timer(METRIC_NAME, OPERATION, "getTriples");
     private static final Timer listVersionsTimer = Metrics.timer(METRIC_NAME, OPERATION, "listVersions");
+    private static final Timer findClosestVersionTimer = Metrics.timer(METRIC_NAME, OPERATION,
+            "findClosestVersion");
     private static final Timer getContentTimer = Metrics.timer(METRIC_NAME, OPERATION, "getContent");
     private static final Timer getRangeTimer = Metrics.timer(METRIC_NAME, OPERATION, "getRange");
     private static final Timer prepareTimer = Metrics.timer(METRIC_NAME, OPERATION, "prepare");
@@ -53,7 +57,7 @@ public class OcflPersistentStorageSessionMetrics implements PersistentStorageSes
 
     @Override
     public void persist(final ResourceOperation operation) throws PersistentStorageException {
-        persistTimer.record(() -> {
+        MetricsHelper.record(OCFL, persistTimer, () -> {
             delegate.persist(operation);
         });
     }
@@ -61,14 +65,14 @@ public class OcflPersistentStorageSessionMetrics implements PersistentStorageSes
     @Override
     public ResourceHeaders getHeaders(final FedoraId identifier, final Instant version)
             throws PersistentStorageException {
-        return MetricsHelper.time(getHeadersTimer, () -> {
+        return MetricsHelper.time(OCFL, getHeadersTimer, () -> {
             return delegate.getHeaders(identifier, version);
         });
     }
 
     @Override
     public RdfStream getTriples(final FedoraId identifier, final Instant version) throws PersistentStorageException {
-        return MetricsHelper.time(getTriplesTimer, () -> {
+        return MetricsHelper.time(OCFL, getTriplesTimer, () -> {
             return delegate.getTriples(identifier, version);
         });
     }
@@ -76,7 +80,7 @@ public class OcflPersistentStorageSessionMetrics implements PersistentStorageSes
     @Override
     public InputStream getBinaryContent(final FedoraId identifier, final Instant version)
             throws PersistentStorageException {
-        return MetricsHelper.time(getContentTimer, () -> {
+        return MetricsHelper.time(OCFL, getContentTimer, () -> {
             return delegate.getBinaryContent(identifier, version);
         });
     }
@@ -84,31 +88,39 @@ public class OcflPersistentStorageSessionMetrics implements PersistentStorageSes
     @Override
     public InputStream getBinaryRange(final FedoraId identifier, final Instant version,
                                       final long start, final long end) throws PersistentStorageException {
-        return MetricsHelper.time(getRangeTimer, () -> {
+        return MetricsHelper.time(OCFL, getRangeTimer, () -> {
             return delegate.getBinaryRange(identifier, version, start, end);
         });
     }
 
     @Override
     public List<Instant> listVersions(final FedoraId identifier) throws PersistentStorageException {
-        return MetricsHelper.time(listVersionsTimer, () -> {
+        return MetricsHelper.time(OCFL, listVersionsTimer, () -> {
             return delegate.listVersions(identifier);
         });
     }
 
+    @Override
+    public Instant findClosestVersion(final FedoraId identifier, final Instant datetime)
+            throws PersistentStorageException {
+        return MetricsHelper.time(OCFL, findClosestVersionTimer, () -> {
+            return delegate.findClosestVersion(identifier, datetime);
+        });
+    }
+
     @Override
     public void prepare() throws PersistentStorageException {
-        prepareTimer.record(delegate::prepare);
+        MetricsHelper.record(OCFL, prepareTimer, delegate::prepare);
     }
 
     @Override
     public void commit() throws PersistentStorageException {
-        commitTimer.record(delegate::commit);
+        MetricsHelper.record(OCFL, commitTimer, delegate::commit);
     }
 
     @Override
     public void rollback() throws PersistentStorageException {
-        rollbackTimer.record(delegate::rollback);
+        MetricsHelper.record(OCFL, rollbackTimer, delegate::rollback);
     }
 
 }
@@ -6,7 +6,6 @@
 package org.fcrepo.persistence.ocfl.impl;
 
 import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
-import static org.apache.jena.riot.RDFFormat.NTRIPLES;
 
 import javax.sql.DataSource;
 
@@ -14,6 +13,7 @@ import java.io.IOException;
 import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Objects;
 import java.util.function.Consumer;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -31,6 +31,7 @@ import io.ocfl.core.path.mapper.LogicalPathMappers;
 import io.ocfl.core.storage.OcflStorageBuilder;
 import org.apache.commons.lang3.SystemUtils;
 import org.apache.http.impl.auth.UnsupportedDigestAlgorithmException;
+import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFFormat;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -56,23 +57,45 @@ public class OcflPersistentStorageUtils {
     private static final OcflVersion OCFL_VERSION = OcflVersion.OCFL_1_1;
 
     /**
-     * The default RDF on disk format
-     * TODO Make this value configurable
+     * The RDF on disk format used when writing RDF sources
      */
-    private static RDFFormat DEFAULT_RDF_FORMAT = NTRIPLES;
+    private static volatile RdfStorageFormat rdfStorageFormat = RdfStorageFormat.NTRIPLES;
 
     /**
-     * @return the RDF Format. By default NTRIPLES are returned.
+     * @return the RDF Format used when writing RDF sources. By default NTRIPLES are returned.
      */
     public static RDFFormat getRdfFormat() {
-        return DEFAULT_RDF_FORMAT;
+        return rdfStorageFormat.getRdfFormat();
+    }
+
+    /**
+     * @return the storage format used when writing RDF sources.
+     */
+    public static RdfStorageFormat getRdfStorageFormat() {
+        return rdfStorageFormat;
+    }
+
+    /**
+     * @param format the storage format to use when writing RDF sources.
+     */
+    public static void setRdfStorageFormat(final RdfStorageFormat format) {
+        rdfStorageFormat = Objects.requireNonNull(format, "format cannot be null");
+    }
+
+    /**
+     * Get the language to use when reading an RDF source, based on the mime type recorded in its headers.
+     * @param mimeType the mime type from the resource headers, null for N-Triples content.
+     * @return the RDF language of the stored content.
+     */
+    public static Lang getRdfLang(final String mimeType) {
+        return RdfStorageFormat.fromMimeType(mimeType).getLang();
     }
 
     /**
      * @return the RDF file extension.
      */
     public static String getRDFFileExtension() {
-        return "." + DEFAULT_RDF_FORMAT.getLang().getFileExtensions().get(0);
+        return "." + getRdfFormat().getLang().getFileExtensions().get(0);
     }
 
     /**
@@ -0,0 +1,104 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.persistence.ocfl.impl;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.apache.jena.riot.Lang;
+import org.apache.jena.riot.RDFFormat;
+
+/**
+ * Serializations which may be used to store the content of RDF sources in OCFL.
+ *
+ * N-Triples is the default, and is identified by the absence of a mime type in the resource headers, so that
+ * content written before the storage format was configurable remains readable. The binary encodings record their
+ * media type in the mimeType header of the resource.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public enum RdfStorageFormat {
+
+    NTRIPLES("ntriples", RDFFormat.NTRIPLES, null),
+    THRIFT("thrift", RDFFormat.RDF_THRIFT, Lang.RDFTHRIFT.getHeaderString()),
+    PROTOBUF("protobuf", RDFFormat.RDF_PROTO, Lang.RDFPROTO.getHeaderString());
+
+    private final String name;
+
+    private final RDFFormat rdfFormat;
+
+    private final String mimeType;
+
+    RdfStorageFormat(final String name, final RDFFormat rdfFormat, final String mimeType) {
+        this.name = name;
+        this.rdfFormat = rdfFormat;
+        this.mimeType = mimeType;
+    }
+
+    /**
+     * @return the configuration name of the format
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return the jena format used to write content in this format
+     */
+    public RDFFormat getRdfFormat() {
+        return rdfFormat;
+    }
+
+    /**
+     * @return the jena language used to read content in this format
+     */
+    public Lang getLang() {
+        return rdfFormat.getLang();
+    }
+
+    /**
+     * @return the mime type recorded in the resource headers, or null for N-Triples
+     */
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    /**
+     * Get the format with the provided configuration name
+     *
+     * @param name the name of the format, case insensitive
+     * @return the format
+     * @throws IllegalArgumentException if the name does not match a format
+     */
+    public static RdfStorageFormat fromString(final String name) {
+        return Arrays.stream(values())
+                .filter(format -> format.name.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        String.format("Invalid RDF storage format: %s, must be one of %s", name,
+                                Arrays.stream(values()).map(RdfStorageFormat::getName)
+                                        .collect(Collectors.joining(", ")))));
+    }
+
+    /**
+     * Get the format that content was written in, based on the mime type in the resource headers
+     *
+     * @param mimeType the mime type from the resource headers, may be null
+     * @return the format
+     * @throws IllegalArgumentException if the mime type does not match a format
+     */
+    public static RdfStorageFormat fromMimeType(final String mimeType) {
+        if (mimeType == null) {
+            return NTRIPLES;
+        }
+        return Arrays.stream(values())
+                .filter(format -> mimeType.equals(format.mimeType))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        String.format("Unknown RDF storage mime type: %s", mimeType)));
+    }
+}
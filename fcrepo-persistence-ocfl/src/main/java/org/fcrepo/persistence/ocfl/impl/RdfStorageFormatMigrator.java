@@ -0,0 +1,169 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.persistence.ocfl.impl;
+
+import static org.apache.jena.riot.system.StreamRDFWriter.getWriterStream;
+import static org.fcrepo.kernel.api.RdfLexicon.NON_RDF_SOURCE;
+import static org.fcrepo.persistence.ocfl.impl.OcflPersistentStorageUtils.getRdfLang;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.ocfl.api.OcflRepository;
+import jakarta.inject.Inject;
+import org.apache.jena.riot.RDFParser;
+import org.fcrepo.config.OcflPropsConfig;
+import org.fcrepo.kernel.api.cache.ResourceHeadersCache;
+import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.lock.ResourceLockManager;
+import org.fcrepo.storage.ocfl.CommitType;
+import org.fcrepo.storage.ocfl.OcflObjectSessionFactory;
+import org.fcrepo.storage.ocfl.ResourceHeaders;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rewrites the content of RDF sources which were stored in a different serialization than the currently configured
+ * {@link RdfStorageFormat}. The conversion of an OCFL object is staged in its mutable head, so that it becomes part
+ * of the next version of the object rather than adding a memento to every migrated resource, unless versioned
+ * migration is configured.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@Component
+public class RdfStorageFormatMigrator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RdfStorageFormatMigrator.class);
+
+    private static final String VERSION_MESSAGE = "Converted RDF storage format to %s";
+
+    @Inject
+    private OcflRepository ocflRepository;
+
+    @Inject
+    private OcflObjectSessionFactory ocflObjectSessionFactory;
+
+    @Inject
+    private ResourceLockManager resourceLockManager;
+
+    @Inject
+    private VersionTimelineCache versionTimelineCache;
+
+    @Inject
+    private ResourceHeadersCache resourceHeadersCache;
+
+    @Inject
+    private OcflPropsConfig ocflPropsConfig;
+
+    /**
+     * Converts all RDF sources in the repository to the configured storage format.
+     *
+     * @return the number of resources which were converted
+     */
+    public long migrate() {
+        final var format = OcflPersistentStorageUtils.getRdfStorageFormat();
+        LOGGER.info("Converting RDF sources to storage format {}", format.getName());
+
+        final var converted = new AtomicLong();
+        final var failed = new AtomicLong();
+        try (final var objectIds = ocflRepository.listObjectIds()) {
+            objectIds.forEach(ocflId -> {
+                try {
+                    converted.addAndGet(migrateObject(ocflId, format));
+                } catch (final Exception e) {
+                    failed.incrementAndGet();
+                    LOGGER.error("Failed to convert RDF storage format of OCFL object {}", ocflId, e);
+                }
+            });
+        }
+
+        LOGGER.info("Converted {} RDF sources to storage format {}, {} OCFL objects failed",
+                converted.get(), format.getName(), failed.get());
+        return converted.get();
+    }
+
+    /**
+     * Converts the RDF sources within a single OCFL object, committing the conversion if any were converted.
+     *
+     * @param ocflId the id of the OCFL object
+     * @param format the format to convert to
+     * @return the number of resources which were converted
+     */
+    private int migrateObject(final String ocflId, final RdfStorageFormat format) {
+        final var lockId = "rdf-storage-format-" + UUID.randomUUID();
+        try (final var session = ocflObjectSessionFactory.newSession(ocflId)) {
+            final List<ResourceHeaders> toConvert;
+            try (final var headers = session.streamResourceHeaders()) {
+                toConvert = headers.filter(h -> needsConversion(h, format)).toList();
+            }
+            if (toConvert.isEmpty()) {
+                return 0;
+            }
+
+            // Prevent concurrent changes to the resources while their content is rewritten
+            toConvert.forEach(h -> resourceLockManager.acquireExclusive(lockId, FedoraId.create(h.getId())));
+
+            for (final var headers : toConvert) {
+                // re-read the headers now that the resources are locked
+                final var current = session.readHeaders(headers.getId());
+                if (!needsConversion(current, format)) {
+                    continue;
+                }
+                final var content = session.readContent(current.getId());
+                // the size and digest are recalculated from the converted content
+                final var updated = ResourceHeaders.builder(current)
+                        .withMimeType(format.getMimeType())
+                        .withContentSize(-1)
+                        .withDigests(List.of())
+                        .build();
+                session.writeResource(updated, convert(content.getContentStream().orElseThrow(),
+                        current.getMimeType(), format));
+            }
+
+            if (ocflPropsConfig.isRdfStorageFormatMigrationVersioned()) {
+                session.commitType(CommitType.NEW_VERSION);
+                session.versionMessage(String.format(VERSION_MESSAGE, format.getName()));
+            } else {
+                session.commitType(CommitType.UNVERSIONED);
+            }
+            session.commit();
+            versionTimelineCache.invalidate(ocflId);
+            resourceHeadersCache.invalidate(toConvert.stream().map(h -> FedoraId.create(h.getId())).toList());
+            LOGGER.debug("Converted {} RDF sources in OCFL object {}", toConvert.size(), ocflId);
+            return toConvert.size();
+        } finally {
+            resourceLockManager.releaseAll(lockId);
+        }
+    }
+
+    private static boolean needsConversion(final ResourceHeaders headers, final RdfStorageFormat format) {
+        return !headers.isDeleted()
+                && !NON_RDF_SOURCE.getURI().equals(headers.getInteractionModel())
+                && !Objects.equals(headers.getMimeType(), format.getMimeType());
+    }
+
+    private static InputStream convert(final InputStream content, final String fromMimeType,
+                                       final RdfStorageFormat format) {
+        try (content; final var os = new ByteArrayOutputStream()) {
+            final var writer = getWriterStream(os, format.getLang());
+            writer.start();
+            RDFParser.source(content).lang(getRdfLang(fromMimeType)).parse(writer);
+            writer.finish();
+            return new ByteArrayInputStream(os.toByteArray());
+        } catch (final IOException e) {
+            throw new RepositoryRuntimeException("Failed to convert RDF content", e);
+        }
+    }
+}
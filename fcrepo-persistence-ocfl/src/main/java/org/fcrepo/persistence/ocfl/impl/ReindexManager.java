@@ -12,14 +12,18 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import org.fcrepo.common.db.DbTransactionExecutor;
 import org.fcrepo.config.OcflPropsConfig;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.TransactionManager;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
 
 import org.slf4j.Logger;
 
@@ -52,12 +56,12 @@ public class ReindexManager {
 
     private final boolean failOnError;
 
+    private final int workerCount;
+
     private TransactionManager txManager;
 
     private DbTransactionExecutor dbTransactionExecutor;
 
-    private Transaction transaction = null;
-
     /**
      * Basic constructor
      * @param ids stream of ocfl ids.
@@ -83,12 +87,13 @@ public class ReindexManager {
         errorCount = new AtomicInteger(0);
         skipCount = new AtomicInteger(0);
 
-        final var workerCount = config.getReindexingThreads();
+        final var threads = config.getReindexingThreads();
 
-        if (workerCount < 1) {
+        if (threads < 1) {
             throw new IllegalStateException(String.format("Reindexing requires at least 1 thread. Found: %s",
-                    workerCount));
+                    threads));
         }
+        workerCount = (int) threads;
 
         for (var i = 0; i < workerCount; i += 1) {
             workers.add(new ReindexWorker("ReindexWorker-" + i, this,
@@ -177,16 +182,63 @@ public class ReindexManager {
     }
 
     /**
-     * Index the membership relationships
+     * Index the membership relationships. Direct and Indirect containers are distributed across the worker
+     * threads, with each container indexed in its own transaction.
+     * @throws InterruptedException if interrupted while waiting for the membership workers.
      */
-    private void indexMembership() {
-        final var tx = transaction();
+    private void indexMembership() throws InterruptedException {
         LOGGER.info("Starting membership indexing");
-        reindexService.indexMembership(tx);
-        tx.commit();
+        final var containerIds = new ConcurrentLinkedQueue<>(reindexService.getMembershipContainerIds());
+        final var membershipErrors = new AtomicInteger(0);
+        final var firstError = new AtomicReference<RuntimeException>();
+
+        final List<Thread> membershipWorkers = new ArrayList<>(workerCount);
+        for (var i = 0; i < workerCount; i += 1) {
+            membershipWorkers.add(new Thread(() -> indexMembershipWorker(containerIds, membershipErrors, firstError),
+                    "MembershipReindexWorker-" + i));
+        }
+        membershipWorkers.forEach(Thread::start);
+        for (final var worker : membershipWorkers) {
+            worker.join();
+        }
+
+        if (firstError.get() != null) {
+            throw firstError.get();
+        }
+        if (membershipErrors.get() > 0) {
+            LOGGER.error("Membership indexing failed for {} containers", membershipErrors.get());
+        }
         LOGGER.debug("Completed membership indexing");
     }
 
+    private void indexMembershipWorker(final Queue<FedoraId> containerIds, final AtomicInteger membershipErrors,
+                                       final AtomicReference<RuntimeException> firstError) {
+        FedoraId containerId;
+        while ((containerId = containerIds.poll()) != null) {
+            if (failOnError && firstError.get() != null) {
+                return;
+            }
+            final var id = containerId;
+            final Transaction tx = txManager.create();
+            tx.setShortLived(true);
+            try {
+                dbTransactionExecutor.doInTxWithRetry(() -> {
+                    reindexService.indexMembership(tx, id);
+                    tx.commit();
+                });
+            } catch (final RuntimeException e) {
+                LOGGER.error("Membership indexing of {} failed", id, e);
+                tx.rollback();
+                membershipErrors.incrementAndGet();
+                if (failOnError) {
+                    firstError.compareAndSet(null, e);
+                }
+            } finally {
+                reindexService.cleanupSession(tx.getId());
+            }
+        }
+    }
+
     /**
      * Close stream.
      */
@@ -228,12 +280,4 @@ public class ReindexManager {
         }
         return message;
     }
-
-    private Transaction transaction() {
-        if (transaction == null) {
-            transaction = txManager.create();
-            transaction.setShortLived(true);
-        }
-        return transaction;
-    }
 }
@@ -9,7 +9,7 @@ import static org.apache.jena.graph.NodeFactory.createURI;
 import static org.apache.jena.rdf.model.ModelFactory.createDefaultModel;
 import static org.apache.jena.vocabulary.RDF.type;
 import static org.fcrepo.kernel.api.RdfLexicon.NON_RDF_SOURCE;
-import static org.fcrepo.persistence.ocfl.impl.OcflPersistentStorageUtils.getRdfFormat;
+import static org.fcrepo.persistence.ocfl.impl.OcflPersistentStorageUtils.getRdfLang;
 import static org.slf4j.LoggerFactory.getLogger;
 
 import java.io.IOException;
@@ -27,6 +27,7 @@ import jakarta.inject.Inject;
 import io.ocfl.api.OcflRepository;
 import org.apache.jena.rdf.model.Resource;
 import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.kernel.api.BinaryDigestIndex;
 import org.fcrepo.kernel.api.ContainmentIndex;
 import org.fcrepo.kernel.api.RdfLexicon;
 import org.fcrepo.kernel.api.RdfStream;
@@ -97,6 +98,9 @@ public class ReindexService {
     @Inject
     private MembershipService membershipService;
 
+    @Inject
+    private BinaryDigestIndex binaryDigestIndex;
+
     @Inject
     private ObjectValidator objectValidator;
 
@@ -171,7 +175,7 @@ public class ReindexService {
                                     .getContentStream();
                             if (content.isPresent()) {
                                 try (final var stream = content.get()) {
-                                    RdfStream rdf = parseRdf(fedoraId, stream);
+                                    RdfStream rdf = parseRdf(fedoraId, stream, headers.getMimeType());
                                     rdf = (RdfStream) rdf.peek(t -> {
                                         if (t.predicateMatches(type.asNode())) {
                                             rdfTypeMap.computeIfAbsent(fedoraId, k -> new ArrayList<>())
@@ -207,6 +211,8 @@ public class ReindexService {
             fedoraIds.forEach(fedoraIdentifier -> {
                 final var rootFedoraIdentifier = rootId.get();
                 ocflIndex.addMapping(tx, fedoraIdentifier, rootFedoraIdentifier, ocflId);
+                // digests computed from the previously indexed content may no longer apply
+                binaryDigestIndex.removeDigests(fedoraIdentifier);
                 LOGGER.debug("Rebuilt fedora-to-ocfl object index entry for {}", fedoraIdentifier);
             });
 
@@ -248,23 +254,36 @@ public class ReindexService {
         searchIndex.reset();
         referenceService.reset();
         membershipService.reset();
+        binaryDigestIndex.reset();
+    }
+
+    /**
+     * Find all Direct and Indirect containers, which are the resources that may produce membership.
+     * @return the ids of all Direct and Indirect containers
+     */
+    public List<FedoraId> getMembershipContainerIds() {
+        final var containerIds = new ArrayList<FedoraId>();
+        containerIds.addAll(findContainersOfType(RdfLexicon.DIRECT_CONTAINER));
+        containerIds.addAll(findContainersOfType(RdfLexicon.INDIRECT_CONTAINER));
+        return containerIds;
     }
 
     /**
-     * Index all membership properties by querying for Direct and Indirect containers, and then
-     * trying population of the membership index for each one
-     * @param transaction the transaction id.
+     * Populate the membership index for a single Direct or Indirect container.
+     * @param transaction the transaction.
+     * @param containerId the id of the container.
      */
-    public void indexMembership(final Transaction transaction) {
-        indexContainerType(transaction, RdfLexicon.DIRECT_CONTAINER);
-        indexContainerType(transaction, RdfLexicon.INDIRECT_CONTAINER);
+    public void indexMembership(final Transaction transaction, final FedoraId containerId) {
+        LOGGER.debug("Indexing membership of {} in transaction {}", containerId, transaction.getId());
+        membershipService.populateMembershipHistory(transaction, containerId);
     }
 
-    private void indexContainerType(final Transaction transaction, final Resource containerType) {
-        LOGGER.debug("Starting indexMembership for transaction {}", transaction);
+    private List<FedoraId> findContainersOfType(final Resource containerType) {
+        LOGGER.debug("Finding containers of type {}", containerType);
         final var fields = List.of(Condition.Field.FEDORA_ID);
         final var conditions = List.of(Condition.fromEnums(Condition.Field.RDF_TYPE, Condition.Operator.EQ,
                 containerType.getURI()));
+        final var containerIds = new ArrayList<FedoraId>();
         int offset = 0;
 
         try {
@@ -279,7 +298,7 @@ public class ReindexService {
 
                 resultList.stream()
                         .map(entry -> FedoraId.create((String) entry.get(Condition.Field.FEDORA_ID.toString())))
-                        .forEach(containerId -> membershipService.populateMembershipHistory(transaction, containerId));
+                        .forEach(containerIds::add);
 
                 // Results are paged, so step through pages until we reach the last one
                 offset += membershipPageSize;
@@ -288,7 +307,8 @@ public class ReindexService {
         } catch (final InvalidQueryException e) {
             throw new RepositoryRuntimeException("Failed to repopulate membership history", e);
         }
-        LOGGER.debug("Finished indexMembership for transaction {}", transaction);
+        LOGGER.debug("Found {} containers of type {}", containerIds.size(), containerType);
+        return containerIds;
     }
 
     /**
@@ -310,11 +330,13 @@ public class ReindexService {
      *
      * @param fedoraIdentifier the resource identifier.
      * @param inputStream the inputstream.
+     * @param mimeType the mime type recorded in the resource headers, identifying the storage format.
      * @return an RdfStream of the resource triples.
      */
-    private static RdfStream parseRdf(final FedoraId fedoraIdentifier, final InputStream inputStream) {
+    private static RdfStream parseRdf(final FedoraId fedoraIdentifier, final InputStream inputStream,
+                                      final String mimeType) {
         final Model model = createDefaultModel();
-        RDFDataMgr.read(model, inputStream, getRdfFormat().getLang());
+        RDFDataMgr.read(model, inputStream, getRdfLang(mimeType));
         final FedoraId topic = (fedoraIdentifier.isDescription() ? fedoraIdentifier.asBaseId() : fedoraIdentifier);
         return DefaultRdfStream.fromModel(createURI(topic.getFullId()), model);
     }
@@ -0,0 +1,109 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.persistence.ocfl.impl;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.fcrepo.config.OcflPropsConfig;
+import org.fcrepo.storage.ocfl.OcflObjectSession;
+import org.fcrepo.storage.ocfl.OcflVersionInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Role;
+import org.springframework.stereotype.Component;
+
+/**
+ * Caches the committed versions of resources as a timeline ordered by version creation time, so that mementos can
+ * be resolved without listing and scanning every version of a resource. Timelines are grouped by OCFL object, and
+ * all timelines for an object are discarded whenever a new version of that object is committed or rolled back.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+@Component
+@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+public class VersionTimelineCache {
+
+    private final Cache<String, Map<String, NavigableMap<Instant, String>>> cache;
+
+    /**
+     * @param ocflPropsConfig the OCFL configuration
+     */
+    @Autowired
+    public VersionTimelineCache(final OcflPropsConfig ocflPropsConfig) {
+        this(ocflPropsConfig.getVersionTimelineCacheSize(), ocflPropsConfig.getVersionTimelineCacheTimeout());
+    }
+
+    /**
+     * @param maxSize the maximum number of OCFL objects to cache timelines for
+     * @param timeoutMinutes the number of minutes after last access that an object's timelines expire
+     */
+    public VersionTimelineCache(final long maxSize, final long timeoutMinutes) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterAccess(timeoutMinutes, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * Get the committed versions of a resource, mapping the creation time of each version to its OCFL version
+     * number. When multiple versions share a creation time, the most recent version is used.
+     *
+     * @param session the session for the OCFL object containing the resource
+     * @param resourceId the id of the resource
+     * @return unmodifiable timeline of the resource's versions, empty if it has no committed versions
+     */
+    public NavigableMap<Instant, String> getTimeline(final OcflObjectSession session, final String resourceId) {
+        // The per-object map is only ever populated through the instance that was cached when the lookup began,
+        // so timelines loaded concurrently with an invalidation are dropped along with the discarded map.
+        final var timelines = cache.get(session.ocflObjectId(), k -> new ConcurrentHashMap<>());
+        final var cached = timelines.get(resourceId);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var timeline = loadTimeline(session, resourceId);
+        // Resources which only exist in staged changes have no versions yet, and are not cached
+        if (!timeline.isEmpty()) {
+            timelines.put(resourceId, timeline);
+        }
+        return timeline;
+    }
+
+    /**
+     * Discard the cached timelines of all resources in an OCFL object
+     *
+     * @param ocflObjectId the id of the OCFL object
+     */
+    public void invalidate(final String ocflObjectId) {
+        cache.invalidate(ocflObjectId);
+    }
+
+    /**
+     * Discard all cached timelines
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static NavigableMap<Instant, String> loadTimeline(final OcflObjectSession session,
+                                                              final String resourceId) {
+        final var timeline = new TreeMap<Instant, String>();
+        // versions are listed in ascending order, so later versions replace earlier ones with the same timestamp
+        for (final OcflVersionInfo version : session.listVersions(resourceId)) {
+            timeline.put(version.getCreated(), version.getVersionNumber());
+        }
+        return Collections.unmodifiableNavigableMap(timeline);
+    }
+}
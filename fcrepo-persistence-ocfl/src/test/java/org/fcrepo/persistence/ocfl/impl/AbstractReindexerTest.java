@@ -126,6 +126,7 @@ public class AbstractReindexerTest {
                 "Fedora 7 test", "fedoraAdmin", "info:fedora/fedoraAdmin");
 
         persistentStorageSessionManager = new OcflPersistentSessionManager();
+        setField(persistentStorageSessionManager, "versionTimelineCache", new VersionTimelineCache(1024, 10));
         setField(persistentStorageSessionManager, "ocflIndex", ocflIndex);
         setField(persistentStorageSessionManager, "objectSessionFactory", ocflObjectSessionFactory);
 
@@ -109,6 +109,7 @@ public class OcflPersistenceConfigTest {
         // Default configuration for filesystem repository
         when(ocflPropsConfig.getStorage()).thenReturn(Storage.OCFL_FILESYSTEM);
         when(ocflPropsConfig.getOcflRepoRoot()).thenReturn(repoRoot);
+        when(ocflPropsConfig.getRdfStorageFormat()).thenReturn("ntriples");
         when(ocflPropsConfig.getOcflTemp()).thenReturn(tempDirPath);
         when(ocflPropsConfig.getFedoraOcflStaging()).thenReturn(stagingDir);
         when(ocflPropsConfig.getDefaultDigestAlgorithm()).thenReturn(DigestAlgorithm.SHA512);
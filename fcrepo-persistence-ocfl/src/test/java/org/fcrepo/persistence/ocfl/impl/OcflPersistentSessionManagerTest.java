@@ -72,6 +72,7 @@ public class OcflPersistentSessionManagerTest {
         when(transaction.getId()).thenReturn(testSessionId);
         readWriteSession = this.sessionManager.getSession(transaction);
         setField(sessionManager, "objectSessionFactory", objectSessionFactory);
+        setField(sessionManager, "versionTimelineCache", new VersionTimelineCache(1024, 10));
         setField(sessionManager, "ocflIndex", index);
         setField(sessionManager, "ocflPropsConfig", ocflPropsConfig);
         readOnlySession = this.sessionManager.getReadOnlySession();
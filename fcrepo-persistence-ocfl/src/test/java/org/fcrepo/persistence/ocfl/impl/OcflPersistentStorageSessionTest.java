@@ -12,6 +12,7 @@ import static org.fcrepo.kernel.api.RdfLexicon.BASIC_CONTAINER;
 import static org.fcrepo.kernel.api.RdfLexicon.FEDORA_NON_RDF_SOURCE_DESCRIPTION_URI;
 import static org.fcrepo.kernel.api.RdfLexicon.NON_RDF_SOURCE;
 import static org.fcrepo.kernel.api.operations.ResourceOperationType.CREATE;
+import static org.fcrepo.kernel.api.operations.ResourceOperationType.UPDATE;
 import static org.fcrepo.persistence.ocfl.impl.OcflPersistentStorageUtils.createFilesystemRepository;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasItems;
@@ -107,6 +108,8 @@ public class OcflPersistentStorageSessionTest {
 
     private DefaultOcflObjectSessionFactory objectSessionFactory;
 
+    private VersionTimelineCache versionTimelineCache;
+
     private static final FedoraId ROOT_OBJECT_ID = FedoraId.create("info:fedora/resource1");
 
     private static final FedoraId RESOURCE_ID = ROOT_OBJECT_ID;
@@ -161,6 +164,7 @@ public class OcflPersistentStorageSessionTest {
                 new NoOpCache<>(),
                 CommitType.NEW_VERSION,
                 "Fedora 6 test", "fedoraAdmin", "info:fedora/fedoraAdmin");
+        versionTimelineCache = new VersionTimelineCache(1024, 10);
         session = createSession(index, objectSessionFactory);
 
         // Create rdf operations implement two interfaces
@@ -176,7 +180,8 @@ public class OcflPersistentStorageSessionTest {
     private OcflPersistentStorageSession createSession(final FedoraToOcflObjectIndex index,
                                                        final OcflObjectSessionFactory objectSessionFactory) {
         final var tx = mockTransaction();
-        return new OcflPersistentStorageSession(tx, index, objectSessionFactory, reindexService);
+        return new OcflPersistentStorageSession(tx, index, objectSessionFactory, reindexService,
+                versionTimelineCache);
     }
 
     private Transaction mockTransaction() {
@@ -273,6 +278,54 @@ public class OcflPersistentStorageSessionTest {
         assertEquals(originalModifiedDate, headers2.getLastModifiedDate());
     }
 
+    @Test
+    public void roundtripContainerInBinaryRdfFormat() throws Exception {
+        mockMappingAndIndex(OCFL_RESOURCE_ID, RESOURCE_ID, ROOT_OBJECT_ID, mapping);
+
+        final Node resourceUri = createURI(RESOURCE_ID.getFullId());
+        final var dcTitleTriple = Triple.create(resourceUri, DC.title.asNode(), createLiteralString("my title"));
+        mockResourceOperation(rdfSourceOperation, new DefaultRdfStream(resourceUri, Stream.of(dcTitleTriple)),
+                USER_PRINCIPAL, RESOURCE_ID);
+
+        OcflPersistentStorageUtils.setRdfStorageFormat(RdfStorageFormat.THRIFT);
+        try {
+            session.persist(rdfSourceOperation);
+            session.prepare();
+            session.commit();
+        } finally {
+            OcflPersistentStorageUtils.setRdfStorageFormat(RdfStorageFormat.NTRIPLES);
+        }
+
+        // content written in thrift remains readable after the configured format changes
+        final OcflPersistentStorageSession newSession = createSession(index, objectSessionFactory);
+        final var retrievedUserStream = newSession.getTriples(RESOURCE_ID, null);
+        assertEquals(resourceUri, retrievedUserStream.topic());
+        assertEquals(dcTitleTriple, retrievedUserStream.findFirst().get());
+        assertEquals(RdfStorageFormat.THRIFT.getMimeType(), newSession.getHeaders(RESOURCE_ID, null).getMimeType());
+    }
+
+    @Test
+    public void getTriplesWrittenAsNtriplesAfterFormatChange() throws Exception {
+        mockMappingAndIndex(OCFL_RESOURCE_ID, RESOURCE_ID, ROOT_OBJECT_ID, mapping);
+
+        final Node resourceUri = createURI(RESOURCE_ID.getFullId());
+        final var dcTitleTriple = Triple.create(resourceUri, DC.title.asNode(), createLiteralString("my title"));
+        mockResourceOperation(rdfSourceOperation, new DefaultRdfStream(resourceUri, Stream.of(dcTitleTriple)),
+                USER_PRINCIPAL, RESOURCE_ID);
+        session.persist(rdfSourceOperation);
+        session.prepare();
+        session.commit();
+
+        OcflPersistentStorageUtils.setRdfStorageFormat(RdfStorageFormat.PROTOBUF);
+        try {
+            final OcflPersistentStorageSession newSession = createSession(index, objectSessionFactory);
+            final var retrievedUserStream = newSession.getTriples(RESOURCE_ID, null);
+            assertEquals(dcTitleTriple, retrievedUserStream.findFirst().get());
+        } finally {
+            OcflPersistentStorageUtils.setRdfStorageFormat(RdfStorageFormat.NTRIPLES);
+        }
+    }
+
     @Test
     public void unsupportedPersistOperation() throws Exception {
         assertThrows(UnsupportedOperationException.class, () -> session.persist(unsupportedOperation));
@@ -588,6 +641,42 @@ public class OcflPersistentStorageSessionTest {
         assertEquals(dcTitleTriple, retrievedUserStream.findFirst().get());
     }
 
+    @Test
+    public void findClosestVersionAfterNewVersionCommitted() throws Exception {
+        mockMappingAndIndex(OCFL_RESOURCE_ID, RESOURCE_ID, ROOT_OBJECT_ID, mapping);
+
+        mockResourceOperation(rdfSourceOperation, RESOURCE_ID);
+        session.persist(rdfSourceOperation);
+        session.prepare();
+        session.commit();
+
+        final var session2 = createSession(index, objectSessionFactory);
+        final var firstVersions = session2.listVersions(RESOURCE_ID);
+        assertEquals(1, firstVersions.size());
+        final var first = firstVersions.get(0);
+        assertEquals(first, session2.findClosestVersion(RESOURCE_ID, Instant.EPOCH));
+        assertEquals(first, session2.findClosestVersion(RESOURCE_ID, first.plusSeconds(60)));
+
+        // mementos are identified to the second
+        TimeUnit.SECONDS.sleep(1);
+
+        mockResourceOperation(rdfSourceOperation2, RESOURCE_ID);
+        when(rdfSourceOperation2.getType()).thenReturn(UPDATE);
+        session2.persist(rdfSourceOperation2);
+        session2.prepare();
+        session2.commit();
+
+        // the cached timeline is replaced once the new version is committed
+        final var session3 = createSession(index, objectSessionFactory);
+        final var versions = session3.listVersions(RESOURCE_ID);
+        assertEquals(2, versions.size());
+        final var second = versions.get(1);
+        assertEquals(first, session3.findClosestVersion(RESOURCE_ID, first));
+        assertEquals(first, session3.findClosestVersion(RESOURCE_ID, second.minusMillis(1)));
+        assertEquals(second, session3.findClosestVersion(RESOURCE_ID, second.plusSeconds(60)));
+        assertNotNull(session3.getHeaders(RESOURCE_ID, first));
+    }
+
     @Test
     public void listVersionsOfAResourceContainedInAnArchivalGroup() throws Exception {
         final Node resourceUri = createURI(RESOURCE_ID.getFullId());
@@ -734,7 +823,7 @@ public class OcflPersistentStorageSessionTest {
 
         final var shortTx = mockTransaction();
         final var readOnlySession = new OcflPersistentStorageSession(shortTx, index, objectSessionFactory,
-                reindexService);
+                reindexService, versionTimelineCache);
         ReflectionTestUtils.setField(readOnlySession, "sessionMap", sessionMap);
 
         readOnlySession.getHeaders(RESOURCE_ID, null);
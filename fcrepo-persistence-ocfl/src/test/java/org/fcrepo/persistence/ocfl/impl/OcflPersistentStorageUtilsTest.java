@@ -24,6 +24,7 @@ import io.ocfl.core.extension.storage.layout.config.HashedNTupleLayoutConfig;
 import io.ocfl.core.storage.OcflStorage;
 import io.ocfl.core.storage.OcflStorageBuilder;
 import org.apache.http.impl.auth.UnsupportedDigestAlgorithmException;
+import org.apache.jena.riot.Lang;
 import org.apache.jena.riot.RDFFormat;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -58,6 +59,33 @@ public class OcflPersistentStorageUtilsTest {
         assertEquals(".nt", extension);
     }
 
+    @Test
+    public void testRdfStorageFormatFromString() {
+        assertEquals(RdfStorageFormat.NTRIPLES, RdfStorageFormat.fromString("ntriples"));
+        assertEquals(RdfStorageFormat.THRIFT, RdfStorageFormat.fromString("Thrift"));
+        assertEquals(RdfStorageFormat.PROTOBUF, RdfStorageFormat.fromString("protobuf"));
+        assertThrows(IllegalArgumentException.class, () -> RdfStorageFormat.fromString("turtle"));
+    }
+
+    @Test
+    public void testGetRdfLang() {
+        assertEquals(Lang.NTRIPLES, OcflPersistentStorageUtils.getRdfLang(null));
+        assertEquals(Lang.RDFTHRIFT, OcflPersistentStorageUtils.getRdfLang(RdfStorageFormat.THRIFT.getMimeType()));
+        assertEquals(Lang.RDFPROTO, OcflPersistentStorageUtils.getRdfLang(RdfStorageFormat.PROTOBUF.getMimeType()));
+        assertThrows(IllegalArgumentException.class, () -> OcflPersistentStorageUtils.getRdfLang("text/plain"));
+    }
+
+    @Test
+    public void testSetRdfStorageFormat() {
+        OcflPersistentStorageUtils.setRdfStorageFormat(RdfStorageFormat.THRIFT);
+        try {
+            assertEquals(RDFFormat.RDF_THRIFT, OcflPersistentStorageUtils.getRdfFormat());
+            assertEquals(RdfStorageFormat.THRIFT, OcflPersistentStorageUtils.getRdfStorageFormat());
+        } finally {
+            OcflPersistentStorageUtils.setRdfStorageFormat(RdfStorageFormat.NTRIPLES);
+        }
+    }
+
     @Test
     public void testObjectMapper() {
         final var mapper = OcflPersistentStorageUtils.objectMapper();
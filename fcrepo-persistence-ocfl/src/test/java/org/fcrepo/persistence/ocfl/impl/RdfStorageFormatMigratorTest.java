@@ -0,0 +1,217 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.persistence.ocfl.impl;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.fcrepo.kernel.api.RdfLexicon.BASIC_CONTAINER;
+import static org.fcrepo.kernel.api.RdfLexicon.NON_RDF_SOURCE;
+import static org.fcrepo.persistence.ocfl.impl.OcflPersistentStorageUtils.createFilesystemRepository;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+import org.apache.jena.rdf.model.Model;
+import org.apache.jena.rdf.model.ModelFactory;
+import org.apache.jena.riot.RDFDataMgr;
+import org.fcrepo.config.DigestAlgorithm;
+import org.fcrepo.config.OcflPropsConfig;
+import org.fcrepo.kernel.api.cache.ResourceHeadersCache;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.lock.ResourceLockManager;
+import org.fcrepo.storage.ocfl.CommitType;
+import org.fcrepo.storage.ocfl.DefaultOcflObjectSessionFactory;
+import org.fcrepo.storage.ocfl.ResourceHeaders;
+import org.fcrepo.storage.ocfl.cache.NoOpCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+/**
+ * @author fcrepo
+ */
+@ExtendWith(MockitoExtension.class)
+public class RdfStorageFormatMigratorTest {
+
+    private static final String RESOURCE_ID = "info:fedora/resource1";
+
+    private static final String BINARY_ID = "info:fedora/binary1";
+
+    private static final String TRIPLES = "<" + RESOURCE_ID + "> <http://purl.org/dc/elements/1.1/title> \"title\" .\n";
+
+    @TempDir
+    public Path tempDir;
+
+    @Mock
+    private ResourceLockManager resourceLockManager;
+
+    @Mock
+    private ResourceHeadersCache resourceHeadersCache;
+
+    private DefaultOcflObjectSessionFactory sessionFactory;
+
+    private RdfStorageFormatMigrator migrator;
+
+    private OcflPropsConfig ocflPropsConfig;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        final var repoDir = tempDir.resolve("ocfl-repo");
+        final var workDir = tempDir.resolve("ocfl-work");
+        final var stagingDir = tempDir.resolve("ocfl-staging");
+        Files.createDirectories(repoDir);
+        Files.createDirectories(workDir);
+        Files.createDirectories(stagingDir);
+
+        final var repository = createFilesystemRepository(repoDir, workDir, DigestAlgorithm.SHA512, false, true);
+        sessionFactory = new DefaultOcflObjectSessionFactory(repository, stagingDir,
+                OcflPersistentStorageUtils.objectMapper(),
+                new NoOpCache<>(),
+                new NoOpCache<>(),
+                CommitType.NEW_VERSION,
+                "Fedora 6 test", "fedoraAdmin", "info:fedora/fedoraAdmin");
+
+        migrator = new RdfStorageFormatMigrator();
+        ReflectionTestUtils.setField(migrator, "ocflRepository", repository);
+        ReflectionTestUtils.setField(migrator, "ocflObjectSessionFactory", sessionFactory);
+        ReflectionTestUtils.setField(migrator, "resourceLockManager", resourceLockManager);
+        ReflectionTestUtils.setField(migrator, "versionTimelineCache", new VersionTimelineCache(1024, 10));
+        ReflectionTestUtils.setField(migrator, "resourceHeadersCache", resourceHeadersCache);
+        ocflPropsConfig = new OcflPropsConfig();
+        ReflectionTestUtils.setField(migrator, "ocflPropsConfig", ocflPropsConfig);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        OcflPersistentStorageUtils.setRdfStorageFormat(RdfStorageFormat.NTRIPLES);
+    }
+
+    @Test
+    public void testMigrateToThrift() {
+        writeResource(RESOURCE_ID, BASIC_CONTAINER.getURI(), null, TRIPLES);
+        writeResource(BINARY_ID, NON_RDF_SOURCE.getURI(), "text/plain", "some binary");
+
+        OcflPersistentStorageUtils.setRdfStorageFormat(RdfStorageFormat.THRIFT);
+        assertEquals(1, migrator.migrate());
+
+        verify(resourceLockManager).acquireExclusive(anyString(), any(FedoraId.class));
+        verify(resourceLockManager, atLeastOnce()).releaseAll(anyString());
+        // only the converted resource is discarded from the headers cache
+        verify(resourceHeadersCache).invalidate(List.of(FedoraId.create(RESOURCE_ID)));
+
+        try (final var session = sessionFactory.newSession(FedoraId.create(RESOURCE_ID).getResourceId())) {
+            final var content = session.readContent(RESOURCE_ID);
+            assertEquals(RdfStorageFormat.THRIFT.getMimeType(), content.getHeaders().getMimeType());
+            // the conversion does not add a memento
+            assertEquals(1, session.listVersions(RESOURCE_ID).size());
+
+            final Model model = ModelFactory.createDefaultModel();
+            RDFDataMgr.read(model, content.getContentStream().orElseThrow(), RdfStorageFormat.THRIFT.getLang());
+            final Model expected = ModelFactory.createDefaultModel();
+            RDFDataMgr.read(expected, new ByteArrayInputStream(TRIPLES.getBytes(UTF_8)),
+                    RdfStorageFormat.NTRIPLES.getLang());
+            assertTrue(model.isIsomorphicWith(expected));
+        }
+
+        // binaries are left untouched
+        try (final var session = sessionFactory.newSession(FedoraId.create(BINARY_ID).getResourceId())) {
+            assertEquals("text/plain", session.readHeaders(BINARY_ID).getMimeType());
+            assertEquals(1, session.listVersions(BINARY_ID).size());
+        }
+
+        // a second run has nothing to convert
+        assertEquals(0, migrator.migrate());
+    }
+
+    @Test
+    public void testMigrateBackToNtriples() {
+        writeResource(RESOURCE_ID, BASIC_CONTAINER.getURI(), null, TRIPLES);
+        OcflPersistentStorageUtils.setRdfStorageFormat(RdfStorageFormat.PROTOBUF);
+        assertEquals(1, migrator.migrate());
+
+        OcflPersistentStorageUtils.setRdfStorageFormat(RdfStorageFormat.NTRIPLES);
+        assertEquals(1, migrator.migrate());
+
+        try (final var session = sessionFactory.newSession(FedoraId.create(RESOURCE_ID).getResourceId())) {
+            final var content = session.readContent(RESOURCE_ID);
+            assertNull(content.getHeaders().getMimeType());
+            final Model model = ModelFactory.createDefaultModel();
+            RDFDataMgr.read(model, content.getContentStream().orElseThrow(), RdfStorageFormat.NTRIPLES.getLang());
+            assertEquals(1, model.size());
+        }
+    }
+
+    @Test
+    public void testMigrateVersioned() {
+        writeResource(RESOURCE_ID, BASIC_CONTAINER.getURI(), null, TRIPLES);
+        ocflPropsConfig.setRdfStorageFormatMigrationVersioned(true);
+
+        OcflPersistentStorageUtils.setRdfStorageFormat(RdfStorageFormat.THRIFT);
+        assertEquals(1, migrator.migrate());
+
+        try (final var session = sessionFactory.newSession(FedoraId.create(RESOURCE_ID).getResourceId())) {
+            assertEquals(RdfStorageFormat.THRIFT.getMimeType(), session.readHeaders(RESOURCE_ID).getMimeType());
+            assertEquals(2, session.listVersions(RESOURCE_ID).size());
+        }
+    }
+
+    @Test
+    public void testUnversionedMigrationIsPartOfNextVersion() {
+        writeResource(RESOURCE_ID, BASIC_CONTAINER.getURI(), null, TRIPLES);
+        OcflPersistentStorageUtils.setRdfStorageFormat(RdfStorageFormat.THRIFT);
+        assertEquals(1, migrator.migrate());
+
+        final var ocflId = FedoraId.create(RESOURCE_ID).getResourceId();
+        try (final var session = sessionFactory.newSession(ocflId)) {
+            session.writeHeaders(ResourceHeaders.builder(session.readHeaders(RESOURCE_ID))
+                    .withLastModifiedDate(Instant.now())
+                    .build());
+            session.commit();
+        }
+
+        try (final var session = sessionFactory.newSession(ocflId)) {
+            final var versions = session.listVersions(RESOURCE_ID);
+            assertEquals(2, versions.size());
+            assertNull(session.readHeaders(RESOURCE_ID, versions.get(0).getVersionNumber()).getMimeType());
+            assertEquals(RdfStorageFormat.THRIFT.getMimeType(),
+                    session.readHeaders(RESOURCE_ID, versions.get(1).getVersionNumber()).getMimeType());
+        }
+    }
+
+    private void writeResource(final String id, final String interactionModel, final String mimeType,
+                               final String content) {
+        final var fedoraId = FedoraId.create(id);
+        try (final var session = sessionFactory.newSession(fedoraId.getResourceId())) {
+            final var headers = ResourceHeaders.builder()
+                    .withId(id)
+                    .withParent(FedoraId.getRepositoryRootId().getFullId())
+                    .withInteractionModel(interactionModel)
+                    .withMimeType(mimeType)
+                    .withObjectRoot(true)
+                    .withCreatedDate(Instant.now())
+                    .withLastModifiedDate(Instant.now())
+                    .withStateToken("state")
+                    .withHeadersVersion("1.0")
+                    .build();
+            session.writeResource(headers, new ByteArrayInputStream(content.getBytes(UTF_8)));
+            session.commit();
+        }
+    }
+}
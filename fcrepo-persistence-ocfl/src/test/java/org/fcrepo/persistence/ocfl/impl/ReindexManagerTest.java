@@ -6,12 +6,21 @@
 package org.fcrepo.persistence.ocfl.impl;
 
 import static org.fcrepo.kernel.api.FedoraTypes.FEDORA_ID_PREFIX;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
 
 import org.fcrepo.common.db.DbTransactionExecutor;
 import org.fcrepo.kernel.api.Transaction;
+import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -63,6 +72,34 @@ public class ReindexManagerTest extends AbstractReindexerTest {
         reindexManager.shutdown();
 
         verify(reindexService).indexOcflObject(any(Transaction.class), eq(FEDORA_ID_PREFIX + "/resource1"));
-        verify(reindexService).indexMembership(any(Transaction.class));
+        verify(reindexService).getMembershipContainerIds();
+    }
+
+    @Test
+    public void testIndexMembershipPerContainer() throws Exception {
+        final var container1 = FedoraId.create("container1");
+        final var container2 = FedoraId.create("container2");
+        when(reindexService.getMembershipContainerIds()).thenReturn(List.of(container1, container2));
+
+        reindexManager.start();
+        reindexManager.shutdown();
+
+        verify(reindexService).indexMembership(any(Transaction.class), eq(container1));
+        verify(reindexService).indexMembership(any(Transaction.class), eq(container2));
+        verify(transaction, times(2)).commit();
+    }
+
+    @Test
+    public void testIndexMembershipFailure() throws Exception {
+        final var container1 = FedoraId.create("container1");
+        when(reindexService.getMembershipContainerIds()).thenReturn(List.of(container1));
+        doThrow(new RepositoryRuntimeException("failed")).when(reindexService)
+                .indexMembership(any(Transaction.class), eq(container1));
+
+        assertThrows(RepositoryRuntimeException.class, () -> reindexManager.start());
+        reindexManager.shutdown();
+
+        verify(transaction).rollback();
+        verify(transaction, never()).commit();
     }
 }
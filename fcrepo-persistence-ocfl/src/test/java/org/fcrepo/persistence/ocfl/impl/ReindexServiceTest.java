@@ -25,6 +25,7 @@ import static org.springframework.test.util.ReflectionTestUtils.setField;
 import io.ocfl.api.OcflRepository;
 import org.fcrepo.common.db.DbTransactionExecutor;
 import org.fcrepo.config.FedoraPropsConfig;
+import org.fcrepo.kernel.api.BinaryDigestIndex;
 import org.fcrepo.kernel.api.RdfStream;
 import org.fcrepo.kernel.api.RepositoryInitializationStatus;
 import org.fcrepo.kernel.api.Transaction;
@@ -82,6 +83,9 @@ public class ReindexServiceTest extends AbstractReindexerTest {
     @Mock
     private RepositoryInitializationStatus initializationStatus;
 
+    @Mock
+    private BinaryDigestIndex binaryDigestIndex;
+
     private final FedoraId resource1 = FedoraId.create("info:fedora/resource1");
     private final FedoraId resource2 =  FedoraId.create(resource1 + "/resource2");
 
@@ -96,6 +100,7 @@ public class ReindexServiceTest extends AbstractReindexerTest {
         reindexService = new ReindexService();
         reindexService.setMembershipPageSize(5);
         setField(reindexService, "membershipService", membershipService);
+        setField(reindexService, "binaryDigestIndex", binaryDigestIndex);
         setField(reindexService, "referenceService", referenceService);
         setField(reindexService, "resourceFactory", resourceFactory);
         setField(reindexService, "searchIndex", searchIndex);
@@ -166,7 +171,10 @@ public class ReindexServiceTest extends AbstractReindexerTest {
         verify(searchIndex, times(2)).addUpdateIndex(
                 any(Transaction.class), any(org.fcrepo.kernel.api.models.ResourceHeaders.class), anyList());
 
-        verify(transaction, times(2)).commit();
+        verify(binaryDigestIndex).removeDigests(parentId);
+        verify(binaryDigestIndex).removeDigests(childId);
+
+        verify(transaction, times(1)).commit();
         verify(searchIndex, times(2)).doSearch(any(SearchParameters.class));
     }
 
@@ -234,7 +242,7 @@ public class ReindexServiceTest extends AbstractReindexerTest {
         verify(searchIndex, times(2)).addUpdateIndex(
                 any(Transaction.class), any(org.fcrepo.kernel.api.models.ResourceHeaders.class), anyList());
 
-        verify(transaction, times(2)).commit();
+        verify(transaction, times(1)).commit();
         verify(searchIndex, times(2)).doSearch(any(SearchParameters.class));
     }
 
@@ -306,7 +314,7 @@ public class ReindexServiceTest extends AbstractReindexerTest {
         verify(searchIndex, times(numberContainers)).addUpdateIndex(
                 any(Transaction.class), any(org.fcrepo.kernel.api.models.ResourceHeaders.class), anyList());
 
-        verify(transaction, times(numberContainers + 1)).commit();
+        verify(transaction, times(numberContainers)).commit();
         verify(searchIndex, times(2)).doSearch(any(SearchParameters.class));
     }
 
@@ -340,7 +348,7 @@ public class ReindexServiceTest extends AbstractReindexerTest {
                 any(Instant.class), isNull());
         verify(searchIndex, times(2)).addUpdateIndex(any(Transaction.class), isA(
                 org.fcrepo.kernel.api.models.ResourceHeaders.class), anyList());
-        verify(transaction, times(2)).commit();
+        verify(transaction, times(1)).commit();
     }
 
     @Test
@@ -371,7 +379,7 @@ public class ReindexServiceTest extends AbstractReindexerTest {
                 eq(resource1), any(Instant.class), isNull());
         verify(containmentIndex).addContainedBy(any(Transaction.class), eq(resource1), eq(resource2),
                 any(Instant.class), isNull());
-        verify(transaction, times(3)).commit();
+        verify(transaction, times(2)).commit();
         verify(searchIndex, times(2)).addUpdateIndex(any(Transaction.class),
                 isA(ResourceHeaders.class), anyList());
     }
@@ -413,7 +421,7 @@ public class ReindexServiceTest extends AbstractReindexerTest {
                 eq(resource1), any(Instant.class), isNull());
         verify(containmentIndex, never()).addContainedBy(any(Transaction.class), eq(resource1), eq(resource2),
                 any(Instant.class), isNull());
-        verify(transaction, times(2)).commit();
+        verify(transaction, times(1)).commit();
         verify(searchIndex, times(1)).addUpdateIndex(
                 any(Transaction.class), isA(ResourceHeaders.class), anyList());
     }
@@ -446,7 +454,8 @@ public class ReindexServiceTest extends AbstractReindexerTest {
 
         verify(containmentIndex, times(numberContainers)).addContainedBy(any(Transaction.class),
                 eq(FedoraId.getRepositoryRootId()), any(FedoraId.class), any(Instant.class), isNull());
-        verify(transaction, times(numberContainers + 1)).commit();
+        // One commit per object, plus one per Direct and Indirect container membership transaction
+        verify(transaction, times(numberContainers * 3)).commit();
         verify(searchIndex, times(numberContainers)).addUpdateIndex(any(Transaction.class), isA(
                 org.fcrepo.kernel.api.models.ResourceHeaders.class), anyList());
         verify(membershipService, times(numberContainers * 2)).populateMembershipHistory(any(Transaction.class),
@@ -493,5 +502,6 @@ public class ReindexServiceTest extends AbstractReindexerTest {
         verify(referenceService).reset();
         verify(searchIndex).reset();
         verify(membershipService).reset();
+        verify(binaryDigestIndex).reset();
     }
 }
@@ -0,0 +1,99 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.persistence.ocfl.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.fcrepo.storage.ocfl.OcflObjectSession;
+import org.fcrepo.storage.ocfl.OcflVersionInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+/**
+ * @author fcrepo
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+public class VersionTimelineCacheTest {
+
+    private static final String OCFL_ID = "info:fedora/object";
+
+    private static final String RESOURCE_ID = "info:fedora/object/child";
+
+    private static final Instant V1 = Instant.parse("2020-03-09T17:21:17Z");
+
+    private static final Instant V2 = Instant.parse("2020-03-09T17:21:18Z");
+
+    @Mock
+    private OcflObjectSession session;
+
+    private VersionTimelineCache cache;
+
+    @BeforeEach
+    public void setup() {
+        cache = new VersionTimelineCache(16, 10);
+        when(session.ocflObjectId()).thenReturn(OCFL_ID);
+    }
+
+    @Test
+    public void testTimelineIsCached() {
+        when(session.listVersions(RESOURCE_ID)).thenReturn(List.of(version("v1", V1), version("v2", V2)));
+
+        final var timeline = cache.getTimeline(session, RESOURCE_ID);
+        assertEquals("v1", timeline.get(V1));
+        assertEquals("v2", timeline.get(V2));
+        assertEquals(V1, timeline.floorKey(V2.minusMillis(1)));
+
+        cache.getTimeline(session, RESOURCE_ID);
+        verify(session, times(1)).listVersions(RESOURCE_ID);
+    }
+
+    @Test
+    public void testMostRecentVersionWinsForSameTimestamp() {
+        when(session.listVersions(RESOURCE_ID)).thenReturn(List.of(version("v1", V1), version("v2", V1)));
+
+        final var timeline = cache.getTimeline(session, RESOURCE_ID);
+        assertEquals(1, timeline.size());
+        assertEquals("v2", timeline.get(V1));
+    }
+
+    @Test
+    public void testInvalidate() {
+        when(session.listVersions(RESOURCE_ID)).thenReturn(List.of(version("v1", V1)));
+        assertEquals(1, cache.getTimeline(session, RESOURCE_ID).size());
+
+        when(session.listVersions(RESOURCE_ID)).thenReturn(List.of(version("v1", V1), version("v2", V2)));
+        cache.invalidate(OCFL_ID);
+
+        assertEquals(2, cache.getTimeline(session, RESOURCE_ID).size());
+        verify(session, times(2)).listVersions(RESOURCE_ID);
+    }
+
+    @Test
+    public void testEmptyTimelineNotCached() {
+        when(session.listVersions(RESOURCE_ID)).thenReturn(List.of());
+
+        assertTrue(cache.getTimeline(session, RESOURCE_ID).isEmpty());
+        assertTrue(cache.getTimeline(session, RESOURCE_ID).isEmpty());
+        verify(session, times(2)).listVersions(RESOURCE_ID);
+    }
+
+    private static OcflVersionInfo version(final String versionNumber, final Instant created) {
+        return new OcflVersionInfo(RESOURCE_ID, OCFL_ID, versionNumber, created);
+    }
+}
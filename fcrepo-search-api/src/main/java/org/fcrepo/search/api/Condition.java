@@ -74,8 +74,14 @@ public class Condition {
      */
     final static Pattern CONDITION_REGEX = Pattern.compile("([a-zA-Z0-9_]+)([><=]|<=|>=)([^><=].*)");
 
+    /* A regex for parsing a condition on the values of an indexed property, which follows the format
+     * <[property_uri]>[operation][object]
+     */
+    final static Pattern PROPERTY_CONDITION_REGEX = Pattern.compile("<([^<>\\s]+)>([><=]|<=|>=)([^><=].*)");
+
 
     private Field field;
+    private String property;
     private Operator operator;
     private String object;
 
@@ -92,15 +98,37 @@ public class Condition {
         this.object = object;
     }
 
+    /**
+     * Internal constructor for a condition on the values of a property
+     *
+     * @param property The property URI (condition subject)
+     * @param operator The operator (condition predicate)
+     * @param object   The object (condition object)
+     */
+    private Condition(final String property, final Operator operator, final String object) {
+        this.property = property;
+        this.operator = operator;
+        this.object = object;
+    }
+
     /**
      * Field accessor
      *
-     * @return the field
+     * @return the field, or null if the condition is on the values of a property
      */
     public Field getField() {
         return field;
     }
 
+    /**
+     * Property accessor
+     *
+     * @return the URI of the property whose values the condition applies to, or null if the condition is on a field
+     */
+    public String getProperty() {
+        return property;
+    }
+
     /**
      * Operator accessor
      * @return the operator
@@ -118,6 +146,9 @@ public class Condition {
 
     @Override
     public String toString() {
+        if (property != null) {
+            return "<" + property + ">" + operator + object;
+        }
         return this.field.toString().toLowerCase() + operator + object;
     }
 
@@ -128,6 +159,12 @@ public class Condition {
      * @throws InvalidConditionExpressionException if we can't parse the string into a Condition.
      */
     public static Condition fromExpression(final String expression) throws InvalidConditionExpressionException {
+        final var propertyMatcher = PROPERTY_CONDITION_REGEX.matcher(expression);
+        if (propertyMatcher.matches()) {
+            final var operation = Operator.fromString(propertyMatcher.group(2));
+            return fromProperty(propertyMatcher.group(1), operation, propertyMatcher.group(3));
+        }
+
         final var m = CONDITION_REGEX.matcher(expression);
         if (m.matches()) {
             final var field = Field.fromString(m.group(1));
@@ -142,4 +179,15 @@ public class Condition {
     public static Condition fromEnums(final Field field, final Operator operator, final String expression) {
         return new Condition(field, operator, expression);
     }
+
+    /**
+     * Creates a condition on the values of an indexed property.
+     * @param property The property URI
+     * @param operator The operator
+     * @param expression The value compared to the values of the property
+     * @return The condition
+     */
+    public static Condition fromProperty(final String property, final Operator operator, final String expression) {
+        return new Condition(property, operator, expression);
+    }
 }
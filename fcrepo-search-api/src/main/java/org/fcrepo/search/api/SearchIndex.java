@@ -8,6 +8,7 @@ package org.fcrepo.search.api;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.models.ResourceHeaders;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 
 import java.net.URI;
 import java.util.List;
@@ -35,6 +36,15 @@ public interface SearchIndex {
     void addUpdateIndex(Transaction transaction, ResourceHeaders resourceHeaders,
                                List<URI> rdfTypes);
 
+    /**
+     * Updates the index with the resource header information, after an update of the resource's triples which
+     * changed them by the given delta. Indexed values the delta leaves unchanged may be kept as they are.
+     * @param transaction The externally generated transaction.
+     * @param resourceHeaders The resource headers associated with the resource
+     * @param delta The triples added to and removed from the resource
+     */
+    void addUpdateIndex(Transaction transaction, ResourceHeaders resourceHeaders, RdfDelta delta);
+
     /**
      * Removes indexed fields associated with the specified Fedora ID
      *
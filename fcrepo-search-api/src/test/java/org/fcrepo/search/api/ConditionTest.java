@@ -6,6 +6,7 @@
 package org.fcrepo.search.api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import org.fcrepo.search.api.Condition.Field;
@@ -57,13 +58,30 @@ public class ConditionTest {
             "fedora_id>>value",
             "=value",
             "fedora_id=",
-            "fedora_id==>="
+            "fedora_id==>=",
+            "<http://purl.org/dc/terms/identifier=value",
+            "<>=value"
     })
     public void testFromExpressionInvalid(final String expression) {
         assertThrows(InvalidConditionExpressionException.class,
                 () -> Condition.fromExpression(expression));
     }
 
+    @ParameterizedTest
+    @CsvSource({
+            "<http://purl.org/dc/terms/identifier>=abc*, EQ, abc*",
+            "<http://purl.org/dc/terms/identifier><=10, LTE, 10",
+            "<http://purl.org/dc/terms/identifier>>2021-01-01, GT, 2021-01-01"
+    })
+    public void testFromExpressionProperty(final String expression, final String opStr, final String object)
+            throws InvalidConditionExpressionException {
+        final var condition = Condition.fromExpression(expression);
+        assertNull(condition.getField());
+        assertEquals("http://purl.org/dc/terms/identifier", condition.getProperty());
+        assertEquals(Operator.valueOf(opStr), condition.getOperator());
+        assertEquals(object, condition.getObject());
+    }
+
     @Test
     public void testFromEnums() {
         final var condition = Condition.fromEnums(Field.MODIFIED, Operator.GT, "2021-01-01");
@@ -76,6 +94,8 @@ public class ConditionTest {
     public void testToString() {
         final var condition = Condition.fromEnums(Field.CONTENT_SIZE, Operator.GTE, "1024");
         assertEquals("content_sizeGTE1024", condition.toString());
+        assertEquals("<http://purl.org/dc/terms/identifier>EQabc",
+                Condition.fromProperty("http://purl.org/dc/terms/identifier", Operator.EQ, "abc").toString());
     }
 
     @ParameterizedTest
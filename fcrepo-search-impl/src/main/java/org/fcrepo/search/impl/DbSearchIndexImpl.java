@@ -9,10 +9,16 @@ import static java.time.format.DateTimeFormatter.ISO_INSTANT;
 import static java.util.stream.Collectors.toList;
 import static org.fcrepo.common.db.DbPlatform.POSTGRESQL;
 import static org.fcrepo.common.db.DbPlatform.H2;
+import static org.fcrepo.kernel.api.RdfLexicon.NON_RDF_SOURCE;
 import static org.fcrepo.search.api.Condition.Field.CONTENT_SIZE;
 import static org.fcrepo.search.api.Condition.Field.FEDORA_ID;
 import static org.fcrepo.search.api.Condition.Field.MIME_TYPE;
 import static org.fcrepo.search.api.Condition.Field.RDF_TYPE;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.MIME_TYPE_STAT;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.RDF_TYPE_STAT;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.RECONCILED_KEY;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.RESOURCE_STAT;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.STATE_STAT;
 
 import java.net.URI;
 import java.sql.ResultSet;
@@ -24,10 +30,13 @@ import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.inject.Inject;
@@ -35,30 +44,37 @@ import javax.sql.DataSource;
 
 import com.google.common.collect.Sets;
 import org.fcrepo.common.db.DbPlatform;
+import org.fcrepo.config.FedoraPropsConfig;
 import org.fcrepo.kernel.api.RepositoryInitializationStatus;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.FedoraResource;
 import org.fcrepo.kernel.api.models.ResourceFactory;
 import org.fcrepo.kernel.api.models.ResourceHeaders;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 import org.fcrepo.search.api.Condition;
 import org.fcrepo.search.api.InvalidQueryException;
 import org.fcrepo.search.api.PaginationInfo;
 import org.fcrepo.search.api.SearchIndex;
 import org.fcrepo.search.api.SearchParameters;
 import org.fcrepo.search.api.SearchResult;
+import org.apache.jena.vocabulary.RDF;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.context.annotation.Role;
 import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 /**
  * An implementation of the {@link SearchIndex}
@@ -77,6 +93,7 @@ public class DbSearchIndexImpl implements SearchIndex {
     private static final String SEARCH_RESOURCE_RDF_TYPE_TRANSACTIONS_TABLE = "search_resource_rdf_type_transactions";
     public static final String SEARCH_RESOURCE_RDF_TYPE_TABLE = "search_resource_rdf_type";
     public static final String SEARCH_RDF_TYPE_TABLE = "search_rdf_type";
+    public static final String SEARCH_STATS_TABLE = "search_stats";
 
     private static final String FEDORA_ID_COLUMN = "fedora_id";
     private static final String MODIFIED_COLUMN = "modified";
@@ -88,6 +105,11 @@ public class DbSearchIndexImpl implements SearchIndex {
     public static final String ID_COLUMN = "id";
     private static final String OPERATION_COLUMN = "operation";
     private static final String RDF_TYPE_URI_COLUMN = "rdf_type_uri";
+    private static final String STAT_TYPE_COLUMN = "stat_type";
+    private static final String STAT_KEY_COLUMN = "stat_key";
+    private static final String SLOT_COLUMN = "slot";
+    private static final String RESOURCE_COUNT_COLUMN = "resource_count";
+    private static final String BYTE_COUNT_COLUMN = "byte_count";
 
     private static final String FEDORA_ID_PARAM = "fedora_id";
     private static final String RDF_TYPE_ID_PARAM = "rdf_type_id";
@@ -100,6 +122,14 @@ public class DbSearchIndexImpl implements SearchIndex {
 
     public static final String TRANSACTION_ID_PARAM = "transaction_id";
     private static final String OPERATION_PARAM = "operation";
+    private static final String STAT_TYPE_PARAM = "stat_type";
+    private static final String STAT_KEY_PARAM = "stat_key";
+    private static final String SLOT_PARAM = "slot";
+    private static final String RESOURCE_COUNT_PARAM = "resource_count";
+    private static final String BYTE_COUNT_PARAM = "byte_count";
+
+    // Each count is spread over several rows, so that concurrent updates do not all wait on the same row
+    private static final int STATS_SLOTS = 16;
 
     private static final String POSTGRES_GROUP_CONCAT_FUNCTION = "STRING_AGG(b.rdf_type_uri, ',')";
     private static final String DEFAULT_GROUP_CONCAT_FUNCTION = "GROUP_CONCAT(distinct b.rdf_type_uri " +
@@ -400,6 +430,75 @@ public class DbSearchIndexImpl implements SearchIndex {
             DbPlatform.POSTGRESQL, DELETE_RDF_TYPE_ASSOCIATIONS_POSTGRES
     );
 
+    // Concurrent H2 merges of a new row collide on its key, so the rows are created first and then only updated
+    private static final String INSERT_STATS_ROW_H2 =
+            "INSERT INTO " + SEARCH_STATS_TABLE + " (" + STAT_TYPE_COLUMN + ", " + STAT_KEY_COLUMN + ", " +
+                    SLOT_COLUMN + ", " + RESOURCE_COUNT_COLUMN + ", " + BYTE_COUNT_COLUMN + ") SELECT CAST(:" +
+                    STAT_TYPE_PARAM + " AS VARCHAR), CAST(:" + STAT_KEY_PARAM + " AS VARCHAR), CAST(:" +
+                    SLOT_PARAM + " AS INT), 0, 0 WHERE NOT EXISTS (SELECT 1 FROM " + SEARCH_STATS_TABLE +
+                    " WHERE " + STAT_TYPE_COLUMN + " = :" + STAT_TYPE_PARAM + " AND " + STAT_KEY_COLUMN + " = :" +
+                    STAT_KEY_PARAM + " AND " + SLOT_COLUMN + " = :" + SLOT_PARAM + ")";
+
+    private static final String UPDATE_STATS_H2 =
+            "UPDATE " + SEARCH_STATS_TABLE + " SET " + RESOURCE_COUNT_COLUMN + " = " + RESOURCE_COUNT_COLUMN +
+                    " + :" + RESOURCE_COUNT_PARAM + ", " + BYTE_COUNT_COLUMN + " = " + BYTE_COUNT_COLUMN + " + :" +
+                    BYTE_COUNT_PARAM + " WHERE " + STAT_TYPE_COLUMN + " = :" + STAT_TYPE_PARAM + " AND " +
+                    STAT_KEY_COLUMN + " = :" + STAT_KEY_PARAM + " AND " + SLOT_COLUMN + " = :" + SLOT_PARAM;
+
+    private static final String UPSERT_STATS_MYSQL_MARIA =
+            "INSERT INTO " + SEARCH_STATS_TABLE + " (" + STAT_TYPE_COLUMN + ", " + STAT_KEY_COLUMN + ", " +
+                    SLOT_COLUMN + ", " + RESOURCE_COUNT_COLUMN + ", " + BYTE_COUNT_COLUMN + ") VALUES (:" +
+                    STAT_TYPE_PARAM + ", :" + STAT_KEY_PARAM + ", :" + SLOT_PARAM + ", :" + RESOURCE_COUNT_PARAM +
+                    ", :" + BYTE_COUNT_PARAM + ") ON DUPLICATE KEY UPDATE " +
+                    RESOURCE_COUNT_COLUMN + " = " + RESOURCE_COUNT_COLUMN + " + VALUES(" + RESOURCE_COUNT_COLUMN +
+                    "), " + BYTE_COUNT_COLUMN + " = " + BYTE_COUNT_COLUMN + " + VALUES(" + BYTE_COUNT_COLUMN + ")";
+
+    private static final String UPSERT_STATS_POSTGRESQL =
+            "INSERT INTO " + SEARCH_STATS_TABLE + " (" + STAT_TYPE_COLUMN + ", " + STAT_KEY_COLUMN + ", " +
+                    SLOT_COLUMN + ", " + RESOURCE_COUNT_COLUMN + ", " + BYTE_COUNT_COLUMN + ") VALUES (:" +
+                    STAT_TYPE_PARAM + ", :" + STAT_KEY_PARAM + ", :" + SLOT_PARAM + ", :" + RESOURCE_COUNT_PARAM +
+                    ", :" + BYTE_COUNT_PARAM + ") ON CONFLICT (" + STAT_TYPE_COLUMN + ", " + STAT_KEY_COLUMN + ", " +
+                    SLOT_COLUMN + ") DO UPDATE SET " + RESOURCE_COUNT_COLUMN + " = " + SEARCH_STATS_TABLE + "." +
+                    RESOURCE_COUNT_COLUMN + " + EXCLUDED." + RESOURCE_COUNT_COLUMN + ", " + BYTE_COUNT_COLUMN +
+                    " = " + SEARCH_STATS_TABLE + "." + BYTE_COUNT_COLUMN + " + EXCLUDED." + BYTE_COUNT_COLUMN;
+
+    private static final Map<DbPlatform, String> UPSERT_STATS_MAPPING = Map.of(
+            H2, UPDATE_STATS_H2,
+            DbPlatform.MYSQL, UPSERT_STATS_MYSQL_MARIA,
+            DbPlatform.MARIADB, UPSERT_STATS_MYSQL_MARIA,
+            POSTGRESQL, UPSERT_STATS_POSTGRESQL
+    );
+
+    // Marks the counts as matching the index, so that they are not reconciled against a full scan on first use
+    private static final String INSERT_STATS_RECONCILED =
+            "INSERT INTO " + SEARCH_STATS_TABLE + " (" + STAT_TYPE_COLUMN + ", " + STAT_KEY_COLUMN + ", " +
+                    SLOT_COLUMN + ", " + RESOURCE_COUNT_COLUMN + ", " + BYTE_COUNT_COLUMN + ") VALUES ('" +
+                    STATE_STAT + "', '" + RECONCILED_KEY + "', 0, 0, 0)";
+
+    private static final String SELECT_RESOURCE_STATS =
+            "SELECT a." + CONTENT_SIZE_COLUMN + ", a." + MIME_TYPE_COLUMN + ", c." + RDF_TYPE_URI_COLUMN +
+                    " FROM " + SIMPLE_SEARCH_TABLE + " a LEFT JOIN " + SEARCH_RESOURCE_RDF_TYPE_TABLE +
+                    " b ON a." + ID_COLUMN + " = b." + RESOURCE_ID_COLUMN + " LEFT JOIN " + SEARCH_RDF_TYPE_TABLE +
+                    " c ON b." + RDF_TYPE_ID_COLUMN + " = c." + ID_COLUMN + " WHERE a." + FEDORA_ID_COLUMN +
+                    " = :" + FEDORA_ID_PARAM;
+
+    private static final String RESOURCES_IN_TRANSACTION =
+            "a." + FEDORA_ID_COLUMN + " IN (SELECT " + FEDORA_ID_COLUMN + " FROM " +
+                    SIMPLE_SEARCH_TRANSACTIONS_TABLE + " WHERE " + TRANSACTION_ID_COLUMN + " = :" +
+                    TRANSACTION_ID_PARAM + ")";
+
+    private static final String SELECT_TRANSACTION_RDF_TYPE_STATS =
+            "SELECT c." + RDF_TYPE_URI_COLUMN + ", a." + MIME_TYPE_COLUMN + ", count(a." + ID_COLUMN + "), " +
+                    "sum(a." + CONTENT_SIZE_COLUMN + ") FROM " + SIMPLE_SEARCH_TABLE + " a JOIN " +
+                    SEARCH_RESOURCE_RDF_TYPE_TABLE + " b ON a." + ID_COLUMN + " = b." + RESOURCE_ID_COLUMN +
+                    " JOIN " + SEARCH_RDF_TYPE_TABLE + " c ON b." + RDF_TYPE_ID_COLUMN + " = c." + ID_COLUMN +
+                    " WHERE " + RESOURCES_IN_TRANSACTION + " GROUP BY c." + RDF_TYPE_URI_COLUMN + ", a." +
+                    MIME_TYPE_COLUMN;
+
+    private static final String SELECT_TRANSACTION_RESOURCE_STATS =
+            "SELECT count(a." + ID_COLUMN + "), sum(a." + CONTENT_SIZE_COLUMN + ") FROM " + SIMPLE_SEARCH_TABLE +
+                    " a WHERE " + RESOURCES_IN_TRANSACTION;
+
     private static final List<String> COUNT_QUERY_COLUMNS = List.of("count(0) as count");
 
     @Inject
@@ -413,8 +512,18 @@ public class DbSearchIndexImpl implements SearchIndex {
     @Inject
     private RepositoryInitializationStatus initializationStatus;
 
+    @Inject
+    private FedoraPropsConfig fedoraPropsConfig;
+
     private DbPlatform dbPlatForm;
 
+    private SearchPropertyIndex propertyIndex;
+
+    private int transactionBatchSize;
+
+    // The search index changes of long-running transactions not yet written to the transaction tables
+    private final Map<String, SearchTransactionBuffer> transactionBuffers = new ConcurrentHashMap<>();
+
     private final Map<URI, Long> rdfTypeIdCache;
 
     /**
@@ -424,6 +533,9 @@ public class DbSearchIndexImpl implements SearchIndex {
     public void setup() {
         this.dbPlatForm = DbPlatform.fromDataSource(this.dataSource);
         this.jdbcTemplate = new NamedParameterJdbcTemplate(this.dataSource);
+        this.propertyIndex = new SearchPropertyIndex(jdbcTemplate, dbPlatForm,
+                fedoraPropsConfig.getSearchIndexedProperties());
+        this.transactionBatchSize = fedoraPropsConfig.getSearchTransactionBatchSize();
     }
 
     public DbSearchIndexImpl() {
@@ -504,7 +616,7 @@ public class DbSearchIndexImpl implements SearchIndex {
                 .append(String.join(",", returnFields))
                 .append(" FROM ").append(SIMPLE_SEARCH_TABLE).append(" s ");
 
-        conditions.stream().filter(c -> c.getField().equals(RDF_TYPE)).findFirst()
+        conditions.stream().filter(c -> RDF_TYPE.equals(c.getField())).findFirst()
                 .ifPresent(rdfTypeCondition -> {
                     final String rdfTypeOperator = rdfTypeCondition.getObject().contains("*") ? " LIKE " : " = ";
                     sql.append(" JOIN (SELECT srrt.").append(RESOURCE_ID_COLUMN).append(" FROM ")
@@ -563,7 +675,7 @@ public class DbSearchIndexImpl implements SearchIndex {
     private void addRdfTypeParam(final MapSqlParameterSource parameterSource, final List<Condition> conditions) {
         var rdfTypeUriParamValue = "*";
         for (final Condition condition : conditions) {
-            if (condition.getField().equals(RDF_TYPE)) {
+            if (RDF_TYPE.equals(condition.getField())) {
                 rdfTypeUriParamValue = condition.getObject();
                 break;
             }
@@ -578,6 +690,10 @@ public class DbSearchIndexImpl implements SearchIndex {
         final var operation = condition.getOperator();
         var object = condition.getObject();
         final var paramName = "param" + paramCount;
+        if (condition.getProperty() != null) {
+            whereClauses.add(propertyIndex.createWhereClause(condition, paramName, parameterSource));
+            return;
+        }
         if ((field.equals(FEDORA_ID) || field.equals(MIME_TYPE)) &&
                 condition.getOperator().equals(Condition.Operator.EQ)) {
             if (!object.equals("*")) {
@@ -616,7 +732,7 @@ public class DbSearchIndexImpl implements SearchIndex {
         }
     }
 
-    private String convertToSqlLikeWildcard(final String value) {
+    static String convertToSqlLikeWildcard(final String value) {
         return value.replaceAll("_", "\\\\_") // escape underscores
                 .replaceAll("%", "\\\\%") // escape percent signs
                 .replaceAll("(?<!\\\\)\\*", "%") // convert unescaped * to %
@@ -625,7 +741,35 @@ public class DbSearchIndexImpl implements SearchIndex {
 
     @Override
     public void addUpdateIndex(final Transaction transaction, final ResourceHeaders resourceHeaders) {
-        addUpdateIndex(transaction, resourceHeaders, null);
+        addUpdateIndex(transaction, resourceHeaders, (List<URI>) null);
+    }
+
+    @Override
+    public void addUpdateIndex(final Transaction transaction, final ResourceHeaders resourceHeaders,
+                               final RdfDelta delta) {
+        final var fedoraId = resourceHeaders.getId();
+        // Within long-running transactions the rdf types are staged along with the rest of the resource
+        if (delta == null || !transaction.isShortLived() || fedoraId.isAcl() || fedoraId.isMemento()
+                || !initializationStatus.isInitializationComplete()
+                || delta.anyMatch(t -> RDF.type.asNode().equals(t.getPredicate())
+                        || propertyIndex.isIndexed(t.getPredicate()))) {
+            addUpdateIndex(transaction, resourceHeaders, (List<URI>) null);
+            return;
+        }
+        // The rdf types and indexed properties did not change, so their existing associations are kept
+        LOGGER.debug("Updating search index for {} without its unchanged rdf types", fedoraId);
+        transaction.doInTx(() -> {
+            try {
+                final var stats = new SearchStatsDelta();
+                final var rdfTypes = removeIndexedStats(fedoraId, stats);
+                doUpsertIntoSimpleSearch(fedoraId, resourceHeaders);
+                stats.addResource(getMimeType(resourceHeaders), resourceHeaders.getContentSize(), rdfTypes, 1);
+                updateStats(stats);
+            } catch (final Exception e) {
+                throw new RepositoryRuntimeException("Failed add/updated the search index for : " +
+                        fedoraId.getFullId(), e);
+            }
+        });
     }
 
     @Override
@@ -653,14 +797,17 @@ public class DbSearchIndexImpl implements SearchIndex {
         final var fullId = fedoraId.getFullId();
         try {
             final List<URI> rdfTypes;
+            FedoraResource fedoraResource = null;
             if (providedRdfTypes != null) {
                 rdfTypes = new ArrayList<>(Sets.newHashSet(providedRdfTypes));
             } else {
                 // If no RDF types were provided, we need to fetch the resource to get them.
-                final var fedoraResource = resourceFactory.getResource(transaction, resourceHeaders);
+                fedoraResource = resourceFactory.getResource(transaction, resourceHeaders);
                 rdfTypes = new ArrayList<>(Sets.newHashSet(fedoraResource.getTypes()));
             }
 
+            final var stats = new SearchStatsDelta();
+            removeIndexedStats(fedoraId, stats);
             final Long searchId = doUpsertIntoSimpleSearch(fedoraId, resourceHeaders);
             insertRdfTypes(rdfTypes);
 
@@ -669,6 +816,15 @@ public class DbSearchIndexImpl implements SearchIndex {
                 deleteRdfTypeAssociations(fedoraId);
             }
             insertRdfTypeAssociations(rdfTypes, searchId);
+            if (propertyIndex.isEnabled()) {
+                if (fedoraResource == null) {
+                    fedoraResource = resourceFactory.getResource(transaction, resourceHeaders);
+                }
+                propertyIndex.replaceValues(searchId, propertyIndex.extractValues(fedoraResource.getTriples()));
+            }
+            stats.addResource(getMimeType(resourceHeaders), resourceHeaders.getContentSize(),
+                    rdfTypes.stream().map(URI::toString).collect(toList()), 1);
+            updateStats(stats);
         } catch (final Exception e) {
             throw new RepositoryRuntimeException("Failed add/updated the search index for : " + fullId, e);
         }
@@ -701,34 +857,138 @@ public class DbSearchIndexImpl implements SearchIndex {
                                          final FedoraId fedoraId) {
         final var fullId = fedoraId.getFullId();
         try {
-            final var txId = transaction.getId();
             final var fedoraResource = resourceFactory.getResource(transaction, resourceHeaders);
-            doUpsertIntoTransactionTables(txId, fedoraId, resourceHeaders, "add");
-            // add rdf type associations to the rdf type association table
             final var rdfTypes = Sets.newHashSet(fedoraResource.getTypes());
-            insertRdfTypeAssociationsInTransaction(rdfTypes, txId, fedoraId);
+            final var propertyValues = propertyIndex.isEnabled() ?
+                    propertyIndex.extractValues(fedoraResource.getTriples()) : null;
+            bufferTransactionChange(transaction.getId(), fedoraId,
+                    new SearchTransactionBuffer.Change("add", resourceHeaders, rdfTypes, propertyValues));
         } catch (final Exception e) {
             throw new RepositoryRuntimeException("Failed add/updated the search index for : " + fullId, e);
         }
     }
 
     /**
-     * Do the upsert action to the transaction table.
+     * Buffer a change made in a long-running transaction, writing the buffered changes to the transaction tables
+     * once enough resources have changed.
+     *
+     * @param txId     the transaction id
+     * @param fedoraId the resource
+     * @param change   the change
+     */
+    private void bufferTransactionChange(final String txId, final FedoraId fedoraId,
+                                         final SearchTransactionBuffer.Change change) {
+        final var buffer = transactionBuffers.computeIfAbsent(txId, id -> new SearchTransactionBuffer());
+        if (buffer.add(fedoraId, change) >= transactionBatchSize) {
+            flushTransactionBuffer(txId);
+        }
+    }
+
+    /**
+     * Write the buffered changes of a long-running transaction to the transaction tables with batch statements.
+     *
+     * @param txId the transaction id
+     */
+    private void flushTransactionBuffer(final String txId) {
+        final var buffer = transactionBuffers.get(txId);
+        if (buffer == null) {
+            return;
+        }
+        // Changes are written in the order they were buffered, so that a later flush never precedes an earlier one
+        synchronized (buffer) {
+            final var changes = buffer.drain();
+            if (changes.isEmpty()) {
+                return;
+            }
+            LOGGER.debug("Writing search index changes of {} resources in tx {}", changes.size(), txId);
+            final List<MapSqlParameterSource> upserts = new ArrayList<>(changes.size());
+            final List<MapSqlParameterSource> typedResources = new ArrayList<>();
+            final List<MapSqlParameterSource> rdfTypeAssociations = new ArrayList<>();
+            final Map<FedoraId, Set<SearchPropertyIndex.PropertyValue>> propertyValues = new LinkedHashMap<>();
+            changes.forEach((fedoraId, change) -> {
+                upserts.add(transactionUpsertParams(txId, fedoraId, change.getResourceHeaders(),
+                        change.getOperation()));
+                if (change.getRdfTypes() != null) {
+                    typedResources.add(new MapSqlParameterSource()
+                            .addValue(TRANSACTION_ID_PARAM, txId)
+                            .addValue(FEDORA_ID_PARAM, fedoraId.getFullId()));
+                    for (final var rdfType : change.getRdfTypes()) {
+                        rdfTypeAssociations.add(new MapSqlParameterSource()
+                                .addValue(TRANSACTION_ID_PARAM, txId)
+                                .addValue(FEDORA_ID_PARAM, fedoraId.getFullId())
+                                .addValue(RDF_TYPE_URI_PARAM, rdfType.toString()));
+                    }
+                }
+                if (change.getPropertyValues() != null) {
+                    propertyValues.put(fedoraId, change.getPropertyValues());
+                }
+            });
+            try {
+                jdbcTemplate.batchUpdate(TRANSACTION_UPSERT_MAPPING.get(dbPlatForm),
+                        upserts.toArray(new MapSqlParameterSource[0]));
+                // replace the rdf type associations of the resources in the rdf type association table
+                if (!typedResources.isEmpty()) {
+                    jdbcTemplate.batchUpdate(DELETE_RESOURCE_TYPE_ASSOCIATIONS_IN_TRANSACTION,
+                            typedResources.toArray(new MapSqlParameterSource[0]));
+                }
+                if (!rdfTypeAssociations.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_RDF_TYPE_ASSOC_IN_TRANSACTION,
+                            rdfTypeAssociations.toArray(new MapSqlParameterSource[0]));
+                }
+                if (!propertyValues.isEmpty()) {
+                    propertyIndex.stageValues(txId, propertyValues);
+                }
+            } catch (final RuntimeException e) {
+                buffer.restore(changes);
+                throw e;
+            }
+            // The changes are only written once the db transaction commits, it may still be rolled back and retried
+            afterDbTransaction(() -> buffer.written(changes), () -> buffer.restore(changes));
+        }
+    }
+
+    /**
+     * Run an action once the current db transaction completes, or right away when there is none.
+     *
+     * @param onCommit the action to run if the db transaction commits
+     * @param onRollback the action to run if the db transaction is rolled back
+     */
+    private static void afterDbTransaction(final Runnable onCommit, final Runnable onRollback) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onCommit.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(final int status) {
+                if (status == STATUS_COMMITTED) {
+                    onCommit.run();
+                } else {
+                    onRollback.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Create the parameters of the upsert into the transaction table.
      *
      * @param txId            the transaction id
      * @param fedoraId        the resourceId
      * @param resourceHeaders the resources headers
      * @param operation       the operation to perform.
+     * @return the parameters
      */
-    private void doUpsertIntoTransactionTables(final String txId, final FedoraId fedoraId,
-                                               final ResourceHeaders resourceHeaders, final String operation) {
+    private MapSqlParameterSource transactionUpsertParams(final String txId, final FedoraId fedoraId,
+                                                          final ResourceHeaders resourceHeaders,
+                                                          final String operation) {
         var mimetype = "";
         long contentSize = 0;
         var modified = Instant.now();
         var created = Instant.now();
         if (resourceHeaders != null) {
             contentSize = resourceHeaders.getContentSize();
-            mimetype = resourceHeaders.getMimeType();
+            mimetype = getMimeType(resourceHeaders);
             modified = resourceHeaders.getLastModifiedDate();
             created = resourceHeaders.getCreatedDate();
         }
@@ -741,7 +1001,20 @@ public class DbSearchIndexImpl implements SearchIndex {
         params.addValue(MODIFIED_PARAM, formatInstant(modified));
         params.addValue(OPERATION_PARAM, operation);
         params.addValue(TRANSACTION_ID_PARAM, txId);
-        jdbcTemplate.update(TRANSACTION_UPSERT_MAPPING.get(dbPlatForm), params);
+        return params;
+    }
+
+    /**
+     * RDF sources may record the serialization of their stored content as a mime type, which is not indexed.
+     *
+     * @param resourceHeaders the resources headers
+     * @return the mime type of a binary, or null for other resources
+     */
+    private static String getMimeType(final ResourceHeaders resourceHeaders) {
+        if (NON_RDF_SOURCE.getURI().equals(resourceHeaders.getInteractionModel())) {
+            return resourceHeaders.getMimeType();
+        }
+        return null;
     }
 
     /**
@@ -759,7 +1032,7 @@ public class DbSearchIndexImpl implements SearchIndex {
         var created = Instant.now();
         if (resourceHeaders != null) {
             contentSize = resourceHeaders.getContentSize();
-            mimetype = resourceHeaders.getMimeType();
+            mimetype = getMimeType(resourceHeaders);
             modified = resourceHeaders.getLastModifiedDate();
             created = resourceHeaders.getCreatedDate();
         }
@@ -787,27 +1060,6 @@ public class DbSearchIndexImpl implements SearchIndex {
         return Timestamp.from(instant.truncatedTo(ChronoUnit.MILLIS));
     }
 
-    private void insertRdfTypeAssociationsInTransaction(final Set<URI> rdfTypes,
-                                                        final String txId,
-                                                        final FedoraId fedoraId) {
-        //remove and add type associations for the fedora id.
-        final List<MapSqlParameterSource> parameterSourcesList = new ArrayList<>(rdfTypes.size());
-        final var parameterSource = new MapSqlParameterSource();
-        parameterSource.addValue(TRANSACTION_ID_PARAM, txId);
-        parameterSource.addValue(FEDORA_ID_PARAM, fedoraId.getFullId());
-        jdbcTemplate.update(DELETE_RESOURCE_TYPE_ASSOCIATIONS_IN_TRANSACTION, parameterSource);
-
-        for (final var rdfType : rdfTypes) {
-            final var assocParams = new MapSqlParameterSource();
-            assocParams.addValue(TRANSACTION_ID_PARAM, txId);
-            assocParams.addValue(FEDORA_ID_PARAM, fedoraId.getFullId());
-            assocParams.addValue(RDF_TYPE_URI_PARAM, rdfType.toString());
-            parameterSourcesList.add(assocParams);
-        }
-        final MapSqlParameterSource[] psArray = parameterSourcesList.toArray(new MapSqlParameterSource[0]);
-        jdbcTemplate.batchUpdate(INSERT_RDF_TYPE_ASSOC_IN_TRANSACTION, psArray);
-    }
-
     private void deleteRdfTypeAssociations(final FedoraId fedoraId) {
         final var deleteParams = new MapSqlParameterSource();
         deleteParams.addValue(FEDORA_ID_PARAM, fedoraId.getFullId());
@@ -832,6 +1084,83 @@ public class DbSearchIndexImpl implements SearchIndex {
         jdbcTemplate.batchUpdate(INSERT_RDF_TYPE_ASSOC, psArray);
     }
 
+    /**
+     * Remove an indexed resource from the repository statistics.
+     *
+     * @param fedoraId the resource
+     * @param stats the changes to the statistics
+     * @return the indexed rdf types of the resource
+     */
+    private List<String> removeIndexedStats(final FedoraId fedoraId, final SearchStatsDelta stats) {
+        final var rows = jdbcTemplate.queryForList(SELECT_RESOURCE_STATS,
+                Map.of(FEDORA_ID_PARAM, fedoraId.getFullId()));
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        final var contentSize = (Number) rows.getFirst().get(CONTENT_SIZE_COLUMN);
+        final var rdfTypes = rows.stream()
+                .map(row -> (String) row.get(RDF_TYPE_URI_COLUMN))
+                .filter(Objects::nonNull)
+                .collect(toList());
+        stats.addResource((String) rows.getFirst().get(MIME_TYPE_COLUMN),
+                contentSize == null ? 0 : contentSize.longValue(), rdfTypes, -1);
+        return rdfTypes;
+    }
+
+    /**
+     * Add the resources changed by a transaction to the repository statistics, or remove them.
+     *
+     * @param parameterSource the parameters identifying the transaction
+     * @param stats the changes to the statistics
+     * @param sign 1 to add the resources, -1 to remove them
+     */
+    private void collectTransactionStats(final MapSqlParameterSource parameterSource, final SearchStatsDelta stats,
+                                         final int sign) {
+        jdbcTemplate.query(SELECT_TRANSACTION_RDF_TYPE_STATS, parameterSource, (RowCallbackHandler) rs -> {
+            final var rdfType = rs.getString(1);
+            final var mimeType = rs.getString(2);
+            final long resourceCount = sign * rs.getLong(3);
+            final long byteCount = sign * rs.getLong(4);
+            stats.add(RDF_TYPE_STAT, rdfType, resourceCount, byteCount);
+            if (mimeType != null && NON_RDF_SOURCE.getURI().equals(rdfType)) {
+                stats.add(MIME_TYPE_STAT, mimeType, resourceCount, byteCount);
+            }
+        });
+        jdbcTemplate.query(SELECT_TRANSACTION_RESOURCE_STATS, parameterSource, (RowCallbackHandler) rs ->
+                stats.add(RESOURCE_STAT, "", sign * rs.getLong(1), sign * rs.getLong(2)));
+    }
+
+    /**
+     * Apply changes to the counts of the repository statistics.
+     *
+     * @param stats the changes
+     */
+    private void updateStats(final SearchStatsDelta stats) {
+        final int slot = ThreadLocalRandom.current().nextInt(STATS_SLOTS);
+        final List<MapSqlParameterSource> parameterSourcesList = new ArrayList<>();
+        stats.getChanges().forEach((statType, counts) -> counts.forEach((statKey, count) ->
+                parameterSourcesList.add(new MapSqlParameterSource()
+                        .addValue(STAT_TYPE_PARAM, statType)
+                        .addValue(STAT_KEY_PARAM, statKey)
+                        .addValue(SLOT_PARAM, slot)
+                        .addValue(RESOURCE_COUNT_PARAM, count[0])
+                        .addValue(BYTE_COUNT_PARAM, count[1]))));
+        if (parameterSourcesList.isEmpty()) {
+            return;
+        }
+        if (dbPlatForm == H2) {
+            for (final var parameterSource : parameterSourcesList) {
+                try {
+                    jdbcTemplate.update(INSERT_STATS_ROW_H2, parameterSource);
+                } catch (final DuplicateKeyException e) {
+                    // added concurrently
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(UPSERT_STATS_MAPPING.get(dbPlatForm),
+                parameterSourcesList.toArray(new MapSqlParameterSource[0]));
+    }
+
     private Long getRdfTypeId(final URI rdfType) {
         return rdfTypeIdCache.computeIfAbsent(rdfType, uri ->
                 jdbcTemplate.queryForObject(
@@ -846,7 +1175,8 @@ public class DbSearchIndexImpl implements SearchIndex {
         transaction.doInTx(() -> {
             if (!transaction.isShortLived()) {
                 try {
-                    doUpsertIntoTransactionTables(transaction.getId(), fedoraId, null, "delete");
+                    bufferTransactionChange(transaction.getId(), fedoraId,
+                            new SearchTransactionBuffer.Change("delete", null, null, null));
                 } catch (final Exception e) {
                     throw new RepositoryRuntimeException("Failed to remove " + fedoraId + " from search index", e);
                 }
@@ -857,8 +1187,11 @@ public class DbSearchIndexImpl implements SearchIndex {
     }
 
     private void doDirectRemove(final FedoraId fedoraId) {
+        final var stats = new SearchStatsDelta();
+        removeIndexedStats(fedoraId, stats);
         deleteRdfTypeAssociations(fedoraId);
         deleteResource(fedoraId);
+        updateStats(stats);
     }
 
     private void deleteResource(final FedoraId fedoraId) {
@@ -870,14 +1203,22 @@ public class DbSearchIndexImpl implements SearchIndex {
     @Override
     public void reset() {
         rdfTypeIdCache.clear();
+        transactionBuffers.clear();
+        propertyIndex.reset();
 
         executeTruncationBatches(
                 SEARCH_RESOURCE_RDF_TYPE_TABLE,
                 SEARCH_RDF_TYPE_TABLE,
                 SIMPLE_SEARCH_TABLE,
                 SEARCH_RESOURCE_RDF_TYPE_TRANSACTIONS_TABLE,
-                SIMPLE_SEARCH_TRANSACTIONS_TABLE
+                SIMPLE_SEARCH_TRANSACTIONS_TABLE,
+                SEARCH_STATS_TABLE,
+                SearchPropertyIndex.SEARCH_RESOURCE_PROPERTY_TABLE,
+                SearchPropertyIndex.SEARCH_PROPERTY_TABLE,
+                SearchPropertyIndex.SEARCH_RESOURCE_PROPERTY_TRANSACTIONS_TABLE
         );
+        // The index is empty, so the counts are right
+        jdbcTemplate.update(INSERT_STATS_RECONCILED, new MapSqlParameterSource());
     }
 
     private void executeTruncationBatches(final String... truncateQueries) {
@@ -903,9 +1244,11 @@ public class DbSearchIndexImpl implements SearchIndex {
 
     @Override
     public void clearAllTransactions() {
+        transactionBuffers.clear();
         executeTruncationBatches(
                 SEARCH_RESOURCE_RDF_TYPE_TRANSACTIONS_TABLE,
-                SIMPLE_SEARCH_TRANSACTIONS_TABLE
+                SIMPLE_SEARCH_TRANSACTIONS_TABLE,
+                SearchPropertyIndex.SEARCH_RESOURCE_PROPERTY_TRANSACTIONS_TABLE
         );
     }
 
@@ -915,8 +1258,12 @@ public class DbSearchIndexImpl implements SearchIndex {
             tx.ensureCommitting();
             final var txId = tx.getId();
             try {
+                flushTransactionBuffer(txId);
                 final MapSqlParameterSource parameterSource = new MapSqlParameterSource();
                 parameterSource.addValue(TRANSACTION_ID_PARAM, txId);
+                // Count the resources of the transaction as they were before and after the commit
+                final var stats = new SearchStatsDelta();
+                collectTransactionStats(parameterSource, stats, -1);
                 final int deletedAssociations = jdbcTemplate.update(
                         COMMIT_DELETE_RDF_TYPE_ASSOCIATIONS_MAP.get(dbPlatForm),
                         parameterSource);
@@ -929,11 +1276,17 @@ public class DbSearchIndexImpl implements SearchIndex {
                 final int addedResources = jdbcTemplate.update(UPSERT_COMMIT_MAPPING.get(dbPlatForm),
                         parameterSource);
                 final int addRdfTypeAssociations = jdbcTemplate.update(COMMIT_RDF_TYPE_ASSOCIATIONS, parameterSource);
+                final int addedPropertyValues = propertyIndex.commitTransaction(txId);
+                collectTransactionStats(parameterSource, stats, 1);
+                updateStats(stats);
                 cleanupTransaction(txId);
+                // keep the buffer while the commit may still be rolled back and retried
+                afterDbTransaction(() -> transactionBuffers.remove(txId), () -> { });
                 LOGGER.debug("Commit of tx {} complete with {} resource adds, {} resource associations adds, " +
-                                "{} rdf types adds{},  resource deletes, {} resource/rdf type associations deletes",
+                                "{} rdf types adds{},  resource deletes, {} resource/rdf type associations deletes, " +
+                                "{} property value adds",
                         txId, addedResources, addRdfTypeAssociations, addedRdfTypes, deletedResources,
-                        deletedAssociations);
+                        deletedAssociations, addedPropertyValues);
             } catch (final Exception e) {
                 LOGGER.warn("Unable to commit search index transaction {}: {}", txId, e.getMessage());
                 throw new RepositoryRuntimeException("Unable to commit search index transaction", e);
@@ -945,6 +1298,7 @@ public class DbSearchIndexImpl implements SearchIndex {
     @Override
     public void rollbackTransaction(final Transaction tx) {
         if (!tx.isShortLived()) {
+            transactionBuffers.remove(tx.getId());
             cleanupTransaction(tx.getId());
         }
     }
@@ -954,6 +1308,7 @@ public class DbSearchIndexImpl implements SearchIndex {
         parameterSource.addValue(TRANSACTION_ID_PARAM, txId);
         jdbcTemplate.update(DELETE_TRANSACTION, parameterSource);
         jdbcTemplate.update(DELETE_RDF_TYPE_ASSOCIATIONS_IN_TRANSACTION, parameterSource);
+        propertyIndex.cleanupTransaction(txId);
         LOGGER.debug("Transaction data has been removed from the search transaction tables for txId={} ", txId);
     }
 
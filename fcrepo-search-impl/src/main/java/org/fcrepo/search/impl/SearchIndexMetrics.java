@@ -9,9 +9,13 @@ package org.fcrepo.search.impl;
 import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 
+import org.fcrepo.common.metrics.MetricsHelper;
+import org.fcrepo.common.metrics.RequestTimings;
+import org.fcrepo.common.metrics.RequestTimings.Phase;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.models.ResourceHeaders;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 import org.fcrepo.search.api.InvalidQueryException;
 import org.fcrepo.search.api.SearchIndex;
 import org.fcrepo.search.api.SearchParameters;
@@ -60,7 +64,7 @@ public class SearchIndexMetrics implements SearchIndex {
 
     @Override
     public void addUpdateIndex(final Transaction transaction, final ResourceHeaders resourceHeaders) {
-        addUpdateIndexTimer.record(() -> {
+        MetricsHelper.record(Phase.SEARCH, addUpdateIndexTimer, () -> {
             searchIndexImpl.addUpdateIndex(transaction, resourceHeaders);
         });
     }
@@ -69,14 +73,23 @@ public class SearchIndexMetrics implements SearchIndex {
     public void addUpdateIndex(final Transaction transaction,
                                final ResourceHeaders resourceHeaders,
                                final List<URI> rdfTypes) {
-        addUpdateIndexTimer.record(() -> {
+        MetricsHelper.record(Phase.SEARCH, addUpdateIndexTimer, () -> {
             searchIndexImpl.addUpdateIndex(transaction, resourceHeaders, rdfTypes);
         });
     }
 
+    @Override
+    public void addUpdateIndex(final Transaction transaction,
+                               final ResourceHeaders resourceHeaders,
+                               final RdfDelta delta) {
+        MetricsHelper.record(Phase.SEARCH, addUpdateIndexTimer, () -> {
+            searchIndexImpl.addUpdateIndex(transaction, resourceHeaders, delta);
+        });
+    }
+
     @Override
     public void removeFromIndex(final Transaction transaction, final FedoraId fedoraId) {
-        removeFromIndexTimer.record(() -> {
+        MetricsHelper.record(Phase.SEARCH, removeFromIndexTimer, () -> {
             searchIndexImpl.removeFromIndex(transaction, fedoraId);
         });
     }
@@ -84,37 +97,39 @@ public class SearchIndexMetrics implements SearchIndex {
     @Override
     public SearchResult doSearch(final SearchParameters parameters) throws InvalidQueryException {
         final var stopwatch = Timer.start();
+        final var started = RequestTimings.enter(Phase.SEARCH);
         try {
             return searchIndexImpl.doSearch(parameters);
         } finally {
             stopwatch.stop(doSearchTimer);
+            RequestTimings.exit(Phase.SEARCH, started);
         }
     }
 
     @Override
     public void reset() {
-        resetTimer.record(() -> {
+        MetricsHelper.record(Phase.SEARCH, resetTimer, () -> {
             searchIndexImpl.reset();
         });
     }
 
     @Override
     public void commitTransaction(final Transaction tx) {
-        commitTransactionTimer.record(() -> {
+        MetricsHelper.record(Phase.SEARCH, commitTransactionTimer, () -> {
             searchIndexImpl.commitTransaction(tx);
         });
     }
 
     @Override
     public void rollbackTransaction(final Transaction tx) {
-        rollbackTransactionTimer.record(() -> {
+        MetricsHelper.record(Phase.SEARCH, rollbackTransactionTimer, () -> {
             searchIndexImpl.rollbackTransaction(tx);
         });
     }
 
     @Override
     public void clearAllTransactions() {
-        clearAllTransactionsTimer.record(() -> {
+        MetricsHelper.record(Phase.SEARCH, clearAllTransactionsTimer, () -> {
             searchIndexImpl.clearAllTransactions();
         });
     }
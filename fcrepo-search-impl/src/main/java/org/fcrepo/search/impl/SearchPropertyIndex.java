@@ -0,0 +1,393 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.search.impl;
+
+import static org.fcrepo.common.db.DbPlatform.H2;
+import static org.fcrepo.common.db.DbPlatform.MARIADB;
+import static org.fcrepo.common.db.DbPlatform.MYSQL;
+import static org.fcrepo.common.db.DbPlatform.POSTGRESQL;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.apache.jena.datatypes.DatatypeFormatException;
+import org.apache.jena.graph.Node;
+import org.apache.jena.graph.Triple;
+import org.fcrepo.common.db.DbPlatform;
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.search.api.Condition;
+import org.fcrepo.search.api.InvalidQueryException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+/**
+ * The values of the properties indexed for search. The literal and URI values of each configured property in the RDF
+ * of a resource are kept in a table of (property id, value) rows, along with the numeric value of literals with a
+ * numeric datatype, so that resources can be found by equality, prefix and range conditions on the values.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+class SearchPropertyIndex {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SearchPropertyIndex.class);
+
+    static final String SEARCH_PROPERTY_TABLE = "search_property";
+    static final String SEARCH_RESOURCE_PROPERTY_TABLE = "search_resource_property";
+    static final String SEARCH_RESOURCE_PROPERTY_TRANSACTIONS_TABLE = "search_resource_property_transactions";
+
+    private static final String ID_COLUMN = "id";
+    private static final String FEDORA_ID_COLUMN = "fedora_id";
+    private static final String TRANSACTION_ID_COLUMN = "transaction_id";
+    private static final String RESOURCE_ID_COLUMN = "resource_id";
+    private static final String PROPERTY_ID_COLUMN = "property_id";
+    private static final String PROPERTY_URI_COLUMN = "property_uri";
+    private static final String PROPERTY_VALUE_COLUMN = "property_value";
+    private static final String NUMERIC_VALUE_COLUMN = "numeric_value";
+
+    private static final String FEDORA_ID_PARAM = "fedora_id";
+    private static final String TRANSACTION_ID_PARAM = "transaction_id";
+    private static final String RESOURCE_ID_PARAM = "resource_id";
+    private static final String PROPERTY_ID_PARAM = "property_id";
+    private static final String PROPERTY_URI_PARAM = "property_uri";
+    private static final String PROPERTY_VALUE_PARAM = "property_value";
+    private static final String NUMERIC_VALUE_PARAM = "numeric_value";
+
+    private static final Pattern NUMBER = Pattern.compile("-?\\d+(\\.\\d+)?([eE][+-]?\\d+)?");
+
+    // The values longer than the value column are not indexed
+    private static final Map<DbPlatform, Integer> MAX_VALUE_LENGTH = Map.of(
+            H2, 255,
+            MYSQL, 228,
+            MARIADB, 228,
+            POSTGRESQL, 255
+    );
+
+    private static final String SELECT_PROPERTY_ID = "SELECT " + ID_COLUMN + " FROM " + SEARCH_PROPERTY_TABLE +
+            " WHERE " + PROPERTY_URI_COLUMN + " = :" + PROPERTY_URI_PARAM;
+
+    private static final String INSERT_PROPERTY_H2 =
+            "INSERT INTO " + SEARCH_PROPERTY_TABLE + " (" + PROPERTY_URI_COLUMN + ") VALUES (:" +
+                    PROPERTY_URI_PARAM + ")";
+
+    // postgres spoils the entire tx on duplicate keys
+    private static final String INSERT_PROPERTY_POSTGRES = INSERT_PROPERTY_H2 +
+            " ON CONFLICT (" + PROPERTY_URI_COLUMN + ") DO NOTHING";
+
+    private static final String INSERT_PROPERTY_MYSQL_MARIA =
+            "INSERT IGNORE INTO " + SEARCH_PROPERTY_TABLE + " (" + PROPERTY_URI_COLUMN + ") VALUES (:" +
+                    PROPERTY_URI_PARAM + ")";
+
+    private static final Map<DbPlatform, String> INSERT_PROPERTY_MAPPING = Map.of(
+            H2, INSERT_PROPERTY_H2,
+            MYSQL, INSERT_PROPERTY_MYSQL_MARIA,
+            MARIADB, INSERT_PROPERTY_MYSQL_MARIA,
+            POSTGRESQL, INSERT_PROPERTY_POSTGRES
+    );
+
+    private static final String DELETE_RESOURCE_VALUES = "DELETE FROM " + SEARCH_RESOURCE_PROPERTY_TABLE +
+            " WHERE " + RESOURCE_ID_COLUMN + " = :" + RESOURCE_ID_PARAM;
+
+    private static final String INSERT_RESOURCE_VALUE = "INSERT INTO " + SEARCH_RESOURCE_PROPERTY_TABLE + " (" +
+            RESOURCE_ID_COLUMN + ", " + PROPERTY_ID_COLUMN + ", " + PROPERTY_VALUE_COLUMN + ", " +
+            NUMERIC_VALUE_COLUMN + ") VALUES (:" + RESOURCE_ID_PARAM + ", :" + PROPERTY_ID_PARAM + ", :" +
+            PROPERTY_VALUE_PARAM + ", :" + NUMERIC_VALUE_PARAM + ")";
+
+    private static final String DELETE_RESOURCE_VALUES_IN_TRANSACTION = "DELETE FROM " +
+            SEARCH_RESOURCE_PROPERTY_TRANSACTIONS_TABLE + " WHERE " + TRANSACTION_ID_COLUMN + " = :" +
+            TRANSACTION_ID_PARAM + " AND " + FEDORA_ID_COLUMN + " = :" + FEDORA_ID_PARAM;
+
+    private static final String INSERT_RESOURCE_VALUE_IN_TRANSACTION = "INSERT INTO " +
+            SEARCH_RESOURCE_PROPERTY_TRANSACTIONS_TABLE + " (" + FEDORA_ID_COLUMN + ", " + PROPERTY_URI_COLUMN +
+            ", " + PROPERTY_VALUE_COLUMN + ", " + NUMERIC_VALUE_COLUMN + ", " + TRANSACTION_ID_COLUMN +
+            ") VALUES (:" + FEDORA_ID_PARAM + ", :" + PROPERTY_URI_PARAM + ", :" + PROPERTY_VALUE_PARAM + ", :" +
+            NUMERIC_VALUE_PARAM + ", :" + TRANSACTION_ID_PARAM + ")";
+
+    private static final String COMMIT_DELETE_RESOURCE_VALUES = "DELETE FROM " + SEARCH_RESOURCE_PROPERTY_TABLE +
+            " WHERE " + RESOURCE_ID_COLUMN + " IN (SELECT a." + ID_COLUMN + " FROM simple_search a JOIN " +
+            "simple_search_transactions b ON a." + FEDORA_ID_COLUMN + " = b." + FEDORA_ID_COLUMN + " WHERE b." +
+            TRANSACTION_ID_COLUMN + " = :" + TRANSACTION_ID_PARAM + ")";
+
+    private static final String COMMIT_RESOURCE_VALUES = "INSERT INTO " + SEARCH_RESOURCE_PROPERTY_TABLE + " (" +
+            RESOURCE_ID_COLUMN + ", " + PROPERTY_ID_COLUMN + ", " + PROPERTY_VALUE_COLUMN + ", " +
+            NUMERIC_VALUE_COLUMN + ") SELECT DISTINCT a." + ID_COLUMN + ", p." + ID_COLUMN + ", t." +
+            PROPERTY_VALUE_COLUMN + ", t." + NUMERIC_VALUE_COLUMN + " FROM " +
+            SEARCH_RESOURCE_PROPERTY_TRANSACTIONS_TABLE + " t JOIN simple_search a ON a." + FEDORA_ID_COLUMN +
+            " = t." + FEDORA_ID_COLUMN + " JOIN " + SEARCH_PROPERTY_TABLE + " p ON p." + PROPERTY_URI_COLUMN +
+            " = t." + PROPERTY_URI_COLUMN + " WHERE t." + TRANSACTION_ID_COLUMN + " = :" + TRANSACTION_ID_PARAM;
+
+    private static final String DELETE_TRANSACTION = "DELETE FROM " + SEARCH_RESOURCE_PROPERTY_TRANSACTIONS_TABLE +
+            " WHERE " + TRANSACTION_ID_COLUMN + " = :" + TRANSACTION_ID_PARAM;
+
+    /**
+     * A value of an indexed property
+     */
+    static class PropertyValue {
+
+        private final String property;
+
+        private final String value;
+
+        private final Double numericValue;
+
+        PropertyValue(final String property, final String value, final Double numericValue) {
+            this.property = property;
+            this.value = value;
+            this.numericValue = numericValue;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (!(o instanceof PropertyValue other)) {
+                return false;
+            }
+            return property.equals(other.property) && value.equals(other.value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(property, value);
+        }
+    }
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final DbPlatform dbPlatform;
+
+    private final Set<String> properties;
+
+    private final Map<String, Long> propertyIdCache = new ConcurrentHashMap<>();
+
+    /**
+     * @param jdbcTemplate the template for the search index database
+     * @param dbPlatform the platform of the search index database
+     * @param properties the URIs of the properties whose values are indexed
+     */
+    SearchPropertyIndex(final NamedParameterJdbcTemplate jdbcTemplate, final DbPlatform dbPlatform,
+                        final Collection<String> properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dbPlatform = dbPlatform;
+        this.properties = Set.copyOf(properties);
+    }
+
+    /**
+     * @return true if the values of any property are indexed
+     */
+    boolean isEnabled() {
+        return !properties.isEmpty();
+    }
+
+    /**
+     * @param predicate a predicate
+     * @return true if the values of the predicate are indexed
+     */
+    boolean isIndexed(final Node predicate) {
+        return predicate.isURI() && properties.contains(predicate.getURI());
+    }
+
+    /**
+     * Get the values of the indexed properties in the RDF of a resource. Blank nodes and values too long for the
+     * index are left out.
+     *
+     * @param triples the RDF of the resource
+     * @return the values
+     */
+    Set<PropertyValue> extractValues(final Stream<Triple> triples) {
+        final Set<PropertyValue> values = new LinkedHashSet<>();
+        try (triples) {
+            triples.filter(t -> isIndexed(t.getPredicate()))
+                    .map(this::toValue)
+                    .filter(Objects::nonNull)
+                    .forEach(values::add);
+        }
+        return values;
+    }
+
+    private PropertyValue toValue(final Triple triple) {
+        final Node object = triple.getObject();
+        final String value;
+        Double numericValue = null;
+        if (object.isURI()) {
+            value = object.getURI();
+        } else if (object.isLiteral()) {
+            value = object.getLiteralLexicalForm();
+            try {
+                if (object.getLiteralValue() instanceof Number number) {
+                    numericValue = number.doubleValue();
+                }
+            } catch (final DatatypeFormatException e) {
+                // an ill-typed literal is only indexed by its lexical form
+            }
+        } else {
+            return null;
+        }
+        if (value.length() > MAX_VALUE_LENGTH.get(dbPlatform)) {
+            LOGGER.debug("Value of {} is too long to index: {}", triple.getPredicate(), value);
+            return null;
+        }
+        return new PropertyValue(triple.getPredicate().getURI(), value, numericValue);
+    }
+
+    /**
+     * Replace the indexed values of a resource.
+     *
+     * @param resourceSearchId the search id of the resource
+     * @param values the values
+     */
+    void replaceValues(final Long resourceSearchId, final Set<PropertyValue> values) {
+        jdbcTemplate.update(DELETE_RESOURCE_VALUES, Map.of(RESOURCE_ID_PARAM, resourceSearchId));
+        final MapSqlParameterSource[] params = values.stream()
+                .map(v -> new MapSqlParameterSource()
+                        .addValue(RESOURCE_ID_PARAM, resourceSearchId)
+                        .addValue(PROPERTY_ID_PARAM, getPropertyId(v.property))
+                        .addValue(PROPERTY_VALUE_PARAM, v.value)
+                        .addValue(NUMERIC_VALUE_PARAM, v.numericValue))
+                .toArray(MapSqlParameterSource[]::new);
+        if (params.length > 0) {
+            jdbcTemplate.batchUpdate(INSERT_RESOURCE_VALUE, params);
+        }
+    }
+
+    /**
+     * Stage the values of resources changed in a transaction, replacing any values staged for them earlier.
+     *
+     * @param txId the transaction id
+     * @param values the values of each resource
+     */
+    void stageValues(final String txId, final Map<FedoraId, Set<PropertyValue>> values) {
+        final MapSqlParameterSource[] resources = values.keySet().stream()
+                .map(fedoraId -> new MapSqlParameterSource()
+                        .addValue(TRANSACTION_ID_PARAM, txId)
+                        .addValue(FEDORA_ID_PARAM, fedoraId.getFullId()))
+                .toArray(MapSqlParameterSource[]::new);
+        jdbcTemplate.batchUpdate(DELETE_RESOURCE_VALUES_IN_TRANSACTION, resources);
+        final MapSqlParameterSource[] params = values.entrySet().stream()
+                .flatMap(entry -> entry.getValue().stream().map(v -> new MapSqlParameterSource()
+                        .addValue(FEDORA_ID_PARAM, entry.getKey().getFullId())
+                        .addValue(PROPERTY_URI_PARAM, v.property)
+                        .addValue(PROPERTY_VALUE_PARAM, v.value)
+                        .addValue(NUMERIC_VALUE_PARAM, v.numericValue)
+                        .addValue(TRANSACTION_ID_PARAM, txId)))
+                .toArray(MapSqlParameterSource[]::new);
+        if (params.length > 0) {
+            // the properties must exist when the values are committed
+            properties.forEach(this::getPropertyId);
+            jdbcTemplate.batchUpdate(INSERT_RESOURCE_VALUE_IN_TRANSACTION, params);
+        }
+    }
+
+    /**
+     * Replace the indexed values of the resources changed in a transaction with the values staged for them. The
+     * resources must already have been committed to the search index.
+     *
+     * @param txId the transaction id
+     * @return the number of values committed
+     */
+    int commitTransaction(final String txId) {
+        final var params = Map.of(TRANSACTION_ID_PARAM, txId);
+        jdbcTemplate.update(COMMIT_DELETE_RESOURCE_VALUES, params);
+        return jdbcTemplate.update(COMMIT_RESOURCE_VALUES, params);
+    }
+
+    /**
+     * @param txId the transaction id
+     */
+    void cleanupTransaction(final String txId) {
+        jdbcTemplate.update(DELETE_TRANSACTION, Map.of(TRANSACTION_ID_PARAM, txId));
+    }
+
+    /**
+     * Forget the property ids, after the index is emptied.
+     */
+    void reset() {
+        propertyIdCache.clear();
+    }
+
+    /**
+     * Create the where clause selecting the resources with a value of a property matching a condition. Equality
+     * supports * wildcards, and ranges compare numeric values when the condition's value is a number, and the
+     * lexical values otherwise.
+     *
+     * @param condition the condition on the values of a property
+     * @param paramName the name of the parameter holding the condition's value
+     * @param parameterSource the parameters of the query
+     * @return the where clause
+     * @throws InvalidQueryException if the property is not indexed
+     */
+    String createWhereClause(final Condition condition, final String paramName,
+                             final MapSqlParameterSource parameterSource) throws InvalidQueryException {
+        final var property = condition.getProperty();
+        if (!properties.contains(property)) {
+            throw new InvalidQueryException("The property <" + property + "> is not indexed for search");
+        }
+        final var object = condition.getObject();
+        final String valueClause;
+        if (condition.getOperator() == Condition.Operator.EQ) {
+            if (object.contains("*")) {
+                valueClause = PROPERTY_VALUE_COLUMN + " LIKE :" + paramName;
+                parameterSource.addValue(paramName, DbSearchIndexImpl.convertToSqlLikeWildcard(object));
+            } else {
+                valueClause = PROPERTY_VALUE_COLUMN + " = :" + paramName;
+                parameterSource.addValue(paramName, object);
+            }
+        } else if (NUMBER.matcher(object).matches()) {
+            valueClause = NUMERIC_VALUE_COLUMN + " " + condition.getOperator().getStringValue() + " :" + paramName;
+            parameterSource.addValue(paramName, Double.parseDouble(object));
+        } else {
+            valueClause = PROPERTY_VALUE_COLUMN + " " + condition.getOperator().getStringValue() + " :" + paramName;
+            parameterSource.addValue(paramName, object);
+        }
+        final var propertyId = findPropertyId(property);
+        if (propertyId == null) {
+            // no value of the property was indexed yet
+            return "1 = 0";
+        }
+        final var propertyParamName = paramName + "_property";
+        parameterSource.addValue(propertyParamName, propertyId);
+        return "s." + ID_COLUMN + " IN (SELECT " + RESOURCE_ID_COLUMN + " FROM " + SEARCH_RESOURCE_PROPERTY_TABLE +
+                " WHERE " + PROPERTY_ID_COLUMN + " = :" + propertyParamName + " AND " + valueClause + ")";
+    }
+
+    /**
+     * @param property the property uri
+     * @return the id of the property, which is added if it does not exist
+     */
+    private Long getPropertyId(final String property) {
+        final var id = findPropertyId(property);
+        if (id != null) {
+            return id;
+        }
+        final var params = Map.of(PROPERTY_URI_PARAM, property);
+        try {
+            jdbcTemplate.update(INSERT_PROPERTY_MAPPING.get(dbPlatform), params);
+        } catch (final DuplicateKeyException e) {
+            // added concurrently
+        }
+        return findPropertyId(property);
+    }
+
+    /**
+     * @param property the property uri
+     * @return the id of the property, or null if it does not exist
+     */
+    private Long findPropertyId(final String property) {
+        // absent properties are not cached, they are added once a value is indexed
+        return propertyIdCache.computeIfAbsent(property, uri -> {
+            final var ids = jdbcTemplate.queryForList(SELECT_PROPERTY_ID, Map.of(PROPERTY_URI_PARAM, uri),
+                    Long.class);
+            return ids.isEmpty() ? null : ids.getFirst();
+        });
+    }
+}
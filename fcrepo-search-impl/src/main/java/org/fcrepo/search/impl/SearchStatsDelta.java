@@ -0,0 +1,69 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.search.impl;
+
+import static org.fcrepo.kernel.api.RdfLexicon.NON_RDF_SOURCE;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.MIME_TYPE_STAT;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.RDF_TYPE_STAT;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.RESOURCE_STAT;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The changes to the resource and byte counts of the repository statistics made by an update of the search index.
+ * Counts are kept in total, by rdf type and, for binaries, by mime type.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+class SearchStatsDelta {
+
+    // Sorted, so that concurrent updates change the counter rows in the same order
+    private final Map<String, Map<String, long[]>> changes = new TreeMap<>();
+
+    /**
+     * Count the resource and bytes of a resource, or remove them from the counts.
+     *
+     * @param mimeType the mime type of the resource, or null
+     * @param contentSize the content size of the resource
+     * @param rdfTypes the rdf types of the resource
+     * @param sign 1 to count the resource, -1 to remove it from the counts
+     */
+    void addResource(final String mimeType, final long contentSize, final Collection<String> rdfTypes,
+                     final int sign) {
+        add(RESOURCE_STAT, "", sign, sign * contentSize);
+        for (final String rdfType : rdfTypes) {
+            add(RDF_TYPE_STAT, rdfType, sign, sign * contentSize);
+        }
+        if (mimeType != null && rdfTypes.contains(NON_RDF_SOURCE.getURI())) {
+            add(MIME_TYPE_STAT, mimeType, sign, sign * contentSize);
+        }
+    }
+
+    /**
+     * @param statType the kind of count
+     * @param statKey the value counted
+     * @param resourceCount the change to the number of resources
+     * @param byteCount the change to the number of bytes
+     */
+    void add(final String statType, final String statKey, final long resourceCount, final long byteCount) {
+        final long[] counts = changes.computeIfAbsent(statType, type -> new TreeMap<>())
+                .computeIfAbsent(statKey, key -> new long[2]);
+        counts[0] += resourceCount;
+        counts[1] += byteCount;
+    }
+
+    /**
+     * @return the changed counts by kind and value, without the counts which did not change
+     */
+    Map<String, Map<String, long[]>> getChanges() {
+        changes.values().forEach(counts -> counts.values().removeIf(c -> c[0] == 0 && c[1] == 0));
+        changes.values().removeIf(Map::isEmpty);
+        return changes;
+    }
+}
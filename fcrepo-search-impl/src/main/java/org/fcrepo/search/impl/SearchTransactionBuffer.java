@@ -0,0 +1,126 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.search.impl;
+
+import java.net.URI;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.fcrepo.kernel.api.identifiers.FedoraId;
+import org.fcrepo.kernel.api.models.ResourceHeaders;
+
+/**
+ * The search index changes of a long-running transaction which have not yet been written to the transaction tables.
+ * Only the latest change of each resource is kept, so that a resource changed several times before the changes are
+ * written is only written once.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+class SearchTransactionBuffer {
+
+    /**
+     * A change to the search index entry of a resource
+     */
+    static class Change {
+
+        private final String operation;
+
+        private final ResourceHeaders resourceHeaders;
+
+        private final Set<URI> rdfTypes;
+
+        private final Set<SearchPropertyIndex.PropertyValue> propertyValues;
+
+        /**
+         * @param operation the operation, "add" or "delete"
+         * @param resourceHeaders the headers of the resource, or null if it is deleted
+         * @param rdfTypes the rdf types of the resource, or null if they are not changed
+         * @param propertyValues the values of the indexed properties of the resource, or null if they are not changed
+         */
+        Change(final String operation, final ResourceHeaders resourceHeaders, final Set<URI> rdfTypes,
+               final Set<SearchPropertyIndex.PropertyValue> propertyValues) {
+            this.operation = operation;
+            this.resourceHeaders = resourceHeaders;
+            this.rdfTypes = rdfTypes;
+            this.propertyValues = propertyValues;
+        }
+
+        String getOperation() {
+            return operation;
+        }
+
+        ResourceHeaders getResourceHeaders() {
+            return resourceHeaders;
+        }
+
+        Set<URI> getRdfTypes() {
+            return rdfTypes;
+        }
+
+        Set<SearchPropertyIndex.PropertyValue> getPropertyValues() {
+            return propertyValues;
+        }
+    }
+
+    private final Map<FedoraId, Change> changes = new LinkedHashMap<>();
+
+    // Changes written to the transaction tables by a db transaction which has not completed yet
+    private final Map<FedoraId, Change> written = new LinkedHashMap<>();
+
+    /**
+     * Add the change of a resource, replacing any earlier change of the resource which was not written.
+     *
+     * @param fedoraId the resource
+     * @param change the change
+     * @return the number of resources with changes to write
+     */
+    synchronized int add(final FedoraId fedoraId, final Change change) {
+        changes.put(fedoraId, change);
+        return changes.size();
+    }
+
+    /**
+     * Take the changes to write. They are kept until the db transaction writing them completes, and must be passed
+     * to {@link #written(Map)} once it commits or to {@link #restore(Map)} if it fails.
+     *
+     * @return the changes by resource, in the order the resources were first changed
+     */
+    synchronized Map<FedoraId, Change> drain() {
+        final var drained = new LinkedHashMap<>(changes);
+        written.putAll(drained);
+        changes.clear();
+        return drained;
+    }
+
+    /**
+     * Forget changes whose write was committed.
+     *
+     * @param drained the changes, as returned by {@link #drain()}
+     */
+    synchronized void written(final Map<FedoraId, Change> drained) {
+        drained.forEach(written::remove);
+    }
+
+    /**
+     * Put back changes whose write failed or was rolled back, unless the resource changed again since.
+     *
+     * @param drained the changes, as returned by {@link #drain()}
+     */
+    synchronized void restore(final Map<FedoraId, Change> drained) {
+        final var restored = new LinkedHashMap<FedoraId, Change>();
+        drained.forEach((fedoraId, change) -> {
+            if (written.remove(fedoraId, change) && !changes.containsKey(fedoraId)) {
+                restored.put(fedoraId, change);
+            }
+        });
+        // the restored changes were made before the ones buffered since
+        restored.putAll(changes);
+        changes.clear();
+        changes.putAll(restored);
+    }
+}
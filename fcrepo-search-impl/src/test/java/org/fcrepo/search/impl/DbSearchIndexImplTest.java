@@ -12,9 +12,20 @@ import static org.fcrepo.kernel.api.RdfLexicon.FEDORA_RESOURCE;
 import static org.fcrepo.kernel.api.RdfLexicon.NON_RDF_SOURCE;
 import static org.fcrepo.kernel.api.RdfLexicon.RDF_SOURCE;
 import static org.fcrepo.kernel.api.RdfLexicon.RESOURCE;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.MIME_TYPE_STAT;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.RDF_TYPE_STAT;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.RESOURCE_STAT;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.util.ReflectionTestUtils.getField;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import java.net.URI;
@@ -22,16 +33,23 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
 
 import jakarta.inject.Inject;
 
+import org.fcrepo.config.FedoraPropsConfig;
 import org.fcrepo.kernel.api.RepositoryInitializationStatus;
 import org.fcrepo.kernel.api.Transaction;
 import org.fcrepo.kernel.api.exception.PathNotFoundException;
+import org.fcrepo.kernel.api.exception.RepositoryRuntimeException;
 import org.fcrepo.kernel.api.identifiers.FedoraId;
 import org.fcrepo.kernel.api.models.FedoraResource;
 import org.fcrepo.kernel.api.models.ResourceFactory;
 import org.fcrepo.kernel.api.models.ResourceHeaders;
+import org.fcrepo.kernel.api.rdf.DefaultRdfStream;
+import org.fcrepo.kernel.api.rdf.RdfDelta;
 import org.fcrepo.persistence.common.ResourceHeadersImpl;
 import org.fcrepo.search.api.Condition;
 import org.fcrepo.search.api.InvalidConditionExpressionException;
@@ -40,6 +58,12 @@ import org.fcrepo.search.api.SearchParameters;
 import org.fcrepo.search.impl.utils.SearchTestConfiguration;
 import org.fcrepo.search.impl.utils.TestTransaction;
 
+import org.apache.jena.datatypes.xsd.XSDDatatype;
+import org.apache.jena.graph.NodeFactory;
+import org.apache.jena.graph.Triple;
+import org.apache.jena.vocabulary.DCTerms;
+import org.apache.jena.vocabulary.DC_11;
+import org.apache.jena.vocabulary.RDF;
 import org.flywaydb.test.FlywayTestExecutionListener;
 import org.flywaydb.test.annotation.FlywayTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -49,10 +73,16 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.dao.TransientDataAccessResourceException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.TestExecutionListeners;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.context.support.DependencyInjectionTestExecutionListener;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Test class for {@link DbSearchIndexImpl}
@@ -66,12 +96,23 @@ import org.springframework.test.context.support.DependencyInjectionTestExecution
 @TestExecutionListeners({DependencyInjectionTestExecutionListener.class, FlywayTestExecutionListener.class })
 public class DbSearchIndexImplTest {
 
+    private static final String DCTERMS_IDENTIFIER = DCTerms.identifier.getURI();
+
     @Inject
     private DbSearchIndexImpl searchIndex;
 
     @Inject
     private RepositoryInitializationStatus initializationStatus;
 
+    @Inject
+    private DataSource dataSource;
+
+    @Inject
+    private FedoraPropsConfig fedoraPropsConfig;
+
+    @Inject
+    private PlatformTransactionManager transactionManager;
+
     private ResourceHeaders resourceHeaders1;
 
     private ResourceHeaders resourceHeaders2;
@@ -97,6 +138,9 @@ public class DbSearchIndexImplTest {
     @BeforeEach
     @FlywayTest
     public void setUp() throws PathNotFoundException {
+        fedoraPropsConfig.setSearchIndexedProperties(List.of());
+        fedoraPropsConfig.setSearchTransactionBatchSize(1);
+        searchIndex.setup();
         searchIndex.reset();
         initializationStatus.setInitializationComplete(true);
         testId = FedoraId.create("info:fedora/parentId/testId");
@@ -543,6 +587,39 @@ public class DbSearchIndexImplTest {
         assertEquals(0, results2.getPagination().getTotalResults());
     }
 
+    /**
+     * Test updating a resource with a delta which does not change its rdf types
+     */
+    @Test
+    public void testUpdateIndexWithDelta() throws Exception {
+        searchIndex.addUpdateIndex(transaction, resourceHeaders1);
+        final var subject = NodeFactory.createURI(testId.getFullId());
+        final var titleDelta = new RdfDelta(List.of(Triple.create(subject, DC_11.title.asNode(),
+                NodeFactory.createLiteralString("title"))), List.of());
+        final var modified = Instant.parse("2030-01-01T00:00:00Z");
+        ((ResourceHeadersImpl) resourceHeaders1).setLastModifiedDate(modified);
+
+        searchIndex.addUpdateIndex(transaction, resourceHeaders1, titleDelta);
+        // the types were not read again
+        verify(resourceFactory, times(1)).getResource(transaction, resourceHeaders1);
+        final var parameters = new SearchParameters(
+                List.of(Condition.Field.FEDORA_ID),
+                List.of(Condition.fromExpression("rdf_type=http://www.w3.org/ns/ldp#RDFSource"),
+                        Condition.fromExpression("modified>2029-12-31T00:00:00Z")),
+                10,
+                0,
+                Condition.Field.FEDORA_ID,
+                "asc",
+                true
+        );
+        assertEquals(1, searchIndex.doSearch(parameters).getPagination().getTotalResults());
+
+        final var typeDelta = new RdfDelta(List.of(Triple.create(subject, RDF.type.asNode(),
+                NodeFactory.createURI("http://example.org/Type"))), List.of());
+        searchIndex.addUpdateIndex(transaction, resourceHeaders1, typeDelta);
+        verify(resourceFactory, times(2)).getResource(transaction, resourceHeaders1);
+    }
+
     @Test
     public void testSearchRdfTypeWithWildcards() throws Exception {
         when(resource1.getTypes()).thenReturn(List.of(
@@ -802,4 +879,247 @@ public class DbSearchIndexImplTest {
         final var results = searchIndex.doSearch(parameters);
         assertEquals(2, results.getPagination().getTotalResults());
     }
+
+    /**
+     * Test the resource and byte counts are maintained as resources are indexed and removed.
+     */
+    @Test
+    public void testStatsMaintained() throws Exception {
+        final var binaryId = parentId.resolve(UUID.randomUUID().toString());
+        resourceHeaders2 = buildBinaryResourceHeaders(binaryId, parentId);
+        mockBinaryResource(resource2, binaryId.getResourceId());
+        when(resourceFactory.getResource(transaction, resourceHeaders2)).thenReturn(resource2);
+        searchIndex.addUpdateIndex(transaction, resourceHeaders1);
+        searchIndex.addUpdateIndex(transaction, resourceHeaders2);
+        // Indexing the same resource again does not count it twice
+        searchIndex.addUpdateIndex(transaction, resourceHeaders2);
+
+        assertEquals(2, getStat(RESOURCE_STAT, "")[0]);
+        assertArrayEquals(new long[]{1, 12345}, getStat(MIME_TYPE_STAT, "text/plain"));
+        assertArrayEquals(new long[]{1, 12345}, getStat(RDF_TYPE_STAT, NON_RDF_SOURCE.getURI()));
+        assertEquals(1, getStat(RDF_TYPE_STAT, BASIC_CONTAINER.getURI())[0]);
+
+        searchIndex.removeFromIndex(transaction, binaryId);
+        assertEquals(1, getStat(RESOURCE_STAT, "")[0]);
+        assertArrayEquals(new long[]{0, 0}, getStat(MIME_TYPE_STAT, "text/plain"));
+
+        // Changes in a long-lived transaction are counted when it commits
+        transaction = makeTransaction(true);
+        when(resourceFactory.getResource(transaction, resourceHeaders2)).thenReturn(resource2);
+        searchIndex.addUpdateIndex(transaction, resourceHeaders2);
+        assertArrayEquals(new long[]{0, 0}, getStat(MIME_TYPE_STAT, "text/plain"));
+        searchIndex.commitTransaction(transaction);
+        assertEquals(2, getStat(RESOURCE_STAT, "")[0]);
+        assertArrayEquals(new long[]{1, 12345}, getStat(MIME_TYPE_STAT, "text/plain"));
+    }
+
+    /**
+     * Test binaries are counted by mime type for mime types as long as the indexed ones.
+     */
+    @Test
+    public void testStatsOfLongMimeType() throws Exception {
+        final var mimeType = "application/" + "x".repeat(243);
+        final var binaryId = parentId.resolve(UUID.randomUUID().toString());
+        final var headers = (ResourceHeadersImpl) buildBinaryResourceHeaders(binaryId, parentId);
+        headers.setMimeType(mimeType);
+        resourceHeaders2 = headers;
+        mockBinaryResource(resource2, binaryId.getResourceId());
+        when(resourceFactory.getResource(transaction, resourceHeaders2)).thenReturn(resource2);
+        searchIndex.addUpdateIndex(transaction, resourceHeaders2);
+
+        assertEquals(255, mimeType.length());
+        assertArrayEquals(new long[]{1, 12345}, getStat(MIME_TYPE_STAT, mimeType));
+    }
+
+    /**
+     * @param statType the kind of count
+     * @param statKey the value counted
+     * @return the resource and byte counts summed over all slots
+     */
+    private long[] getStat(final String statType, final String statKey) {
+        return new JdbcTemplate(dataSource).queryForObject(
+                "SELECT coalesce(sum(resource_count), 0), coalesce(sum(byte_count), 0) FROM search_stats " +
+                        "WHERE stat_type = ? AND stat_key = ?",
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)}, statType, statKey);
+    }
+
+    /**
+     * Test searching by the values of indexed properties
+     */
+    @Test
+    public void testSearchByIndexedProperty() throws Exception {
+        final var page = "http://example.org/ns#page";
+        fedoraPropsConfig.setSearchIndexedProperties(List.of(DCTERMS_IDENTIFIER, page));
+        searchIndex.setup();
+
+        final var id2 = parentId.resolve(UUID.randomUUID().toString());
+        resourceHeaders2 = buildBinaryResourceHeaders(id2, parentId);
+        mockBinaryResource(resource2, id2.getResourceId());
+        when(resourceFactory.getResource(transaction, resourceHeaders2)).thenReturn(resource2);
+        mockProperties(resource1, testId, "abc-123", 10);
+        mockProperties(resource2, id2, "abd-456", 2);
+        searchIndex.addUpdateIndex(transaction, resourceHeaders1);
+        searchIndex.addUpdateIndex(transaction, resourceHeaders2);
+
+        assertEquals(List.of(testId.getFullId()), searchProperty("<" + DCTERMS_IDENTIFIER + ">=abc-123"));
+        assertEquals(2, searchProperty("<" + DCTERMS_IDENTIFIER + ">=ab*").size());
+        assertEquals(List.of(id2.getFullId()), searchProperty("<" + DCTERMS_IDENTIFIER + ">>abc-123"));
+        // Ranges compare numeric values, rather than their lexical forms
+        assertEquals(List.of(testId.getFullId()), searchProperty("<" + page + ">>5"));
+        assertEquals(2, searchProperty("<" + page + "><=10").size());
+        assertThrows(InvalidQueryException.class, () -> searchProperty("<" + DC_11.identifier.getURI() + ">=abc"));
+
+        // Values changed in a long-lived transaction are searchable once it commits
+        transaction = makeTransaction(true);
+        when(resourceFactory.getResource(transaction, resourceHeaders2)).thenReturn(resource2);
+        mockProperties(resource2, id2, "xyz-789", 2);
+        searchIndex.addUpdateIndex(transaction, resourceHeaders2);
+        assertEquals(List.of(id2.getFullId()), searchProperty("<" + DCTERMS_IDENTIFIER + ">=abd-456"));
+        searchIndex.commitTransaction(transaction);
+        assertEquals(List.of(), searchProperty("<" + DCTERMS_IDENTIFIER + ">=abd-456"));
+        assertEquals(List.of(id2.getFullId()), searchProperty("<" + DCTERMS_IDENTIFIER + ">=xyz-789"));
+        assertEquals(2, searchProperty("<" + page + "><=10").size());
+    }
+
+    /**
+     * Test searching by an indexed property without values does not add the property
+     */
+    @Test
+    public void testSearchByPropertyWithoutValues() throws Exception {
+        fedoraPropsConfig.setSearchIndexedProperties(List.of(DCTERMS_IDENTIFIER));
+        searchIndex.setup();
+
+        assertEquals(List.of(), searchProperty("<" + DCTERMS_IDENTIFIER + ">=abc-123"));
+        assertEquals(0, new JdbcTemplate(dataSource).queryForObject(
+                "SELECT count(*) FROM search_property", Integer.class));
+
+        // the property is added once a value is indexed
+        mockProperties(resource1, testId, "abc-123", 10);
+        searchIndex.addUpdateIndex(transaction, resourceHeaders1);
+        assertEquals(List.of(testId.getFullId()), searchProperty("<" + DCTERMS_IDENTIFIER + ">=abc-123"));
+    }
+
+    /**
+     * Test the changes of a long-running transaction are buffered until enough resources change or it commits
+     */
+    @Test
+    public void testTransactionChangesBuffered() throws Exception {
+        fedoraPropsConfig.setSearchTransactionBatchSize(3);
+        searchIndex.setup();
+        final var id2 = parentId.resolve(UUID.randomUUID().toString());
+        resourceHeaders2 = buildBinaryResourceHeaders(id2, parentId);
+        mockBinaryResource(resource2, id2.getResourceId());
+
+        transaction = makeTransaction(true);
+        when(resourceFactory.getResource(transaction, resourceHeaders1)).thenReturn(resource1);
+        when(resourceFactory.getResource(transaction, resourceHeaders2)).thenReturn(resource2);
+        searchIndex.addUpdateIndex(transaction, resourceHeaders1);
+        searchIndex.addUpdateIndex(transaction, resourceHeaders2);
+        // Changing a resource again replaces its buffered change
+        searchIndex.addUpdateIndex(transaction, resourceHeaders2);
+        assertEquals(0, countStagedResources(transaction));
+        searchIndex.commitTransaction(transaction);
+        assertEquals(0, countStagedResources(transaction));
+        assertEquals(2, getStat(RESOURCE_STAT, "")[0]);
+
+        // The changes are written once the batch size is reached
+        transaction = makeTransaction(true);
+        final var id3 = parentId.resolve(UUID.randomUUID().toString());
+        searchIndex.removeFromIndex(transaction, id2);
+        searchIndex.removeFromIndex(transaction, testId);
+        assertEquals(0, countStagedResources(transaction));
+        searchIndex.removeFromIndex(transaction, id3);
+        assertEquals(3, countStagedResources(transaction));
+        searchIndex.rollbackTransaction(transaction);
+        assertEquals(0, countStagedResources(transaction));
+        assertEquals(2, getStat(RESOURCE_STAT, "")[0]);
+    }
+
+    /**
+     * Test the buffered changes of a long-running transaction are kept when writing them fails
+     */
+    @Test
+    public void testTransactionChangesKeptWhenWriteFails() throws Exception {
+        fedoraPropsConfig.setSearchTransactionBatchSize(3);
+        searchIndex.setup();
+        transaction = makeTransaction(true);
+        when(resourceFactory.getResource(transaction, resourceHeaders1)).thenReturn(resource1);
+        searchIndex.addUpdateIndex(transaction, resourceHeaders1);
+
+        final var jdbcTemplate = (NamedParameterJdbcTemplate) getField(searchIndex, "jdbcTemplate");
+        final var failingTemplate = spy(jdbcTemplate);
+        doThrow(new TransientDataAccessResourceException("write failed"))
+                .when(failingTemplate).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        setField(searchIndex, "jdbcTemplate", failingTemplate);
+        try {
+            assertThrows(RepositoryRuntimeException.class, () -> searchIndex.commitTransaction(transaction));
+        } finally {
+            setField(searchIndex, "jdbcTemplate", jdbcTemplate);
+        }
+        assertEquals(0, getStat(RESOURCE_STAT, "")[0]);
+
+        searchIndex.commitTransaction(transaction);
+        assertEquals(1, getStat(RESOURCE_STAT, "")[0]);
+    }
+
+    /**
+     * Test the buffered changes of a long-running transaction are kept when the db transaction committing them
+     * is rolled back
+     */
+    @Test
+    public void testTransactionChangesKeptWhenCommitRolledBack() throws Exception {
+        fedoraPropsConfig.setSearchTransactionBatchSize(3);
+        searchIndex.setup();
+        transaction = makeTransaction(true);
+        when(resourceFactory.getResource(transaction, resourceHeaders1)).thenReturn(resource1);
+        searchIndex.addUpdateIndex(transaction, resourceHeaders1);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            searchIndex.commitTransaction(transaction);
+            status.setRollbackOnly();
+        });
+        assertEquals(0, getStat(RESOURCE_STAT, "")[0]);
+
+        searchIndex.commitTransaction(transaction);
+        assertEquals(1, getStat(RESOURCE_STAT, "")[0]);
+    }
+
+    private int countStagedResources(final Transaction tx) {
+        return new JdbcTemplate(dataSource).queryForObject(
+                "SELECT count(*) FROM simple_search_transactions WHERE transaction_id = ?", Integer.class, tx.getId());
+    }
+
+    /**
+     * Mocks the indexed properties of a resource.
+     *
+     * @param resource The mock resource
+     * @param id The resource's id
+     * @param identifier The resource's dcterms:identifier
+     * @param page The resource's page number
+     */
+    private void mockProperties(final FedoraResource resource, final FedoraId id, final String identifier,
+                                final int page) {
+        final var subject = NodeFactory.createURI(id.getFullId());
+        when(resource.getTriples()).thenAnswer(invocation -> new DefaultRdfStream(subject, Stream.of(
+                Triple.create(subject, DCTerms.identifier.asNode(), NodeFactory.createLiteralString(identifier)),
+                Triple.create(subject, NodeFactory.createURI("http://example.org/ns#page"),
+                        NodeFactory.createLiteralDT(String.valueOf(page), XSDDatatype.XSDint)),
+                Triple.create(subject, DCTerms.title.asNode(), NodeFactory.createLiteralString("title"))
+        )));
+    }
+
+    private List<Object> searchProperty(final String expression) throws Exception {
+        final var parameters = new SearchParameters(
+                List.of(Condition.Field.FEDORA_ID),
+                List.of(Condition.fromExpression(expression)),
+                10,
+                0,
+                Condition.Field.FEDORA_ID,
+                "asc",
+                false
+        );
+        return searchIndex.doSearch(parameters).getItems().stream()
+                .map(item -> item.get(Condition.Field.FEDORA_ID.toString()))
+                .toList();
+    }
 }
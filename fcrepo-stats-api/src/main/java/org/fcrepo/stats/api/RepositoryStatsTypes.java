@@ -0,0 +1,41 @@
+/*
+ * The contents of this file are subject to the license and copyright
+ * detailed in the LICENSE and NOTICE files at the root of the source
+ * tree.
+ */
+package org.fcrepo.stats.api;
+
+/**
+ * The kinds of counts kept in the repository statistics table, shared by the search index which maintains them
+ * and the repository stats which read them.
+ *
+ * @author fcrepo
+ * @since 7.1.0
+ */
+public interface RepositoryStatsTypes {
+
+    /**
+     * The total counts, with an empty key
+     */
+    String RESOURCE_STAT = "resource";
+
+    /**
+     * The counts by rdf type, keyed by the type uri
+     */
+    String RDF_TYPE_STAT = "rdf_type";
+
+    /**
+     * The counts of binaries by mime type, keyed by the mime type
+     */
+    String MIME_TYPE_STAT = "mime_type";
+
+    /**
+     * The state of the statistics, such as whether they were reconciled with the search index
+     */
+    String STATE_STAT = "state";
+
+    /**
+     * The key of the state row present once the statistics were reconciled with the search index
+     */
+    String RECONCILED_KEY = "reconciled";
+}
@@ -5,6 +5,12 @@
  */
 package org.fcrepo.stats.impl;
 
+import static org.fcrepo.stats.api.RepositoryStatsTypes.MIME_TYPE_STAT;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.RDF_TYPE_STAT;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.RECONCILED_KEY;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.RESOURCE_STAT;
+import static org.fcrepo.stats.api.RepositoryStatsTypes.STATE_STAT;
+
 import java.util.ArrayList;
 import java.util.List;
 
@@ -20,68 +26,159 @@ import org.fcrepo.stats.api.RepositoryStatsByMimeTypeResults;
 import org.fcrepo.stats.api.RepositoryStatsByRdfTypeResults;
 import org.fcrepo.stats.api.RepositoryStatsParameters;
 import org.fcrepo.stats.api.RepositoryStatsResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
 import org.springframework.jdbc.support.rowset.SqlRowSet;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.CollectionUtils;
 
 /**
  * A database-backed implementation of the <code>RepositoryStats</code> interface.
  * It depends on the tables that drive the search index.
  *
+ * The statistics are read from counts which the search index maintains as it changes. The counts are reconciled
+ * against a full scan of the search index tables the first time they are used if they were never computed, and
+ * optionally on a schedule. Changes to the index committed while a reconciliation scans the index may be counted
+ * wrongly until the next reconciliation.
+ *
  * @author dbernstein
  */
 @Component("stats")
 public class DbRepositoryStatsImpl implements RepositoryStats {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DbRepositoryStatsImpl.class);
+
     private static final String SELECT_COUNT_FROM_SIMPLE_SEARCH = "select count(*) from simple_search";
 
+    private static final String SELECT_RESOURCE_COUNT =
+            "select coalesce(sum(resource_count), 0) from search_stats where stat_type = '" + RESOURCE_STAT + "'";
+
+    private static final String SELECT_RECONCILED =
+            "select count(*) from search_stats where stat_type = '" + STATE_STAT + "' and stat_key = '" +
+                    RECONCILED_KEY + "'";
+
+    private static final String DELETE_STATS = "delete from search_stats";
+
+    private static final String INSERT_STAT = "insert into search_stats (stat_type, stat_key, slot, resource_count, " +
+            "byte_count) values (:stat_type, :stat_key, 0, :resource_count, :byte_count)";
+
     @Inject
     private DataSource dataSource;
 
     private NamedParameterJdbcTemplate jdbcTemplate;
 
+    private TransactionTemplate transactionTemplate;
+
+    private volatile boolean reconciled;
+
     /**
      * Setup template
      */
     @PostConstruct
     public void setup() {
         this.jdbcTemplate = new NamedParameterJdbcTemplate(this.dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(this.dataSource));
+        this.reconciled = false;
     }
 
 
     @Override
     public RepositoryStatsResult getResourceCount(final RepositoryStatsParameters statsParams) {
-        final var parameterSource = new MapSqlParameterSource();
-        final var results = jdbcTemplate.queryForRowSet(SELECT_COUNT_FROM_SIMPLE_SEARCH, parameterSource);
-        results.first();
+        ensureReconciled();
         final var result = new RepositoryStatsResult();
-        result.setResourceCount(results.getLong(1));
+        result.setResourceCount(jdbcTemplate.queryForObject(SELECT_RESOURCE_COUNT, new MapSqlParameterSource(),
+                Long.class));
         return result;
     }
 
     @Override
     public RepositoryStatsByMimeTypeResults getByMimeTypes(final RepositoryStatsParameters statsParams) {
+        ensureReconciled();
         final var results = new RepositoryStatsByMimeTypeResults();
-        final var mimeTypes = statsParams.getMimeTypes();
         final var parameterSource = new MapSqlParameterSource();
-        final var mimeTypesQuery = formatMimetypeQuery(mimeTypes, parameterSource);
-        final var mimetypeResults = jdbcTemplate.queryForRowSet(mimeTypesQuery, parameterSource);
-        marshallMimeTypeResults(results, mimetypeResults);
+        final var query = formatStatsQuery(MIME_TYPE_STAT, statsParams.getMimeTypes(), parameterSource);
+        marshallMimeTypeResults(results, jdbcTemplate.queryForRowSet(query, parameterSource));
         return results;
     }
 
     @Override
     public RepositoryStatsByRdfTypeResults getByRdfType(final RepositoryStatsParameters statsParams) {
+        ensureReconciled();
         final var results = new RepositoryStatsByRdfTypeResults();
         final var parameterSource = new MapSqlParameterSource();
-        final var query = formatRdfTypeQuery(statsParams.getRdfTypes(), parameterSource);
-        final var rdfTypeResults = jdbcTemplate.queryForRowSet(query, parameterSource);
-        marshallRdfTypeResults(results, rdfTypeResults);
+        final var query = formatStatsQuery(RDF_TYPE_STAT, statsParams.getRdfTypes(), parameterSource);
+        marshallRdfTypeResults(results, jdbcTemplate.queryForRowSet(query, parameterSource));
         return results;
     }
 
+    /**
+     * Reconcile the counts if they were never computed from the search index.
+     */
+    private void ensureReconciled() {
+        if (!reconciled) {
+            if (jdbcTemplate.queryForObject(SELECT_RECONCILED, new MapSqlParameterSource(), Long.class) == 0) {
+                reconcile();
+            }
+            reconciled = true;
+        }
+    }
+
+    /**
+     * Replace the counts with the counts from a full scan of the search index tables.
+     */
+    @Scheduled(cron = "#{fedoraPropsConfig.statsReconcileCron}")
+    public void reconcile() {
+        LOGGER.info("Reconciling repository statistics against the search index");
+        final var stats = new ArrayList<MapSqlParameterSource>();
+        final var emptyParams = new MapSqlParameterSource();
+        final var resourceCount = jdbcTemplate.queryForRowSet(SELECT_COUNT_FROM_SIMPLE_SEARCH, emptyParams);
+        resourceCount.first();
+        stats.add(stat(RESOURCE_STAT, "", resourceCount.getLong(1), 0));
+        stats.add(stat(STATE_STAT, RECONCILED_KEY, 0, 0));
+        final var mimeTypes = jdbcTemplate.queryForRowSet(formatMimetypeQuery(null, emptyParams), emptyParams);
+        while (mimeTypes.next()) {
+            if (mimeTypes.getString(1) != null) {
+                stats.add(stat(MIME_TYPE_STAT, mimeTypes.getString(1), mimeTypes.getLong(2), mimeTypes.getLong(3)));
+            }
+        }
+        final var rdfTypes = jdbcTemplate.queryForRowSet(formatRdfTypeQuery(null, emptyParams), emptyParams);
+        while (rdfTypes.next()) {
+            stats.add(stat(RDF_TYPE_STAT, rdfTypes.getString(1), rdfTypes.getLong(2), rdfTypes.getLong(3)));
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(DELETE_STATS, emptyParams);
+            jdbcTemplate.batchUpdate(INSERT_STAT, stats.toArray(new MapSqlParameterSource[0]));
+        });
+        reconciled = true;
+    }
+
+    private static MapSqlParameterSource stat(final String statType, final String statKey, final long resourceCount,
+                                              final long byteCount) {
+        return new MapSqlParameterSource()
+                .addValue("stat_type", statType)
+                .addValue("stat_key", statKey)
+                .addValue("resource_count", resourceCount)
+                .addValue("byte_count", byteCount);
+    }
+
+    private String formatStatsQuery(final String statType, final List<String> keys,
+                                    final MapSqlParameterSource parameterSource) {
+        final var query = new StringBuilder("select stat_key, sum(resource_count), sum(byte_count) ");
+        query.append("from search_stats where stat_type = :stat_type ");
+        parameterSource.addValue("stat_type", statType);
+        if (!CollectionUtils.isEmpty(keys)) {
+            query.append("and stat_key in (:stat_keys) ");
+            parameterSource.addValue("stat_keys", keys);
+        }
+        query.append("group by stat_key having sum(resource_count) > 0 order by stat_key");
+        return query.toString();
+    }
+
     private void marshallMimeTypeResults(final RepositoryStatsByMimeTypeResults results,
                                          final SqlRowSet mimeTypeResults) {
         if (mimeTypeResults.first()) {
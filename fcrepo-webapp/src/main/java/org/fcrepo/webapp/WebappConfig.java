@@ -17,6 +17,7 @@ import jakarta.servlet.Filter;
 import org.fcrepo.config.FedoraPropsConfig;
 import org.fcrepo.http.api.ExternalContentHandlerFactory;
 import org.fcrepo.http.api.ExternalContentPathValidator;
+import org.fcrepo.http.commons.metrics.RequestTimingFilter;
 import org.fcrepo.kernel.api.auth.ACLHandle;
 import org.fcrepo.kernel.api.rdf.RdfNamespaceRegistry;
 
@@ -158,4 +159,14 @@ public class WebappConfig {
         return new RepositoryInitializationFilter();
     }
 
+    /**
+     * Filter timing the phases of http requests
+     *
+     * @return the filter
+     */
+    @Bean
+    public Filter requestTimingFilter() {
+        return new RequestTimingFilter();
+    }
+
 }